@@ -24,28 +24,108 @@
 
 package com.bakdata.kafka;
 
+import org.apache.avro.generic.GenericContainer;
 import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
 
 /**
  * Convert a {@code DeadLetterDescription} to an Avro {@code DeadLetter}
+ * <p>Records are created directly instead of using the generated builders, which validate every field and resolve
+ * schema defaults for each record. A converter created by {@link #reusing()} refills the same {@code DeadLetter}
+ * instance for every conversion. This is only safe if each dead letter is serialized before the next one is converted,
+ * e.g., if it is forwarded to a sink without caching. Such a converter must not be shared between processors.
+ * <p>A converter created by {@link #withBinaryInput()} additionally stores Avro inputs in their binary encoding in
+ * {@code input_value_binary} together with the fingerprint of their schema in {@code input_schema_fingerprint}. Replay
+ * tools can then deserialize the original record directly.
  */
 public final class AvroDeadLetterConverter implements DeadLetterConverter<DeadLetter> {
+    private final DeadLetter reusableDeadLetter;
+    private final ErrorDescription reusableCause;
+    private final AvroInputEncoder inputEncoder;
+
+    /**
+     * Create a converter that creates a new {@code DeadLetter} for every conversion
+     */
+    public AvroDeadLetterConverter() {
+        this(null, null, null);
+    }
+
+    private AvroDeadLetterConverter(final DeadLetter reusableDeadLetter, final ErrorDescription reusableCause,
+            final AvroInputEncoder inputEncoder) {
+        this.reusableDeadLetter = reusableDeadLetter;
+        this.reusableCause = reusableCause;
+        this.inputEncoder = inputEncoder;
+    }
+
+    /**
+     * Create a converter that refills the same {@code DeadLetter} instance for every conversion
+     *
+     * @return converter reusing {@code DeadLetter} instances
+     */
+    public static AvroDeadLetterConverter reusing() {
+        return new AvroDeadLetterConverter(new DeadLetter(), new ErrorDescription(), null);
+    }
+
+    /**
+     * Render an input of a dead letter. Avro records are stored in their binary encoding by converters created with
+     * {@link #withBinaryInput()} and are thus not rendered. Other inputs are rendered using
+     * {@link ErrorUtil#toString(Object)}.
+     *
+     * @param input input that caused the error
+     * @return rendered input or {@code null} if the input is an Avro record
+     */
+    public static String renderInput(final Object input) {
+        return input instanceof GenericContainer ? null : ErrorUtil.toString(input);
+    }
+
+    private static void fill(final ErrorDescription errorDescription, final DeadLetterDescription.Cause cause) {
+        errorDescription.setErrorClass(cause.getErrorClass());
+        errorDescription.setMessage(cause.getMessage());
+        errorDescription.setStackTrace(cause.getStackTrace());
+    }
+
+    private static void fill(final DeadLetter deadLetter, final DeadLetterDescription deadLetterDescription,
+            final ErrorDescription cause) {
+        deadLetter.setInputValue(deadLetterDescription.getInputValue());
+        deadLetter.setTopic(deadLetterDescription.getTopic());
+        deadLetter.setPartition(deadLetterDescription.getPartition());
+        deadLetter.setOffset(deadLetterDescription.getOffset());
+        deadLetter.setDescription(deadLetterDescription.getDescription());
+        deadLetter.setCause(cause);
+        deadLetter.setInputTimestamp(deadLetterDescription.getInputTimestamp());
+        deadLetter.setInputValueBinary(null);
+        deadLetter.setInputSchemaFingerprint(null);
+    }
+
+    /**
+     * Create a converter that additionally stores Avro inputs in their binary encoding
+     *
+     * @return converter storing the binary encoding of Avro inputs
+     */
+    public AvroDeadLetterConverter withBinaryInput() {
+        return new AvroDeadLetterConverter(this.reusableDeadLetter, this.reusableCause, new AvroInputEncoder());
+    }
+
+    /**
+     * Render an input using {@link #renderInput(Object)} if Avro inputs are stored in their binary encoding
+     *
+     * @param input input that caused the error
+     * @return rendered input or {@code null} if the input is an Avro record stored in its binary encoding
+     */
+    @Override
+    public String toInputValue(final Object input) {
+        return this.inputEncoder == null ? ErrorUtil.toString(input) : renderInput(input);
+    }
 
     @Override
     public DeadLetter convert(final DeadLetterDescription deadLetterDescription) {
-        return DeadLetter.newBuilder()
-                .setInputValue(deadLetterDescription.getInputValue())
-                .setCause(ErrorDescription.newBuilder()
-                        .setMessage(deadLetterDescription.getCause().getMessage())
-                        .setStackTrace(deadLetterDescription.getCause().getStackTrace())
-                        .setErrorClass(deadLetterDescription.getCause().getErrorClass())
-                        .build())
-                .setDescription(deadLetterDescription.getDescription())
-                .setTopic(deadLetterDescription.getTopic())
-                .setPartition(deadLetterDescription.getPartition())
-                .setOffset(deadLetterDescription.getOffset())
-                .setInputTimestamp(deadLetterDescription.getInputTimestamp())
-                .build();
+        final DeadLetter deadLetter = this.reusableDeadLetter == null ? new DeadLetter() : this.reusableDeadLetter;
+        final ErrorDescription cause = this.reusableCause == null ? new ErrorDescription() : this.reusableCause;
+        fill(cause, deadLetterDescription.getCause());
+        fill(deadLetter, deadLetterDescription, cause);
+        if (this.inputEncoder != null) {
+            this.inputEncoder.fill(deadLetter, deadLetterDescription.getInput());
+        }
+        return deadLetter;
     }
 
     /**
@@ -74,4 +154,36 @@ public final class AvroDeadLetterConverter implements DeadLetterConverter<DeadLe
         return DeadLetterProcessor.create(description, new AvroDeadLetterConverter());
     }
 
+    /**
+     * Creates a processor that uses an AvroDeadLetterConverter refilling the same {@code DeadLetter} instance for
+     * every error. Each processor uses its own converter.
+     *
+     * @param description shared description for all errors
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     * @see #reusing()
+     * @see #asProcessor(String)
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, DeadLetter> asReusingProcessor(
+            final String description) {
+        return () -> new DeadLetterProcessor<>(description, reusing());
+    }
+
+    /**
+     * Creates a processor that uses an AvroDeadLetterConverter storing Avro inputs in their binary encoding instead of
+     * rendering them as JSON
+     *
+     * @param description shared description for all errors
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     * @see #withBinaryInput()
+     * @see #renderInput(Object)
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, DeadLetter> asBinaryInputProcessor(
+            final String description) {
+        return DeadLetterProcessor.create(description, new AvroDeadLetterConverter().withBinaryInput(),
+                AvroDeadLetterConverter::renderInput);
+    }
 }
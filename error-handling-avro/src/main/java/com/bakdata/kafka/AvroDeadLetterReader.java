@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.message.SchemaStore;
+
+/**
+ * Read Avro {@code DeadLetter} for replaying them using {@link DeadLetterReplayTopology}
+ * <p>Inputs can only be restored if a dead letter contains the binary encoding of its input in
+ * {@code input_value_binary}, i.e., if it has been created by {@link AvroDeadLetterConverter#withBinaryInput()}. How
+ * the input is restored needs to be chosen explicitly, so that it matches the encoding of the original topic:
+ * <ul>
+ *     <li>{@link #withSchemas(SchemaStore)} decodes the input using the schema identified by
+ *     {@code input_schema_fingerprint}. It is then encoded by the input serializer of the replay topology, e.g., a
+ *     {@code KafkaAvroSerializer} producing the schema registry wire format.</li>
+ *     <li>{@link #withSingleObjectInput()} restores the Avro single-object encoding, which consumers can decode with a
+ *     {@code BinaryMessageDecoder}.</li>
+ *     <li>{@link #withRawBinaryInput()} restores the plain binary encoding.</li>
+ * </ul>
+ * A reader created by {@link #AvroDeadLetterReader()} does not restore inputs and only describes dead letters, e.g.,
+ * for {@link DeadLetterIndexTopology}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AvroDeadLetterReader implements DeadLetterReader<DeadLetter> {
+    private static final byte[] SINGLE_OBJECT_HEADER = {(byte) 0xC3, (byte) 0x01};
+    private final @NonNull Function<DeadLetter, Object> inputRestorer;
+
+    /**
+     * Create a reader that does not restore inputs
+     */
+    public AvroDeadLetterReader() {
+        this(deadLetter -> null);
+    }
+
+    private static byte[] toBytes(final ByteBuffer buffer) {
+        final ByteBuffer duplicate = buffer.duplicate();
+        final byte[] bytes = new byte[duplicate.remaining()];
+        duplicate.get(bytes);
+        return bytes;
+    }
+
+    private static byte[] toSingleObject(final ByteBuffer binary, final long fingerprint) {
+        final ByteBuffer duplicate = binary.duplicate();
+        return ByteBuffer.allocate(SINGLE_OBJECT_HEADER.length + Long.BYTES + duplicate.remaining())
+                .put(SINGLE_OBJECT_HEADER)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .putLong(fingerprint)
+                .put(duplicate)
+                .array();
+    }
+
+    private static byte[] restoreRawBinary(final DeadLetter deadLetter) {
+        return deadLetter.getInputValueBinary()
+                .map(AvroDeadLetterReader::toBytes)
+                .orElse(null);
+    }
+
+    private static byte[] restoreSingleObject(final DeadLetter deadLetter) {
+        final ByteBuffer binary = deadLetter.getInputValueBinary().orElse(null);
+        final Long fingerprint = deadLetter.getInputSchemaFingerprint().orElse(null);
+        return binary == null || fingerprint == null ? null : toSingleObject(binary, fingerprint);
+    }
+
+    private static Object decode(final DeadLetter deadLetter, final SchemaStore schemas) {
+        final ByteBuffer binary = deadLetter.getInputValueBinary().orElse(null);
+        final Long fingerprint = deadLetter.getInputSchemaFingerprint().orElse(null);
+        if (binary == null || fingerprint == null) {
+            return null;
+        }
+        final Schema schema = schemas.findByFingerprint(fingerprint);
+        if (schema == null) {
+            return null;
+        }
+        try {
+            return new GenericDatumReader<>(schema)
+                    .read(null, DecoderFactory.get().binaryDecoder(toBytes(binary), null));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error decoding input of dead letter", e);
+        }
+    }
+
+    private static DeadLetterDescription.Cause toCause(final ErrorDescription errorDescription) {
+        return DeadLetterDescription.Cause.builder()
+                .errorClass(errorDescription.getErrorClass().orElse(null))
+                .message(errorDescription.getMessage().orElse(null))
+                .stackTrace(errorDescription.getStackTrace().orElse(null))
+                .build();
+    }
+
+    /**
+     * Create a reader that decodes inputs as generic Avro data. The schema is looked up by the fingerprint of the input
+     * schema. Inputs whose schema is unknown are not restored.
+     *
+     * @param schemas schemas of the inputs
+     * @return reader decoding inputs
+     */
+    public AvroDeadLetterReader withSchemas(final @NonNull SchemaStore schemas) {
+        return new AvroDeadLetterReader(deadLetter -> decode(deadLetter, schemas));
+    }
+
+    /**
+     * Create a reader that restores inputs in the Avro single-object encoding
+     *
+     * @return reader restoring the single-object encoding
+     */
+    public AvroDeadLetterReader withSingleObjectInput() {
+        return new AvroDeadLetterReader(AvroDeadLetterReader::restoreSingleObject);
+    }
+
+    /**
+     * Create a reader that restores the plain binary encoding of inputs without single-object header
+     *
+     * @return reader restoring the plain binary encoding
+     */
+    public AvroDeadLetterReader withRawBinaryInput() {
+        return new AvroDeadLetterReader(AvroDeadLetterReader::restoreRawBinary);
+    }
+
+    @Override
+    public DeadLetterDescription read(final DeadLetter deadLetter) {
+        return DeadLetterDescription.builder()
+                .description(deadLetter.getDescription())
+                .cause(toCause(deadLetter.getCause()))
+                .inputValue(deadLetter.getInputValue().orElse(null))
+                .topic(deadLetter.getTopic().orElse(null))
+                .partition(deadLetter.getPartition().orElse(null))
+                .offset(deadLetter.getOffset().orElse(null))
+                .inputTimestamp(deadLetter.getInputTimestamp().orElse(null))
+                .input(this.inputRestorer.apply(deadLetter))
+                .build();
+    }
+}
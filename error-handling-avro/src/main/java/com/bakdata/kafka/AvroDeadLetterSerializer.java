@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Instant;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+
+/**
+ * Serialize a {@code DeadLetterDescription} to the Avro binary encoding of a {@code DeadLetter}. The bytes are
+ * identical to the ones written by a {@code SpecificDatumWriter} for the {@code DeadLetter} created by
+ * {@link AvroDeadLetterConverter}. They do not contain a schema or schema id. The binary encoding of inputs is not
+ * supported, see {@link AvroDeadLetterConverter#withBinaryInput()}.
+ * <p>A serializer created by {@link #withSingleObjectEncoding()} prefixes the bytes with the Avro single-object header,
+ * so that they can be decoded using {@link SingleObjectDeadLetterSerde}.
+ * <p>The serializer reuses its encoder and buffer and must not be shared between threads.
+ */
+public final class AvroDeadLetterSerializer implements DeadLetterSerializer {
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    private static final int NULL_INDEX = 0;
+    private static final int VALUE_INDEX = 1;
+    // marker bytes of the Avro single-object encoding followed by the little-endian fingerprint of the schema
+    private static final byte[] SINGLE_OBJECT_HEADER = ByteBuffer.allocate(Short.BYTES + Long.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .put((byte) 0xC3)
+            .put((byte) 0x01)
+            .putLong(SchemaNormalization.parsingFingerprint64(DeadLetter.getClassSchema()))
+            .array();
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+    private final byte[] header;
+    private BinaryEncoder encoder;
+
+    /**
+     * Create a serializer that writes the plain Avro binary encoding
+     */
+    public AvroDeadLetterSerializer() {
+        this(new byte[0]);
+    }
+
+    private AvroDeadLetterSerializer(final byte[] header) {
+        this.header = header;
+    }
+
+    /**
+     * Creates a processor that uses an AvroDeadLetterSerializer. Each processor uses its own serializer.
+     *
+     * <pre>{@code
+     * final KStream<K, ProcessingError<V>> errors = ...;
+     * final KStream<K, byte[]> deadLetters = errors.processValues(
+     *                      AvroDeadLetterSerializer.asProcessor("Description"));
+     * deadLetters.to(ERROR_TOPIC, Produced.valueSerde(Serdes.ByteArray()));
+     * }
+     * </pre>
+     *
+     * @param description shared description for all errors
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, byte[]> asProcessor(
+            final String description) {
+        return () -> new DeadLetterProcessor<>(description, new AvroDeadLetterSerializer());
+    }
+
+    /**
+     * Creates a processor that uses an AvroDeadLetterSerializer with the Avro single-object encoding. Each processor
+     * uses its own serializer.
+     *
+     * <pre>{@code
+     * final KStream<K, ProcessingError<V>> errors = ...;
+     * final KStream<K, byte[]> deadLetters = errors.processValues(
+     *                      AvroDeadLetterSerializer.asSingleObjectProcessor("Description"));
+     * deadLetters.to(ERROR_TOPIC, Produced.valueSerde(Serdes.ByteArray()));
+     * }
+     * </pre>
+     *
+     * @param description shared description for all errors
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     * @see #withSingleObjectEncoding()
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, byte[]> asSingleObjectProcessor(
+            final String description) {
+        return () -> new DeadLetterProcessor<>(description, new AvroDeadLetterSerializer().withSingleObjectEncoding());
+    }
+
+    /**
+     * Create a serializer that prefixes each dead letter with the Avro single-object header. The bytes are identical
+     * to the ones written by {@link SingleObjectDeadLetterSerde}.
+     *
+     * @return serializer that uses the Avro single-object encoding
+     */
+    public AvroDeadLetterSerializer withSingleObjectEncoding() {
+        return new AvroDeadLetterSerializer(SINGLE_OBJECT_HEADER);
+    }
+
+    @Override
+    public byte[] serialize(final DeadLetterDescription deadLetterDescription) {
+        this.buffer.reset();
+        this.buffer.writeBytes(this.header);
+        this.encoder = EncoderFactory.get().directBinaryEncoder(this.buffer, this.encoder);
+        try {
+            // fields are written in the order of DeadLetter.avsc
+            this.writeNullable(deadLetterDescription.getInputValue());
+            this.writeNullable(deadLetterDescription.getTopic());
+            this.writeNullable(deadLetterDescription.getPartition());
+            this.writeNullable(deadLetterDescription.getOffset());
+            this.encoder.writeString(deadLetterDescription.getDescription());
+            this.writeCause(deadLetterDescription.getCause());
+            this.writeNullable(deadLetterDescription.getInputTimestamp());
+            // input_value_binary and input_schema_fingerprint
+            this.encoder.writeIndex(NULL_INDEX);
+            this.encoder.writeIndex(NULL_INDEX);
+            this.encoder.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error serializing dead letter", e);
+        }
+        return this.buffer.toByteArray();
+    }
+
+    private void writeCause(final DeadLetterDescription.Cause cause) throws IOException {
+        this.writeNullable(cause.getErrorClass());
+        this.writeNullable(cause.getMessage());
+        this.writeNullable(cause.getStackTrace());
+    }
+
+    private boolean writeUnionIndex(final Object value) throws IOException {
+        final boolean present = value != null;
+        this.encoder.writeIndex(present ? VALUE_INDEX : NULL_INDEX);
+        return present;
+    }
+
+    private void writeNullable(final String value) throws IOException {
+        if (this.writeUnionIndex(value)) {
+            this.encoder.writeString(value);
+        }
+    }
+
+    private void writeNullable(final Integer value) throws IOException {
+        if (this.writeUnionIndex(value)) {
+            this.encoder.writeInt(value);
+        }
+    }
+
+    private void writeNullable(final Long value) throws IOException {
+        if (this.writeUnionIndex(value)) {
+            this.encoder.writeLong(value);
+        }
+    }
+
+    private void writeNullable(final Instant value) throws IOException {
+        if (this.writeUnionIndex(value)) {
+            this.encoder.writeLong(value.toEpochMilli());
+        }
+    }
+}
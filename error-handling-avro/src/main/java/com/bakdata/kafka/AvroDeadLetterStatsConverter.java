@@ -0,0 +1,43 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+/**
+ * Convert a {@code DeadLetterStatsDescription} to an Avro {@code DeadLetterStats}
+ */
+public class AvroDeadLetterStatsConverter implements DeadLetterStatsConverter<DeadLetterStats> {
+
+    @Override
+    public DeadLetterStats convert(final DeadLetterStatsDescription statsDescription) {
+        final DeadLetterStats stats = new DeadLetterStats();
+        stats.setDescription(statsDescription.getDescription());
+        stats.setErrorClass(statsDescription.getErrorClass());
+        stats.setTopic(statsDescription.getTopic());
+        stats.setPartition(statsDescription.getPartition());
+        stats.setWindowStart(statsDescription.getWindowStart());
+        stats.setWindowEnd(statsDescription.getWindowEnd());
+        stats.setCount(statsDescription.getCount());
+        return stats;
+    }
+}
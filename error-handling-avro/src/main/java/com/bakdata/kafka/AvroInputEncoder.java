@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericContainer;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+
+/**
+ * Encodes Avro inputs of dead letters in the Avro binary format. Writers and schema fingerprints are cached per
+ * schema.
+ */
+final class AvroInputEncoder {
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private final Map<Schema, CachedWriter> specificWriters = new ConcurrentHashMap<>();
+    private final Map<Schema, CachedWriter> genericWriters = new ConcurrentHashMap<>();
+
+    private static CachedWriter createSpecificWriter(final Schema schema) {
+        return new CachedWriter(new SpecificDatumWriter<>(schema), SchemaNormalization.parsingFingerprint64(schema));
+    }
+
+    private static CachedWriter createGenericWriter(final Schema schema) {
+        return new CachedWriter(new GenericDatumWriter<>(schema), SchemaNormalization.parsingFingerprint64(schema));
+    }
+
+    /**
+     * Encode the input of a dead letter and store it in {@code input_value_binary} and
+     * {@code input_schema_fingerprint}. Both fields are cleared if the input is not an Avro record.
+     *
+     * @param deadLetter dead letter to fill
+     * @param input input that caused the error
+     */
+    void fill(final DeadLetter deadLetter, final Object input) {
+        if (!(input instanceof GenericContainer)) {
+            deadLetter.setInputValueBinary(null);
+            deadLetter.setInputSchemaFingerprint(null);
+            return;
+        }
+        final Schema schema = ((GenericContainer) input).getSchema();
+        final CachedWriter writer = input instanceof SpecificRecord
+                ? this.specificWriters.computeIfAbsent(schema, AvroInputEncoder::createSpecificWriter)
+                : this.genericWriters.computeIfAbsent(schema, AvroInputEncoder::createGenericWriter);
+        deadLetter.setInputValueBinary(writer.write(input));
+        deadLetter.setInputSchemaFingerprint(writer.getFingerprint());
+    }
+
+    @RequiredArgsConstructor
+    private static final class CachedWriter {
+        private final DatumWriter<Object> writer;
+        @Getter
+        private final long fingerprint;
+
+        private ByteBuffer write(final Object input) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+            final BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            try {
+                this.writer.write(input, encoder);
+                encoder.flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Error encoding input of dead letter", e);
+            }
+            return ByteBuffer.wrap(out.toByteArray());
+        }
+    }
+}
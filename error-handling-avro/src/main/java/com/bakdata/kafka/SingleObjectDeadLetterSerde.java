@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.SchemaStore;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * {@link Serde} for Avro {@code DeadLetter} that uses the Avro single-object encoding. Each record is prefixed with
+ * the 64-bit fingerprint of its schema, so no Schema Registry is required.
+ * <p>Dead letters written with previous versions of the {@code DeadLetter} schema are resolved to the current schema.
+ * Schemas are looked up by their fingerprint in a cache that contains the current schema, the previous schemas
+ * shipped with this library, and the previous schemas passed to {@link #SingleObjectDeadLetterSerde(Collection)}.
+ * Encoder and decoder are shared by all records and are thread-safe.
+ */
+public class SingleObjectDeadLetterSerde implements Serde<DeadLetter> {
+    private static final Set<String> FIELDS_ADDED_IN_V2 = Set.of("input_value_binary", "input_schema_fingerprint");
+    private static final Schema SCHEMA_V1 = withoutFields(DeadLetter.getClassSchema(), FIELDS_ADDED_IN_V2);
+    private final BinaryMessageEncoder<DeadLetter> encoder;
+    private final BinaryMessageDecoder<DeadLetter> decoder;
+
+    /**
+     * Create a serde that decodes dead letters written with the current {@code DeadLetter} schema
+     */
+    public SingleObjectDeadLetterSerde() {
+        this(List.of());
+    }
+
+    /**
+     * Create a serde that decodes dead letters written with the current or one of the previous {@code DeadLetter}
+     * schemas
+     *
+     * @param previousSchemas previous versions of the {@code DeadLetter} schema
+     */
+    public SingleObjectDeadLetterSerde(final Collection<Schema> previousSchemas) {
+        final SchemaStore.Cache resolver = new SchemaStore.Cache();
+        resolver.addSchema(DeadLetter.getClassSchema());
+        resolver.addSchema(SCHEMA_V1);
+        previousSchemas.forEach(resolver::addSchema);
+        this.encoder = DeadLetter.getEncoder();
+        this.decoder = DeadLetter.createDecoder(resolver);
+    }
+
+    private static Schema withoutFields(final Schema schema, final Set<String> fieldNames) {
+        final List<Field> fields = schema.getFields().stream()
+                .filter(field -> !fieldNames.contains(field.name()))
+                .map(field -> new Field(field, field.schema()))
+                .collect(Collectors.toList());
+        return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError(),
+                fields);
+    }
+
+    @Override
+    public Serializer<DeadLetter> serializer() {
+        return this::serialize;
+    }
+
+    @Override
+    public Deserializer<DeadLetter> deserializer() {
+        return this::deserialize;
+    }
+
+    private byte[] serialize(final String topic, final DeadLetter deadLetter) {
+        if (deadLetter == null) {
+            return null;
+        }
+        try {
+            final ByteBuffer buffer = this.encoder.encode(deadLetter);
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        } catch (final IOException e) {
+            throw new SerializationException("Error serializing dead letter for topic " + topic, e);
+        }
+    }
+
+    private DeadLetter deserialize(final String topic, final byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return this.decoder.decode(bytes);
+        } catch (final IOException | AvroRuntimeException e) {
+            // also covers unknown fingerprints and invalid headers
+            throw new SerializationException("Error deserializing dead letter from topic " + topic, e);
+        }
+    }
+}
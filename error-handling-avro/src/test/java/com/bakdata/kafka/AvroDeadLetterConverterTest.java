@@ -24,6 +24,16 @@
 
 package com.bakdata.kafka;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.GenericRecordBuilder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -33,6 +43,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(SoftAssertionsExtension.class)
 class AvroDeadLetterConverterTest {
 
+    private static final DeadLetterDescription DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .inputValue("inputValue")
+            .cause(DeadLetterDescription.Cause.builder()
+                    .message("message")
+                    .stackTrace("stackTrace")
+                    .errorClass("errorClass")
+                    .build())
+            .description("description")
+            .topic("topic")
+            .partition(1)
+            .offset(1L)
+            .build();
     @InjectSoftAssertions
     private SoftAssertions softly;
 
@@ -79,4 +101,79 @@ class AvroDeadLetterConverterTest {
         this.softly.assertThat(deadLetter.getOffset()).isNotPresent();
     }
 
+    @Test
+    void shouldReuseDeadLetter() {
+        final AvroDeadLetterConverter converter = AvroDeadLetterConverter.reusing();
+        final DeadLetter first = converter.convert(DEAD_LETTER_DESCRIPTION);
+        final DeadLetter second = converter.convert(DeadLetterDescription.builder()
+                .description("other")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .build());
+        this.softly.assertThat(second).isSameAs(first);
+        this.softly.assertThat(second.getCause()).isSameAs(first.getCause());
+        this.softly.assertThat(second.getInputValue()).isNotPresent();
+        this.softly.assertThat(second.getCause().getMessage()).isNotPresent();
+        this.softly.assertThat(second.getDescription()).isEqualTo("other");
+        this.softly.assertThat(second.getPartition()).isNotPresent();
+    }
+
+    @Test
+    void shouldConvertEquallyWithReuse() {
+        this.softly.assertThat(AvroDeadLetterConverter.reusing().convert(DEAD_LETTER_DESCRIPTION))
+                .isEqualTo(new AvroDeadLetterConverter().convert(DEAD_LETTER_DESCRIPTION));
+    }
+
+    @Test
+    void shouldEncodeSpecificInput() throws IOException {
+        final ErrorDescription input = ErrorDescription.newBuilder()
+                .setMessage("message")
+                .setStackTrace(null)
+                .build();
+        final DeadLetter deadLetter = new AvroDeadLetterConverter().withBinaryInput()
+                .convert(DeadLetterDescription.builder()
+                        .description("description")
+                        .cause(DeadLetterDescription.Cause.builder().build())
+                        .inputValue(AvroDeadLetterConverter.renderInput(input))
+                        .input(input)
+                        .build());
+        this.softly.assertThat(deadLetter.getInputValue()).isNotPresent();
+        this.softly.assertThat(deadLetter.getInputSchemaFingerprint())
+                .hasValue(SchemaNormalization.parsingFingerprint64(ErrorDescription.getClassSchema()));
+        final ByteBuffer bytes = deadLetter.getInputValueBinary().orElseThrow();
+        final ErrorDescription decoded = new SpecificDatumReader<>(ErrorDescription.class)
+                .read(null, DecoderFactory.get().binaryDecoder(bytes.array(), null));
+        this.softly.assertThat(decoded).isEqualTo(input);
+    }
+
+    @Test
+    void shouldEncodeGenericInput() throws IOException {
+        final Schema schema = SchemaBuilder.record("Input").fields().requiredString("id").endRecord();
+        final GenericRecord input = new GenericRecordBuilder(schema).set("id", "foo").build();
+        final DeadLetter deadLetter = AvroDeadLetterConverter.reusing().withBinaryInput()
+                .convert(DeadLetterDescription.builder()
+                        .description("description")
+                        .cause(DeadLetterDescription.Cause.builder().build())
+                        .input(input)
+                        .build());
+        this.softly.assertThat(deadLetter.getInputSchemaFingerprint())
+                .hasValue(SchemaNormalization.parsingFingerprint64(schema));
+        final ByteBuffer bytes = deadLetter.getInputValueBinary().orElseThrow();
+        final GenericRecord decoded = new GenericDatumReader<GenericRecord>(schema)
+                .read(null, DecoderFactory.get().binaryDecoder(bytes.array(), null));
+        this.softly.assertThat(decoded).isEqualTo(input);
+    }
+
+    @Test
+    void shouldNotEncodeOtherInputs() {
+        final DeadLetter deadLetter = new AvroDeadLetterConverter().withBinaryInput()
+                .convert(DeadLetterDescription.builder()
+                        .description("description")
+                        .cause(DeadLetterDescription.Cause.builder().build())
+                        .inputValue(AvroDeadLetterConverter.renderInput(42))
+                        .input(42)
+                        .build());
+        this.softly.assertThat(deadLetter.getInputValue()).hasValue("42");
+        this.softly.assertThat(deadLetter.getInputValueBinary()).isNotPresent();
+        this.softly.assertThat(deadLetter.getInputSchemaFingerprint()).isNotPresent();
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.message.SchemaStore;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AvroDeadLetterReaderTest {
+    private static final ErrorDescription INPUT = ErrorDescription.newBuilder()
+            .setErrorClass("inputClass")
+            .setMessage("inputMessage")
+            .setStackTrace(null)
+            .build();
+    private static final DeadLetterDescription DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .inputValue("inputValue")
+            .cause(DeadLetterDescription.Cause.builder()
+                    .message("message")
+                    .stackTrace("stackTrace")
+                    .errorClass("errorClass")
+                    .build())
+            .description("description")
+            .topic("topic")
+            .partition(1)
+            .offset(1L)
+            .inputTimestamp(Instant.ofEpochMilli(100L))
+            .input(INPUT)
+            .build();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldReadDeadLetter() {
+        final DeadLetter deadLetter = new AvroDeadLetterConverter().convert(DEAD_LETTER_DESCRIPTION);
+        final DeadLetterDescription read = new AvroDeadLetterReader().read(deadLetter);
+        this.softly.assertThat(read).isEqualTo(DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(read.getInput()).isNull();
+    }
+
+    @Test
+    void shouldRestoreSingleObjectEncodedInput() throws IOException {
+        final DeadLetter deadLetter =
+                new AvroDeadLetterConverter().withBinaryInput().convert(DEAD_LETTER_DESCRIPTION);
+        final DeadLetterDescription read = new AvroDeadLetterReader().withSingleObjectInput().read(deadLetter);
+        this.softly.assertThat(read.getInput()).isInstanceOf(byte[].class);
+        this.softly.assertThat(ErrorDescription.getDecoder().decode((byte[]) read.getInput())).isEqualTo(INPUT);
+    }
+
+    @Test
+    void shouldRestoreRawBinaryInput() throws IOException {
+        final DeadLetter deadLetter =
+                new AvroDeadLetterConverter().withBinaryInput().convert(DEAD_LETTER_DESCRIPTION);
+        final DeadLetterDescription read = new AvroDeadLetterReader().withRawBinaryInput().read(deadLetter);
+        this.softly.assertThat(read.getInput()).isInstanceOf(byte[].class);
+        final ErrorDescription decoded = new SpecificDatumReader<>(ErrorDescription.class)
+                .read(null, DecoderFactory.get().binaryDecoder((byte[]) read.getInput(), null));
+        this.softly.assertThat(decoded).isEqualTo(INPUT);
+    }
+
+    @Test
+    void shouldNotRestoreInputByDefault() {
+        final DeadLetter deadLetter =
+                new AvroDeadLetterConverter().withBinaryInput().convert(DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(new AvroDeadLetterReader().read(deadLetter).getInput()).isNull();
+    }
+
+    @Test
+    void shouldDecodeInputWithKnownSchema() {
+        final DeadLetter deadLetter =
+                new AvroDeadLetterConverter().withBinaryInput().convert(DEAD_LETTER_DESCRIPTION);
+        final SchemaStore.Cache schemas = new SchemaStore.Cache();
+        schemas.addSchema(ErrorDescription.getClassSchema());
+        final DeadLetterDescription read = new AvroDeadLetterReader().withSchemas(schemas).read(deadLetter);
+        this.softly.assertThat(read.getInput())
+                .isInstanceOfSatisfying(GenericRecord.class, input -> {
+                    this.softly.assertThat(input.getSchema()).isEqualTo(ErrorDescription.getClassSchema());
+                    this.softly.assertThat(input.get("message")).hasToString("inputMessage");
+                });
+    }
+
+    @Test
+    void shouldNotRestoreInputWithUnknownSchema() {
+        final DeadLetter deadLetter =
+                new AvroDeadLetterConverter().withBinaryInput().convert(DEAD_LETTER_DESCRIPTION);
+        final DeadLetterDescription read =
+                new AvroDeadLetterReader().withSchemas(new SchemaStore.Cache()).read(deadLetter);
+        this.softly.assertThat(read.getInput()).isNull();
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.KafkaAvroDeserializer;
+import io.confluent.kafka.serializers.KafkaAvroDeserializerConfig;
+import io.confluent.kafka.serializers.KafkaAvroSerializer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.avro.message.SchemaStore;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.test.TestRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AvroDeadLetterReplayTopologyTest {
+    private static final String ERROR_TOPIC = "errors";
+    private static final String INPUT_TOPIC = "input";
+    private static final Map<String, String> SERDE_CONFIG =
+            Map.of(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://replay",
+                    KafkaAvroDeserializerConfig.SPECIFIC_AVRO_READER_CONFIG, "true");
+    private static final ErrorDescription INPUT = ErrorDescription.newBuilder()
+            .setErrorClass("inputClass")
+            .setMessage("inputMessage")
+            .setStackTrace(null)
+            .build();
+    private static final SingleObjectDeadLetterSerde DEAD_LETTER_SERDE = new SingleObjectDeadLetterSerde();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<byte[], DeadLetter> errors = null;
+
+    private static DeadLetter deadLetter(final Object input) {
+        return new AvroDeadLetterConverter().withBinaryInput().convert(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .inputValue(String.valueOf(input))
+                .topic(INPUT_TOPIC)
+                .partition(0)
+                .offset(1L)
+                .inputTimestamp(Instant.ofEpochMilli(5_000L))
+                .input(input)
+                .build());
+    }
+
+    private static ErrorDescription decodeSingleObject(final String topic, final byte[] bytes) {
+        try {
+            return ErrorDescription.getDecoder().decode(bytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private void createTopology(final AvroDeadLetterReader reader, final Serializer<?> inputSerializer) {
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "replay");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(DeadLetterReplayTopology.<DeadLetter>builder()
+                .deadLetterTopic(ERROR_TOPIC)
+                .deadLetterDeserializer(DEAD_LETTER_SERDE.deserializer())
+                .reader(reader)
+                .inputSerializer(inputSerializer)
+                .build()
+                .createTopology(), properties);
+        this.errors = this.driver.createInputTopic(ERROR_TOPIC, new ByteArraySerializer(),
+                DEAD_LETTER_SERDE.serializer());
+    }
+
+    @Test
+    void shouldReplayInSchemaRegistryWireFormat() {
+        final SchemaStore.Cache schemas = new SchemaStore.Cache();
+        schemas.addSchema(ErrorDescription.getClassSchema());
+        final Serializer<Object> inputSerializer = new KafkaAvroSerializer();
+        inputSerializer.configure(SERDE_CONFIG, false);
+        this.createTopology(new AvroDeadLetterReader().withSchemas(schemas), inputSerializer);
+        this.errors.pipeInput("key".getBytes(StandardCharsets.UTF_8), deadLetter(INPUT));
+
+        final Deserializer<Object> inputDeserializer = new KafkaAvroDeserializer();
+        inputDeserializer.configure(SERDE_CONFIG, false);
+        this.softly.assertThat(this.driver.createOutputTopic(INPUT_TOPIC, new ByteArrayDeserializer(),
+                        inputDeserializer).readRecordsToList())
+                .map(TestRecord::value)
+                .containsExactly(INPUT);
+    }
+
+    @Test
+    void shouldReplaySingleObjectEncoding() {
+        this.createTopology(new AvroDeadLetterReader().withSingleObjectInput(), null);
+        this.errors.pipeInput("key".getBytes(StandardCharsets.UTF_8), deadLetter(INPUT));
+
+        final Deserializer<ErrorDescription> inputDeserializer =
+                AvroDeadLetterReplayTopologyTest::decodeSingleObject;
+        this.softly.assertThat(this.driver.createOutputTopic(INPUT_TOPIC, new ByteArrayDeserializer(),
+                        inputDeserializer).readValuesToList())
+                .containsExactly(INPUT);
+    }
+
+    @Test
+    void shouldSkipDecodedInputWithoutInputSerializer() {
+        final SchemaStore.Cache schemas = new SchemaStore.Cache();
+        schemas.addSchema(ErrorDescription.getClassSchema());
+        this.createTopology(new AvroDeadLetterReader().withSchemas(schemas), null);
+        this.errors.pipeInput("key".getBytes(StandardCharsets.UTF_8), deadLetter(INPUT));
+
+        this.softly.assertThat(this.driver.producedTopicNames()).isEmpty();
+    }
+
+    @Test
+    void shouldNotReplayRenderedInputValue() {
+        this.createTopology(new AvroDeadLetterReader(), null);
+        this.errors.pipeInput("key".getBytes(StandardCharsets.UTF_8), deadLetter("foo"));
+
+        this.softly.assertThat(this.driver.producedTopicNames()).isEmpty();
+    }
+}
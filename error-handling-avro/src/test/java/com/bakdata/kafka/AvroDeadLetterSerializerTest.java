@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AvroDeadLetterSerializerTest {
+
+    private static final DeadLetterDescription DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .inputValue("inputValue")
+            .cause(DeadLetterDescription.Cause.builder()
+                    .message("message")
+                    .stackTrace("stackTrace")
+                    .errorClass("errorClass")
+                    .build())
+            .description("description")
+            .topic("topic")
+            .partition(1)
+            .offset(1L)
+            .inputTimestamp(Instant.ofEpochMilli(100L))
+            .build();
+    private static final DeadLetterDescription REQUIRED_DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .description("description")
+            .cause(DeadLetterDescription.Cause.builder().build())
+            .build();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    private static DeadLetter deserialize(final byte[] bytes) throws IOException {
+        return new SpecificDatumReader<>(DeadLetter.class)
+                .read(null, DecoderFactory.get().binaryDecoder(bytes, null));
+    }
+
+    private static byte[] serialize(final DeadLetter deadLetter) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+        new SpecificDatumWriter<>(DeadLetter.class).write(deadLetter, encoder);
+        encoder.flush();
+        return out.toByteArray();
+    }
+
+    @Test
+    void shouldSerializeDeadLetterDescriptionWithOptionalFields() throws IOException {
+        final byte[] bytes = new AvroDeadLetterSerializer().serialize(DEAD_LETTER_DESCRIPTION);
+        final DeadLetter expected = new AvroDeadLetterConverter().convert(DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(deserialize(bytes)).isEqualTo(expected);
+        this.softly.assertThat(bytes).isEqualTo(serialize(expected));
+    }
+
+    @Test
+    void shouldSerializeDeadLetterDescriptionWithoutOptionalFields() throws IOException {
+        final byte[] bytes = new AvroDeadLetterSerializer().serialize(REQUIRED_DEAD_LETTER_DESCRIPTION);
+        final DeadLetter expected = new AvroDeadLetterConverter().convert(REQUIRED_DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(deserialize(bytes)).isEqualTo(expected);
+        this.softly.assertThat(bytes).isEqualTo(serialize(expected));
+    }
+
+    @Test
+    void shouldReuseEncoder() throws IOException {
+        final AvroDeadLetterSerializer serializer = new AvroDeadLetterSerializer();
+        serializer.serialize(DEAD_LETTER_DESCRIPTION);
+        final byte[] bytes = serializer.serialize(REQUIRED_DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(deserialize(bytes))
+                .isEqualTo(new AvroDeadLetterConverter().convert(REQUIRED_DEAD_LETTER_DESCRIPTION));
+    }
+
+    @Test
+    void shouldSerializeSingleObjectEncoding() {
+        final AvroDeadLetterSerializer serializer = new AvroDeadLetterSerializer().withSingleObjectEncoding();
+        final SingleObjectDeadLetterSerde serde = new SingleObjectDeadLetterSerde();
+        for (final DeadLetterDescription description : new DeadLetterDescription[]{DEAD_LETTER_DESCRIPTION,
+                REQUIRED_DEAD_LETTER_DESCRIPTION}) {
+            final byte[] bytes = serializer.serialize(description);
+            final DeadLetter expected = new AvroDeadLetterConverter().convert(description);
+            this.softly.assertThat(serde.deserializer().deserialize("topic", bytes)).isEqualTo(expected);
+            this.softly.assertThat(bytes).isEqualTo(serde.serializer().serialize("topic", expected));
+        }
+    }
+
+    @Test
+    void shouldNotBeReadableBySingleObjectSerdeWithoutHeader() {
+        final byte[] bytes = new AvroDeadLetterSerializer().serialize(DEAD_LETTER_DESCRIPTION);
+        final Deserializer<DeadLetter> deserializer = new SingleObjectDeadLetterSerde().deserializer();
+        this.softly.assertThatThrownBy(() -> deserializer.deserialize("topic", bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+}
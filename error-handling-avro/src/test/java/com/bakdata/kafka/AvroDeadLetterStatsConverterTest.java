@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Instant;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class AvroDeadLetterStatsConverterTest {
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldConvertStats() {
+        final DeadLetterStats stats = new AvroDeadLetterStatsConverter().convert(DeadLetterStatsDescription.builder()
+                .description("description")
+                .errorClass("errorClass")
+                .topic("topic")
+                .partition(1)
+                .windowStart(Instant.ofEpochMilli(1_000L))
+                .windowEnd(Instant.ofEpochMilli(2_000L))
+                .count(3L)
+                .build());
+        this.softly.assertThat(stats.getDescription()).isEqualTo("description");
+        this.softly.assertThat(stats.getErrorClass()).hasValue("errorClass");
+        this.softly.assertThat(stats.getTopic()).hasValue("topic");
+        this.softly.assertThat(stats.getPartition()).hasValue(1);
+        this.softly.assertThat(stats.getWindowStart()).isEqualTo(Instant.ofEpochMilli(1_000L));
+        this.softly.assertThat(stats.getWindowEnd()).isEqualTo(Instant.ofEpochMilli(2_000L));
+        this.softly.assertThat(stats.getCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldConvertStatsWithoutOptionalFields() {
+        final DeadLetterStats stats = new AvroDeadLetterStatsConverter().convert(DeadLetterStatsDescription.builder()
+                .description("description")
+                .windowStart(Instant.ofEpochMilli(1_000L))
+                .windowEnd(Instant.ofEpochMilli(2_000L))
+                .count(3L)
+                .build());
+        this.softly.assertThat(stats.getErrorClass()).isNotPresent();
+        this.softly.assertThat(stats.getTopic()).isNotPresent();
+        this.softly.assertThat(stats.getPartition()).isNotPresent();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.avro.Schema;
+import org.apache.avro.Schema.Field;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.specific.SpecificData;
+import org.apache.kafka.common.errors.SerializationException;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class SingleObjectDeadLetterSerdeTest {
+    private static final String TOPIC = "topic";
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    private static DeadLetter createDeadLetter() {
+        return new AvroDeadLetterConverter().convert(DeadLetterDescription.builder()
+                .inputValue("inputValue")
+                .cause(DeadLetterDescription.Cause.builder()
+                        .message("message")
+                        .errorClass("errorClass")
+                        .build())
+                .description("description")
+                .topic(TOPIC)
+                .partition(1)
+                .offset(1L)
+                .inputTimestamp(Instant.ofEpochMilli(100L))
+                .build());
+    }
+
+    private static Schema createSchemaWithout(final String... fieldNames) {
+        final Schema schema = DeadLetter.getClassSchema();
+        final Set<String> excluded = Set.of(fieldNames);
+        final List<Field> fields = schema.getFields().stream()
+                .filter(field -> !excluded.contains(field.name()))
+                .map(field -> new Field(field, field.schema()))
+                .collect(Collectors.toList());
+        return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), false, fields);
+    }
+
+    private static byte[] encode(final Schema schema) throws IOException {
+        final GenericRecord previousDeadLetter = new GenericData.Record(schema);
+        final DeadLetter deadLetter = createDeadLetter();
+        schema.getFields()
+                .forEach(field -> previousDeadLetter.put(field.name(), deadLetter.get(field.name())));
+        return toBytes(new BinaryMessageEncoder<GenericRecord>(SpecificData.getForSchema(DeadLetter.getClassSchema()),
+                schema).encode(previousDeadLetter));
+    }
+
+    private static byte[] toBytes(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        final SingleObjectDeadLetterSerde serde = new SingleObjectDeadLetterSerde();
+        final DeadLetter deadLetter = createDeadLetter();
+        final byte[] bytes = serde.serializer().serialize(TOPIC, deadLetter);
+        this.softly.assertThat(serde.deserializer().deserialize(TOPIC, bytes)).isEqualTo(deadLetter);
+        this.softly.assertThat(serde.serializer().serialize(TOPIC, null)).isNull();
+        this.softly.assertThat(serde.deserializer().deserialize(TOPIC, null)).isNull();
+    }
+
+    @Test
+    void shouldDecodePreviousSchema() throws IOException {
+        final Schema previousSchema = createSchemaWithout("input_timestamp");
+        final byte[] bytes = encode(previousSchema);
+
+        this.softly.assertThatThrownBy(() -> new SingleObjectDeadLetterSerde().deserializer().deserialize(TOPIC, bytes))
+                .isInstanceOf(SerializationException.class);
+
+        final DeadLetter decoded = new SingleObjectDeadLetterSerde(List.of(previousSchema)).deserializer()
+                .deserialize(TOPIC, bytes);
+        this.softly.assertThat(decoded.getDescription()).isEqualTo("description");
+        this.softly.assertThat(decoded.getInputValue()).hasValue("inputValue");
+        this.softly.assertThat(decoded.getOffset()).hasValue(1L);
+        this.softly.assertThat(decoded.getInputTimestamp()).isNotPresent();
+    }
+
+    @Test
+    void shouldDecodeSchemaWithoutBinaryInput() throws IOException {
+        final Schema previousSchema = createSchemaWithout("input_value_binary", "input_schema_fingerprint");
+        final byte[] bytes = encode(previousSchema);
+        final DeadLetter decoded = new SingleObjectDeadLetterSerde().deserializer().deserialize(TOPIC, bytes);
+        this.softly.assertThat(decoded.getDescription()).isEqualTo("description");
+        this.softly.assertThat(decoded.getInputTimestamp()).hasValue(Instant.ofEpochMilli(100L));
+        this.softly.assertThat(decoded.getInputValueBinary()).isNotPresent();
+    }
+
+    @Test
+    void shouldThrowOnInvalidHeader() {
+        final SingleObjectDeadLetterSerde serde = new SingleObjectDeadLetterSerde();
+        this.softly.assertThatThrownBy(() -> serde.deserializer().deserialize(TOPIC, new byte[]{1, 2, 3}))
+                .isInstanceOf(SerializationException.class);
+    }
+}
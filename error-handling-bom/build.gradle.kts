@@ -9,5 +9,6 @@ dependencies {
         api(project(":error-handling-core"))
         api(project(":error-handling-avro"))
         api(project(":error-handling-proto"))
+        api(project(":error-handling-json"))
     }
 }
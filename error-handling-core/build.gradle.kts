@@ -8,6 +8,9 @@ plugins {
 dependencies {
     compileOnly(platform(libs.kafka.bom))
     compileOnly(libs.kafka.streams)
+    // provided by kafka-clients
+    compileOnly(libs.zstd)
+    compileOnly(libs.lz4)
     implementation(libs.avro)
     implementation(libs.jool)
     implementation(libs.commons.lang)
@@ -17,6 +20,8 @@ dependencies {
     testImplementation(libs.assertj)
     testImplementation(libs.mockito.core)
     testImplementation(libs.mockito.junit)
+    testImplementation(libs.zstd)
+    testImplementation(libs.lz4)
     testImplementation(libs.log4j.slf4j2)
     testFixturesApi(libs.fluentKafkaStreamsTests)
     testFixturesImplementation(libs.junit.jupiter)
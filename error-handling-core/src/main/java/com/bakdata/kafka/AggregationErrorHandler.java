@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+/**
+ * Determine the aggregate after an {@code Aggregator} or {@code Reducer} captured by
+ * {@link ErrorCapturingAggregator} or {@link ErrorCapturingReducer} threw an exception. The returned aggregate is
+ * stored and forwarded as if it had been computed by the wrapped function, so that a single bad record does not fail
+ * the task and trigger a restore of its state stores.
+ * <p>Either keep the previous aggregate using {@link #keepAggregate()}, which routes errors to the dead letter queue
+ * configured for {@link ErrorCapturingProcessorWrapper} if the processing exception handler resumes processing, or
+ * return a sentinel aggregate that marks the error, e.g., an aggregate with an error field. Sentinels can then be
+ * routed to an error output:
+ * <pre>{@code
+ * final KTable<K, VA> aggregated = input.groupByKey()
+ *         .aggregate(initializer, captureErrors(aggregator, (error, aggregate) -> aggregate.withError(error)));
+ * final KStream<K, VA> errors = aggregated.toStream().filter((key, aggregate) -> aggregate.hasError());
+ * }
+ * </pre>
+ *
+ * @param <V> type of input values
+ * @param <VA> type of aggregate values
+ */
+@FunctionalInterface
+public interface AggregationErrorHandler<V, VA> {
+
+    /**
+     * Keep the previous aggregate and skip the input value. The task never fails because of the error. If the
+     * aggregating processor is wrapped by {@link ErrorCapturingProcessorWrapper} and a processing exception handler
+     * that resumes processing is configured, the error is passed on to the handler after the aggregate has been stored,
+     * e.g., to route it to the dead letter queue using {@link FilteringProcessingExceptionHandler}. Otherwise, the
+     * error is only logged. Return a sentinel aggregate instead to route errors to an error output without the
+     * wrapper.
+     *
+     * @param <V> type of input values
+     * @param <VA> type of aggregate values
+     * @return {@code AggregationErrorHandler}
+     */
+    static <V, VA> AggregationErrorHandler<V, VA> keepAggregate() {
+        return new KeepAggregateErrorHandler<>();
+    }
+
+    /**
+     * Determine the new aggregate
+     *
+     * @param error error that has been thrown and the input value that caused it
+     * @param aggregate previous aggregate
+     * @return new aggregate
+     */
+    VA handle(ProcessingError<V> error, VA aggregate);
+}
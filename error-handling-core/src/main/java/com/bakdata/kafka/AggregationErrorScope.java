@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2024 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Errors captured by {@link ErrorCapturingAggregator} and {@link ErrorCapturingReducer} while a processor wrapped by
+ * {@link ErrorCapturingProcessorWrapper} processes a record. Aggregators have no access to the processor context, so
+ * the wrapper opens a scope for each record. The scope provides the description of the processor and, if reporting,
+ * collects errors that are passed on to the processing exception handler once the processor has stored the new
+ * aggregate.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class AggregationErrorScope {
+    private static final ThreadLocal<AggregationErrorScope> CURRENT = new ThreadLocal<>();
+    private final AggregationErrorScope parent;
+    private final String description;
+    private final boolean reporting;
+    private final List<Throwable> errors = new ArrayList<>();
+
+    /**
+     * Open a scope for the current thread. Scopes are nested because processors forward records to their children
+     * while processing.
+     *
+     * @param description description of the processor. May be {@code null}
+     * @param reporting whether errors are collected by the scope
+     * @return opened scope
+     */
+    static AggregationErrorScope open(final String description, final boolean reporting) {
+        final AggregationErrorScope scope = new AggregationErrorScope(CURRENT.get(), description, reporting);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * Get the description of the processor of the innermost scope of the current thread
+     *
+     * @return description or {@code null} if no scope is open
+     */
+    static String description() {
+        final AggregationErrorScope scope = CURRENT.get();
+        return scope == null ? null : scope.description;
+    }
+
+    /**
+     * Report an error to the innermost scope of the current thread
+     *
+     * @param error error captured by an aggregator
+     * @return whether a reporting scope has been open to receive the error
+     */
+    static boolean report(final Throwable error) {
+        final AggregationErrorScope scope = CURRENT.get();
+        if (scope == null || !scope.reporting) {
+            return false;
+        }
+        scope.errors.add(error);
+        return true;
+    }
+
+    private static RuntimeException toRuntimeException(final Throwable error) {
+        if (error instanceof RuntimeException) {
+            return (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        return new IllegalStateException(error);
+    }
+
+    /**
+     * Close this scope and restore its parent
+     */
+    void close() {
+        if (this.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(this.parent);
+        }
+    }
+
+    /**
+     * Throw the first reported error. Further errors reported for the same record are added as suppressed.
+     */
+    void throwReported() {
+        if (this.errors.isEmpty()) {
+            return;
+        }
+        final RuntimeException exception = toRuntimeException(this.errors.get(0));
+        for (final Throwable error : this.errors.subList(1, this.errors.size())) {
+            if (error != exception) {
+                exception.addSuppressed(error);
+            }
+        }
+        throw exception;
+    }
+}
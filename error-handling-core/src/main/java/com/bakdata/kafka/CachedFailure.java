@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import lombok.Value;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+
+/**
+ * Failure remembered by {@link ErrorResultCache}
+ */
+@Value
+class CachedFailure {
+    private static final int NULL_LENGTH = -1;
+    String errorClass;
+    String message;
+    long expiresAtMs;
+
+    static CachedFailure of(final Exception exception, final long expiresAtMs) {
+        return new CachedFailure(exception.getClass().getName(), exception.getMessage(), expiresAtMs);
+    }
+
+    static Serde<CachedFailure> serde() {
+        return Serdes.serdeFrom((topic, failure) -> failure == null ? null : failure.toBytes(),
+                (topic, bytes) -> bytes == null ? null : fromBytes(bytes));
+    }
+
+    private static CachedFailure fromBytes(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        final long expiresAtMs = buffer.getLong();
+        final String errorClass = readString(buffer);
+        final String message = readString(buffer);
+        return new CachedFailure(errorClass, message, expiresAtMs);
+    }
+
+    private static String readString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toBytes(final String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(final byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void writeBytes(final ByteBuffer buffer, final byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_LENGTH);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    boolean isExpired(final long now) {
+        return now >= this.expiresAtMs;
+    }
+
+    CachedFailureException toException() {
+        return new CachedFailureException(this.errorClass, this.message);
+    }
+
+    private byte[] toBytes() {
+        final byte[] errorClassBytes = toBytes(this.errorClass);
+        final byte[] messageBytes = toBytes(this.message);
+        final ByteBuffer buffer = ByteBuffer.allocate(
+                Long.BYTES + 2 * Integer.BYTES + length(errorClassBytes) + length(messageBytes));
+        buffer.putLong(this.expiresAtMs);
+        writeBytes(buffer, errorClassBytes);
+        writeBytes(buffer, messageBytes);
+        return buffer.array();
+    }
+}
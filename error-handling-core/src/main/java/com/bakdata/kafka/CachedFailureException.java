@@ -0,0 +1,45 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import lombok.Getter;
+
+/**
+ * Error of records answered from {@link ErrorResultCache}. The wrapped function has not been called for these
+ * records. The exception carries the message of the cached failure and the name of its class. Error signatures, dead
+ * letters, and error headers report the cached class instead of {@code CachedFailureException}. To keep cached
+ * failures cheap, the exception has no stack trace.
+ */
+@Getter
+public class CachedFailureException extends RuntimeException {
+    /**
+     * Fully qualified class name of the exception that has been cached
+     */
+    private final String errorClass;
+
+    CachedFailureException(final String errorClass, final String message) {
+        super(message, null, false, false);
+        this.errorClass = errorClass;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+/**
+ * Processor created by {@link ErrorResultCache#captureErrors(ValueMapperWithKey, Predicate)}
+ *
+ * @param <K> type of keys
+ * @param <V> type of input values
+ * @param <VR> type of output values
+ */
+@RequiredArgsConstructor
+final class CachingValueProcessor<K, V, VR> implements FixedKeyProcessor<K, V, ProcessedValue<V, VR>> {
+    private final @NonNull ErrorResultCache<K, V> cache;
+    private final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> wrapped;
+    private final @NonNull Predicate<Exception> errorFilter;
+    private FixedKeyProcessorContext<K, ProcessedValue<V, VR>> context;
+    private KeyValueStore<Bytes, CachedFailure> store;
+    private MessageDigest digest;
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    @Override
+    public void init(final FixedKeyProcessorContext<K, ProcessedValue<V, VR>> context) {
+        this.context = context;
+        this.store = context.getStateStore(this.cache.getStoreName());
+        this.digest = createDigest();
+    }
+
+    @Override
+    public void process(final FixedKeyRecord<K, V> inputRecord) {
+        final K key = inputRecord.key();
+        final V value = inputRecord.value();
+        final long now = this.context.currentSystemTimeMs();
+        final Bytes cacheKey = this.cache.createCacheKey(this.digest, key, value);
+        if (cacheKey != null) {
+            final CachedFailure failure = this.store.get(cacheKey);
+            if (failure != null) {
+                if (!failure.isExpired(now)) {
+                    this.context.forward(inputRecord.withValue(ErrorValue.of(value, failure.toException())));
+                    return;
+                }
+                this.store.delete(cacheKey);
+            }
+        }
+        final ProcessedValue<V, VR> processedValue;
+        try {
+            final VR newValue = this.wrapped.apply(key, value);
+            processedValue = SuccessValue.of(newValue);
+        } catch (final Exception e) {
+            if (this.errorFilter.test(e)) {
+                throw e;
+            }
+            if (cacheKey != null && this.cache.getCacheFilter().test(e)) {
+                this.store.put(cacheKey, CachedFailure.of(e, now + this.cache.getTtlMs()));
+            }
+            processedValue = ErrorValue.of(value, e);
+        }
+        this.context.forward(inputRecord.withValue(processedValue));
+    }
+}
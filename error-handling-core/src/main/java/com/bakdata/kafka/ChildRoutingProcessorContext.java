@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import lombok.NonNull;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+
+/**
+ * Forwards records without child name to a fixed child node
+ *
+ * @param <K> type of output keys
+ * @param <V> type of output values
+ */
+final class ChildRoutingProcessorContext<K, V> extends DecoratorProcessingContext implements ProcessorContext<K, V> {
+    private final @NonNull ProcessorContext<Object, Object> wrapped;
+    private final @NonNull String childName;
+
+    ChildRoutingProcessorContext(final @NonNull ProcessorContext<Object, Object> wrapped,
+            final @NonNull String childName) {
+        super(wrapped);
+        this.wrapped = wrapped;
+        this.childName = childName;
+    }
+
+    @Override
+    public <KForward extends K, VForward extends V> void forward(final Record<KForward, VForward> outputRecord) {
+        this.wrapped.forward(outputRecord, this.childName);
+    }
+
+    @Override
+    public <KForward extends K, VForward extends V> void forward(final Record<KForward, VForward> outputRecord,
+            final String childName) {
+        this.wrapped.forward(outputRecord, childName);
+    }
+}
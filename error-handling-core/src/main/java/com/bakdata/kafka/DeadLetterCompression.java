@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * Compression codec for payloads copied into dead letter queue records. Payloads are compressed in the standard
+ * formats of the codecs, i.e., gzip, the zstd frame format, and the LZ4 frame format.
+ */
+enum DeadLetterCompression {
+    NONE {
+        @Override
+        OutputStream wrapForOutput(final OutputStream out) {
+            return out;
+        }
+
+        @Override
+        InputStream wrapForInput(final InputStream in) {
+            return in;
+        }
+    },
+    GZIP {
+        @Override
+        OutputStream wrapForOutput(final OutputStream out) throws IOException {
+            return new GZIPOutputStream(out);
+        }
+
+        @Override
+        InputStream wrapForInput(final InputStream in) throws IOException {
+            return new GZIPInputStream(in);
+        }
+    },
+    ZSTD {
+        @Override
+        OutputStream wrapForOutput(final OutputStream out) throws IOException {
+            return new ZstdOutputStream(out);
+        }
+
+        @Override
+        InputStream wrapForInput(final InputStream in) throws IOException {
+            return new ZstdInputStream(in);
+        }
+    },
+    LZ4 {
+        @Override
+        OutputStream wrapForOutput(final OutputStream out) throws IOException {
+            return new LZ4FrameOutputStream(out);
+        }
+
+        @Override
+        InputStream wrapForInput(final InputStream in) throws IOException {
+            return new LZ4FrameInputStream(in);
+        }
+    };
+
+    static DeadLetterCompression parse(final String compression) {
+        return valueOf(compression.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Get the name of this codec as stored in headers and configured by
+     * {@link FilteringProcessingExceptionHandlerConfig#DEAD_LETTER_COMPRESSION_CONFIG}
+     *
+     * @return lowercase name of this codec
+     */
+    String getName() {
+        return this.name().toLowerCase(Locale.ROOT);
+    }
+
+    abstract OutputStream wrapForOutput(OutputStream out) throws IOException;
+
+    abstract InputStream wrapForInput(InputStream in) throws IOException;
+}
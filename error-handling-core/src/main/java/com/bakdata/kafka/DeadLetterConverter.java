@@ -38,4 +38,16 @@ public interface DeadLetterConverter<T> {
      * @return the converted description
      */
     T convert(final DeadLetterDescription deadLetterDescription);
+
+    /**
+     * Renders a non-null input as {@link DeadLetterDescription#getInputValue()} for dead letters created by exception
+     * handlers. Converters that embed inputs natively may return {@code null} to not render them. By default, inputs
+     * are rendered using {@link ErrorUtil#toString(Object)}.
+     *
+     * @param input input that caused the error
+     * @return rendered input or {@code null} if the input is embedded by this converter
+     */
+    default String toInputValue(final Object input) {
+        return ErrorUtil.toString(input);
+    }
 }
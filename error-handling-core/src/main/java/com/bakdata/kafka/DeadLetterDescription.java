@@ -24,11 +24,17 @@
 
 package com.bakdata.kafka;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
+import java.util.List;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.jackson.Jacksonized;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 
 /**
  * The representation of an error with contextual information.
@@ -48,6 +54,39 @@ public class DeadLetterDescription {
         String message;
         String stackTrace;
         String errorClass;
+        /**
+         * The next cause in the cause chain. The stack traces of nested causes are part of {@link #stackTrace} and
+         * are thus not repeated. It is omitted from JSON if there is no next cause, so that the JSON of causes without
+         * a chain is unchanged.
+         */
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Cause cause;
+
+        static Cause of(final Throwable throwable) {
+            final List<Throwable> chain = ExceptionUtils.getThrowableList(throwable);
+            Cause cause = null;
+            for (int i = chain.size() - 1; i > 0; i--) {
+                final Throwable nested = chain.get(i);
+                cause = Cause.builder()
+                        .message(nested.getMessage())
+                        .errorClass(ErrorUtil.getErrorClass(nested))
+                        .cause(cause)
+                        .build();
+            }
+            return Cause.builder()
+                    .message(throwable.getMessage())
+                    .stackTrace(ExceptionUtils.getStackTrace(throwable))
+                    .errorClass(ErrorUtil.getErrorClass(throwable))
+                    .cause(cause)
+                    .build();
+        }
+
+        static Cause of(final ProcessingFailure failure) {
+            return Cause.builder()
+                    .message(failure.getReason())
+                    .errorClass(failure.getType())
+                    .build();
+        }
     }
 
     @NonNull String description;
@@ -57,4 +96,20 @@ public class DeadLetterDescription {
     Integer partition;
     Long offset;
     Instant inputTimestamp;
+    /**
+     * The input that caused the error. It is not serialized and allows converters to embed the input in a native
+     * format instead of {@link #inputValue}.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    Object input;
+    /**
+     * The serialized key of the input if it differs from the key of the dead letter record, e.g., because it has been
+     * compressed. It is not serialized and only restored by {@link DeadLetterReader readers} for replaying.
+     */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    byte[] inputKey;
 }
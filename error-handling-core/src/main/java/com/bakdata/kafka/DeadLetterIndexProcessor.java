@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.WindowStore;
+
+/**
+ * Materializes serialized dead letters into the window stores of a {@link DeadLetterIndexTopology}
+ *
+ * @param <T> type of dead letters
+ */
+@RequiredArgsConstructor
+class DeadLetterIndexProcessor<T> implements Processor<byte[], byte[], Void, Void> {
+    private final @NonNull String deadLetterTopic;
+    private final @NonNull Deserializer<T> deadLetterDeserializer;
+    private final @NonNull DeadLetterReader<? super T> reader;
+    private WindowStore<String, byte[]> errorClassIndex;
+    private WindowStore<String, byte[]> descriptionIndex;
+    private WindowStore<String, byte[]> topicIndex;
+
+    private static void index(final WindowStore<String, byte[]> store, final String key, final byte[] deadLetter,
+            final long timestamp) {
+        if (key != null) {
+            store.put(key, deadLetter, timestamp);
+        }
+    }
+
+    @Override
+    public void init(final ProcessorContext<Void, Void> context) {
+        this.errorClassIndex = context.getStateStore(DeadLetterIndexTopology.ERROR_CLASS_STORE);
+        this.descriptionIndex = context.getStateStore(DeadLetterIndexTopology.DESCRIPTION_STORE);
+        this.topicIndex = context.getStateStore(DeadLetterIndexTopology.TOPIC_STORE);
+    }
+
+    @Override
+    public void process(final Record<byte[], byte[]> record) {
+        if (record.value() == null) {
+            return;
+        }
+        final T deadLetter =
+                this.deadLetterDeserializer.deserialize(this.deadLetterTopic, record.headers(), record.value());
+        final DeadLetterDescription description = this.reader.read(deadLetter);
+        index(this.errorClassIndex, description.getCause().getErrorClass(), record.value(), record.timestamp());
+        index(this.descriptionIndex, description.getDescription(), record.value(), record.timestamp());
+        final String topic = description.getTopic();
+        index(this.topicIndex, topic == null ? DeadLetterIndexTopology.UNKNOWN_TOPIC : topic, record.value(),
+                record.timestamp());
+    }
+}
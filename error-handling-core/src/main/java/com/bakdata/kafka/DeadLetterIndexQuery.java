@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Query for dead letters materialized by {@link DeadLetterIndexTopology}. All criteria except the time range are
+ * optional and all configured criteria have to match.
+ */
+@Builder
+@Value
+public class DeadLetterIndexQuery {
+    /**
+     * Class name of the exception that caused the error
+     */
+    String errorClass;
+    /**
+     * Description of the dead letter
+     */
+    String description;
+    /**
+     * Topic the input of the dead letter was read from
+     */
+    String topic;
+    /**
+     * Inclusive lower bound of the time the dead letter was created
+     */
+    @Builder.Default
+    @NonNull Instant from = Instant.EPOCH;
+    /**
+     * Inclusive upper bound of the time the dead letter was created
+     */
+    @Builder.Default
+    @NonNull Instant to = Instant.ofEpochMilli(Long.MAX_VALUE);
+
+    boolean matches(final DeadLetterDescription deadLetter) {
+        if (this.errorClass != null && !this.errorClass.equals(deadLetter.getCause().getErrorClass())) {
+            return false;
+        }
+        if (this.description != null && !this.description.equals(deadLetter.getDescription())) {
+            return false;
+        }
+        return this.topic == null || this.topic.equals(deadLetter.getTopic());
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.NonNull;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.errors.InvalidStateStoreException;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.query.QueryResult;
+import org.apache.kafka.streams.query.StateQueryRequest;
+import org.apache.kafka.streams.query.StateQueryResult;
+import org.apache.kafka.streams.query.WindowKeyQuery;
+import org.apache.kafka.streams.query.WindowRangeQuery;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.StoreBuilder;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.WindowStore;
+import org.apache.kafka.streams.state.WindowStoreIterator;
+
+/**
+ * Materialize dead letters into state stores indexed by error class, description, and source topic. Each index is a
+ * persistent window store with the time the dead letter was created as window start, so that all indices are also
+ * ordered by time. Dead letters can then be looked up using {@link #query(KafkaStreams, DeadLetterIndexQuery)} with
+ * range scans on the local stores instead of consuming the complete dead letter topic.
+ *
+ * <pre>{@code
+ * final DeadLetterIndexTopology<DeadLetter> index = DeadLetterIndexTopology.<DeadLetter>builder()
+ *         .deadLetterTopic(ERROR_TOPIC)
+ *         .deadLetterDeserializer(deadLetterSerde.deserializer())
+ *         .reader(new AvroDeadLetterReader())
+ *         .build();
+ * final KafkaStreams streams = new KafkaStreams(index.createTopology(), properties);
+ * streams.start();
+ * final List<DeadLetter> deadLetters = index.query(streams, DeadLetterIndexQuery.builder()
+ *         .errorClass(NullPointerException.class.getName())
+ *         .topic(INPUT_TOPIC)
+ *         .from(Instant.now().minus(Duration.ofHours(1L)))
+ *         .build());
+ * }
+ * </pre>
+ * <p>Queries only cover the partitions hosted by the queried instance. Serialized dead letters are stored once per
+ * index.
+ *
+ * @param <T> type of dead letters
+ */
+@Builder
+public final class DeadLetterIndexTopology<T> {
+    /**
+     * Name of the store indexing dead letters by the class of the exception that caused the error
+     */
+    public static final String ERROR_CLASS_STORE = "dead-letters-by-error-class";
+    /**
+     * Name of the store indexing dead letters by their description
+     */
+    public static final String DESCRIPTION_STORE = "dead-letters-by-description";
+    /**
+     * Name of the store indexing dead letters by the topic their input was read from. Dead letters without topic are
+     * indexed by an empty topic name.
+     */
+    public static final String TOPIC_STORE = "dead-letters-by-topic";
+    static final String UNKNOWN_TOPIC = "";
+    static final String SOURCE_NAME = "dead-letter-index-source";
+    static final String PROCESSOR_NAME = "dead-letter-index";
+    private static final Duration WINDOW_SIZE = Duration.ofMillis(1L);
+    private final @NonNull String deadLetterTopic;
+    private final @NonNull Deserializer<T> deadLetterDeserializer;
+    private final @NonNull DeadLetterReader<? super T> reader;
+    /**
+     * How long dead letters are retained in the indices. Defaults to seven days.
+     */
+    @Builder.Default
+    private final @NonNull Duration retention = Duration.ofDays(7L);
+
+    private static <R> void collect(final StateQueryResult<R> result, final Consumer<? super R> consumer) {
+        for (final QueryResult<R> partitionResult : result.getPartitionResults().values()) {
+            if (partitionResult.isFailure()) {
+                throw new InvalidStateStoreException(
+                        "Error querying dead letter index: " + partitionResult.getFailureReason() + " "
+                                + partitionResult.getFailureMessage());
+            }
+            consumer.accept(partitionResult.getResult());
+        }
+    }
+
+    private static List<KeyValue<Long, byte[]>> fetch(final KafkaStreams streams, final String storeName,
+            final String key, final DeadLetterIndexQuery query) {
+        final WindowKeyQuery<String, byte[]> windowQuery =
+                WindowKeyQuery.withKeyAndWindowStartRange(key, query.getFrom(), query.getTo());
+        final StateQueryRequest<WindowStoreIterator<byte[]>> request =
+                StateQueryRequest.inStore(storeName).withQuery(windowQuery);
+        final List<KeyValue<Long, byte[]>> hits = new ArrayList<>();
+        collect(streams.query(request), iterator -> {
+            try (iterator) {
+                iterator.forEachRemaining(hits::add);
+            }
+        });
+        return hits;
+    }
+
+    private static List<KeyValue<Long, byte[]>> fetchAll(final KafkaStreams streams,
+            final DeadLetterIndexQuery query) {
+        final WindowRangeQuery<String, byte[]> windowQuery =
+                WindowRangeQuery.withWindowStartRange(query.getFrom(), query.getTo());
+        final StateQueryRequest<KeyValueIterator<Windowed<String>, byte[]>> request =
+                StateQueryRequest.inStore(TOPIC_STORE).withQuery(windowQuery);
+        final List<KeyValue<Long, byte[]>> hits = new ArrayList<>();
+        collect(streams.query(request), iterator -> {
+            try (iterator) {
+                iterator.forEachRemaining(hit -> hits.add(KeyValue.pair(hit.key.window().start(), hit.value)));
+            }
+        });
+        return hits;
+    }
+
+    private static List<KeyValue<Long, byte[]>> fetchMostSelective(final KafkaStreams streams,
+            final DeadLetterIndexQuery query) {
+        if (query.getErrorClass() != null) {
+            return fetch(streams, ERROR_CLASS_STORE, query.getErrorClass(), query);
+        }
+        if (query.getTopic() != null) {
+            return fetch(streams, TOPIC_STORE, query.getTopic(), query);
+        }
+        if (query.getDescription() != null) {
+            return fetch(streams, DESCRIPTION_STORE, query.getDescription(), query);
+        }
+        return fetchAll(streams, query);
+    }
+
+    /**
+     * Create a topology that materializes dead letters into the index stores
+     *
+     * @return topology indexing dead letters
+     */
+    public Topology createTopology() {
+        final Topology topology = new Topology();
+        topology.addSource(SOURCE_NAME, new ByteArrayDeserializer(), new ByteArrayDeserializer(),
+                this.deadLetterTopic);
+        topology.addProcessor(PROCESSOR_NAME,
+                () -> new DeadLetterIndexProcessor<>(this.deadLetterTopic, this.deadLetterDeserializer, this.reader),
+                SOURCE_NAME);
+        topology.addStateStore(this.createStore(ERROR_CLASS_STORE), PROCESSOR_NAME);
+        topology.addStateStore(this.createStore(DESCRIPTION_STORE), PROCESSOR_NAME);
+        topology.addStateStore(this.createStore(TOPIC_STORE), PROCESSOR_NAME);
+        return topology;
+    }
+
+    /**
+     * Query the local index stores. The most selective index is scanned, i.e., error class, topic, and description
+     * in this order, and the remaining criteria are applied to the scanned dead letters. If no criteria except the
+     * time range are configured, the topic index is scanned.
+     *
+     * @param streams running application created from {@link #createTopology()}
+     * @param query criteria of the dead letters to find
+     * @return dead letters ordered by the time they were created
+     */
+    public List<T> query(final @NonNull KafkaStreams streams, final @NonNull DeadLetterIndexQuery query) {
+        return fetchMostSelective(streams, query).stream()
+                .sorted(Comparator.comparing(hit -> hit.key))
+                .map(hit -> this.deadLetterDeserializer.deserialize(this.deadLetterTopic, hit.value))
+                .filter(deadLetter -> query.matches(this.reader.read(deadLetter)))
+                .collect(Collectors.toList());
+    }
+
+    private StoreBuilder<WindowStore<String, byte[]>> createStore(final String name) {
+        return Stores.windowStoreBuilder(
+                        Stores.persistentWindowStore(name, this.retention, WINDOW_SIZE, true),
+                        Serdes.String(), Serdes.ByteArray())
+                .withCachingDisabled();
+    }
+}
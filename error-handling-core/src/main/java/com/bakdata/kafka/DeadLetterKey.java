@@ -0,0 +1,182 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Deterministic key of a dead letter. It is a compact hash of the topic, partition, and offset of the input and the
+ * description of the dead letter. Reprocessing the same input therefore yields the same key, so that dead letter
+ * topics can be log-compacted to remove duplicates. Inputs without a topic, e.g., records forwarded by punctuations,
+ * are additionally distinguished by their timestamp and cause.
+ * <p>The serialized key consists of a format version byte followed by the first {@value #HASH_BYTES} bytes of the
+ * SHA-256 hash. Use {@link DeadLetterKeySerde} to serialize and deserialize keys.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeadLetterKey {
+    static final byte FORMAT_VERSION = 1;
+    static final int HASH_BYTES = 16;
+    static final int SERIALIZED_BYTES = 1 + HASH_BYTES;
+    private static final int NULL_LENGTH = -1;
+    private final byte[] hash;
+
+    /**
+     * Create the key of a dead letter. Inputs without record metadata, e.g., records forwarded by punctuations, only
+     * differ in their description and thus share keys. Use
+     * {@link #of(String, Integer, Long, String, Instant, DeadLetterDescription.Cause)} to distinguish them.
+     *
+     * @param topic topic of the input. May be {@code null}
+     * @param partition partition of the input. May be {@code null}
+     * @param offset offset of the input. May be {@code null}
+     * @param description description of the dead letter
+     * @return key of the dead letter
+     */
+    public static DeadLetterKey of(final String topic, final Integer partition, final Long offset,
+            final @NonNull String description) {
+        return of(topic, partition, offset, description, null, null);
+    }
+
+    /**
+     * Create the key of a dead letter. Inputs without a topic, e.g., records forwarded by punctuations, are
+     * distinguished by their timestamp and cause, so that they do not replace each other in compacted topics. Keys of
+     * other inputs are the same as the ones created by {@link #of(String, Integer, Long, String)}.
+     *
+     * @param topic topic of the input. May be {@code null}
+     * @param partition partition of the input. May be {@code null}
+     * @param offset offset of the input. May be {@code null}
+     * @param description description of the dead letter
+     * @param inputTimestamp timestamp of the input. Only used if the input has no topic. May be {@code null}
+     * @param cause cause of the dead letter. Only used if the input has no topic. May be {@code null}
+     * @return key of the dead letter
+     */
+    public static DeadLetterKey of(final String topic, final Integer partition, final Long offset,
+            final @NonNull String description, final Instant inputTimestamp, final DeadLetterDescription.Cause cause) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, topic);
+            out.writeInt(partition == null ? NULL_LENGTH : partition);
+            out.writeLong(offset == null ? NULL_LENGTH : offset);
+            writeString(out, description);
+            if (topic == null) {
+                out.writeLong(inputTimestamp == null ? NULL_LENGTH : inputTimestamp.toEpochMilli());
+                writeCause(out, cause);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error creating dead letter key", e);
+        }
+        return new DeadLetterKey(Arrays.copyOf(sha256(bytes.toByteArray()), HASH_BYTES));
+    }
+
+    /**
+     * Deserialize a key
+     *
+     * @param bytes serialized key
+     * @return key
+     * @throws SerializationException if the bytes are no serialized key
+     */
+    public static DeadLetterKey fromBytes(final byte[] bytes) {
+        if (bytes == null || bytes.length != SERIALIZED_BYTES || bytes[0] != FORMAT_VERSION) {
+            throw new SerializationException("Invalid dead letter key");
+        }
+        return new DeadLetterKey(Arrays.copyOfRange(bytes, 1, SERIALIZED_BYTES));
+    }
+
+    private static void writeCause(final DataOutputStream out, final DeadLetterDescription.Cause cause)
+            throws IOException {
+        out.writeBoolean(cause != null);
+        if (cause != null) {
+            writeString(out, cause.getErrorClass());
+            writeString(out, cause.getMessage());
+            // the stack trace contains all nested causes
+            writeString(out, cause.getStackTrace());
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] sha256(final byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    /**
+     * Serialize this key
+     *
+     * @return serialized key
+     */
+    public byte[] toBytes() {
+        final byte[] bytes = new byte[SERIALIZED_BYTES];
+        bytes[0] = FORMAT_VERSION;
+        System.arraycopy(this.hash, 0, bytes, 1, HASH_BYTES);
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || o instanceof DeadLetterKey && Arrays.equals(this.hash, ((DeadLetterKey) o).hash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.hash);
+    }
+
+    /**
+     * Get the hash as lowercase hex string
+     *
+     * @return hex representation of the hash
+     */
+    @Override
+    public String toString() {
+        final StringBuilder hex = new StringBuilder(2 * this.hash.length);
+        for (final byte b : this.hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
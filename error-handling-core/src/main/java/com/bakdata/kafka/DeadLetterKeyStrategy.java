@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.Locale;
+
+/**
+ * Strategy for keying records in the dead letter queue
+ */
+public enum DeadLetterKeyStrategy {
+    /**
+     * Keep the key of the input
+     */
+    ORIGINAL,
+    /**
+     * Key dead letters by a {@link DeadLetterKey}, i.e., a hash of topic, partition, and offset of the input and the
+     * description of the dead letter. Dead letters are spread across partitions independent of hot keys and dead
+     * letter topics can be log-compacted to remove duplicates from reprocessing. The original key is not retained, so
+     * such dead letters cannot be replayed using {@link DeadLetterReplayTopology}.
+     */
+    HASH;
+
+    static DeadLetterKeyStrategy parse(final String strategy) {
+        return valueOf(strategy.trim().toUpperCase(Locale.ROOT));
+    }
+}
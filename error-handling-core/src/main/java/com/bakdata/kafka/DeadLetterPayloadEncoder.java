@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * Compresses and truncates keys and values copied into dead letter queue records, so that the dead letter queue
+ * record does not exceed the maximum request size of the producer.
+ * <p>A payload is compressed using the configured {@link DeadLetterCompression codec} if this reduces its size. The
+ * codec is stored in the header {@code <prefix>.compression}. Payloads exceeding the maximum size after compression
+ * are truncated without compression. In that case, the original size and the SHA-256 hash of the original payload are
+ * stored in the headers {@code <prefix>.original.size} and {@code <prefix>.sha256}. Use
+ * {@link #decode(byte[], Headers, String)} to restore encoded payloads.
+ */
+final class DeadLetterPayloadEncoder {
+    static final String HEADER_KEY_PREFIX = "__streams.errors.key";
+    static final String HEADER_VALUE_PREFIX = "__streams.errors.value";
+    static final String HEADER_COMPRESSION_SUFFIX = ".compression";
+    static final String HEADER_ORIGINAL_SIZE_SUFFIX = ".original.size";
+    static final String HEADER_SHA256_SUFFIX = ".sha256";
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private final DeadLetterCompression compression;
+    private final int maxPayloadBytes;
+
+    DeadLetterPayloadEncoder(final DeadLetterCompression compression, final int maxPayloadBytes) {
+        this.compression = compression == DeadLetterCompression.NONE ? null : compression;
+        this.maxPayloadBytes = maxPayloadBytes;
+    }
+
+    private static byte[] sha256(final byte[] payload) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(payload);
+        } catch (final NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static byte[] toBytes(final Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Restore a payload copied into a dead letter queue record
+     *
+     * @param payload encoded payload. May be {@code null}
+     * @param headers headers of the dead letter queue record
+     * @param headerPrefix prefix of headers describing the encoding
+     * @return original payload or {@code null} if the payload has been truncated
+     */
+    static byte[] decode(final byte[] payload, final Headers headers, final String headerPrefix) {
+        if (payload == null || headers.lastHeader(headerPrefix + HEADER_ORIGINAL_SIZE_SUFFIX) != null) {
+            return null;
+        }
+        final Header compression = headers.lastHeader(headerPrefix + HEADER_COMPRESSION_SUFFIX);
+        if (compression == null) {
+            return payload;
+        }
+        final DeadLetterCompression codec =
+                DeadLetterCompression.parse(new String(compression.value(), StandardCharsets.UTF_8));
+        try (final InputStream in = codec.wrapForInput(new ByteArrayInputStream(payload))) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error decompressing dead letter payload", e);
+        }
+    }
+
+    /**
+     * Encode a payload copied into a dead letter queue record
+     *
+     * @param payload raw payload. May be {@code null}
+     * @param headers headers of the dead letter queue record
+     * @param headerPrefix prefix of headers describing the encoding
+     * @return encoded payload
+     */
+    byte[] encode(final byte[] payload, final Headers headers, final String headerPrefix) {
+        if (payload == null) {
+            return null;
+        }
+        if (this.compression != null) {
+            final byte[] compressed = this.compress(payload);
+            if (compressed.length < payload.length && compressed.length <= this.maxPayloadBytes) {
+                headers.add(headerPrefix + HEADER_COMPRESSION_SUFFIX, toBytes(this.compression.getName()));
+                return compressed;
+            }
+        }
+        if (payload.length <= this.maxPayloadBytes) {
+            return payload;
+        }
+        headers.add(headerPrefix + HEADER_ORIGINAL_SIZE_SUFFIX, toBytes(payload.length));
+        headers.add(headerPrefix + HEADER_SHA256_SUFFIX, sha256(payload));
+        return Arrays.copyOf(payload, this.maxPayloadBytes);
+    }
+
+    private byte[] compress(final byte[] payload) {
+        final ByteArrayOutputStream buffer =
+                new ByteArrayOutputStream(Math.min(payload.length, INITIAL_BUFFER_SIZE));
+        try (final OutputStream out = this.compression.wrapForOutput(buffer)) {
+            out.write(payload);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error compressing dead letter payload", e);
+        }
+        return buffer.toByteArray();
+    }
+}
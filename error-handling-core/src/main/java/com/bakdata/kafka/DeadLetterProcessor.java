@@ -26,10 +26,10 @@ package com.bakdata.kafka;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.function.Function;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
 import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
 import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
@@ -48,8 +48,20 @@ import org.apache.kafka.streams.processor.api.RecordMetadata;
 public class DeadLetterProcessor<K, V, T> implements FixedKeyProcessor<K, ProcessingError<V>, T> {
     private final @NonNull String description;
     private final @NonNull DeadLetterConverter<T> deadLetterConverter;
+    private final @NonNull Function<Object, String> inputRenderer;
     private FixedKeyProcessorContext<K, T> context;
 
+    /**
+     * Create a processor that renders inputs using {@link ErrorUtil#toString(Object)}
+     *
+     * @param description shared description for all errors
+     * @param deadLetterConverter converter from DeadLetterDescriptions to T
+     */
+    public DeadLetterProcessor(final @NonNull String description,
+            final @NonNull DeadLetterConverter<T> deadLetterConverter) {
+        this(description, deadLetterConverter, ErrorUtil::toString);
+    }
+
     /**
      * Transforms captured errors for serialization
      *
@@ -79,29 +91,82 @@ public class DeadLetterProcessor<K, V, T> implements FixedKeyProcessor<K, Proces
         return () -> new DeadLetterProcessor<>(description, deadLetterConverter);
     }
 
+    /**
+     * Transforms captured errors for serialization and renders inputs using a custom renderer. The rendered input is
+     * stored in {@link DeadLetterDescription#getInputValue()}, whereas {@link DeadLetterDescription#getInput()}
+     * always contains the original input.
+     *
+     * @param description shared description for all errors
+     * @param deadLetterConverter converter from DeadLetterDescriptions to VR
+     * @param inputRenderer renders non-null inputs as string. May return {@code null} if the input is embedded by the
+     * converter
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @param <VR> type of the output value
+     * @return a processor supplier
+     * @see #create(String, DeadLetterConverter)
+     */
+    public static <K, V, VR> FixedKeyProcessorSupplier<K, ProcessingError<V>, VR> create(final String description,
+            final DeadLetterConverter<VR> deadLetterConverter, final Function<Object, String> inputRenderer) {
+        return () -> new DeadLetterProcessor<>(description, deadLetterConverter, inputRenderer);
+    }
+
     @Override
     public void init(final FixedKeyProcessorContext<K, T> context) {
         this.context = context;
     }
 
-    @Override
-    public void process(final FixedKeyRecord<K, ProcessingError<V>> inputRecord) {
-        final ProcessingError<V> error = inputRecord.value();
-        final Throwable throwable = error.getThrowable();
-        final Optional<RecordMetadata> metadata = this.context.recordMetadata();
-        final DeadLetterDescription deadLetterDescription = DeadLetterDescription.builder()
-                .inputValue(Optional.ofNullable(error.getValue()).map(ErrorUtil::toString).orElse(null))
-                .cause(DeadLetterDescription.Cause.builder()
-                        .message(throwable.getMessage())
-                        .stackTrace(ExceptionUtils.getStackTrace(throwable))
-                        .errorClass(throwable.getClass().getName())
-                        .build())
-                .description(this.description)
+    static DeadLetterDescription describe(final ProcessingError<?> error, final String description,
+            final Function<Object, String> inputRenderer, final Optional<RecordMetadata> metadata,
+            final long timestamp) {
+        final Optional<ProcessingFailure> failure = error.getFailure();
+        if (failure.isEmpty()) {
+            return describe(error.getValue(), error.getThrowable(), description, inputRenderer, metadata, timestamp);
+        }
+        // failures are described without creating a throwable
+        return describe(error.getValue(), DeadLetterDescription.Cause.of(failure.get()), description, inputRenderer,
+                metadata, timestamp);
+    }
+
+    static DeadLetterDescription describe(final Object value, final Throwable throwable, final String description,
+            final Function<Object, String> inputRenderer, final Optional<RecordMetadata> metadata,
+            final long timestamp) {
+        return describe(value, DeadLetterDescription.Cause.of(throwable), description, inputRenderer, metadata,
+                timestamp);
+    }
+
+    private static DeadLetterDescription describe(final Object value, final DeadLetterDescription.Cause cause,
+            final String description, final Function<Object, String> inputRenderer,
+            final Optional<RecordMetadata> metadata, final long timestamp) {
+        return DeadLetterDescription.builder()
+                .inputValue(value == null ? null : inputRenderer.apply(value))
+                .input(value)
+                .cause(cause)
+                .description(description)
                 .topic(metadata.map(RecordMetadata::topic).orElse(null))
                 .partition(metadata.map(RecordMetadata::partition).orElse(null))
                 .offset(metadata.map(RecordMetadata::offset).orElse(null))
-                .inputTimestamp(Instant.ofEpochMilli(inputRecord.timestamp()))
+                .inputTimestamp(Instant.ofEpochMilli(timestamp))
                 .build();
+    }
+
+    static void record(final ProcessingError<?> error, final String description) {
+        final ErrorSignatureTracker tracker = ErrorSignatureTracker.getInstance();
+        final Optional<ProcessingFailure> failure = error.getFailure();
+        if (failure.isEmpty()) {
+            tracker.record(error.getThrowable(), description);
+        } else {
+            tracker.record(ErrorSignature.of(failure.get(), description));
+        }
+    }
+
+    @Override
+    public void process(final FixedKeyRecord<K, ProcessingError<V>> inputRecord) {
+        final ProcessingError<V> error = inputRecord.value();
+        // errors are recorded here because captured errors are not described yet
+        record(error, this.description);
+        final DeadLetterDescription deadLetterDescription = describe(error, this.description, this.inputRenderer,
+                this.context.recordMetadata(), inputRecord.timestamp());
 
         final FixedKeyRecord<K, T> outputRecord = inputRecord
                 .withValue(this.deadLetterConverter.convert(deadLetterDescription))
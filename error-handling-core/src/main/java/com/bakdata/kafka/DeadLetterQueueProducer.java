@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.DeadLetterPayloadEncoder.HEADER_KEY_PREFIX;
+import static com.bakdata.kafka.DeadLetterPayloadEncoder.HEADER_VALUE_PREFIX;
+import static com.bakdata.kafka.FilteringProcessingExceptionHandler.HEADER_ERRORS_PROCESSOR_NODE_ID_NAME;
+import static com.bakdata.kafka.FilteringProcessingExceptionHandler.HEADER_ERRORS_TASK_ID_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.buildDeadLetterQueueRecord;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.ErrorHandlerContext;
+
+/**
+ * Creates dead letter queue records for the exception handlers of this library. All handlers share the same header
+ * layout, error burst detection, and rate limit.
+ */
+@Slf4j
+final class DeadLetterQueueProducer {
+    private final String deadLetterQueueTopic;
+    private final ErrorBurstDetector burstDetector;
+    private final DeadLetterRateLimiter rateLimiter;
+    private final DeadLetterPayloadEncoder payloadEncoder;
+    private final DeadLetterKeyStrategy keyStrategy;
+    private final ProcessorDescriptions descriptions;
+
+    DeadLetterQueueProducer(final Map<String, ?> configs, final FilteringProcessingExceptionHandlerConfig config) {
+        this.deadLetterQueueTopic =
+                String.valueOf(configs.get(StreamsConfig.ERRORS_DEAD_LETTER_QUEUE_TOPIC_NAME_CONFIG));
+        this.burstDetector = config.getErrorBurstDetector().orElse(null);
+        this.rateLimiter = config.getDeadLetterRateLimiter().orElse(null);
+        this.payloadEncoder = config.getDeadLetterPayloadEncoder().orElse(null);
+        this.keyStrategy = config.getDeadLetterKeyStrategy();
+        this.descriptions = config.getProcessorDescriptions();
+    }
+
+    String getDeadLetterQueueTopic() {
+        return this.deadLetterQueueTopic;
+    }
+
+    /**
+     * Create the records to produce to the dead letter queue
+     *
+     * @param context context of the error
+     * @param key key of the input. It is replaced by a {@link DeadLetterKey} if {@link DeadLetterKeyStrategy#HASH} is
+     * configured
+     * @param value supplies the value of the dead letter queue record. Only called if a record is created
+     * @param exception the actual exception
+     * @return records to produce to the dead letter queue or empty if errors occur in a burst and processing
+     * should fail. If the rate limit is exceeded, no records are returned.
+     */
+    Optional<List<ProducerRecord<byte[], byte[]>>> createRecords(final ErrorHandlerContext context, final byte[] key,
+            final Supplier<byte[]> value, final Exception exception) {
+        final long now = System.currentTimeMillis();
+        if (this.burstDetector != null && this.burstDetector.recordAndCheckBurst(context, now)) {
+            log.error("Burst of errors in task {} detected", context.taskId(), exception);
+            return Optional.empty();
+        }
+        if (this.rateLimiter != null && !this.rateLimiter.tryAcquire(now)) {
+            log.debug("Dropping dead letter of task {} because rate limit is exceeded", context.taskId());
+            return Optional.of(List.of());
+        }
+        final byte[] dlqKey = this.createKey(context, key, exception);
+        final ProducerRecord<byte[], byte[]> dlqRecord = this.payloadEncoder == null
+                ? buildDeadLetterQueueRecord(this.deadLetterQueueTopic, dlqKey, value.get(), context, exception)
+                : this.buildEncodedRecord(context, dlqKey, value.get(), exception);
+        try (final Serializer<String> serializer = new StringSerializer()) {
+            dlqRecord.headers()
+                    .add(HEADER_ERRORS_PROCESSOR_NODE_ID_NAME, serializer.serialize(null, context.processorNodeId()));
+            dlqRecord.headers()
+                    .add(HEADER_ERRORS_TASK_ID_NAME, serializer.serialize(null, context.taskId().toString()));
+        }
+        return Optional.of(List.of(dlqRecord));
+    }
+
+    private byte[] createKey(final ErrorHandlerContext context, final byte[] key, final Exception exception) {
+        if (this.keyStrategy == DeadLetterKeyStrategy.ORIGINAL) {
+            return key;
+        }
+        final String deadLetterDescription = this.descriptions.describe(context.processorNodeId());
+        // the cause only distinguishes keys of inputs without a topic, so the stack trace is only rendered for them
+        final DeadLetterDescription.Cause cause =
+                context.topic() == null ? DeadLetterDescription.Cause.of(exception) : null;
+        return DeadLetterKey.of(context.topic(), context.partition(), context.offset(), deadLetterDescription,
+                Instant.ofEpochMilli(context.timestamp()), cause).toBytes();
+    }
+
+    private ProducerRecord<byte[], byte[]> buildEncodedRecord(final ErrorHandlerContext context, final byte[] key,
+            final byte[] value, final Exception exception) {
+        final Headers encodingHeaders = new RecordHeaders();
+        final byte[] encodedKey = this.payloadEncoder.encode(key, encodingHeaders, HEADER_KEY_PREFIX);
+        final byte[] encodedValue = this.payloadEncoder.encode(value, encodingHeaders, HEADER_VALUE_PREFIX);
+        final ProducerRecord<byte[], byte[]> dlqRecord =
+                buildDeadLetterQueueRecord(this.deadLetterQueueTopic, encodedKey, encodedValue, context, exception);
+        encodingHeaders.forEach(dlqRecord.headers()::add);
+        return dlqRecord;
+    }
+}
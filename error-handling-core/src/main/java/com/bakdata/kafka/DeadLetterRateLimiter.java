@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of dead letters per second. Records exceeding the limit are dropped.
+ */
+final class DeadLetterRateLimiter {
+    private static final long MS_PER_SECOND = 1000L;
+    private final long maxPerSecond;
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicLong currentCount = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    DeadLetterRateLimiter(final long maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * Try to acquire a permit for producing a dead letter
+     *
+     * @param nowMs current wall-clock time
+     * @return whether the dead letter may be produced
+     */
+    boolean tryAcquire(final long nowMs) {
+        final long second = nowMs / MS_PER_SECOND;
+        final long current = this.currentSecond.get();
+        if (second > current && this.currentSecond.compareAndSet(current, second)) {
+            this.currentCount.set(0L);
+        }
+        if (this.currentCount.incrementAndGet() <= this.maxPerSecond) {
+            return true;
+        }
+        this.dropped.increment();
+        return false;
+    }
+
+    /**
+     * Get the total number of dropped dead letters
+     *
+     * @return number of dropped dead letters
+     */
+    long getDropped() {
+        return this.dropped.sum();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import org.apache.kafka.streams.processor.api.Record;
+
+/**
+ * Read dead letters of a specific format for replaying them
+ *
+ * @param <T> type of dead letters
+ * @see DeadLetterReplayTopology
+ */
+@FunctionalInterface
+public interface DeadLetterReader<T> {
+    /**
+     * Read a dead letter. The original value should be restored in {@link DeadLetterDescription#getInput()}, either
+     * as {@code byte[]} in the encoding of the original topic or as object that is encoded by the input serializer of
+     * {@link DeadLetterReplayTopology}. Dead letters without restored input are not replayed.
+     *
+     * @param deadLetter dead letter to read
+     * @return description of the dead letter
+     */
+    DeadLetterDescription read(T deadLetter);
+
+    /**
+     * Read a dead letter record. Formats that store information outside the value, e.g., in headers, override this
+     * method. By default, the value is read using {@link #read(Object)}.
+     *
+     * @param deadLetterRecord dead letter record to read
+     * @return description of the dead letter
+     */
+    default DeadLetterDescription read(final Record<byte[], T> deadLetterRecord) {
+        return this.read(deadLetterRecord.value());
+    }
+}
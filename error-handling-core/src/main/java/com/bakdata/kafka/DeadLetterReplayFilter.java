@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Instant;
+import java.util.regex.Pattern;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Select the dead letters to replay. All criteria are optional and all configured criteria have to match.
+ */
+@Builder
+@Value
+public class DeadLetterReplayFilter {
+    /**
+     * Pattern that has to match the complete description of a dead letter
+     */
+    Pattern description;
+    /**
+     * Class name of the exception that caused the error. Nested causes are considered as well.
+     */
+    String errorClass;
+    /**
+     * Inclusive lower bound of the time the dead letter was created
+     */
+    Instant from;
+    /**
+     * Exclusive upper bound of the time the dead letter was created
+     */
+    Instant to;
+
+    /**
+     * Create a filter matching all dead letters
+     *
+     * @return filter matching all dead letters
+     */
+    public static DeadLetterReplayFilter all() {
+        return builder().build();
+    }
+
+    private static boolean hasErrorClass(final DeadLetterDescription.Cause cause, final String errorClass) {
+        for (DeadLetterDescription.Cause current = cause; current != null; current = current.getCause()) {
+            if (errorClass.equals(current.getErrorClass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether a dead letter should be replayed
+     *
+     * @param deadLetter dead letter to check
+     * @param timestamp timestamp of the dead letter record in milliseconds
+     * @return whether the dead letter matches all configured criteria
+     */
+    public boolean matches(final DeadLetterDescription deadLetter, final long timestamp) {
+        if (this.description != null && !this.description.matcher(deadLetter.getDescription()).matches()) {
+            return false;
+        }
+        if (this.errorClass != null && !hasErrorClass(deadLetter.getCause(), this.errorClass)) {
+            return false;
+        }
+        if (this.from != null && timestamp < this.from.toEpochMilli()) {
+            return false;
+        }
+        return this.to == null || timestamp < this.to.toEpochMilli();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+
+/**
+ * Restores the original records of dead letters that match a {@link DeadLetterReplayFilter}
+ *
+ * @param <T> type of dead letters
+ */
+@Slf4j
+@RequiredArgsConstructor
+class DeadLetterReplayProcessor<T> implements Processor<byte[], T, byte[], ReplayRecord> {
+    private final @NonNull DeadLetterReader<? super T> reader;
+    private final @NonNull DeadLetterReplayFilter filter;
+    private final ReplayThrottle throttle;
+    private final Serializer<Object> inputSerializer;
+    private final boolean replayInputValue;
+    private ProcessorContext<byte[], ReplayRecord> context;
+
+    private static long restoreTimestamp(final DeadLetterDescription deadLetter, final long timestamp) {
+        final Instant inputTimestamp = deadLetter.getInputTimestamp();
+        return inputTimestamp == null ? timestamp : inputTimestamp.toEpochMilli();
+    }
+
+    @Override
+    public void init(final ProcessorContext<byte[], ReplayRecord> context) {
+        this.context = context;
+    }
+
+    @Override
+    public void process(final Record<byte[], T> record) {
+        if (record.value() == null) {
+            return;
+        }
+        final DeadLetterDescription deadLetter = this.read(record);
+        if (!this.filter.matches(deadLetter, record.timestamp())) {
+            return;
+        }
+        if (deadLetter.getTopic() == null) {
+            log.warn("Cannot replay dead letter without topic: {}", deadLetter);
+            return;
+        }
+        final byte[] value = this.restoreValue(deadLetter);
+        if (value == null) {
+            log.warn("Cannot replay dead letter because its input has not been restored or no input serializer is "
+                    + "configured: {}", deadLetter);
+            return;
+        }
+        if (this.throttle != null) {
+            this.throttle.acquire();
+        }
+        final byte[] key = deadLetter.getInputKey() == null ? record.key() : deadLetter.getInputKey();
+        final ReplayRecord replayRecord = new ReplayRecord(deadLetter.getTopic(), deadLetter.getPartition(), value);
+        this.context.forward(record.withKey(key)
+                .withValue(replayRecord)
+                .withTimestamp(restoreTimestamp(deadLetter, record.timestamp()))
+                .withHeaders(new RecordHeaders()));
+    }
+
+    private DeadLetterDescription read(final Record<byte[], T> record) {
+        // readers accept supertypes of T, which do not change how records are read
+        @SuppressWarnings("unchecked")
+        final DeadLetterReader<T> typedReader = (DeadLetterReader<T>) this.reader;
+        return typedReader.read(record);
+    }
+
+    private byte[] restoreValue(final DeadLetterDescription deadLetter) {
+        final Object input = deadLetter.getInput();
+        if (input instanceof byte[]) {
+            return (byte[]) input;
+        }
+        if (input != null) {
+            return this.inputSerializer == null ? null : this.inputSerializer.serialize(deadLetter.getTopic(), input);
+        }
+        final String inputValue = deadLetter.getInputValue();
+        // the input value is only a rendering of the input and thus only replayed if explicitly enabled
+        return this.replayInputValue && inputValue != null ? inputValue.getBytes(StandardCharsets.UTF_8) : null;
+    }
+}
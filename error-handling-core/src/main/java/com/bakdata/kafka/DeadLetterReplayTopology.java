@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Set;
+import lombok.Builder;
+import lombok.NonNull;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Time;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.processor.StreamPartitioner;
+import org.apache.kafka.streams.processor.TopicNameExtractor;
+
+/**
+ * Replay dead letters to the topic partitions their inputs were originally read from. Dead letters are read with a
+ * {@link DeadLetterReader}, e.g., {@code AvroDeadLetterReader} or {@code ProtoDeadLetterV2Reader}, and filtered using a
+ * {@link DeadLetterReplayFilter}. Keys are replayed as is unless the reader restores them. Dead letters keyed by
+ * {@link DeadLetterKeyStrategy#HASH} do not retain the original key and can therefore not be replayed.
+ * <p>Values are restored from the dead letter by the reader. Restored {@code byte[]} are replayed as is. Other restored
+ * inputs, e.g., Avro records decoded by {@code AvroDeadLetterReader}, are encoded using the configured
+ * {@code inputSerializer}, e.g., a schema registry aware serializer. Dead letters whose input cannot be restored are
+ * skipped with a warning. Their rendered {@link DeadLetterDescription#getInputValue() input value} is only replayed as
+ * UTF-8 bytes if {@code replayInputValue} is enabled.
+ *
+ * <pre>{@code
+ * final Serializer<Object> inputSerializer = new KafkaAvroSerializer();
+ * inputSerializer.configure(Map.of(SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl), false);
+ * final Topology topology = DeadLetterReplayTopology.<DeadLetter>builder()
+ *         .deadLetterTopic(ERROR_TOPIC)
+ *         .deadLetterDeserializer(deadLetterSerde.deserializer())
+ *         .reader(new AvroDeadLetterReader().withSchemas(schemaStore))
+ *         .inputSerializer(inputSerializer)
+ *         .filter(DeadLetterReplayFilter.builder()
+ *                 .errorClass(NullPointerException.class.getName())
+ *                 .build())
+ *         .maxRecordsPerSecond(100L)
+ *         .build()
+ *         .createTopology();
+ * }
+ * </pre>
+ * <p>Throttling blocks the stream thread. Replays should therefore run in a dedicated application so that live
+ * traffic is not affected. Processing all records of a poll must not exceed {@code max.poll.interval.ms}, so
+ * {@code max.poll.records} must not exceed {@code maxRecordsPerSecond * max.poll.interval.ms / 1000}. Otherwise, the
+ * replay application is removed from its consumer group.
+ *
+ * @param <T> type of dead letters
+ */
+@Builder
+public final class DeadLetterReplayTopology<T> {
+    static final String SOURCE_NAME = "dead-letter-replay-source";
+    static final String PROCESSOR_NAME = "dead-letter-replay";
+    static final String SINK_NAME = "dead-letter-replay-sink";
+    private static final Serializer<ReplayRecord> VALUE_SERIALIZER =
+            (topic, replayRecord) -> replayRecord == null ? null : replayRecord.getValue();
+    private final @NonNull String deadLetterTopic;
+    private final @NonNull Deserializer<T> deadLetterDeserializer;
+    private final @NonNull DeadLetterReader<? super T> reader;
+    @Builder.Default
+    private final @NonNull DeadLetterReplayFilter filter = DeadLetterReplayFilter.all();
+    /**
+     * Serializer for restored inputs that are not {@code byte[]}. It needs to be configured already. The topic is the
+     * topic the input is replayed to.
+     */
+    private final Serializer<?> inputSerializer;
+    /**
+     * Replay the rendered input value as UTF-8 bytes if the input cannot be restored. This is only correct if the
+     * inputs have been UTF-8 strings. Disabled by default.
+     */
+    private final boolean replayInputValue;
+    /**
+     * Maximum number of records replayed per second. Replays are not throttled if not configured. Replaying blocks the
+     * stream thread, so {@code max.poll.records} needs to be low enough for a poll to be replayed within
+     * {@code max.poll.interval.ms}.
+     */
+    private final Long maxRecordsPerSecond;
+    /**
+     * Strategy the dead letters have been keyed by. Dead letters keyed by {@link DeadLetterKeyStrategy#HASH} are
+     * refused because their original key is lost.
+     */
+    @Builder.Default
+    private final @NonNull DeadLetterKeyStrategy keyStrategy = DeadLetterKeyStrategy.ORIGINAL;
+
+    /**
+     * Create a topology that replays dead letters
+     *
+     * @return topology replaying dead letters
+     * @throws IllegalArgumentException if dead letters are keyed by {@link DeadLetterKeyStrategy#HASH}
+     */
+    public Topology createTopology() {
+        if (this.keyStrategy != DeadLetterKeyStrategy.ORIGINAL) {
+            throw new IllegalArgumentException("Dead letters keyed by " + this.keyStrategy
+                    + " cannot be replayed because the original key is lost");
+        }
+        final Topology topology = new Topology();
+        topology.addSource(SOURCE_NAME, new ByteArrayDeserializer(), this.deadLetterDeserializer,
+                this.deadLetterTopic);
+        topology.addProcessor(PROCESSOR_NAME, this::createProcessor, SOURCE_NAME);
+        final TopicNameExtractor<byte[], ReplayRecord> topicExtractor =
+                (key, replayRecord, recordContext) -> replayRecord.getTopic();
+        topology.addSink(SINK_NAME, topicExtractor, new ByteArraySerializer(), VALUE_SERIALIZER,
+                new OriginalPartitioner(), PROCESSOR_NAME);
+        return topology;
+    }
+
+    private DeadLetterReplayProcessor<T> createProcessor() {
+        final ReplayThrottle throttle =
+                this.maxRecordsPerSecond == null ? null : new ReplayThrottle(this.maxRecordsPerSecond, Time.SYSTEM);
+        // restored inputs are not typed, so the serializer has to accept them
+        @SuppressWarnings("unchecked")
+        final Serializer<Object> serializer = (Serializer<Object>) this.inputSerializer;
+        return new DeadLetterReplayProcessor<>(this.reader, this.filter, throttle, serializer, this.replayInputValue);
+    }
+
+    /**
+     * Partitions replayed records by their original partition. The default partitioning is used if the original
+     * partition is unknown or does not exist anymore.
+     */
+    private static final class OriginalPartitioner implements StreamPartitioner<byte[], ReplayRecord> {
+        private static Integer originalPartition(final ReplayRecord replayRecord, final int numPartitions) {
+            final Integer partition = replayRecord.getPartition();
+            return partition == null || partition >= numPartitions ? null : partition;
+        }
+
+        @Override
+        public Optional<Set<Integer>> partitions(final String topic, final byte[] key,
+                final ReplayRecord replayRecord, final int numPartitions) {
+            return Optional.ofNullable(originalPartition(replayRecord, numPartitions))
+                    .map(Collections::singleton);
+        }
+    }
+}
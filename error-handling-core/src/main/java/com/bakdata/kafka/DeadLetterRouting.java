@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Configures how {@link DeadLetterRoutingProcessor} creates dead letters and to which child nodes records are
+ * forwarded
+ *
+ * @param <T> the DeadLetter type
+ */
+@Builder
+@Value
+public class DeadLetterRouting<T> {
+    /**
+     * Shared description for all errors
+     */
+    @NonNull String description;
+    /**
+     * Converter from DeadLetterDescriptions to T
+     */
+    @NonNull DeadLetterConverter<T> converter;
+    /**
+     * Renders non-null inputs as string. Defaults to {@link ErrorUtil#toString(Object)}.
+     */
+    @Builder.Default
+    @NonNull Function<Object, String> inputRenderer = ErrorUtil::toString;
+    /**
+     * Name of the child node receiving successfully processed records
+     */
+    @NonNull String outputChild;
+    /**
+     * Name of the child node receiving dead letters
+     */
+    @NonNull String deadLetterChild;
+    /**
+     * Expression that filters errors which should be thrown and not captured. Defaults to
+     * {@link ErrorUtil#isRecoverable(Exception)}.
+     */
+    @Builder.Default
+    @NonNull Predicate<Exception> errorFilter = ErrorUtil::isRecoverable;
+}
@@ -0,0 +1,164 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.kstream.KeyValueMapper;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.ProcessorSupplier;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.StoreBuilder;
+
+/**
+ * Wrap a {@code Processor}, capture thrown exceptions, and forward dead letters to a dedicated child node. Successfully
+ * processed records are forwarded to another child node. Capturing, conversion, and routing thus happen in a single
+ * node without intermediate {@code ProcessedKeyValue} and {@code ProcessingError} objects. Dead letters are equal to
+ * the ones created by {@link DeadLetterProcessor}.
+ * <p>Child nodes are addressed by name, so this processor can only be used with the Processor API:
+ * <pre>{@code
+ * final Topology topology = new Topology();
+ * topology.addSource("input", INPUT_TOPIC);
+ * topology.addProcessor("map", DeadLetterRoutingProcessor.captureErrors(mapper, DeadLetterRouting.<DeadLetter>builder()
+ *         .description("Description")
+ *         .converter(new AvroDeadLetterConverter())
+ *         .outputChild("output")
+ *         .deadLetterChild("dead-letters")
+ *         .build()), "input");
+ * topology.addSink("output", OUTPUT_TOPIC, "map");
+ * topology.addSink("dead-letters", ERROR_TOPIC, "map");
+ * }
+ * </pre>
+ *
+ * @param <K> type of input keys
+ * @param <V> type of input values
+ * @param <KR> type of output keys
+ * @param <VR> type of output values
+ * @param <T> the DeadLetter type
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DeadLetterRoutingProcessor<K, V, KR, VR, T> implements Processor<K, V, Object, Object> {
+    private final @NonNull Processor<K, V, KR, VR> wrapped;
+    private final @NonNull DeadLetterRouting<T> routing;
+    private ProcessorContext<Object, Object> context;
+
+    /**
+     * Wrap a {@code ProcessorSupplier}, capture thrown exceptions, and forward dead letters to a dedicated child node
+     *
+     * @param supplier {@code ProcessorSupplier} whose exceptions should be captured
+     * @param routing configures the creation and routing of dead letters
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <KR> type of output keys
+     * @param <VR> type of output values
+     * @param <T> the DeadLetter type
+     * @return {@code ProcessorSupplier}
+     */
+    public static <K, V, KR, VR, T> ProcessorSupplier<K, V, Object, Object> captureErrors(
+            final @NonNull ProcessorSupplier<K, V, KR, VR> supplier, final @NonNull DeadLetterRouting<T> routing) {
+        return new ProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return supplier.stores();
+            }
+
+            @Override
+            public Processor<K, V, Object, Object> get() {
+                return new DeadLetterRoutingProcessor<>(supplier.get(), routing);
+            }
+        };
+    }
+
+    /**
+     * Wrap a {@code KeyValueMapper}, capture thrown exceptions, and forward dead letters to a dedicated child node
+     *
+     * @param mapper {@code KeyValueMapper} whose exceptions should be captured
+     * @param routing configures the creation and routing of dead letters
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <KR> type of output keys
+     * @param <VR> type of output values
+     * @param <T> the DeadLetter type
+     * @return {@code ProcessorSupplier}
+     */
+    public static <K, V, KR, VR, T> ProcessorSupplier<K, V, Object, Object> captureErrors(
+            final @NonNull KeyValueMapper<? super K, ? super V, ? extends KeyValue<? extends KR, ? extends VR>> mapper,
+            final @NonNull DeadLetterRouting<T> routing) {
+        return captureErrors(() -> new MappingProcessor<K, V, KR, VR>(mapper), routing);
+    }
+
+    @Override
+    public void init(final ProcessorContext<Object, Object> context) {
+        this.wrapped.init(new ChildRoutingProcessorContext<>(context, this.routing.getOutputChild()));
+        this.context = context;
+    }
+
+    @Override
+    public void process(final Record<K, V> inputRecord) {
+        try {
+            this.wrapped.process(inputRecord);
+        } catch (final Exception e) {
+            if (this.routing.getErrorFilter().test(e)) {
+                throw e;
+            }
+            // errors are captured and described in one place and thus recorded only here
+            ErrorSignatureTracker.getInstance().record(e, this.routing.getDescription());
+            final DeadLetterDescription deadLetterDescription = DeadLetterProcessor.describe(inputRecord.value(), e,
+                    this.routing.getDescription(), this.routing.getInputRenderer(), this.context.recordMetadata(),
+                    inputRecord.timestamp());
+            final Record<K, T> deadLetter = inputRecord
+                    .withValue(this.routing.getConverter().convert(deadLetterDescription))
+                    .withTimestamp(this.context.currentSystemTimeMs());
+            this.context.forward(deadLetter, this.routing.getDeadLetterChild());
+        }
+    }
+
+    @Override
+    public void close() {
+        this.wrapped.close();
+    }
+
+    @RequiredArgsConstructor
+    private static final class MappingProcessor<K, V, KR, VR> implements Processor<K, V, KR, VR> {
+        private final @NonNull KeyValueMapper<? super K, ? super V, ? extends KeyValue<? extends KR, ? extends VR>>
+                mapper;
+        private ProcessorContext<KR, VR> context;
+
+        @Override
+        public void init(final ProcessorContext<KR, VR> context) {
+            this.context = context;
+        }
+
+        @Override
+        public void process(final Record<K, V> inputRecord) {
+            final KeyValue<? extends KR, ? extends VR> keyValue = this.mapper.apply(inputRecord.key(),
+                    inputRecord.value());
+            this.context.forward(inputRecord.<KR>withKey(keyValue.key).withValue(keyValue.value));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+/**
+ * Serializes a {@code DeadLetterDescription} directly to bytes without creating an intermediate object
+ * representation. Implementations produce the same bytes as serializing the result of the corresponding
+ * {@link DeadLetterConverter}. Because a {@code DeadLetterSerializer} is a {@code DeadLetterConverter<byte[]>}, it can
+ * be passed to {@link DeadLetterProcessor#create(String, DeadLetterConverter)} to produce dead letters to a sink using
+ * {@code Serdes.ByteArray()}.
+ */
+@FunctionalInterface
+public interface DeadLetterSerializer extends DeadLetterConverter<byte[]> {
+
+    /**
+     * Serializes a {@code DeadLetterDescription} to bytes
+     *
+     * @param deadLetterDescription contains all information about one error
+     * @return the serialized description
+     */
+    byte[] serialize(final DeadLetterDescription deadLetterDescription);
+
+    @Override
+    default byte[] convert(final DeadLetterDescription deadLetterDescription) {
+        return this.serialize(deadLetterDescription);
+    }
+}
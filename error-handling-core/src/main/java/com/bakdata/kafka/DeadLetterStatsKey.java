@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import lombok.NonNull;
+import lombok.Value;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+
+/**
+ * Group of dead letters counted by {@link DeadLetterStatsTopology}
+ */
+@Value
+class DeadLetterStatsKey {
+    private static final int NULL_LENGTH = -1;
+    @NonNull String description;
+    String errorClass;
+    String topic;
+    Integer partition;
+
+    static DeadLetterStatsKey of(final DeadLetterDescription deadLetter) {
+        return new DeadLetterStatsKey(deadLetter.getDescription(), deadLetter.getCause().getErrorClass(),
+                deadLetter.getTopic(), deadLetter.getPartition());
+    }
+
+    static Serde<DeadLetterStatsKey> serde() {
+        return Serdes.serdeFrom((topic, key) -> key == null ? null : key.toBytes(),
+                (topic, bytes) -> bytes == null ? null : fromBytes(bytes));
+    }
+
+    private static DeadLetterStatsKey fromBytes(final byte[] bytes) {
+        try (final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            final String description = readString(in);
+            if (description == null) {
+                throw new SerializationException("Dead letter stats key without description");
+            }
+            final String errorClass = readString(in);
+            final String topic = readString(in);
+            final int partition = in.readInt();
+            return new DeadLetterStatsKey(description, errorClass, topic, partition == NULL_LENGTH ? null : partition);
+        } catch (final IOException e) {
+            throw new SerializationException("Error deserializing dead letter stats key", e);
+        }
+    }
+
+    private static String readString(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(final DataOutputStream out, final String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private byte[] toBytes() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final DataOutputStream out = new DataOutputStream(bytes)) {
+            writeString(out, this.description);
+            writeString(out, this.errorClass);
+            writeString(out, this.topic);
+            out.writeInt(this.partition == null ? NULL_LENGTH : this.partition);
+        } catch (final IOException e) {
+            throw new SerializationException("Error serializing dead letter stats key", e);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Duration;
+import java.time.Instant;
+import lombok.Builder;
+import lombok.NonNull;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Named;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.Suppressed;
+import org.apache.kafka.streams.kstream.Suppressed.BufferConfig;
+import org.apache.kafka.streams.kstream.TimeWindows;
+import org.apache.kafka.streams.kstream.Windowed;
+import org.apache.kafka.streams.state.WindowStore;
+
+/**
+ * Count dead letters in hopping windows grouped by description, error class, and source topic partition. Counts are
+ * emitted once per window after the window closes, converted using a {@link DeadLetterStatsConverter}, e.g.,
+ * {@code AvroDeadLetterStatsConverter} or {@code ProtoDeadLetterStatsConverter}. Records are keyed by the
+ * description.
+ *
+ * <pre>{@code
+ * final Topology topology = DeadLetterStatsTopology.<DeadLetter, DeadLetterStats>builder()
+ *         .deadLetterTopic(ERROR_TOPIC)
+ *         .deadLetterSerde(deadLetterSerde)
+ *         .reader(new AvroDeadLetterReader())
+ *         .converter(new AvroDeadLetterStatsConverter())
+ *         .statsSerde(statsSerde)
+ *         .statsTopic(STATS_TOPIC)
+ *         .windowSize(Duration.ofMinutes(5L))
+ *         .advance(Duration.ofMinutes(1L))
+ *         .build()
+ *         .createTopology();
+ * }
+ * </pre>
+ * <p>Dead letters are assigned to windows by their record timestamp, i.e., the time they were created.
+ *
+ * @param <T> type of dead letters
+ * @param <S> type of statistics
+ */
+@Builder
+public final class DeadLetterStatsTopology<T, S> {
+    static final String COUNT_STORE = "dead-letter-stats";
+    private final @NonNull String deadLetterTopic;
+    private final @NonNull Serde<T> deadLetterSerde;
+    private final @NonNull DeadLetterReader<? super T> reader;
+    private final @NonNull DeadLetterStatsConverter<S> converter;
+    private final @NonNull Serde<S> statsSerde;
+    private final @NonNull String statsTopic;
+    /**
+     * Size of the windows. Defaults to one minute.
+     */
+    @Builder.Default
+    private final @NonNull Duration windowSize = Duration.ofMinutes(1L);
+    /**
+     * Advance of the windows. Defaults to the window size, i.e., tumbling windows.
+     */
+    private final Duration advance;
+    /**
+     * Grace period for dead letters arriving out of order. Defaults to ten seconds.
+     */
+    @Builder.Default
+    private final @NonNull Duration grace = Duration.ofSeconds(10L);
+
+    private static DeadLetterStatsDescription describe(final Windowed<DeadLetterStatsKey> windowedKey,
+            final long count) {
+        final DeadLetterStatsKey key = windowedKey.key();
+        return DeadLetterStatsDescription.builder()
+                .description(key.getDescription())
+                .errorClass(key.getErrorClass())
+                .topic(key.getTopic())
+                .partition(key.getPartition())
+                .windowStart(Instant.ofEpochMilli(windowedKey.window().start()))
+                .windowEnd(Instant.ofEpochMilli(windowedKey.window().end()))
+                .count(count)
+                .build();
+    }
+
+    /**
+     * Create a topology that counts dead letters
+     *
+     * @return topology counting dead letters
+     */
+    public Topology createTopology() {
+        final StreamsBuilder builder = new StreamsBuilder();
+        final TimeWindows windows = TimeWindows.ofSizeAndGrace(this.windowSize, this.grace)
+                .advanceBy(this.advance == null ? this.windowSize : this.advance);
+        final Serde<DeadLetterStatsKey> keySerde = DeadLetterStatsKey.serde();
+        builder.stream(this.deadLetterTopic, Consumed.with(Serdes.ByteArray(), this.deadLetterSerde))
+                .filter((key, deadLetter) -> deadLetter != null, Named.as("dead-letter-stats-filter"))
+                // only a count is shuffled instead of the complete dead letter
+                .map((key, deadLetter) -> KeyValue.pair(DeadLetterStatsKey.of(this.reader.read(deadLetter)), 1L),
+                        Named.as("dead-letter-stats-group"))
+                .groupByKey(Grouped.with("dead-letter-stats", keySerde, Serdes.Long()))
+                .windowedBy(windows)
+                .reduce(Long::sum, Named.as("dead-letter-stats-count"),
+                        Materialized.<DeadLetterStatsKey, Long, WindowStore<Bytes, byte[]>>as(COUNT_STORE)
+                                .withKeySerde(keySerde)
+                                .withValueSerde(Serdes.Long()))
+                .suppress(Suppressed.untilWindowCloses(BufferConfig.unbounded())
+                        .withName("dead-letter-stats-suppress"))
+                .toStream(Named.as("dead-letter-stats-stream"))
+                .map((windowedKey, count) -> KeyValue.pair(windowedKey.key().getDescription(),
+                        this.converter.convert(describe(windowedKey, count))), Named.as("dead-letter-stats-convert"))
+                .to(this.statsTopic, Produced.with(Serdes.String(), this.statsSerde));
+        return builder.build();
+    }
+}
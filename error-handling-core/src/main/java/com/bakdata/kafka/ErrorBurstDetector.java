@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.errors.ErrorHandlerContext;
+import org.apache.kafka.streams.processor.TaskId;
+
+/**
+ * Detects bursts of errors per task and input topic in a sliding window. Kafka Streams does not report successfully
+ * processed records to exception handlers, so the density of errors is measured by the span of input offsets of
+ * failed records. This is not the error ratio of the task: A burst of errors between many successful records is
+ * detected as well. The sliding window is approximated by weighting the previous window with the portion that still
+ * overlaps the sliding window.
+ */
+@RequiredArgsConstructor
+final class ErrorBurstDetector {
+    private final double maxRatio;
+    private final long windowMs;
+    private final long minRecords;
+    private final Map<TaskId, Map<String, Window>> windows = new ConcurrentHashMap<>();
+    private final AtomicLong lastPruneMs = new AtomicLong();
+
+    /**
+     * Record an error and check if errors of the task occur in a burst
+     *
+     * @param context context of the error
+     * @param nowMs current wall-clock time
+     * @return whether the ratio of failed records in the offset span of failed records exceeds the configured maximum
+     */
+    boolean recordAndCheckBurst(final ErrorHandlerContext context, final long nowMs) {
+        this.prune(nowMs);
+        final String topic = context.topic();
+        if (topic == null) {
+            // errors in punctuations have no input offset
+            return false;
+        }
+        final Window window = this.getWindow(context.taskId(), topic, nowMs);
+        window.record(context.offset(), nowMs);
+        return window.isBurst(nowMs);
+    }
+
+    int size() {
+        return this.windows.values().stream()
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    private void prune(final long nowMs) {
+        // exception handlers are not notified about closed tasks, so windows of tasks without errors in the last two
+        // windows are evicted. They do not contribute to detection anymore.
+        final long last = this.lastPruneMs.get();
+        if (nowMs - last < this.windowMs || !this.lastPruneMs.compareAndSet(last, nowMs)) {
+            return;
+        }
+        this.windows.values().forEach(topicWindows -> topicWindows.values()
+                .removeIf(window -> window.isExpired(nowMs)));
+        this.windows.values().removeIf(Map::isEmpty);
+    }
+
+    private Window getWindow(final TaskId taskId, final String topic, final long nowMs) {
+        return this.windows.computeIfAbsent(taskId, id -> new ConcurrentHashMap<>())
+                .computeIfAbsent(topic, t -> new Window(nowMs));
+    }
+
+    private final class Window {
+        private final AtomicLong start;
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong minOffset = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong maxOffset = new AtomicLong(Long.MIN_VALUE);
+        private volatile long previousErrors = 0L;
+        private volatile long previousRecords = 0L;
+
+        private Window(final long start) {
+            this.start = new AtomicLong(start);
+        }
+
+        private void record(final long offset, final long nowMs) {
+            final long currentStart = this.start.get();
+            if (nowMs - currentStart >= ErrorBurstDetector.this.windowMs
+                    && this.start.compareAndSet(currentStart, nowMs)) {
+                // previous window only counts if it directly precedes the new one
+                final boolean adjacent = nowMs - currentStart < 2 * ErrorBurstDetector.this.windowMs;
+                this.previousErrors = adjacent ? this.errors.get() : 0L;
+                this.previousRecords = adjacent ? this.records() : 0L;
+                this.errors.set(0L);
+                this.minOffset.set(Long.MAX_VALUE);
+                this.maxOffset.set(Long.MIN_VALUE);
+            }
+            this.errors.incrementAndGet();
+            this.minOffset.accumulateAndGet(offset, Math::min);
+            this.maxOffset.accumulateAndGet(offset, Math::max);
+        }
+
+        private long records() {
+            final long min = this.minOffset.get();
+            final long max = this.maxOffset.get();
+            return max < min ? 0L : max - min + 1;
+        }
+
+        private boolean isExpired(final long nowMs) {
+            return nowMs - this.start.get() >= 2 * ErrorBurstDetector.this.windowMs;
+        }
+
+        private boolean isBurst(final long nowMs) {
+            final long elapsed = Math.min(nowMs - this.start.get(), ErrorBurstDetector.this.windowMs);
+            final double previousWeight = 1.0 - (double) elapsed / ErrorBurstDetector.this.windowMs;
+            final double totalErrors = this.errors.get() + this.previousErrors * previousWeight;
+            final double totalRecords = this.records() + this.previousRecords * previousWeight;
+            if (totalRecords < ErrorBurstDetector.this.minRecords) {
+                return false;
+            }
+            return totalErrors / totalRecords > ErrorBurstDetector.this.maxRatio;
+        }
+    }
+}
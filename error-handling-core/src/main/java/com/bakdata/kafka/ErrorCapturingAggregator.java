@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.kstream.Aggregator;
+
+/**
+ * Wrap an {@code Aggregator} and capture thrown exceptions. Instead of failing the task, which requires restoring its
+ * state stores, the new aggregate is determined by an {@link AggregationErrorHandler}.
+ *
+ * @param <K> type of input keys
+ * @param <V> type of input values
+ * @param <VA> type of aggregate values
+ * @see #captureErrors(Aggregator)
+ * @see #captureErrors(Aggregator, AggregationErrorHandler)
+ * @see #captureErrors(Aggregator, AggregationErrorHandler, Predicate)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ErrorCapturingAggregator<K, V, VA> implements Aggregator<K, V, VA> {
+    private final @NonNull Aggregator<? super K, ? super V, VA> wrapped;
+    private final @NonNull AggregationErrorHandler<V, VA> errorHandler;
+    private final @NonNull Predicate<Exception> errorFilter;
+
+    /**
+     * Wrap an {@code Aggregator} and keep the previous aggregate if an exception is thrown. Recoverable Kafka
+     * exceptions such as a schema registry timeout are forwarded and not captured.
+     *
+     * @param aggregator {@code Aggregator} whose exceptions should be captured
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <VA> type of aggregate values
+     * @return {@code Aggregator}
+     * @see AggregationErrorHandler#keepAggregate()
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public static <K, V, VA> Aggregator<K, V, VA> captureErrors(
+            final @NonNull Aggregator<? super K, ? super V, VA> aggregator) {
+        return captureErrors(aggregator, AggregationErrorHandler.keepAggregate());
+    }
+
+    /**
+     * Wrap an {@code Aggregator} and capture thrown exceptions. Recoverable Kafka exceptions such as a schema registry
+     * timeout are forwarded and not captured.
+     *
+     * @param aggregator {@code Aggregator} whose exceptions should be captured
+     * @param errorHandler determines the new aggregate if an exception is thrown
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <VA> type of aggregate values
+     * @return {@code Aggregator}
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public static <K, V, VA> Aggregator<K, V, VA> captureErrors(
+            final @NonNull Aggregator<? super K, ? super V, VA> aggregator,
+            final @NonNull AggregationErrorHandler<V, VA> errorHandler) {
+        return captureErrors(aggregator, errorHandler, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap an {@code Aggregator} and capture thrown exceptions.
+     * <pre>{@code
+     * final Aggregator<K, V, VA> aggregator = ...;
+     * final KGroupedStream<K, V> grouped = ...;
+     * final KTable<K, VA> aggregated = grouped.aggregate(initializer,
+     *         captureErrors(aggregator, AggregationErrorHandler.keepAggregate(), ErrorUtil::isRecoverable));
+     * }
+     * </pre>
+     *
+     * @param aggregator {@code Aggregator} whose exceptions should be captured
+     * @param errorHandler determines the new aggregate if an exception is thrown
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <VA> type of aggregate values
+     * @return {@code Aggregator}
+     */
+    public static <K, V, VA> Aggregator<K, V, VA> captureErrors(
+            final @NonNull Aggregator<? super K, ? super V, VA> aggregator,
+            final @NonNull AggregationErrorHandler<V, VA> errorHandler,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new ErrorCapturingAggregator<>(aggregator, errorHandler, errorFilter);
+    }
+
+    @Override
+    public VA apply(final K key, final V value, final VA aggregate) {
+        try {
+            return this.wrapped.apply(key, value, aggregate);
+        } catch (final Exception e) {
+            if (this.errorFilter.test(e)) {
+                throw e;
+            }
+            // errors passed to the error handler do not reach a DeadLetterProcessor
+            ErrorSignatureTracker.getInstance().record(e, AggregationErrorScope.description());
+            final ProcessingError<V> error = ProcessingError.<V>builder()
+                    .throwable(e)
+                    .value(value)
+                    .build();
+            return this.errorHandler.handle(error, aggregate);
+        }
+    }
+}
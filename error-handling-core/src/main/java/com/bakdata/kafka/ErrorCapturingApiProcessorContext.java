@@ -24,18 +24,39 @@
 
 package com.bakdata.kafka;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.NonNull;
+import org.apache.kafka.streams.processor.StateStore;
 import org.apache.kafka.streams.processor.api.ProcessorContext;
 import org.apache.kafka.streams.processor.api.Record;
 
 final class ErrorCapturingApiProcessorContext<K, V, KR, VR> extends DecoratorProcessingContext
         implements ProcessorContext<KR, VR> {
     private final @NonNull ProcessorContext<? super KR, ? super ProcessedKeyValue<K, V, VR>> wrapped;
+    private final StoreUndoLog undoLog;
+    private final List<Record<? extends KR, ProcessedKeyValue<K, V, VR>>> bufferedRecords;
+    private final List<String> bufferedChildNames;
+    private final Map<String, StateStore> stores;
 
+    /**
+     * Create a new context
+     *
+     * @param wrapped context to forward to
+     * @param atomic whether forwards are buffered and writes to key-value stores are logged until {@link #commit()}
+     * or {@link #rollback()} is called
+     */
     ErrorCapturingApiProcessorContext(
-            final @NonNull ProcessorContext<? super KR, ? super ProcessedKeyValue<K, V, VR>> wrapped) {
+            final @NonNull ProcessorContext<? super KR, ? super ProcessedKeyValue<K, V, VR>> wrapped,
+            final boolean atomic) {
         super(wrapped);
         this.wrapped = wrapped;
+        this.undoLog = atomic ? new StoreUndoLog() : null;
+        this.bufferedRecords = atomic ? new ArrayList<>() : null;
+        this.bufferedChildNames = atomic ? new ArrayList<>() : null;
+        this.stores = atomic ? new HashMap<>() : null;
     }
 
     private static <K, KR, KForward extends KR, V, VR, VForward extends VR> Record<KForward, ProcessedKeyValue<K, V,
@@ -48,13 +69,89 @@ final class ErrorCapturingApiProcessorContext<K, V, KR, VR> extends DecoratorPro
     @Override
     public <KForward extends KR, VForward extends VR> void forward(final Record<KForward, VForward> outputRecord) {
         final Record<KForward, ProcessedKeyValue<K, V, VR>> recordWithOldKey = getValue(outputRecord);
-        this.wrapped.forward(recordWithOldKey);
+        if (this.isBuffering()) {
+            this.buffer(recordWithOldKey, null);
+        } else {
+            this.wrapped.forward(recordWithOldKey);
+        }
     }
 
     @Override
     public <KForward extends KR, VForward extends VR> void forward(final Record<KForward, VForward> outputRecord,
             final String childName) {
         final Record<KForward, ProcessedKeyValue<K, V, VR>> recordWithOldKey = getValue(outputRecord);
-        this.wrapped.forward(recordWithOldKey, childName);
+        if (this.isBuffering()) {
+            this.buffer(recordWithOldKey, childName);
+        } else {
+            this.wrapped.forward(recordWithOldKey, childName);
+        }
+    }
+
+    @Override
+    public <S extends StateStore> S getStateStore(final String name) {
+        final S store = this.wrapped.getStateStore(name);
+        if (this.undoLog == null) {
+            return store;
+        }
+        @SuppressWarnings("unchecked")
+        final S undoLoggingStore = (S) this.stores.computeIfAbsent(name, ignored -> this.undoLog.wrap(store));
+        return undoLoggingStore;
+    }
+
+    /**
+     * Start buffering forwards and logging writes to key-value stores. Has no effect if the context is not atomic.
+     */
+    void begin() {
+        if (this.undoLog != null) {
+            this.clearBuffer();
+            this.undoLog.begin();
+        }
+    }
+
+    /**
+     * Keep all writes to key-value stores and forward all buffered records
+     */
+    void commit() {
+        if (this.undoLog != null) {
+            this.undoLog.commit();
+            for (int i = 0; i < this.bufferedRecords.size(); i++) {
+                this.forwardBuffered(this.bufferedRecords.get(i), this.bufferedChildNames.get(i));
+            }
+            this.clearBuffer();
+        }
+    }
+
+    /**
+     * Undo all writes to key-value stores and discard all buffered records
+     */
+    void rollback() {
+        if (this.undoLog != null) {
+            this.undoLog.rollback();
+            this.clearBuffer();
+        }
+    }
+
+    private boolean isBuffering() {
+        return this.undoLog != null && this.undoLog.isActive();
+    }
+
+    private void buffer(final Record<? extends KR, ProcessedKeyValue<K, V, VR>> outputRecord,
+            final String childName) {
+        this.bufferedRecords.add(outputRecord);
+        this.bufferedChildNames.add(childName);
+    }
+
+    private <KForward extends KR> void forwardBuffered(
+            final Record<KForward, ProcessedKeyValue<K, V, VR>> outputRecord, final String childName) {
+        if (childName == null) {
+            this.wrapped.forward(outputRecord);
+        } else {
+            this.wrapped.forward(outputRecord, childName);
+        }
+    }
+
+    private void clearBuffer() {
+        this.bufferedRecords.clear();
+        this.bufferedChildNames.clear();
     }
 }
@@ -46,13 +46,17 @@ import org.apache.kafka.streams.state.StoreBuilder;
  * @see #captureErrors(Processor, Predicate)
  * @see #captureErrors(ProcessorSupplier)
  * @see #captureErrors(ProcessorSupplier, Predicate)
+ * @see #captureErrorsAtomically(Processor)
+ * @see #captureErrorsAtomically(ProcessorSupplier)
  */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ErrorCapturingProcessor<K, V, KR, VR>
         implements Processor<K, V, KR, ProcessedKeyValue<K, V, VR>> {
     private final @NonNull Processor<K, V, KR, VR> wrapped;
     private final @NonNull Predicate<Exception> errorFilter;
+    private final boolean atomic;
     private ProcessorContext<KR, ProcessedKeyValue<K, V, VR>> context;
+    private ErrorCapturingApiProcessorContext<K, V, KR, VR> capturingContext;
 
     /**
      * Wrap a {@code Processor} and capture thrown exceptions. Recoverable Kafka exceptions such as a schema registry
@@ -93,7 +97,47 @@ public final class ErrorCapturingProcessor<K, V, KR, VR>
     public static <K, V, KR, VR> Processor<K, V, KR, ProcessedKeyValue<K, V, VR>> captureErrors(
             final @NonNull Processor<? super K, ? super V, ? extends KR, ? extends VR> processor,
             final @NonNull Predicate<Exception> errorFilter) {
-        return new ErrorCapturingProcessor<>((Processor<K, V, KR, VR>) processor, errorFilter);
+        return new ErrorCapturingProcessor<>((Processor<K, V, KR, VR>) processor, errorFilter, false);
+    }
+
+    /**
+     * Wrap a {@code Processor} and capture thrown exceptions atomically. Records forwarded by the processor are
+     * buffered until {@link Processor#process(Record)} returns. Writes to key-value stores retrieved from the context
+     * are logged and undone if an exception is thrown. Thus, either all output of a record is forwarded or only the
+     * {@link ProcessingError}. Writes to window, session, and versioned stores are not undone. Records forwarded by
+     * punctuators are not buffered and forwarded immediately. Recoverable Kafka exceptions such as a schema registry
+     * timeout are forwarded and not captured.
+     *
+     * @param processor {@code Processor} whose exceptions should be captured
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <KR> type of output keys
+     * @param <VR> type of output values
+     * @return {@code Processor}
+     * @see #captureErrorsAtomically(Processor, Predicate)
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public static <K, V, KR, VR> Processor<K, V, KR, ProcessedKeyValue<K, V, VR>> captureErrorsAtomically(
+            final @NonNull Processor<? super K, ? super V, ? extends KR, ? extends VR> processor) {
+        return captureErrorsAtomically(processor, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap a {@code Processor} and capture thrown exceptions atomically.
+     *
+     * @param processor {@code Processor} whose exceptions should be captured
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <KR> type of output keys
+     * @param <VR> type of output values
+     * @return {@code Processor}
+     * @see #captureErrorsAtomically(Processor)
+     */
+    public static <K, V, KR, VR> Processor<K, V, KR, ProcessedKeyValue<K, V, VR>> captureErrorsAtomically(
+            final @NonNull Processor<? super K, ? super V, ? extends KR, ? extends VR> processor,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new ErrorCapturingProcessor<>((Processor<K, V, KR, VR>) processor, errorFilter, true);
     }
 
     /**
@@ -149,6 +193,52 @@ public final class ErrorCapturingProcessor<K, V, KR, VR>
         };
     }
 
+    /**
+     * Wrap a {@code ProcessorSupplier} and capture thrown exceptions atomically. Recoverable Kafka exceptions such as
+     * a schema registry timeout are forwarded and not captured.
+     *
+     * @param supplier {@code ProcessorSupplier} whose exceptions should be captured
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <KR> type of output keys
+     * @param <VR> type of output values
+     * @return {@code ProcessorSupplier}
+     * @see #captureErrorsAtomically(Processor)
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public static <K, V, KR, VR> ProcessorSupplier<K, V, KR, ProcessedKeyValue<K, V, VR>> captureErrorsAtomically(
+            final @NonNull ProcessorSupplier<? super K, ? super V, ? extends KR, ? extends VR> supplier) {
+        return captureErrorsAtomically(supplier, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap a {@code ProcessorSupplier} and capture thrown exceptions atomically.
+     *
+     * @param supplier {@code ProcessorSupplier} whose exceptions should be captured
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <K> type of input keys
+     * @param <V> type of input values
+     * @param <KR> type of output keys
+     * @param <VR> type of output values
+     * @return {@code ProcessorSupplier}
+     * @see #captureErrorsAtomically(Processor)
+     */
+    public static <K, V, KR, VR> ProcessorSupplier<K, V, KR, ProcessedKeyValue<K, V, VR>> captureErrorsAtomically(
+            final @NonNull ProcessorSupplier<? super K, ? super V, ? extends KR, ? extends VR> supplier,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new ProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return supplier.stores();
+            }
+
+            @Override
+            public Processor<K, V, KR, ProcessedKeyValue<K, V, VR>> get() {
+                return captureErrorsAtomically(supplier.get(), errorFilter);
+            }
+        };
+    }
+
     @Override
     public void close() {
         this.wrapped.close();
@@ -156,15 +246,18 @@ public final class ErrorCapturingProcessor<K, V, KR, VR>
 
     @Override
     public void init(final ProcessorContext<KR, ProcessedKeyValue<K, V, VR>> context) {
-        this.wrapped.init(new ErrorCapturingApiProcessorContext<>(context));
+        this.capturingContext = new ErrorCapturingApiProcessorContext<>(context, this.atomic);
+        this.wrapped.init(this.capturingContext);
         this.context = context;
     }
 
     @Override
     public void process(final Record<K, V> inputRecord) {
+        this.capturingContext.begin();
         try {
             this.wrapped.process(inputRecord);
         } catch (final Exception e) {
+            this.capturingContext.rollback();
             if (this.errorFilter.test(e)) {
                 throw e;
             }
@@ -172,7 +265,9 @@ public final class ErrorCapturingProcessor<K, V, KR, VR>
                     ErrorKeyValue.of(inputRecord.key(), inputRecord.value(), e);
             // new key is only relevant if no error occurs
             this.context.forward(inputRecord.<KR>withKey(null).withValue(errorWithOldKey));
+            return;
         }
+        this.capturingContext.commit();
     }
 
 }
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.LogAndFailProcessingExceptionHandler;
+import org.apache.kafka.streams.errors.TaskCorruptedException;
+import org.apache.kafka.streams.errors.TaskMigratedException;
+import org.apache.kafka.streams.errors.internals.FailedProcessingException;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorSupplier;
+import org.apache.kafka.streams.processor.api.ProcessorWrapper;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.processor.api.WrappedFixedKeyProcessorSupplier;
+import org.apache.kafka.streams.processor.api.WrappedProcessorSupplier;
+import org.apache.kafka.streams.state.StoreBuilder;
+
+/**
+ * {@link ProcessorWrapper} that applies error capture to every processor of a topology. Configure it using
+ * {@link org.apache.kafka.streams.StreamsConfig#PROCESSOR_WRAPPER_CLASS_CONFIG} and pass the configuration to the
+ * {@link org.apache.kafka.streams.StreamsBuilder} using {@link org.apache.kafka.streams.TopologyConfig}.
+ * <p>Errors thrown by wrapped processors are recorded in the
+ * {@link ErrorSignatureTracker#getInstance() default error signature tracker} using the description configured by
+ * {@link FilteringProcessingExceptionHandlerConfig#DESCRIPTIONS_CONFIG}. They are then passed on unchanged to the
+ * processing exception handler. Using {@link FilteringProcessingExceptionHandler}, all errors are routed to the
+ * shared dead letter queue configured by
+ * {@link org.apache.kafka.streams.StreamsConfig#ERRORS_DEAD_LETTER_QUEUE_TOPIC_NAME_CONFIG}.
+ * <p>Errors captured by {@link ErrorCapturingAggregator} and {@link ErrorCapturingReducer} using
+ * {@link AggregationErrorHandler#keepAggregate()} are passed on to the processing exception handler as well, once the
+ * previous aggregate has been stored. This requires a processing exception handler that resumes processing, e.g.,
+ * {@link FilteringProcessingExceptionHandler}. With the default {@link LogAndFailProcessingExceptionHandler}, they
+ * are only logged because failing the task would defeat keeping the aggregate.
+ * <p>Processors whose name matches {@link FilteringProcessingExceptionHandlerConfig#CAPTURE_EXCLUDE_CONFIG} are not
+ * wrapped.
+ */
+@NoArgsConstructor
+public class ErrorCapturingProcessorWrapper implements ProcessorWrapper {
+    private ProcessorDescriptions descriptions = new ProcessorDescriptions(List.of(), null);
+    private Pattern excludePattern;
+    private boolean reportAggregationErrors;
+
+    private static void record(final RuntimeException e, final String description) {
+        // errors thrown by downstream processors have already been handled by their processor node
+        if (e instanceof FailedProcessingException || e instanceof TaskCorruptedException
+                || e instanceof TaskMigratedException) {
+            return;
+        }
+        ErrorSignatureTracker.getInstance().record(e, description);
+    }
+
+    private static boolean isResuming(final Object processingExceptionHandler) {
+        if (processingExceptionHandler == null) {
+            return false;
+        }
+        final String className = processingExceptionHandler instanceof Class
+                ? ((Class<?>) processingExceptionHandler).getName()
+                : processingExceptionHandler.toString().trim();
+        return !LogAndFailProcessingExceptionHandler.class.getName().equals(className);
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final FilteringProcessingExceptionHandlerConfig config =
+                new FilteringProcessingExceptionHandlerConfig(configs);
+        this.descriptions = config.getProcessorDescriptions();
+        this.excludePattern = config.getCaptureExcludePattern().orElse(null);
+        // LogAndFailProcessingExceptionHandler is the default
+        this.reportAggregationErrors =
+                isResuming(configs.get(StreamsConfig.PROCESSING_EXCEPTION_HANDLER_CLASS_CONFIG));
+    }
+
+    @Override
+    public <KIn, VIn, KOut, VOut> WrappedProcessorSupplier<KIn, VIn, KOut, VOut> wrapProcessorSupplier(
+            final String processorName, final ProcessorSupplier<KIn, VIn, KOut, VOut> processorSupplier) {
+        if (this.isExcluded(processorName)) {
+            return ProcessorWrapper.asWrapped(processorSupplier);
+        }
+        final String description = this.descriptions.describe(processorName);
+        return ProcessorWrapper.asWrapped(new ProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return processorSupplier.stores();
+            }
+
+            @Override
+            public Processor<KIn, VIn, KOut, VOut> get() {
+                return new ErrorRecordingProcessor<>(processorSupplier.get(), description,
+                        ErrorCapturingProcessorWrapper.this.reportAggregationErrors);
+            }
+        });
+    }
+
+    @Override
+    public <KIn, VIn, VOut> WrappedFixedKeyProcessorSupplier<KIn, VIn, VOut> wrapFixedKeyProcessorSupplier(
+            final String processorName, final FixedKeyProcessorSupplier<KIn, VIn, VOut> processorSupplier) {
+        if (this.isExcluded(processorName)) {
+            return ProcessorWrapper.asWrappedFixedKey(processorSupplier);
+        }
+        final String description = this.descriptions.describe(processorName);
+        return ProcessorWrapper.asWrappedFixedKey(new FixedKeyProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return processorSupplier.stores();
+            }
+
+            @Override
+            public FixedKeyProcessor<KIn, VIn, VOut> get() {
+                return new ErrorRecordingValueProcessor<>(processorSupplier.get(), description,
+                        ErrorCapturingProcessorWrapper.this.reportAggregationErrors);
+            }
+        });
+    }
+
+    private boolean isExcluded(final String processorName) {
+        return this.excludePattern != null && this.excludePattern.matcher(processorName).find();
+    }
+
+    private static final class ErrorRecordingProcessor<K, V, KR, VR> extends DecoratorProcessor<K, V, KR, VR> {
+        private final String description;
+        private final boolean reportAggregationErrors;
+
+        private ErrorRecordingProcessor(final @NonNull Processor<K, V, KR, VR> wrapped,
+                final String description, final boolean reportAggregationErrors) {
+            super(wrapped);
+            this.description = description;
+            this.reportAggregationErrors = reportAggregationErrors;
+        }
+
+        @Override
+        public void process(final Record<K, V> inputRecord) {
+            // without reporting, errors captured by aggregators are logged
+            final AggregationErrorScope scope =
+                    AggregationErrorScope.open(this.description, this.reportAggregationErrors);
+            try {
+                super.process(inputRecord);
+            } catch (final RuntimeException e) {
+                record(e, this.description);
+                throw e;
+            } finally {
+                scope.close();
+            }
+            // errors captured by aggregators have already been recorded
+            scope.throwReported();
+        }
+    }
+
+    private static final class ErrorRecordingValueProcessor<K, V, VR> extends DecoratorValueProcessor<K, V, VR> {
+        private final String description;
+        private final boolean reportAggregationErrors;
+
+        private ErrorRecordingValueProcessor(final @NonNull FixedKeyProcessor<K, V, VR> wrapped,
+                final String description, final boolean reportAggregationErrors) {
+            super(wrapped);
+            this.description = description;
+            this.reportAggregationErrors = reportAggregationErrors;
+        }
+
+        @Override
+        public void process(final FixedKeyRecord<K, V> inputRecord) {
+            // without reporting, errors captured by aggregators are logged
+            final AggregationErrorScope scope =
+                    AggregationErrorScope.open(this.description, this.reportAggregationErrors);
+            try {
+                super.process(inputRecord);
+            } catch (final RuntimeException e) {
+                record(e, this.description);
+                throw e;
+            } finally {
+                scope.close();
+            }
+            // errors captured by aggregators have already been recorded
+            scope.throwReported();
+        }
+    }
+}
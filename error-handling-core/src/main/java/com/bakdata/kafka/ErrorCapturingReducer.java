@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.kstream.Reducer;
+
+/**
+ * Wrap a {@code Reducer} and capture thrown exceptions. Instead of failing the task, which requires restoring its
+ * state stores, the new aggregate is determined by an {@link AggregationErrorHandler}.
+ *
+ * @param <V> type of values
+ * @see #captureErrors(Reducer)
+ * @see #captureErrors(Reducer, AggregationErrorHandler)
+ * @see #captureErrors(Reducer, AggregationErrorHandler, Predicate)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ErrorCapturingReducer<V> implements Reducer<V> {
+    private final @NonNull Reducer<V> wrapped;
+    private final @NonNull AggregationErrorHandler<V, V> errorHandler;
+    private final @NonNull Predicate<Exception> errorFilter;
+
+    /**
+     * Wrap a {@code Reducer} and keep the previous aggregate if an exception is thrown. Recoverable Kafka exceptions
+     * such as a schema registry timeout are forwarded and not captured.
+     *
+     * @param reducer {@code Reducer} whose exceptions should be captured
+     * @param <V> type of values
+     * @return {@code Reducer}
+     * @see AggregationErrorHandler#keepAggregate()
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public static <V> Reducer<V> captureErrors(final @NonNull Reducer<V> reducer) {
+        return captureErrors(reducer, AggregationErrorHandler.keepAggregate());
+    }
+
+    /**
+     * Wrap a {@code Reducer} and capture thrown exceptions. Recoverable Kafka exceptions such as a schema registry
+     * timeout are forwarded and not captured.
+     *
+     * @param reducer {@code Reducer} whose exceptions should be captured
+     * @param errorHandler determines the new aggregate if an exception is thrown
+     * @param <V> type of values
+     * @return {@code Reducer}
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public static <V> Reducer<V> captureErrors(
+            final @NonNull Reducer<V> reducer,
+            final @NonNull AggregationErrorHandler<V, V> errorHandler) {
+        return captureErrors(reducer, errorHandler, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap a {@code Reducer} and capture thrown exceptions.
+     * <pre>{@code
+     * final Reducer<V> reducer = ...;
+     * final KGroupedStream<K, V> grouped = ...;
+     * final KTable<K, V> reduced = grouped.reduce(
+     *         captureErrors(reducer, AggregationErrorHandler.keepAggregate(), ErrorUtil::isRecoverable));
+     * }
+     * </pre>
+     *
+     * @param reducer {@code Reducer} whose exceptions should be captured
+     * @param errorHandler determines the new aggregate if an exception is thrown
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <V> type of values
+     * @return {@code Reducer}
+     */
+    public static <V> Reducer<V> captureErrors(
+            final @NonNull Reducer<V> reducer,
+            final @NonNull AggregationErrorHandler<V, V> errorHandler,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new ErrorCapturingReducer<>(reducer, errorHandler, errorFilter);
+    }
+
+    @Override
+    public V apply(final V aggregate, final V value) {
+        try {
+            return this.wrapped.apply(aggregate, value);
+        } catch (final Exception e) {
+            if (this.errorFilter.test(e)) {
+                throw e;
+            }
+            // errors passed to the error handler do not reach a DeadLetterProcessor
+            ErrorSignatureTracker.getInstance().record(e, AggregationErrorScope.description());
+            final ProcessingError<V> error = ProcessingError.<V>builder()
+                    .throwable(e)
+                    .value(value)
+                    .build();
+            return this.errorHandler.handle(error, aggregate);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.kstream.ValueJoiner;
+
+/**
+ * Wrap a {@code ValueJoiner} and capture thrown exceptions. Errors contain both input values as {@link JoinInput}.
+ *
+ * @param <V1> type of values of the first input
+ * @param <V2> type of values of the second input
+ * @param <VR> type of output values
+ * @see #captureErrors(ValueJoiner)
+ * @see #captureErrors(ValueJoiner, Predicate)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ErrorCapturingValueJoiner<V1, V2, VR>
+        implements ValueJoiner<V1, V2, ProcessedValue<JoinInput<V1, V2>, VR>> {
+    private final @NonNull ValueJoiner<? super V1, ? super V2, ? extends VR> wrapped;
+    private final @NonNull Predicate<Exception> errorFilter;
+
+    /**
+     * Wrap a {@code ValueJoiner} and capture thrown exceptions. Recoverable Kafka exceptions such as a schema registry
+     * timeout are forwarded and not captured.
+     *
+     * @param joiner {@code ValueJoiner} whose exceptions should be captured
+     * @param <V1> type of values of the first input
+     * @param <V2> type of values of the second input
+     * @param <VR> type of output values
+     * @return {@code ValueJoiner}
+     * @see #captureErrors(ValueJoiner, Predicate)
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public static <V1, V2, VR> ValueJoiner<V1, V2, ProcessedValue<JoinInput<V1, V2>, VR>> captureErrors(
+            final @NonNull ValueJoiner<? super V1, ? super V2, ? extends VR> joiner) {
+        return captureErrors(joiner, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap a {@code ValueJoiner} and capture thrown exceptions.
+     * <pre>{@code
+     * final ValueJoiner<V1, V2, VR> joiner = ...;
+     * final KStream<K, V1> input = ...;
+     * final KTable<K, V2> table = ...;
+     * final KStream<K, ProcessedValue<JoinInput<V1, V2>, VR>> processed = input.join(table, captureErrors(joiner));
+     * final KStream<K, VR> output = processed.flatMapValues(ProcessedValue::getValues);
+     * final KStream<K, ProcessingError<JoinInput<V1, V2>>> errors = processed.flatMapValues(ProcessedValue::getErrors);
+     * }
+     * </pre>
+     *
+     * @param joiner {@code ValueJoiner} whose exceptions should be captured
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <V1> type of values of the first input
+     * @param <V2> type of values of the second input
+     * @param <VR> type of output values
+     * @return {@code ValueJoiner}
+     */
+    public static <V1, V2, VR> ValueJoiner<V1, V2, ProcessedValue<JoinInput<V1, V2>, VR>> captureErrors(
+            final @NonNull ValueJoiner<? super V1, ? super V2, ? extends VR> joiner,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new ErrorCapturingValueJoiner<>(joiner, errorFilter);
+    }
+
+    @Override
+    public ProcessedValue<JoinInput<V1, V2>, VR> apply(final V1 value1, final V2 value2) {
+        try {
+            final VR newValue = this.wrapped.apply(value1, value2);
+            return SuccessValue.of(newValue);
+        } catch (final Exception e) {
+            if (this.errorFilter.test(e)) {
+                throw e;
+            }
+            return ErrorValue.of(JoinInput.of(value1, value2), e);
+        }
+    }
+}
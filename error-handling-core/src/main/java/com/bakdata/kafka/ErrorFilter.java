@@ -29,6 +29,8 @@ import org.apache.kafka.streams.processor.api.Record;
 
 /**
  * Classify processing errors as recoverable and thus transition the Kafka Streams instance into an error state.
+ * <p>{@link FilteringDeserializationExceptionHandler} passes the raw input record and
+ * {@link FilteringProductionExceptionHandler} the output record that could not be produced.
  */
 @FunctionalInterface
 public interface ErrorFilter {
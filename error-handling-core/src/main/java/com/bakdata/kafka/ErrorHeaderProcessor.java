@@ -132,9 +132,17 @@ public class ErrorHeaderProcessor<K, V> implements FixedKeyProcessor<K, Processi
                 .map(p -> Long.toString(p))
                 .orElse(null), headers);
         final ProcessingError<V> value = inputRecord.value();
-        addHeader(EXCEPTION_CLASS_NAME, value.getThrowable().getClass().getName(), headers);
-        addHeader(EXCEPTION_MESSAGE, value.getThrowable().getMessage(), headers);
-        addHeader(EXCEPTION_STACK_TRACE, ExceptionUtils.getStackTrace(value.getThrowable()), headers);
+        final Optional<ProcessingFailure> failure = value.getFailure();
+        if (failure.isPresent()) {
+            addHeader(EXCEPTION_CLASS_NAME, failure.get().getType(), headers);
+            addHeader(EXCEPTION_MESSAGE, failure.get().getReason(), headers);
+            // failures have no stack trace
+            headers.remove(EXCEPTION_STACK_TRACE);
+        } else {
+            addHeader(EXCEPTION_CLASS_NAME, ErrorUtil.getErrorClass(value.getThrowable()), headers);
+            addHeader(EXCEPTION_MESSAGE, value.getThrowable().getMessage(), headers);
+            addHeader(EXCEPTION_STACK_TRACE, ExceptionUtils.getStackTrace(value.getThrowable()), headers);
+        }
         addHeader(DESCRIPTION, this.description, headers);
         this.context.forward(inputRecord.withValue(value.getValue()));
     }
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorSupplier;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.StoreBuilder;
+import org.apache.kafka.streams.state.Stores;
+
+/**
+ * Quarantine keys whose records fail repeatedly. After {@code maxFailures} failures of a key within
+ * {@code failureWindow}, the key is quarantined for {@code ttl}. Records of quarantined keys bypass the wrapped
+ * function and are directly forwarded as {@link ProcessingError} with a {@link QuarantinedException}.
+ * <p>Failures are tracked in a persistent key-value store. Quarantined keys are additionally kept in an in-memory
+ * Bloom filter, so that the store is only queried for records of keys that might be quarantined. Keys are only
+ * serialized to query the Bloom filter while a quarantine is active. A second store indexes keys by the time their
+ * failures expire, so that sweeps only read expired keys.
+ * <pre>{@code
+ * final ErrorQuarantine<String> quarantine = ErrorQuarantine.<String>builder()
+ *         .keySerde(Serdes.String())
+ *         .maxFailures(3)
+ *         .build();
+ * final KStream<String, ProcessedValue<V, VR>> processed = input.processValues(quarantine.captureErrors(mapper));
+ * releases.process(quarantine.releaseProcessor());
+ * }
+ * </pre>
+ * <p>Quarantined keys can be released before their TTL expires by sending a record with the key to a release topic
+ * processed by {@link #releaseProcessor()}. The release topic needs to be co-partitioned with the input topic.
+ *
+ * @param <K> type of keys
+ */
+@Getter(AccessLevel.PACKAGE)
+public final class ErrorQuarantine<K> {
+    private final String storeName;
+    private final int maxFailures;
+    private final long failureWindowMs;
+    private final long ttlMs;
+    private final int expectedKeys;
+    private final Duration sweepInterval;
+    @Getter(AccessLevel.NONE)
+    private final Serde<K> keySerde;
+    // the same builder needs to be provided by all processors accessing the store
+    @Getter(AccessLevel.NONE)
+    private final StoreBuilder<KeyValueStore<K, QuarantineState>> storeBuilder;
+    @Getter(AccessLevel.NONE)
+    private final StoreBuilder<KeyValueStore<Bytes, byte[]>> expiryStoreBuilder;
+
+    /**
+     * Create a new quarantine
+     *
+     * @param storeName name of the store tracking failures. Defaults to {@code error-quarantine}. The index of
+     * expiring failures is stored in {@code <storeName>-expiry}
+     * @param keySerde serde for keys
+     * @param maxFailures number of failures after which a key is quarantined. Defaults to 3
+     * @param failureWindow window in which failures of a key are counted. Defaults to ten minutes
+     * @param ttl duration a key is quarantined. Defaults to one hour
+     * @param expectedKeys expected number of quarantined keys used to size the Bloom filter. Defaults to 10,000
+     * @param sweepInterval interval in which expired keys are removed from the store based on wall-clock time.
+     * Defaults to one minute
+     */
+    @Builder
+    private ErrorQuarantine(final String storeName, final @NonNull Serde<K> keySerde, final Integer maxFailures,
+            final Duration failureWindow, final Duration ttl, final Integer expectedKeys,
+            final Duration sweepInterval) {
+        this.storeName = storeName == null ? "error-quarantine" : storeName;
+        this.maxFailures = maxFailures == null ? 3 : maxFailures;
+        if (this.maxFailures <= 0) {
+            throw new IllegalArgumentException("Max failures must be positive but was " + this.maxFailures);
+        }
+        this.failureWindowMs = (failureWindow == null ? Duration.ofMinutes(10L) : failureWindow).toMillis();
+        this.ttlMs = (ttl == null ? Duration.ofHours(1L) : ttl).toMillis();
+        this.expectedKeys = expectedKeys == null ? 10_000 : expectedKeys;
+        this.sweepInterval = sweepInterval == null ? Duration.ofMinutes(1L) : sweepInterval;
+        this.keySerde = keySerde;
+        this.storeBuilder = Stores.keyValueStoreBuilder(Stores.persistentKeyValueStore(this.storeName), keySerde,
+                QuarantineState.serde());
+        this.expiryStoreBuilder = Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(this.getExpiryStoreName()), Serdes.Bytes(), Serdes.ByteArray());
+    }
+
+    /**
+     * Wrap a {@code ValueMapperWithKey}, capture thrown exceptions, and quarantine keys that fail repeatedly.
+     * Recoverable Kafka exceptions such as a schema registry timeout are forwarded and not captured.
+     *
+     * @param mapper {@code ValueMapperWithKey} whose exceptions should be captured
+     * @param <V> type of input values
+     * @param <VR> type of output values
+     * @return {@code FixedKeyProcessorSupplier} that can be used with {@code KStream#processValues}
+     * @see #captureErrors(ValueMapperWithKey, Predicate)
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public <V, VR> FixedKeyProcessorSupplier<K, V, ProcessedValue<V, VR>> captureErrors(
+            final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> mapper) {
+        return this.captureErrors(mapper, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap a {@code ValueMapperWithKey}, capture thrown exceptions, and quarantine keys that fail repeatedly.
+     *
+     * @param mapper {@code ValueMapperWithKey} whose exceptions should be captured
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <V> type of input values
+     * @param <VR> type of output values
+     * @return {@code FixedKeyProcessorSupplier} that can be used with {@code KStream#processValues}
+     */
+    public <V, VR> FixedKeyProcessorSupplier<K, V, ProcessedValue<V, VR>> captureErrors(
+            final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> mapper,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new FixedKeyProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return Set.of(ErrorQuarantine.this.storeBuilder, ErrorQuarantine.this.expiryStoreBuilder);
+            }
+
+            @Override
+            public FixedKeyProcessor<K, V, ProcessedValue<V, VR>> get() {
+                return new QuarantiningValueProcessor<>(ErrorQuarantine.this, mapper, errorFilter);
+            }
+        };
+    }
+
+    /**
+     * Create a processor that releases all keys it receives from quarantine. Values are ignored.
+     *
+     * @param <V> type of values
+     * @return {@code ProcessorSupplier} that can be used with {@code KStream#process}
+     */
+    public <V> ProcessorSupplier<K, V, Void, Void> releaseProcessor() {
+        return new ProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return Set.of(ErrorQuarantine.this.storeBuilder);
+            }
+
+            @Override
+            public Processor<K, V, Void, Void> get() {
+                return new QuarantineReleaseProcessor<>(ErrorQuarantine.this.storeName);
+            }
+        };
+    }
+
+    String getExpiryStoreName() {
+        return this.storeName + "-expiry";
+    }
+
+    byte[] serializeKey(final K key) {
+        return this.keySerde.serializer().serialize(this.storeName, key);
+    }
+
+    K deserializeKey(final byte[] key) {
+        return this.keySerde.deserializer().deserialize(this.storeName, key);
+    }
+}
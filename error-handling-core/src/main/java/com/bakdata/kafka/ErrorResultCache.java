@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.StoreBuilder;
+import org.apache.kafka.streams.state.Stores;
+
+/**
+ * Remember deterministic failures, so that repeated identical inputs are not processed again. If the wrapped function
+ * fails, the failure is cached for {@code ttl}. Identical inputs are directly forwarded as {@link ProcessingError}
+ * with a {@link CachedFailureException} without calling the wrapped function. This avoids recomputing expensive
+ * failures, e.g., remote calls, when a topic is reprocessed.
+ * <p>Inputs are identified by a SHA-256 hash of the serialized key and value. Alternatively, a custom cache key can
+ * be provided. Only errors matching {@code cacheFilter} are cached, so that transient errors, e.g., timeouts of
+ * remote calls, are retried for identical inputs.
+ * <pre>{@code
+ * final ErrorResultCache<String, V> cache = ErrorResultCache.<String, V>builder()
+ *         .keySerde(Serdes.String())
+ *         .valueSerde(valueSerde)
+ *         .cacheFilter(ValidationException.class::isInstance)
+ *         .maxSize(10_000)
+ *         .ttl(Duration.ofHours(1L))
+ *         .build();
+ * final KStream<String, ProcessedValue<V, VR>> processed = input.processValues(cache.captureErrors(mapper));
+ * }
+ * </pre>
+ * <p>Failures are cached in a bounded LRU state store. By default, the store is held in memory only. With
+ * {@code logging} enabled, the store is backed by a changelog topic and thus restored after restarts and
+ * rebalances.
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+@Getter(AccessLevel.PACKAGE)
+public final class ErrorResultCache<K, V> {
+    private final String storeName;
+    private final Serde<K> keySerde;
+    private final Serde<V> valueSerde;
+    private final ValueMapperWithKey<? super K, ? super V, String> cacheKey;
+    private final long ttlMs;
+    private final Predicate<Exception> cacheFilter;
+    // the same builder needs to be provided by all processors accessing the store
+    @Getter(AccessLevel.NONE)
+    private final StoreBuilder<KeyValueStore<Bytes, CachedFailure>> storeBuilder;
+
+    /**
+     * Create a new cache
+     *
+     * @param storeName name of the store caching failures. Defaults to {@code error-result-cache}
+     * @param keySerde serde for keys. Required if no {@code cacheKey} is provided
+     * @param valueSerde serde for values. Required if no {@code cacheKey} is provided
+     * @param cacheKey function computing the cache key of a record. Records with a {@code null} cache key are not
+     * cached. Defaults to a hash of the serialized key and value
+     * @param maxSize maximum number of cached failures. Least recently used failures are evicted first. Defaults to
+     * 10,000
+     * @param ttl duration a failure is cached. Defaults to one hour
+     * @param cacheFilter expression that filters captured errors which are deterministic and should be cached
+     * @param logging whether the store is backed by a changelog topic. Defaults to {@code false}
+     */
+    @Builder
+    private ErrorResultCache(final String storeName, final Serde<K> keySerde, final Serde<V> valueSerde,
+            final ValueMapperWithKey<? super K, ? super V, String> cacheKey, final Integer maxSize,
+            final Duration ttl, final @NonNull Predicate<Exception> cacheFilter, final boolean logging) {
+        if (cacheKey == null && (keySerde == null || valueSerde == null)) {
+            throw new IllegalArgumentException("Either key and value serdes or a cache key need to be provided");
+        }
+        this.storeName = storeName == null ? "error-result-cache" : storeName;
+        this.keySerde = keySerde;
+        this.valueSerde = valueSerde;
+        this.cacheKey = cacheKey;
+        final int size = maxSize == null ? 10_000 : maxSize;
+        if (size <= 0) {
+            throw new IllegalArgumentException("Max size must be positive but was " + size);
+        }
+        this.ttlMs = (ttl == null ? Duration.ofHours(1L) : ttl).toMillis();
+        this.cacheFilter = cacheFilter;
+        final StoreBuilder<KeyValueStore<Bytes, CachedFailure>> builder =
+                Stores.keyValueStoreBuilder(Stores.lruMap(this.storeName, size), Serdes.Bytes(),
+                        CachedFailure.serde());
+        this.storeBuilder = logging ? builder : builder.withLoggingDisabled();
+    }
+
+    private static void update(final MessageDigest digest, final byte[] bytes) {
+        if (bytes == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+        } else {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+            digest.update(bytes);
+        }
+    }
+
+    /**
+     * Wrap a {@code ValueMapperWithKey}, capture thrown exceptions, and cache them for identical inputs.
+     * Recoverable Kafka exceptions such as a schema registry timeout are forwarded and not captured.
+     *
+     * @param mapper {@code ValueMapperWithKey} whose exceptions should be captured
+     * @param <VR> type of output values
+     * @return {@code FixedKeyProcessorSupplier} that can be used with {@code KStream#processValues}
+     * @see #captureErrors(ValueMapperWithKey, Predicate)
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public <VR> FixedKeyProcessorSupplier<K, V, ProcessedValue<V, VR>> captureErrors(
+            final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> mapper) {
+        return this.captureErrors(mapper, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap a {@code ValueMapperWithKey}, capture thrown exceptions, and cache them for identical inputs.
+     *
+     * @param mapper {@code ValueMapperWithKey} whose exceptions should be captured
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <VR> type of output values
+     * @return {@code FixedKeyProcessorSupplier} that can be used with {@code KStream#processValues}
+     */
+    public <VR> FixedKeyProcessorSupplier<K, V, ProcessedValue<V, VR>> captureErrors(
+            final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> mapper,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new FixedKeyProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return Set.of(ErrorResultCache.this.storeBuilder);
+            }
+
+            @Override
+            public FixedKeyProcessor<K, V, ProcessedValue<V, VR>> get() {
+                return new CachingValueProcessor<>(ErrorResultCache.this, mapper, errorFilter);
+            }
+        };
+    }
+
+    Bytes createCacheKey(final MessageDigest digest, final K key, final V value) {
+        if (this.cacheKey != null) {
+            final String customKey = this.cacheKey.apply(key, value);
+            return customKey == null ? null : Bytes.wrap(customKey.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.reset();
+        update(digest, this.keySerde.serializer().serialize(this.storeName, key));
+        update(digest, this.valueSerde.serializer().serialize(this.storeName, value));
+        return Bytes.wrap(digest.digest());
+    }
+}
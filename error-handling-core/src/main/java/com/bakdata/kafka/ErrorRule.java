@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.errors.ErrorHandlerContext;
+
+/**
+ * Rule that maps errors to an {@link ErrorAction}. All configured conditions need to match. Conditions that are not
+ * configured always match.
+ */
+@Builder
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class ErrorRule {
+    private final @NonNull String name;
+    private final Class<?> exceptionClass;
+    private final Class<?> causeClass;
+    private final Pattern messagePattern;
+    private final Pattern nodePattern;
+    private final Pattern topicPattern;
+    @Getter
+    private final @NonNull ErrorAction action;
+
+    private static boolean matches(final Pattern pattern, final String value) {
+        return pattern == null || value != null && pattern.matcher(value).find();
+    }
+
+    /**
+     * Check if the rule applies to an exception class. Only depends on the class and can thus be memoized.
+     *
+     * @param type class of the exception
+     * @return whether the exception class is a subclass of the configured exception class
+     */
+    boolean matchesClass(final Class<?> type) {
+        return this.exceptionClass == null || this.exceptionClass.isAssignableFrom(type);
+    }
+
+    /**
+     * Check if the conditions that do not only depend on the exception class match
+     *
+     * @param context context of the error
+     * @param exception the actual exception
+     * @return whether all conditions match
+     */
+    boolean matchesInstance(final ErrorHandlerContext context, final Exception exception) {
+        return this.matchesCause(exception)
+                && matches(this.messagePattern, exception.getMessage())
+                && matches(this.nodePattern, context.processorNodeId())
+                && matches(this.topicPattern, context.topic());
+    }
+
+    private boolean matchesCause(final Throwable exception) {
+        if (this.causeClass == null) {
+            return true;
+        }
+        Throwable cause = exception.getCause();
+        // guard against cyclic cause chains
+        int depth = 0;
+        while (cause != null && depth++ < 100) {
+            if (this.causeClass.isInstance(cause)) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
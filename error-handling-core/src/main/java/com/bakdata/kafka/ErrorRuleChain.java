@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.NonNull;
+import org.apache.kafka.streams.errors.ErrorHandlerContext;
+import org.apache.kafka.streams.processor.api.Record;
+
+/**
+ * Ordered chain of {@link ErrorRule error rules}. The first matching rule determines the action. If no rule matches,
+ * the {@link ErrorFilter} decides whether to fail or to send the record to the dead letter queue.
+ * <p>Rules are compiled into a decision table. The rules that can apply to an exception class are memoized per class,
+ * so that rules without conditions on the exception instance are evaluated by a single lookup.
+ */
+final class ErrorRuleChain {
+    private static final ErrorRule[] NO_RULES = new ErrorRule[0];
+    private final @NonNull ErrorFilter fallback;
+    private final ClassValue<ErrorRule[]> candidates;
+
+    ErrorRuleChain(final @NonNull List<ErrorRule> rules, final @NonNull ErrorFilter fallback) {
+        this.fallback = fallback;
+        final ErrorRule[] compiled = rules.toArray(NO_RULES);
+        this.candidates = new ClassValue<>() {
+            @Override
+            protected ErrorRule[] computeValue(final Class<?> type) {
+                return compileFor(compiled, type);
+            }
+        };
+    }
+
+    private static ErrorRule[] compileFor(final ErrorRule[] rules, final Class<?> type) {
+        int count = 0;
+        final ErrorRule[] candidates = new ErrorRule[rules.length];
+        for (final ErrorRule rule : rules) {
+            if (rule.matchesClass(type)) {
+                candidates[count++] = rule;
+            }
+        }
+        return count == 0 ? NO_RULES : Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Determine the action for an error
+     *
+     * @param context context of the error
+     * @param record record passed to the {@link ErrorFilter} if no rule matches
+     * @param exception the actual exception
+     * @return action to take
+     */
+    ErrorAction classify(final ErrorHandlerContext context, final Record<?, ?> record, final Exception exception) {
+        for (final ErrorRule rule : this.candidates.get(exception.getClass())) {
+            if (rule.matchesInstance(context, exception)) {
+                return rule.getAction();
+            }
+        }
+        return this.fallback.isRecoverable(context, record, exception) ? ErrorAction.FAIL : ErrorAction.RESUME;
+    }
+}
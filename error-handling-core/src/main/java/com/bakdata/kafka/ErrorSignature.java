@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import lombok.Value;
+
+/**
+ * Signature of an error, i.e., the class of the thrown exception, its normalized message, and the description of the
+ * context in which it has been thrown. Errors with equal signatures are counted together by
+ * {@link ErrorSignatureTracker}.
+ */
+@Value
+public class ErrorSignature {
+    private static final int MAX_MESSAGE_LENGTH = 256;
+    private static final char NUMBER_PLACEHOLDER = '#';
+
+    String errorClass;
+    String message;
+    String description;
+
+    /**
+     * Create the signature of an error
+     *
+     * @param throwable error that has been thrown
+     * @param description description of the context in which the error has been thrown. May be {@code null}
+     * @return signature of the error
+     */
+    public static ErrorSignature of(final Throwable throwable, final String description) {
+        return new ErrorSignature(ErrorUtil.getErrorClass(throwable), normalize(throwable.getMessage()), description);
+    }
+
+    /**
+     * Create the signature of a failure that has been signaled without exception
+     *
+     * @param failure failure that has been signaled
+     * @param description description of the context in which the failure has been signaled. May be {@code null}
+     * @return signature of the failure
+     */
+    public static ErrorSignature of(final ProcessingFailure failure, final String description) {
+        return new ErrorSignature(failure.getType(), normalize(failure.getReason()), description);
+    }
+
+    /**
+     * Normalize an error message so that messages only differing in numbers, e.g., ids or offsets, are considered
+     * equal. Each sequence of digits is replaced by {@code #} and the message is truncated to 256 characters.
+     *
+     * @param message message to normalize
+     * @return normalized message
+     */
+    static String normalize(final String message) {
+        if (message == null) {
+            return null;
+        }
+        final int length = Math.min(message.length(), MAX_MESSAGE_LENGTH);
+        final StringBuilder normalized = new StringBuilder(length);
+        boolean inNumber = false;
+        for (int i = 0; i < length; i++) {
+            final char c = message.charAt(i);
+            if (Character.isDigit(c)) {
+                if (!inNumber) {
+                    normalized.append(NUMBER_PLACEHOLDER);
+                    inNumber = true;
+                }
+            } else {
+                normalized.append(c);
+                inNumber = false;
+            }
+        }
+        return normalized.toString();
+    }
+}
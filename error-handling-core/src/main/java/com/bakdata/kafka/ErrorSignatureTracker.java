@@ -0,0 +1,260 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tracks the most frequent {@link ErrorSignature error signatures} using bounded memory. Frequencies are estimated
+ * using a Count-Min sketch and the heaviest signatures are kept in a fixed-size candidate table. Recording an error
+ * takes constant time and is lock-free, so that a single tracker can be shared by all stream threads.
+ * <p>Errors are recorded in the {@link #getInstance() default tracker}, which is registered as MBean
+ * {@value #MBEAN_NAME}, exactly once where their description is known: by {@link DeadLetterProcessor} and
+ * {@link HashKeyedDeadLetterProcessor} when they describe captured errors, by {@link DeadLetterRoutingProcessor}, by
+ * {@link ErrorCapturingProcessorWrapper} for thrown errors, and by {@link ErrorCapturingAggregator} and
+ * {@link ErrorCapturingReducer}, whose errors do not reach a dead letter processor. Errors captured by wrappers such
+ * as {@link ErrorCapturingValueMapper} are not recorded until they are described.
+ */
+@Slf4j
+public final class ErrorSignatureTracker implements ErrorSignatureTrackerMBean {
+    /**
+     * Name of the MBean the default tracker is registered as
+     */
+    public static final String MBEAN_NAME = "com.bakdata.kafka:type=ErrorSignatureTracker";
+    private static final int DEFAULT_CAPACITY = 64;
+    private static final int DEFAULT_TOP_SIGNATURES = 10;
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH_FACTOR = 16;
+    private static final int PROBES = 4;
+    private final AtomicLongArray sketch;
+    private final int sketchMask;
+    private final AtomicReferenceArray<ErrorSignature> candidates;
+    private final int candidateMask;
+    private final LongAdder totalErrors = new LongAdder();
+
+    private ErrorSignatureTracker(final int capacity) {
+        final int candidateCapacity = nextPowerOfTwo(Math.max(capacity, PROBES));
+        this.candidates = new AtomicReferenceArray<>(candidateCapacity);
+        this.candidateMask = candidateCapacity - 1;
+        final int sketchWidth = candidateCapacity * SKETCH_WIDTH_FACTOR;
+        this.sketch = new AtomicLongArray(SKETCH_DEPTH * sketchWidth);
+        this.sketchMask = sketchWidth - 1;
+    }
+
+    /**
+     * Create a new tracker that keeps track of approximately {@code capacity} heavy hitters
+     *
+     * @param capacity number of signatures the tracker keeps track of
+     * @return tracker
+     */
+    public static ErrorSignatureTracker create(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive but was " + capacity);
+        }
+        return new ErrorSignatureTracker(capacity);
+    }
+
+    /**
+     * Get the default tracker shared by all error handling components of this JVM
+     *
+     * @return default tracker
+     */
+    public static ErrorSignatureTracker getInstance() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    private static int nextPowerOfTwo(final int value) {
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+
+    private static int spread(final int hash) {
+        // murmur3 finalizer to derive a second, independent hash
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    /**
+     * Record an error
+     *
+     * @param throwable error that has been thrown
+     * @param description description of the context in which the error has been thrown. May be {@code null}
+     */
+    public void record(final Throwable throwable, final String description) {
+        this.record(ErrorSignature.of(throwable, description));
+    }
+
+    /**
+     * Record an error signature
+     *
+     * @param signature signature of the error that has been thrown
+     */
+    public void record(final ErrorSignature signature) {
+        this.totalErrors.increment();
+        final int hash = signature.hashCode();
+        final long estimate = this.increment(hash);
+        this.offer(signature, hash, estimate);
+    }
+
+    /**
+     * Get a snapshot of the most frequent error signatures, most frequent first. Counts are estimates and never
+     * underestimate the true count of a signature.
+     *
+     * @param limit maximum number of signatures to return
+     * @return most frequent error signatures
+     */
+    public List<HeavyHitter> getHeavyHitters(final int limit) {
+        final Collection<ErrorSignature> signatures = new HashSet<>();
+        final List<HeavyHitter> heavyHitters = new ArrayList<>();
+        for (int i = 0; i < this.candidates.length(); i++) {
+            final ErrorSignature signature = this.candidates.get(i);
+            // concurrent offers may place the same signature in two slots
+            if (signature != null && signatures.add(signature)) {
+                heavyHitters.add(new HeavyHitter(signature, this.estimate(signature.hashCode())));
+            }
+        }
+        heavyHitters.sort(Comparator.comparingLong(HeavyHitter::getCount).reversed());
+        return heavyHitters.subList(0, Math.min(limit, heavyHitters.size()));
+    }
+
+    /**
+     * Get the estimated number of occurrences of an error signature
+     *
+     * @param signature error signature
+     * @return estimated count, never lower than the true count
+     */
+    public long estimate(final ErrorSignature signature) {
+        return this.estimate(signature.hashCode());
+    }
+
+    @Override
+    public long getTotalErrors() {
+        return this.totalErrors.sum();
+    }
+
+    @Override
+    public String[] getTopSignatures() {
+        return this.getHeavyHitters(DEFAULT_TOP_SIGNATURES).stream()
+                .map(HeavyHitter::toString)
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < this.candidates.length(); i++) {
+            this.candidates.set(i, null);
+        }
+        for (int i = 0; i < this.sketch.length(); i++) {
+            this.sketch.set(i, 0L);
+        }
+        this.totalErrors.reset();
+    }
+
+    private int sketchIndex(final int row, final int hash) {
+        final int rowHash = hash + row * spread(hash);
+        return row * (this.sketchMask + 1) + (rowHash & this.sketchMask);
+    }
+
+    private long increment(final int hash) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            min = Math.min(min, this.sketch.incrementAndGet(this.sketchIndex(row, hash)));
+        }
+        return min;
+    }
+
+    private long estimate(final int hash) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            min = Math.min(min, this.sketch.get(this.sketchIndex(row, hash)));
+        }
+        return min;
+    }
+
+    private void offer(final ErrorSignature signature, final int hash, final long estimate) {
+        final int start = spread(hash) & this.candidateMask;
+        int victim = -1;
+        ErrorSignature victimSignature = null;
+        long victimEstimate = Long.MAX_VALUE;
+        for (int probe = 0; probe < PROBES; probe++) {
+            final int slot = (start + probe) & this.candidateMask;
+            if (this.candidates.compareAndSet(slot, null, signature)) {
+                return;
+            }
+            final ErrorSignature current = this.candidates.get(slot);
+            if (current == null || current.equals(signature)) {
+                return;
+            }
+            final long currentEstimate = this.estimate(current.hashCode());
+            if (currentEstimate < victimEstimate) {
+                victim = slot;
+                victimSignature = current;
+                victimEstimate = currentEstimate;
+            }
+        }
+        if (victim >= 0 && victimEstimate < estimate) {
+            // a failed CAS means another thread replaced the victim concurrently, which is fine for an estimate
+            this.candidates.compareAndSet(victim, victimSignature, signature);
+        }
+    }
+
+    /**
+     * An error signature along with its estimated number of occurrences
+     */
+    @Value
+    public static class HeavyHitter {
+        ErrorSignature signature;
+        long count;
+    }
+
+    private static final class DefaultHolder {
+        private static final ErrorSignatureTracker INSTANCE = register(create(DEFAULT_CAPACITY));
+
+        private static ErrorSignatureTracker register(final ErrorSignatureTracker tracker) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(tracker, new ObjectName(MBEAN_NAME));
+            } catch (final JMException e) {
+                log.warn("Failed to register {} as MBean", MBEAN_NAME, e);
+            }
+            return tracker;
+        }
+    }
+}
@@ -111,6 +111,21 @@ public class ErrorUtil {
         return Objects.toString(o1);
     }
 
+    /**
+     * Get the class name under which an error is reported. Cached failures are reported with the class of the
+     * exception that has originally been thrown.
+     *
+     * @param throwable error
+     * @return fully qualified class name
+     * @see CachedFailureException#getErrorClass()
+     */
+    static String getErrorClass(final Throwable throwable) {
+        if (throwable instanceof CachedFailureException) {
+            return ((CachedFailureException) throwable).getErrorClass();
+        }
+        return throwable.getClass().getName();
+    }
+
     /**
      * Convert a {@code SpecificRecord} to {@code String} using JSON serialization.
      *
@@ -42,6 +42,13 @@ final class ErrorValue<V, VR> implements ProcessedValue<V, VR> {
                 .build());
     }
 
+    static <V, VR> ProcessedValue<V, VR> of(final V value, final ProcessingFailure failure) {
+        return new ErrorValue<>(ProcessingError.<V>builder()
+                .failure(failure)
+                .value(value)
+                .build());
+    }
+
     @Override
     public Iterable<ProcessingError<V>> getErrors() {
         return List.of(this.error);
@@ -24,15 +24,11 @@
 
 package com.bakdata.kafka;
 
-import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.buildDeadLetterQueueRecord;
-
-import java.util.List;
+import java.time.Instant;
 import java.util.Map;
+import java.util.regex.Pattern;
 import lombok.NoArgsConstructor;
-import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.serialization.Serializer;
-import org.apache.kafka.common.serialization.StringSerializer;
-import org.apache.kafka.streams.StreamsConfig;
 import org.apache.kafka.streams.errors.ErrorHandlerContext;
 import org.apache.kafka.streams.errors.ProcessingExceptionHandler;
 import org.apache.kafka.streams.processor.api.Record;
@@ -43,39 +39,87 @@ import org.apache.kafka.streams.processor.api.Record;
  * forwarded. In addition to the headers provided by
  * {@link org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils}, this handler also adds
  * {@link #HEADER_ERRORS_PROCESSOR_NODE_ID_NAME} and {@link #HEADER_ERRORS_TASK_ID_NAME}.
+ * <p>By default, the dead letter queue receives the raw input key and value. If
+ * {@link FilteringProcessingExceptionHandlerConfig#DEAD_LETTER_CONVERTER_CONFIG} is configured, the value is a dead
+ * letter created by the configured {@link DeadLetterConverter} and serialized using
+ * {@link FilteringProcessingExceptionHandlerConfig#DEAD_LETTER_SERIALIZER_CONFIG}. Dead letters then have the same
+ * format as the ones created by {@link DeadLetterProcessor}. Inputs are rendered by
+ * {@link DeadLetterConverter#toInputValue(Object)}.
+ * <p>The handler fails if errors occur in a burst exceeding
+ * {@link FilteringProcessingExceptionHandlerConfig#ERROR_BURST_RATIO_CONFIG} and drops dead letters exceeding
+ * {@link FilteringProcessingExceptionHandlerConfig#DEAD_LETTER_MAX_PER_SECOND_CONFIG}.
+ * <p>Rules configured by {@link FilteringProcessingExceptionHandlerConfig#RULES_CONFIG} take precedence over the
+ * filter and may also drop records without producing a dead letter.
+ * <p>Descriptions of dead letters can be configured per processor node using
+ * {@link FilteringProcessingExceptionHandlerConfig#DESCRIPTIONS_CONFIG}. Errors thrown in processor nodes matching
+ * {@link FilteringProcessingExceptionHandlerConfig#CAPTURE_EXCLUDE_CONFIG} are not captured and fail processing.
  */
 @NoArgsConstructor
 public class FilteringProcessingExceptionHandler implements ProcessingExceptionHandler {
     public static final String HEADER_ERRORS_PROCESSOR_NODE_ID_NAME = "__streams.errors.processor.node.id";
     public static final String HEADER_ERRORS_TASK_ID_NAME = "__streams.errors.task.id";
-    private String deadLetterQueueTopic;
-    private ErrorFilter filter;
+    private ErrorRuleChain rules;
+    private DeadLetterConverter<Object> deadLetterConverter;
+    private Serializer<Object> deadLetterSerializer;
+    private ProcessorDescriptions descriptions;
+    private Pattern captureExcludePattern;
+    private DeadLetterQueueProducer producer;
 
     @Override
     public void configure(final Map<String, ?> configs) {
-        this.deadLetterQueueTopic =
-                String.valueOf(configs.get(StreamsConfig.ERRORS_DEAD_LETTER_QUEUE_TOPIC_NAME_CONFIG));
         final FilteringProcessingExceptionHandlerConfig config =
                 new FilteringProcessingExceptionHandlerConfig(configs);
-        this.filter = config.getErrorFilter();
+        this.rules = config.getErrorRuleChain();
+        this.deadLetterConverter = config.getDeadLetterConverter().orElse(null);
+        if (this.deadLetterConverter != null) {
+            this.deadLetterSerializer = config.getDeadLetterSerializer();
+        }
+        this.descriptions = config.getProcessorDescriptions();
+        this.captureExcludePattern = config.getCaptureExcludePattern().orElse(null);
+        this.producer = new DeadLetterQueueProducer(configs, config);
     }
 
     @Override
     public Response handleError(final ErrorHandlerContext context, final Record<?, ?> record,
             final Exception exception) {
-        if (this.filter.isRecoverable(context, record, exception)) {
+        if (this.isExcluded(context.processorNodeId())) {
             return Response.fail();
         }
-        final ProducerRecord<byte[], byte[]> dlqRecord =
-                buildDeadLetterQueueRecord(this.deadLetterQueueTopic, context.sourceRawKey(), context.sourceRawValue(),
-                        context, exception);
-        try (final Serializer<String> serializer = new StringSerializer()) {
-            dlqRecord.headers()
-                    .add(HEADER_ERRORS_PROCESSOR_NODE_ID_NAME, serializer.serialize(null, context.processorNodeId()));
-            dlqRecord.headers()
-                    .add(HEADER_ERRORS_TASK_ID_NAME, serializer.serialize(null, context.taskId().toString()));
+        final ErrorAction action = this.rules.classify(context, record, exception);
+        if (action == ErrorAction.FAIL) {
+            return Response.fail();
+        }
+        if (action == ErrorAction.DROP) {
+            return Response.resume();
+        }
+        return this.producer.createRecords(context, context.sourceRawKey(),
+                        () -> this.createValue(context, record, exception), exception)
+                .map(Response::resume)
+                .orElseGet(Response::fail);
+    }
+
+    private boolean isExcluded(final String processorNodeId) {
+        return this.captureExcludePattern != null && processorNodeId != null
+                && this.captureExcludePattern.matcher(processorNodeId).find();
+    }
+
+    private byte[] createValue(final ErrorHandlerContext context, final Record<?, ?> record,
+            final Exception exception) {
+        if (this.deadLetterConverter == null) {
+            return context.sourceRawValue();
         }
-        return Response.resume(List.of(dlqRecord));
+        final DeadLetterDescription deadLetterDescription = DeadLetterDescription.builder()
+                .inputValue(record.value() == null ? null : this.deadLetterConverter.toInputValue(record.value()))
+                .input(record.value())
+                .cause(DeadLetterDescription.Cause.of(exception))
+                .description(this.descriptions.describe(context.processorNodeId()))
+                .topic(context.topic())
+                .partition(context.partition())
+                .offset(context.offset())
+                .inputTimestamp(Instant.ofEpochMilli(record.timestamp()))
+                .build();
+        final Object deadLetter = this.deadLetterConverter.convert(deadLetterDescription);
+        return this.deadLetterSerializer.serialize(this.producer.getDeadLetterQueueTopic(), deadLetter);
     }
 
 }
@@ -24,25 +24,126 @@
 
 package com.bakdata.kafka;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.kafka.common.config.AbstractConfig;
 import org.apache.kafka.common.config.ConfigDef;
 import org.apache.kafka.common.config.ConfigDef.Importance;
 import org.apache.kafka.common.config.ConfigDef.Type;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.utils.Utils;
 
 /**
- * Configuration for {@link FilteringProcessingExceptionHandler}. It offers configuration of the following properties:
+ * Configuration for {@link FilteringProcessingExceptionHandler}, {@link FilteringDeserializationExceptionHandler}, and
+ * {@link FilteringProductionExceptionHandler}. It offers configuration of the following properties:
  * <ul>
  *     <li>{@link #FILTER_CONFIG}</li>
+ *     <li>{@link #RULES_CONFIG}</li>
+ *     <li>{@link #DEAD_LETTER_CONVERTER_CONFIG}</li>
+ *     <li>{@link #DEAD_LETTER_SERIALIZER_CONFIG}</li>
+ *     <li>{@link #DESCRIPTION_CONFIG}</li>
+ *     <li>{@link #DESCRIPTIONS_CONFIG}</li>
+ *     <li>{@link #CAPTURE_EXCLUDE_CONFIG}</li>
+ *     <li>{@link #ERROR_BURST_RATIO_CONFIG}</li>
+ *     <li>{@link #ERROR_BURST_WINDOW_MS_CONFIG}</li>
+ *     <li>{@link #ERROR_BURST_MIN_RECORDS_CONFIG}</li>
+ *     <li>{@link #DEAD_LETTER_MAX_PER_SECOND_CONFIG}</li>
+ *     <li>{@link #DEAD_LETTER_COMPRESSION_CONFIG}</li>
+ *     <li>{@link #DEAD_LETTER_MAX_PAYLOAD_BYTES_CONFIG}</li>
+ *     <li>{@link #DEAD_LETTER_KEY_STRATEGY_CONFIG}</li>
  * </ul>
  */
 public class FilteringProcessingExceptionHandlerConfig extends AbstractConfig {
     public static final String PREFIX = "error.handling.";
     public static final String FILTER_CONFIG = PREFIX + "filter";
+    public static final String RULES_CONFIG = PREFIX + "rules";
+    public static final String RULE_EXCEPTION_CONFIG = "exception";
+    public static final String RULE_CAUSE_CONFIG = "cause";
+    public static final String RULE_MESSAGE_CONFIG = "message";
+    public static final String RULE_NODE_CONFIG = "node";
+    public static final String RULE_TOPIC_CONFIG = "topic";
+    public static final String RULE_ACTION_CONFIG = "action";
+    public static final String DEAD_LETTER_CONVERTER_CONFIG = PREFIX + "dead.letter.converter";
+    public static final String DEAD_LETTER_SERIALIZER_CONFIG = PREFIX + "dead.letter.serializer";
+    public static final String DESCRIPTION_CONFIG = PREFIX + "description";
+    public static final String DESCRIPTIONS_CONFIG = PREFIX + "descriptions";
+    public static final String DESCRIPTIONS_NODE_CONFIG = "node";
+    public static final String DESCRIPTIONS_DESCRIPTION_CONFIG = "description";
+    public static final String CAPTURE_EXCLUDE_CONFIG = PREFIX + "capture.exclude";
+    public static final String ERROR_BURST_RATIO_CONFIG = PREFIX + "burst.ratio";
+    public static final String ERROR_BURST_WINDOW_MS_CONFIG = PREFIX + "burst.window.ms";
+    public static final String ERROR_BURST_MIN_RECORDS_CONFIG = PREFIX + "burst.min.records";
+    public static final String DEAD_LETTER_MAX_PER_SECOND_CONFIG = PREFIX + "dead.letter.max.per.second";
+    public static final String DEAD_LETTER_COMPRESSION_CONFIG = PREFIX + "dead.letter.compression";
+    public static final String DEAD_LETTER_MAX_PAYLOAD_BYTES_CONFIG = PREFIX + "dead.letter.max.payload.bytes";
+    public static final String DEAD_LETTER_KEY_STRATEGY_CONFIG = PREFIX + "dead.letter.key.strategy";
     private static final ConfigDef config = baseConfigDef();
     public static final String FILTER_DOC =
             "Class implementing a filter for errors which should be thrown and not captured. By default, a dead "
                     + "letter is produced for every exception";
+    public static final String RULES_DOC =
+            "Ordered list of names of rules for classifying errors. The first matching rule determines whether "
+                    + "processing fails, the record is sent to the dead letter queue, or the record is dropped. If no "
+                    + "rule matches, " + FILTER_CONFIG + " is used. A rule is configured using the properties "
+                    + RULES_CONFIG + ".<name>." + RULE_EXCEPTION_CONFIG + " (class of the exception or one of its "
+                    + "superclasses), " + RULES_CONFIG + ".<name>." + RULE_CAUSE_CONFIG + " (class of any exception "
+                    + "in the cause chain), " + RULES_CONFIG + ".<name>." + RULE_MESSAGE_CONFIG + " (regular "
+                    + "expression for the message), " + RULES_CONFIG + ".<name>." + RULE_NODE_CONFIG + " (regular "
+                    + "expression for the processor node id), " + RULES_CONFIG + ".<name>." + RULE_TOPIC_CONFIG
+                    + " (regular expression for the source topic), and " + RULES_CONFIG + ".<name>."
+                    + RULE_ACTION_CONFIG + " (one of fail, resume, or drop). All conditions are optional, the "
+                    + "action is required";
+    public static final String DEAD_LETTER_CONVERTER_DOC =
+            "Class implementing " + DeadLetterConverter.class.getName() + ". If configured, the dead letter queue "
+                    + "receives dead letters created by this converter instead of the raw input record. Requires "
+                    + DEAD_LETTER_SERIALIZER_CONFIG;
+    public static final String DEAD_LETTER_SERIALIZER_DOC =
+            "Serializer class for dead letters created by " + DEAD_LETTER_CONVERTER_CONFIG;
+    public static final String DESCRIPTION_DOC =
+            "Description of dead letters created by " + DEAD_LETTER_CONVERTER_CONFIG + ". By default, the id of the "
+                    + "processor node in which the exception has been thrown is used";
+    public static final String DESCRIPTIONS_DOC =
+            "Ordered list of names of descriptions for processor nodes. The first description whose pattern matches "
+                    + "the processor node id is used instead of " + DESCRIPTION_CONFIG + ". A description is "
+                    + "configured using the properties " + DESCRIPTIONS_CONFIG + ".<name>." + DESCRIPTIONS_NODE_CONFIG
+                    + " (regular expression for the processor node id) and " + DESCRIPTIONS_CONFIG + ".<name>."
+                    + DESCRIPTIONS_DESCRIPTION_CONFIG + " (description). Both properties are required";
+    public static final String CAPTURE_EXCLUDE_DOC =
+            "Regular expression for ids of processor nodes excluded from error capture. Errors thrown in these "
+                    + "processor nodes fail processing and the processors are not wrapped by "
+                    + ErrorCapturingProcessorWrapper.class.getName() + ". By default, no processor node is excluded";
+    public static final String ERROR_BURST_RATIO_DOC =
+            "Maximum ratio of failed records per task and input topic in the span of input offsets of failed records "
+                    + "in " + ERROR_BURST_WINDOW_MS_CONFIG + ". If the ratio is exceeded, the handler fails instead of "
+                    + "producing dead letters. Exception handlers do not see successfully processed records, so this "
+                    + "detects bursts of errors and not the error ratio of the task. By default, bursts are not "
+                    + "detected";
+    public static final String ERROR_BURST_WINDOW_MS_DOC =
+            "Size of the sliding window in which " + ERROR_BURST_RATIO_CONFIG + " is evaluated";
+    public static final String ERROR_BURST_MIN_RECORDS_DOC =
+            "Minimum span of input offsets of failed records in the sliding window before "
+                    + ERROR_BURST_RATIO_CONFIG + " is evaluated";
+    public static final String DEAD_LETTER_MAX_PER_SECOND_DOC =
+            "Maximum number of dead letters produced per second by a handler. Exceeding dead letters are dropped "
+                    + "and processing continues. By default, the number of dead letters is unlimited";
+    public static final String DEAD_LETTER_COMPRESSION_DOC =
+            "Compression codec for keys and values copied into dead letter queue records. Valid values are none, "
+                    + "gzip, zstd, and lz4. The codec is stored in the headers "
+                    + "__streams.errors.key.compression and __streams.errors.value.compression";
+    public static final String DEAD_LETTER_MAX_PAYLOAD_BYTES_DOC =
+            "Maximum size in bytes of keys and values copied into dead letter queue records. Larger payloads are "
+                    + "truncated and the original size and SHA-256 hash are stored in the headers "
+                    + "__streams.errors.<key|value>.original.size and __streams.errors.<key|value>.sha256. By "
+                    + "default, payloads are not truncated";
+    public static final String DEAD_LETTER_KEY_STRATEGY_DOC =
+            "Strategy for keying dead letter queue records. Valid values are original, which keeps the key of the "
+                    + "input, and hash, which uses a hash of topic, partition, and offset of the input and the "
+                    + "description. Dead letters keyed by hash can be log-compacted to remove duplicates";
 
     /**
      * Create a new configuration from the given properties
@@ -56,10 +157,232 @@ public class FilteringProcessingExceptionHandlerConfig extends AbstractConfig {
     private static ConfigDef baseConfigDef() {
         return new ConfigDef()
                 .define(FILTER_CONFIG, Type.CLASS, NothingIsRecoverableErrorFilter.class, Importance.MEDIUM,
-                        FILTER_DOC);
+                        FILTER_DOC)
+                .define(RULES_CONFIG, Type.LIST, "", Importance.MEDIUM, RULES_DOC)
+                .define(DEAD_LETTER_CONVERTER_CONFIG, Type.CLASS, null, Importance.MEDIUM,
+                        DEAD_LETTER_CONVERTER_DOC)
+                .define(DEAD_LETTER_SERIALIZER_CONFIG, Type.CLASS, null, Importance.MEDIUM,
+                        DEAD_LETTER_SERIALIZER_DOC)
+                .define(DESCRIPTION_CONFIG, Type.STRING, null, Importance.LOW, DESCRIPTION_DOC)
+                .define(DESCRIPTIONS_CONFIG, Type.LIST, "", Importance.LOW, DESCRIPTIONS_DOC)
+                .define(CAPTURE_EXCLUDE_CONFIG, Type.STRING, null, Importance.LOW, CAPTURE_EXCLUDE_DOC)
+                .define(ERROR_BURST_RATIO_CONFIG, Type.DOUBLE, 1.0, ConfigDef.Range.between(0.0, 1.0),
+                        Importance.MEDIUM, ERROR_BURST_RATIO_DOC)
+                .define(ERROR_BURST_WINDOW_MS_CONFIG, Type.LONG, 60_000L, ConfigDef.Range.atLeast(1L),
+                        Importance.LOW, ERROR_BURST_WINDOW_MS_DOC)
+                .define(ERROR_BURST_MIN_RECORDS_CONFIG, Type.LONG, 100L, ConfigDef.Range.atLeast(1L),
+                        Importance.LOW, ERROR_BURST_MIN_RECORDS_DOC)
+                .define(DEAD_LETTER_MAX_PER_SECOND_CONFIG, Type.LONG, Long.MAX_VALUE, ConfigDef.Range.atLeast(1L),
+                        Importance.MEDIUM, DEAD_LETTER_MAX_PER_SECOND_DOC)
+                .define(DEAD_LETTER_COMPRESSION_CONFIG, Type.STRING, DeadLetterCompression.NONE.getName(),
+                        ConfigDef.ValidString.in(Arrays.stream(DeadLetterCompression.values())
+                                .map(DeadLetterCompression::getName)
+                                .toArray(String[]::new)),
+                        Importance.LOW, DEAD_LETTER_COMPRESSION_DOC)
+                .define(DEAD_LETTER_MAX_PAYLOAD_BYTES_CONFIG, Type.INT, Integer.MAX_VALUE,
+                        ConfigDef.Range.atLeast(0), Importance.LOW, DEAD_LETTER_MAX_PAYLOAD_BYTES_DOC)
+                .define(DEAD_LETTER_KEY_STRATEGY_CONFIG, Type.STRING, "original",
+                        ConfigDef.CaseInsensitiveValidString.in("original", "hash"), Importance.LOW,
+                        DEAD_LETTER_KEY_STRATEGY_DOC);
     }
 
     public ErrorFilter getErrorFilter() {
         return this.getConfiguredInstance(FILTER_CONFIG, ErrorFilter.class);
     }
+
+    /**
+     * Get the chain of rules configured by {@link #RULES_CONFIG}. If no rule matches, the filter configured by
+     * {@link #FILTER_CONFIG} is used.
+     *
+     * @return chain of error rules
+     */
+    ErrorRuleChain getErrorRuleChain() {
+        final List<ErrorRule> rules = this.getList(RULES_CONFIG).stream()
+                .map(this::createRule)
+                .collect(Collectors.toList());
+        return new ErrorRuleChain(rules, this.getErrorFilter());
+    }
+
+    private ErrorRule createRule(final String name) {
+        final String prefix = RULES_CONFIG + "." + name + ".";
+        final Map<String, Object> ruleConfig = this.originalsWithPrefix(prefix);
+        final Object action = ruleConfig.get(RULE_ACTION_CONFIG);
+        if (action == null) {
+            throw new ConfigException(prefix + RULE_ACTION_CONFIG + " must be configured");
+        }
+        try {
+            return ErrorRule.builder()
+                    .name(name)
+                    .exceptionClass(getRuleClass(ruleConfig, prefix, RULE_EXCEPTION_CONFIG))
+                    .causeClass(getRuleClass(ruleConfig, prefix, RULE_CAUSE_CONFIG))
+                    .messagePattern(getRulePattern(ruleConfig, RULE_MESSAGE_CONFIG))
+                    .nodePattern(getRulePattern(ruleConfig, RULE_NODE_CONFIG))
+                    .topicPattern(getRulePattern(ruleConfig, RULE_TOPIC_CONFIG))
+                    .action(ErrorAction.parse(action.toString()))
+                    .build();
+        } catch (final IllegalArgumentException e) {
+            // also covers invalid regular expressions
+            throw new ConfigException("Invalid configuration of rule " + name + ": " + e.getMessage());
+        }
+    }
+
+    private static Class<?> getRuleClass(final Map<String, Object> ruleConfig, final String prefix,
+            final String key) {
+        final Object value = ruleConfig.get(key);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Class) {
+            return (Class<?>) value;
+        }
+        try {
+            return Utils.loadClass(value.toString().trim(), Throwable.class);
+        } catch (final ClassNotFoundException e) {
+            throw new ConfigException(prefix + key, value, "Class not found");
+        }
+    }
+
+    private static Pattern getRulePattern(final Map<String, Object> ruleConfig, final String key) {
+        final Object value = ruleConfig.get(key);
+        return value == null ? null : Pattern.compile(value.toString());
+    }
+
+    /**
+     * Get the converter for dead letters produced to the dead letter queue
+     *
+     * @return converter or empty if raw input records should be produced
+     */
+    public Optional<DeadLetterConverter<Object>> getDeadLetterConverter() {
+        final DeadLetterConverter<Object> converter =
+                this.getConfiguredInstance(DEAD_LETTER_CONVERTER_CONFIG, DeadLetterConverter.class);
+        return Optional.ofNullable(converter);
+    }
+
+    /**
+     * Get the serializer for dead letters produced to the dead letter queue. The serializer is configured using the
+     * properties of this config.
+     *
+     * @return serializer for dead letters
+     * @throws ConfigException if no serializer is configured
+     */
+    public Serializer<Object> getDeadLetterSerializer() {
+        final Class<?> serializerClass = this.getClass(DEAD_LETTER_SERIALIZER_CONFIG);
+        if (serializerClass == null) {
+            throw new ConfigException(DEAD_LETTER_SERIALIZER_CONFIG + " must be configured if "
+                    + DEAD_LETTER_CONVERTER_CONFIG + " is configured");
+        }
+        final Serializer<Object> serializer = Utils.newInstance(serializerClass, Serializer.class);
+        serializer.configure(this.originals(), false);
+        return serializer;
+    }
+
+    /**
+     * Get the error burst detector configured by {@link #ERROR_BURST_RATIO_CONFIG}
+     *
+     * @return error burst detector or empty if bursts are not detected
+     */
+    Optional<ErrorBurstDetector> getErrorBurstDetector() {
+        final double ratio = this.getDouble(ERROR_BURST_RATIO_CONFIG);
+        if (ratio >= 1.0) {
+            return Optional.empty();
+        }
+        return Optional.of(new ErrorBurstDetector(ratio, this.getLong(ERROR_BURST_WINDOW_MS_CONFIG),
+                this.getLong(ERROR_BURST_MIN_RECORDS_CONFIG)));
+    }
+
+    /**
+     * Get the rate limiter configured by {@link #DEAD_LETTER_MAX_PER_SECOND_CONFIG}
+     *
+     * @return rate limiter or empty if the number of dead letters is unlimited
+     */
+    Optional<DeadLetterRateLimiter> getDeadLetterRateLimiter() {
+        final long maxPerSecond = this.getLong(DEAD_LETTER_MAX_PER_SECOND_CONFIG);
+        if (maxPerSecond == Long.MAX_VALUE) {
+            return Optional.empty();
+        }
+        return Optional.of(new DeadLetterRateLimiter(maxPerSecond));
+    }
+
+    /**
+     * Get the encoder for payloads configured by {@link #DEAD_LETTER_COMPRESSION_CONFIG} and
+     * {@link #DEAD_LETTER_MAX_PAYLOAD_BYTES_CONFIG}
+     *
+     * @return payload encoder or empty if payloads are neither compressed nor truncated
+     */
+    Optional<DeadLetterPayloadEncoder> getDeadLetterPayloadEncoder() {
+        final DeadLetterCompression compression =
+                DeadLetterCompression.parse(this.getString(DEAD_LETTER_COMPRESSION_CONFIG));
+        final int maxPayloadBytes = this.getInt(DEAD_LETTER_MAX_PAYLOAD_BYTES_CONFIG);
+        if (compression == DeadLetterCompression.NONE && maxPayloadBytes == Integer.MAX_VALUE) {
+            return Optional.empty();
+        }
+        return Optional.of(new DeadLetterPayloadEncoder(compression, maxPayloadBytes));
+    }
+
+    /**
+     * Get the key strategy configured by {@link #DEAD_LETTER_KEY_STRATEGY_CONFIG}
+     *
+     * @return key strategy of dead letter queue records
+     */
+    DeadLetterKeyStrategy getDeadLetterKeyStrategy() {
+        return DeadLetterKeyStrategy.parse(this.getString(DEAD_LETTER_KEY_STRATEGY_CONFIG));
+    }
+
+    /**
+     * Get the description of dead letters
+     *
+     * @return description or empty if the processor node id should be used
+     */
+    public Optional<String> getDescription() {
+        return Optional.ofNullable(this.getString(DESCRIPTION_CONFIG));
+    }
+
+    /**
+     * Get the descriptions of processor nodes configured by {@link #DESCRIPTIONS_CONFIG} and
+     * {@link #DESCRIPTION_CONFIG}
+     *
+     * @return descriptions of processor nodes
+     */
+    ProcessorDescriptions getProcessorDescriptions() {
+        final List<ProcessorDescriptions.NodeDescription> descriptions = this.getList(DESCRIPTIONS_CONFIG).stream()
+                .map(this::createNodeDescription)
+                .collect(Collectors.toList());
+        return new ProcessorDescriptions(descriptions, this.getDescription().orElse(null));
+    }
+
+    private ProcessorDescriptions.NodeDescription createNodeDescription(final String name) {
+        final String prefix = DESCRIPTIONS_CONFIG + "." + name + ".";
+        final Map<String, Object> descriptionConfig = this.originalsWithPrefix(prefix);
+        final Object node = descriptionConfig.get(DESCRIPTIONS_NODE_CONFIG);
+        if (node == null) {
+            throw new ConfigException(prefix + DESCRIPTIONS_NODE_CONFIG + " must be configured");
+        }
+        final Object description = descriptionConfig.get(DESCRIPTIONS_DESCRIPTION_CONFIG);
+        if (description == null) {
+            throw new ConfigException(prefix + DESCRIPTIONS_DESCRIPTION_CONFIG + " must be configured");
+        }
+        try {
+            return new ProcessorDescriptions.NodeDescription(Pattern.compile(node.toString()),
+                    description.toString());
+        } catch (final IllegalArgumentException e) {
+            throw new ConfigException(prefix + DESCRIPTIONS_NODE_CONFIG, node, e.getMessage());
+        }
+    }
+
+    /**
+     * Get the pattern of processor node ids excluded from error capture
+     *
+     * @return pattern or empty if no processor node is excluded
+     */
+    Optional<Pattern> getCaptureExcludePattern() {
+        final String pattern = this.getString(CAPTURE_EXCLUDE_CONFIG);
+        if (pattern == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Pattern.compile(pattern));
+        } catch (final IllegalArgumentException e) {
+            throw new ConfigException(CAPTURE_EXCLUDE_CONFIG, pattern, e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.util.Map;
+import lombok.NoArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.streams.errors.ErrorHandlerContext;
+import org.apache.kafka.streams.errors.ProductionExceptionHandler;
+import org.apache.kafka.streams.processor.api.Record;
+
+/**
+ * {@link ProductionExceptionHandler} that sends input records whose output cannot be serialized or produced to the dead
+ * letter queue. It is configured using {@link FilteringProcessingExceptionHandlerConfig} and produces dead letter queue
+ * records with the same headers as {@link FilteringProcessingExceptionHandler}. The dead letter queue receives the raw
+ * input key and value. The {@link ErrorFilter} and {@link FilteringProcessingExceptionHandlerConfig#RULES_CONFIG rules}
+ * are applied to the output record.
+ */
+@NoArgsConstructor
+public class FilteringProductionExceptionHandler implements ProductionExceptionHandler {
+    private ErrorRuleChain rules;
+    private DeadLetterQueueProducer producer;
+
+    private static Record<?, ?> toRecord(final ErrorHandlerContext context, final ProducerRecord<?, ?> record) {
+        return new Record<>(record.key(), record.value(), Math.max(0L, context.timestamp()), record.headers());
+    }
+
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        final FilteringProcessingExceptionHandlerConfig config =
+                new FilteringProcessingExceptionHandlerConfig(configs);
+        this.rules = config.getErrorRuleChain();
+        this.producer = new DeadLetterQueueProducer(configs, config);
+    }
+
+    @Override
+    public Response handleError(final ErrorHandlerContext context, final ProducerRecord<byte[], byte[]> record,
+            final Exception exception) {
+        return this.handle(context, record, exception);
+    }
+
+    @Override
+    public Response handleSerializationError(final ErrorHandlerContext context, final ProducerRecord record,
+            final Exception exception, final SerializationExceptionOrigin origin) {
+        return this.handle(context, record, exception);
+    }
+
+    private Response handle(final ErrorHandlerContext context, final ProducerRecord<?, ?> record,
+            final Exception exception) {
+        final ErrorAction action = this.rules.classify(context, toRecord(context, record), exception);
+        if (action == ErrorAction.FAIL) {
+            return Response.fail();
+        }
+        if (action == ErrorAction.DROP) {
+            return Response.resume();
+        }
+        return this.producer.createRecords(context, context.sourceRawKey(), context::sourceRawValue, exception)
+                .map(Response::resume)
+                .orElseGet(Response::fail);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.ProcessorSupplier;
+import org.apache.kafka.streams.processor.api.Record;
+
+/**
+ * {@link Processor} that creates a {@code DeadLetter} from a processing error and keys it by a {@link DeadLetterKey}
+ * instead of the input key. Otherwise, it behaves like {@link DeadLetterProcessor}.
+ *
+ * @param <K> type of key
+ * @param <V> type of value
+ * @param <T> the DeadLetter type
+ * @see DeadLetterKeyStrategy#HASH
+ */
+@RequiredArgsConstructor
+public class HashKeyedDeadLetterProcessor<K, V, T> implements Processor<K, ProcessingError<V>, DeadLetterKey, T> {
+    private final @NonNull String description;
+    private final @NonNull DeadLetterConverter<T> deadLetterConverter;
+    private final @NonNull Function<Object, String> inputRenderer;
+    private ProcessorContext<DeadLetterKey, T> context;
+
+    /**
+     * Transforms captured errors for serialization and keys them by a {@link DeadLetterKey}
+     *
+     * <pre>{@code
+     * final KStream<K, ProcessingError<V>> errors = ...;
+     * final DeadLetterConverter<T> deadLetterConverter = ...
+     * final KStream<DeadLetterKey, T> deadLetters = errors.process(
+     *                      HashKeyedDeadLetterProcessor.create("Description", deadLetterConverter));
+     * deadLetters.to(ERROR_TOPIC, Produced.keySerde(new DeadLetterKeySerde()));
+     * }
+     * </pre>
+     *
+     * @param description shared description for all errors
+     * @param deadLetterConverter converter from DeadLetterDescriptions to VR
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @param <VR> type of the output value
+     * @return a processor supplier
+     */
+    public static <K, V, VR> ProcessorSupplier<K, ProcessingError<V>, DeadLetterKey, VR> create(
+            final String description, final DeadLetterConverter<VR> deadLetterConverter) {
+        return create(description, deadLetterConverter, ErrorUtil::toString);
+    }
+
+    /**
+     * Transforms captured errors for serialization, keys them by a {@link DeadLetterKey}, and renders inputs using a
+     * custom renderer
+     *
+     * @param description shared description for all errors
+     * @param deadLetterConverter converter from DeadLetterDescriptions to VR
+     * @param inputRenderer renders non-null inputs as string. May return {@code null} if the input is embedded by the
+     * converter
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @param <VR> type of the output value
+     * @return a processor supplier
+     * @see DeadLetterProcessor#create(String, DeadLetterConverter, Function)
+     */
+    public static <K, V, VR> ProcessorSupplier<K, ProcessingError<V>, DeadLetterKey, VR> create(
+            final String description, final DeadLetterConverter<VR> deadLetterConverter,
+            final Function<Object, String> inputRenderer) {
+        return () -> new HashKeyedDeadLetterProcessor<>(description, deadLetterConverter, inputRenderer);
+    }
+
+    @Override
+    public void init(final ProcessorContext<DeadLetterKey, T> context) {
+        this.context = context;
+    }
+
+    @Override
+    public void process(final Record<K, ProcessingError<V>> inputRecord) {
+        final ProcessingError<V> error = inputRecord.value();
+        DeadLetterProcessor.record(error, this.description);
+        final DeadLetterDescription deadLetterDescription = DeadLetterProcessor.describe(error, this.description,
+                this.inputRenderer, this.context.recordMetadata(), inputRecord.timestamp());
+        final DeadLetterKey key = DeadLetterKey.of(deadLetterDescription.getTopic(),
+                deadLetterDescription.getPartition(), deadLetterDescription.getOffset(), this.description,
+                deadLetterDescription.getInputTimestamp(), deadLetterDescription.getCause());
+
+        final Record<DeadLetterKey, T> outputRecord = inputRecord
+                .withKey(key)
+                .withValue(this.deadLetterConverter.convert(deadLetterDescription))
+                .withTimestamp(this.context.currentSystemTimeMs());
+
+        this.context.forward(outputRecord);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code AggregationErrorHandler} that keeps the previous aggregate. Errors are reported to the enclosing
+ * {@link ErrorCapturingProcessorWrapper}, which passes them on to the processing exception handler. Errors are logged
+ * if the processor is not wrapped or the processing exception handler would fail the task.
+ *
+ * @param <V> type of input values
+ * @param <VA> type of aggregate values
+ */
+@Slf4j
+final class KeepAggregateErrorHandler<V, VA> implements AggregationErrorHandler<V, VA> {
+
+    @Override
+    public VA handle(final ProcessingError<V> error, final VA aggregate) {
+        if (!AggregationErrorScope.report(error.getThrowable())) {
+            log.error("Cannot aggregate {}. Keeping previous aggregate", ErrorUtil.toString(error.getValue()),
+                    error.getThrowable());
+        }
+        return aggregate;
+    }
+}
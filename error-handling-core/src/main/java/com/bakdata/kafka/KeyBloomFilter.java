@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.Arrays;
+
+/**
+ * Bloom filter on serialized keys. It answers whether a key might be contained, without false negatives, so that
+ * lookups in a state store can be skipped for most keys. Keys are hashed by their serialized bytes, because the hash
+ * codes of deserialized keys, e.g., arrays, are not necessarily consistent with equality of the bytes in the store.
+ */
+final class KeyBloomFilter {
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+    private final long[] bits;
+    private final int numBits;
+    private final int numHashes;
+
+    private KeyBloomFilter(final int numBits, final int numHashes) {
+        this.bits = new long[(numBits + Long.SIZE - 1) / Long.SIZE];
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    /**
+     * Create a Bloom filter with a false positive probability of 1% for the expected number of keys
+     *
+     * @param expectedKeys expected number of keys
+     * @return Bloom filter
+     */
+    static KeyBloomFilter create(final int expectedKeys) {
+        if (expectedKeys <= 0) {
+            throw new IllegalArgumentException("Expected keys must be positive but was " + expectedKeys);
+        }
+        final double ln2 = Math.log(2.0);
+        final int numBits = (int) Math.min(Integer.MAX_VALUE - Long.SIZE,
+                Math.ceil(-expectedKeys * Math.log(FALSE_POSITIVE_PROBABILITY) / (ln2 * ln2)));
+        final int numHashes = Math.max(1, (int) Math.round((double) numBits / expectedKeys * ln2));
+        return new KeyBloomFilter(numBits, numHashes);
+    }
+
+    private static int mix(final int hash) {
+        // murmur3 finalizer to derive a second, independent hash
+        int h = hash;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    void add(final byte[] key) {
+        final int hash1 = Arrays.hashCode(key);
+        final int hash2 = mix(hash1);
+        for (int i = 0; i < this.numHashes; i++) {
+            final int index = this.index(hash1, hash2, i);
+            this.bits[index / Long.SIZE] |= 1L << index;
+        }
+    }
+
+    boolean mightContain(final byte[] key) {
+        final int hash1 = Arrays.hashCode(key);
+        final int hash2 = mix(hash1);
+        for (int i = 0; i < this.numHashes; i++) {
+            final int index = this.index(hash1, hash2, i);
+            if ((this.bits[index / Long.SIZE] & (1L << index)) == 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(this.bits, 0L);
+    }
+
+    private int index(final int hash1, final int hash2, final int i) {
+        // Kirsch-Mitzenmacher: derive all hashes from two independent ones
+        return Math.floorMod(hash1 + i * hash2, this.numBits);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorSupplier;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.StoreBuilder;
+import org.apache.kafka.streams.state.Stores;
+
+/**
+ * Preserve per-key ordering when records fail. Once a record of a key fails, it is forwarded as
+ * {@link ProcessingError} and becomes the head of the key. All later records of the key are parked in a state store
+ * while records of other keys keep flowing. Parked keys are retried in {@code retryInterval} based on wall-clock
+ * time: If the head succeeds, it and all parked records of the key are released in order until a record fails
+ * again. Such a record is forwarded as {@link ProcessingError} and becomes the new head. At most
+ * {@code maxRetriesPerInterval} keys are retried per interval. Errors that are not captured, e.g., recoverable Kafka
+ * exceptions, do not fail the task while retrying. Release of the key stops and is continued in the next interval.
+ * <pre>{@code
+ * final KeyOrderedParking<String, V> parking = KeyOrderedParking.<String, V>builder()
+ *         .keySerde(Serdes.String())
+ *         .valueSerde(valueSerde)
+ *         .build();
+ * final KStream<String, ProcessedValue<V, VR>> processed = input.process(parking.captureErrors(mapper));
+ * acknowledgements.process(parking.acknowledgeProcessor());
+ * }
+ * </pre>
+ * <p>A head that cannot succeed on retry can be acknowledged by sending a record with its key to an acknowledgement
+ * topic processed by {@link #acknowledgeProcessor()}. The acknowledgement topic needs to be co-partitioned with the
+ * input topic. Acknowledged heads are skipped on the next retry and the remaining parked records are released.
+ * <p>Parked keys are additionally kept in an in-memory Bloom filter, so that the store is only queried for records of
+ * keys that might be parked. Released records keep their original timestamp and headers.
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+@Getter(AccessLevel.PACKAGE)
+public final class KeyOrderedParking<K, V> {
+    private final String storeName;
+    private final Serde<K> keySerde;
+    private final Serde<V> valueSerde;
+    private final Duration retryInterval;
+    private final int expectedKeys;
+    private final int maxRetriesPerInterval;
+    // the same builders need to be provided by all processors accessing the stores
+    @Getter(AccessLevel.NONE)
+    private final StoreBuilder<KeyValueStore<Bytes, ParkingState>> stateStoreBuilder;
+    @Getter(AccessLevel.NONE)
+    private final StoreBuilder<KeyValueStore<Bytes, byte[]>> recordStoreBuilder;
+
+    /**
+     * Create a new parking
+     *
+     * @param storeName name of the store tracking parked keys. Parked records are stored in a second store with
+     * suffix {@code -records}. Defaults to {@code error-parking}
+     * @param keySerde serde for keys
+     * @param valueSerde serde for values used to park records
+     * @param retryInterval interval in which parked keys are retried based on wall-clock time. Defaults to one minute
+     * @param expectedKeys expected number of parked keys used to size the Bloom filter. Defaults to 10,000
+     * @param maxRetriesPerInterval maximum number of parked keys retried per retry interval. Retries block the stream
+     * thread, so this should be small enough that retrying them does not exceed {@code max.poll.interval.ms}.
+     * Remaining keys are retried in the next intervals. Defaults to 1,000
+     */
+    @Builder
+    private KeyOrderedParking(final String storeName, final @NonNull Serde<K> keySerde,
+            final @NonNull Serde<V> valueSerde, final Duration retryInterval, final Integer expectedKeys,
+            final Integer maxRetriesPerInterval) {
+        this.storeName = storeName == null ? "error-parking" : storeName;
+        this.keySerde = keySerde;
+        this.valueSerde = valueSerde;
+        this.retryInterval = retryInterval == null ? Duration.ofMinutes(1L) : retryInterval;
+        this.expectedKeys = expectedKeys == null ? 10_000 : expectedKeys;
+        this.maxRetriesPerInterval = maxRetriesPerInterval == null ? 1_000 : maxRetriesPerInterval;
+        if (this.maxRetriesPerInterval <= 0) {
+            throw new IllegalArgumentException(
+                    "Max retries per interval must be positive but was " + this.maxRetriesPerInterval);
+        }
+        this.stateStoreBuilder = Stores.keyValueStoreBuilder(Stores.persistentKeyValueStore(this.storeName),
+                Serdes.Bytes(), ParkingState.serde());
+        this.recordStoreBuilder = Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(this.getRecordStoreName()), Serdes.Bytes(), Serdes.ByteArray());
+    }
+
+    /**
+     * Wrap a {@code ValueMapperWithKey}, capture thrown exceptions, and park later records of failed keys.
+     * Recoverable Kafka exceptions such as a schema registry timeout are forwarded and not captured.
+     *
+     * @param mapper {@code ValueMapperWithKey} whose exceptions should be captured
+     * @param <VR> type of output values
+     * @return {@code ProcessorSupplier} that can be used with {@code KStream#process}
+     * @see #captureErrors(ValueMapperWithKey, Predicate)
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public <VR> ProcessorSupplier<K, V, K, ProcessedValue<V, VR>> captureErrors(
+            final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> mapper) {
+        return this.captureErrors(mapper, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap a {@code ValueMapperWithKey}, capture thrown exceptions, and park later records of failed keys.
+     *
+     * @param mapper {@code ValueMapperWithKey} whose exceptions should be captured
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <VR> type of output values
+     * @return {@code ProcessorSupplier} that can be used with {@code KStream#process}
+     */
+    public <VR> ProcessorSupplier<K, V, K, ProcessedValue<V, VR>> captureErrors(
+            final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> mapper,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new ProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return Set.of(KeyOrderedParking.this.stateStoreBuilder, KeyOrderedParking.this.recordStoreBuilder);
+            }
+
+            @Override
+            public Processor<K, V, K, ProcessedValue<V, VR>> get() {
+                return new ParkingProcessor<>(KeyOrderedParking.this, mapper, errorFilter);
+            }
+        };
+    }
+
+    /**
+     * Create a processor that acknowledges the failed head of all keys it receives. Values are ignored.
+     *
+     * @param <T> type of values
+     * @return {@code ProcessorSupplier} that can be used with {@code KStream#process}
+     */
+    public <T> ProcessorSupplier<K, T, Void, Void> acknowledgeProcessor() {
+        return new ProcessorSupplier<>() {
+            @Override
+            public Set<StoreBuilder<?>> stores() {
+                return Set.of(KeyOrderedParking.this.stateStoreBuilder);
+            }
+
+            @Override
+            public Processor<K, T, Void, Void> get() {
+                return new ParkingAcknowledgeProcessor<>(KeyOrderedParking.this);
+            }
+        };
+    }
+
+    String getRecordStoreName() {
+        return this.storeName + "-records";
+    }
+
+    Bytes serializeKey(final K key) {
+        return Bytes.wrap(this.keySerde.serializer().serialize(this.storeName, key));
+    }
+
+    K deserializeKey(final Bytes key) {
+        return this.keySerde.deserializer().deserialize(this.storeName, key.get());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.utils.Bytes;
+
+/**
+ * Serialized record parked by {@link KeyOrderedParking}
+ */
+@Value
+class ParkedRecord {
+    private static final int NULL_LENGTH = -1;
+    long timestamp;
+    byte[] value;
+    Headers headers;
+
+    /**
+     * Create the store key of a parked record. The serialized key is prefixed by its length, so that keys of
+     * different records never collide.
+     *
+     * @param key serialized key of the record
+     * @param sequence sequence number of the record
+     * @return store key
+     */
+    static Bytes storeKey(final Bytes key, final long sequence) {
+        final byte[] keyBytes = key.get();
+        return Bytes.wrap(ByteBuffer.allocate(Integer.BYTES + keyBytes.length + Long.BYTES)
+                .putInt(keyBytes.length)
+                .put(keyBytes)
+                .putLong(sequence)
+                .array());
+    }
+
+    static ParkedRecord fromBytes(final byte[] bytes) {
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final long timestamp = buffer.getLong();
+            final byte[] value = readBytes(buffer);
+            final int headerCount = buffer.getInt();
+            final Headers headers = new RecordHeaders();
+            for (int i = 0; i < headerCount; i++) {
+                final String key = new String(readBytes(buffer), StandardCharsets.UTF_8);
+                headers.add(key, readBytes(buffer));
+            }
+            if (buffer.hasRemaining()) {
+                throw new SerializationException("Parked record has " + buffer.remaining() + " unexpected bytes");
+            }
+            return new ParkedRecord(timestamp, value, headers);
+        } catch (final BufferUnderflowException e) {
+            throw new SerializationException("Parked record is too short: " + bytes.length + " bytes", e);
+        }
+    }
+
+    private static byte[] readBytes(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static int length(final byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static void writeBytes(final ByteBuffer buffer, final byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(NULL_LENGTH);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    byte[] toBytes() {
+        final List<byte[]> headerKeys = new ArrayList<>();
+        final List<byte[]> headerValues = new ArrayList<>();
+        int length = Long.BYTES + length(this.value) + Integer.BYTES;
+        for (final Header header : this.headers) {
+            final byte[] key = header.key().getBytes(StandardCharsets.UTF_8);
+            headerKeys.add(key);
+            headerValues.add(header.value());
+            length += length(key) + length(header.value());
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(length).putLong(this.timestamp);
+        writeBytes(buffer, this.value);
+        buffer.putInt(headerKeys.size());
+        for (int i = 0; i < headerKeys.size(); i++) {
+            writeBytes(buffer, headerKeys.get(i));
+            writeBytes(buffer, headerValues.get(i));
+        }
+        return buffer.array();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+/**
+ * Processor created by {@link KeyOrderedParking#acknowledgeProcessor()}
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+@RequiredArgsConstructor
+final class ParkingAcknowledgeProcessor<K, V> implements Processor<K, V, Void, Void> {
+    private final @NonNull KeyOrderedParking<K, ?> parking;
+    private KeyValueStore<Bytes, ParkingState> store;
+
+    @Override
+    public void init(final ProcessorContext<Void, Void> context) {
+        this.store = context.getStateStore(this.parking.getStoreName());
+    }
+
+    @Override
+    public void process(final Record<K, V> inputRecord) {
+        if (inputRecord.key() == null) {
+            return;
+        }
+        final Bytes key = this.parking.serializeKey(inputRecord.key());
+        final ParkingState state = this.store.get(key);
+        // parked records are released by the next retry of the parking processor
+        if (state != null) {
+            this.store.put(key, state.acknowledge());
+        }
+    }
+}
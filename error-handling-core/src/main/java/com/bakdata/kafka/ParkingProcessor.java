@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+/**
+ * Processor created by {@link KeyOrderedParking#captureErrors(ValueMapperWithKey, Predicate)}
+ *
+ * @param <K> type of keys
+ * @param <V> type of input values
+ * @param <VR> type of output values
+ */
+@Slf4j
+@RequiredArgsConstructor
+final class ParkingProcessor<K, V, VR> implements Processor<K, V, K, ProcessedValue<V, VR>> {
+    private final @NonNull KeyOrderedParking<K, V> parking;
+    private final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> wrapped;
+    private final @NonNull Predicate<Exception> errorFilter;
+    private ProcessorContext<K, ProcessedValue<V, VR>> context;
+    private KeyValueStore<Bytes, ParkingState> stateStore;
+    private KeyValueStore<Bytes, byte[]> recordStore;
+    private KeyBloomFilter parkedKeys;
+    private KeyBloomFilter stillParked;
+    private Bytes retryFrom;
+
+    private static Bytes successor(final Bytes key) {
+        // the smallest key that is greater than the given key
+        final byte[] bytes = key.get();
+        return Bytes.wrap(Arrays.copyOf(bytes, bytes.length + 1));
+    }
+
+    @Override
+    public void init(final ProcessorContext<K, ProcessedValue<V, VR>> context) {
+        this.context = context;
+        this.stateStore = context.getStateStore(this.parking.getStoreName());
+        this.recordStore = context.getStateStore(this.parking.getRecordStoreName());
+        this.parkedKeys = KeyBloomFilter.create(this.parking.getExpectedKeys());
+        this.stillParked = KeyBloomFilter.create(this.parking.getExpectedKeys());
+        try (final KeyValueIterator<Bytes, ParkingState> iterator = this.stateStore.all()) {
+            iterator.forEachRemaining(parkedKey -> this.parkedKeys.add(parkedKey.key.get()));
+        }
+        context.schedule(this.parking.getRetryInterval(), PunctuationType.WALL_CLOCK_TIME, this::retry);
+    }
+
+    @Override
+    public void process(final Record<K, V> inputRecord) {
+        final K key = inputRecord.key();
+        if (key == null) {
+            // records without key have no ordering to preserve
+            this.apply(inputRecord);
+            return;
+        }
+        final Bytes serializedKey = this.parking.serializeKey(key);
+        // the Bloom filter avoids store lookups for keys that are not parked
+        final ParkingState state =
+                this.parkedKeys.mightContain(serializedKey.get()) ? this.stateStore.get(serializedKey) : null;
+        if (state != null) {
+            this.park(serializedKey, state.getNextSequence(), inputRecord);
+            this.stateStore.put(serializedKey, state.append());
+            return;
+        }
+        if (!this.apply(inputRecord)) {
+            final ParkingState parked = ParkingState.park();
+            this.park(serializedKey, parked.getHeadSequence(), inputRecord);
+            this.stateStore.put(serializedKey, parked);
+            this.parkedKeys.add(serializedKey.get());
+            this.stillParked.add(serializedKey.get());
+        }
+    }
+
+    private boolean apply(final Record<K, V> inputRecord) {
+        final V value = inputRecord.value();
+        try {
+            final VR newValue = this.wrapped.apply(inputRecord.key(), value);
+            this.context.forward(inputRecord.withValue(SuccessValue.of(newValue)));
+            return true;
+        } catch (final Exception e) {
+            if (this.errorFilter.test(e)) {
+                throw e;
+            }
+            this.context.forward(inputRecord.withValue(ErrorValue.of(value, e)));
+            return false;
+        }
+    }
+
+    private void park(final Bytes key, final long sequence, final Record<K, V> inputRecord) {
+        final byte[] value = this.parking.getValueSerde().serializer()
+                .serialize(this.parking.getRecordStoreName(), inputRecord.value());
+        this.recordStore.put(ParkedRecord.storeKey(key, sequence),
+                new ParkedRecord(inputRecord.timestamp(), value, inputRecord.headers()).toBytes());
+    }
+
+    private void retry(final long now) {
+        // retry a bounded number of keys per interval to not block the stream thread and continue with the next key
+        // in the next interval
+        final List<KeyValue<Bytes, ParkingState>> parked = new ArrayList<>();
+        final boolean exhausted;
+        try (final KeyValueIterator<Bytes, ParkingState> iterator = this.stateStore.range(this.retryFrom, null)) {
+            while (parked.size() < this.parking.getMaxRetriesPerInterval() && iterator.hasNext()) {
+                parked.add(iterator.next());
+            }
+            exhausted = !iterator.hasNext();
+        }
+        // release after closing the iterator to not modify the store while iterating
+        for (final KeyValue<Bytes, ParkingState> parkedKey : parked) {
+            if (!this.release(parkedKey.key, parkedKey.value)) {
+                this.stillParked.add(parkedKey.key.get());
+            }
+        }
+        if (exhausted) {
+            // released keys cannot be removed from a Bloom filter, so it is rebuilt from the keys still parked once all
+            // keys have been retried
+            this.parkedKeys = this.stillParked;
+            this.stillParked = KeyBloomFilter.create(this.parking.getExpectedKeys());
+            this.retryFrom = null;
+        } else {
+            this.retryFrom = successor(parked.get(parked.size() - 1).key);
+        }
+    }
+
+    // returns whether all parked records of the key have been released
+    private boolean release(final Bytes serializedKey, final ParkingState state) {
+        final K key = this.parking.deserializeKey(serializedKey);
+        for (long sequence = state.getHeadSequence(); sequence < state.getNextSequence(); sequence++) {
+            final Bytes recordKey = ParkedRecord.storeKey(serializedKey, sequence);
+            final boolean isHead = sequence == state.getHeadSequence();
+            if (!isHead || !state.isAcknowledged()) {
+                final byte[] parkedBytes = this.recordStore.get(recordKey);
+                if (parkedBytes == null) {
+                    log.warn("Parked record {} of key {} is missing. Skipping it", sequence, key);
+                    continue;
+                }
+                final ParkedRecord parkedRecord = ParkedRecord.fromBytes(parkedBytes);
+                final V value = this.parking.getValueSerde().deserializer()
+                        .deserialize(this.parking.getRecordStoreName(), parkedRecord.getValue());
+                final Record<K, V> inputRecord =
+                        new Record<>(key, value, parkedRecord.getTimestamp(), parkedRecord.getHeaders());
+                final boolean released;
+                try {
+                    released = this.applyParked(inputRecord, isHead);
+                } catch (final RuntimeException e) {
+                    // errors that are not captured must not fail the task while a key is released partially
+                    log.warn("Cannot release parked record {} of key {}. Retrying in next interval", sequence, key,
+                            e);
+                    if (!isHead) {
+                        // all previous records have been released, so the previous record is skipped like an
+                        // acknowledged head
+                        this.stateStore.put(serializedKey, state.withAcknowledgedHead(sequence - 1L));
+                    }
+                    return false;
+                }
+                if (!released) {
+                    if (!isHead) {
+                        this.stateStore.put(serializedKey, state.withHead(sequence));
+                    }
+                    return false;
+                }
+            }
+            this.recordStore.delete(recordKey);
+        }
+        this.stateStore.delete(serializedKey);
+        return true;
+    }
+
+    private boolean applyParked(final Record<K, V> inputRecord, final boolean isHead) {
+        if (!isHead) {
+            return this.apply(inputRecord);
+        }
+        final VR newValue;
+        try {
+            newValue = this.wrapped.apply(inputRecord.key(), inputRecord.value());
+        } catch (final Exception e) {
+            if (this.errorFilter.test(e)) {
+                throw e;
+            }
+            // the failure of the head has already been forwarded
+            return false;
+        }
+        this.context.forward(inputRecord.withValue(SuccessValue.of(newValue)));
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.ByteBuffer;
+import lombok.Value;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+
+/**
+ * Parked records of a key tracked by {@link KeyOrderedParking}. Records are parked with consecutive sequence numbers.
+ * The head is the record that failed and blocks all later records of the key.
+ */
+@Value
+class ParkingState {
+    private static final int SERIALIZED_BYTES = 2 * Long.BYTES + 1;
+    long headSequence;
+    long nextSequence;
+    boolean acknowledged;
+
+    static ParkingState park() {
+        return new ParkingState(0L, 1L, false);
+    }
+
+    static Serde<ParkingState> serde() {
+        return Serdes.serdeFrom((topic, state) -> state == null ? null : state.toBytes(),
+                (topic, bytes) -> bytes == null ? null : fromBytes(bytes));
+    }
+
+    private static ParkingState fromBytes(final byte[] bytes) {
+        if (bytes.length != SERIALIZED_BYTES) {
+            throw new SerializationException("Parking state must have " + SERIALIZED_BYTES + " bytes but has "
+                    + bytes.length);
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new ParkingState(buffer.getLong(), buffer.getLong(), buffer.get() != 0);
+    }
+
+    ParkingState append() {
+        return new ParkingState(this.headSequence, this.nextSequence + 1L, this.acknowledged);
+    }
+
+    ParkingState acknowledge() {
+        return new ParkingState(this.headSequence, this.nextSequence, true);
+    }
+
+    ParkingState withHead(final long sequence) {
+        return new ParkingState(sequence, this.nextSequence, false);
+    }
+
+    ParkingState withAcknowledgedHead(final long sequence) {
+        return new ParkingState(sequence, this.nextSequence, true);
+    }
+
+    private byte[] toBytes() {
+        return ByteBuffer.allocate(SERIALIZED_BYTES)
+                .putLong(this.headSequence)
+                .putLong(this.nextSequence)
+                .put((byte) (this.acknowledged ? 1 : 0))
+                .array();
+    }
+}
@@ -34,6 +34,48 @@ package com.bakdata.kafka;
  */
 public interface ProcessedValue<V, VR> {
 
+    /**
+     * Create a successfully processed value. This allows functions to signal results without throwing exceptions.
+     *
+     * @param value processed value
+     * @param <V> the type of the old value
+     * @param <VR> the type of the new value
+     * @return processed value containing {@code value}
+     * @see ResultCapturingValueMapper
+     */
+    static <V, VR> ProcessedValue<V, VR> success(final VR value) {
+        return SuccessValue.of(value);
+    }
+
+    /**
+     * Create a failed processed value without throwing an exception. This avoids the cost of creating a stack trace
+     * for expected failures, e.g., failed validations.
+     *
+     * @param value input value that could not be processed
+     * @param reason reason of the failure
+     * @param <V> the type of the old value
+     * @param <VR> the type of the new value
+     * @return processed value containing a {@link ProcessingError} with a {@link ProcessingFailure}
+     * @see ResultCapturingValueMapper
+     */
+    static <V, VR> ProcessedValue<V, VR> failure(final V value, final String reason) {
+        return failure(value, ProcessingFailure.of(reason));
+    }
+
+    /**
+     * Create a failed processed value without throwing an exception
+     *
+     * @param value input value that could not be processed
+     * @param failure description of the failure
+     * @param <V> the type of the old value
+     * @param <VR> the type of the new value
+     * @return processed value containing a {@link ProcessingError} with {@code failure}
+     * @see #failure(Object, String)
+     */
+    static <V, VR> ProcessedValue<V, VR> failure(final V value, final ProcessingFailure failure) {
+        return ErrorValue.of(value, failure);
+    }
+
     /**
      * Extract errors from a processed value. If an error is available, it will give information about the input value
      * and the {@link Exception} that was thrown while attempting to map it to a new value.
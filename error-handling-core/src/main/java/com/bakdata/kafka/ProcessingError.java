@@ -24,24 +24,61 @@
 
 package com.bakdata.kafka;
 
+import java.util.Optional;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
 
 /**
  * This class represents an error that has been thrown upon processing an input value. Both the input value and the
  * thrown exception are available for further error handling.
+ * <p>Expected failures can be signaled without exception using {@link ProcessedValue#failure(Object, String)}. Such
+ * errors carry a {@link ProcessingFailure} instead of a {@link Throwable}.
  *
  * @param <V> type of input value
  */
 @Getter
-@Builder
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ProcessingError<V> {
 
     private final V value;
-    private final @NonNull Throwable throwable;
+    @Getter(AccessLevel.NONE)
+    private Throwable throwable;
+    @Getter(AccessLevel.NONE)
+    private final ProcessingFailure failure;
+
+    @Builder
+    private ProcessingError(final V value, final Throwable throwable, final ProcessingFailure failure) {
+        if (throwable == null && failure == null) {
+            throw new NullPointerException("Either throwable or failure is required");
+        }
+        if (throwable != null && failure != null) {
+            throw new IllegalArgumentException("Either a throwable or a failure can be provided but not both");
+        }
+        this.value = value;
+        this.throwable = throwable;
+        this.failure = failure;
+    }
+
+    /**
+     * Get the exception that has been thrown. If the error has been signaled using a {@link ProcessingFailure}, a
+     * {@link ProcessingFailureException} without stack trace is created on first access.
+     *
+     * @return exception that has been thrown
+     */
+    public Throwable getThrowable() {
+        if (this.throwable == null) {
+            this.throwable = this.failure.toException();
+        }
+        return this.throwable;
+    }
+
+    /**
+     * Get the failure if the error has been signaled without exception
+     *
+     * @return failure or empty if an exception has been thrown
+     */
+    public Optional<ProcessingFailure> getFailure() {
+        return Optional.ofNullable(this.failure);
+    }
 }
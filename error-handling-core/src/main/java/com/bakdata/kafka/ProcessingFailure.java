@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Lightweight description of an expected failure, e.g., a failed validation. In contrast to an exception, a failure
+ * does not capture a stack trace and is thus cheap to create. Failures are signaled using
+ * {@link ProcessedValue#failure(Object, ProcessingFailure)} and are described by {@link DeadLetterProcessor} without
+ * creating a {@link Throwable}.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProcessingFailure {
+    /**
+     * Type of failures created without explicit type
+     */
+    public static final String DEFAULT_TYPE = ProcessingFailure.class.getName();
+
+    /**
+     * Type of the failure, e.g., the name of a validation rule. It is used in place of the exception class in dead
+     * letters and error signatures.
+     */
+    @NonNull String type;
+    /**
+     * Reason of the failure. It is used in place of the exception message.
+     */
+    String reason;
+
+    /**
+     * Create a failure of {@link #DEFAULT_TYPE}
+     *
+     * @param reason reason of the failure
+     * @return failure
+     */
+    public static ProcessingFailure of(final String reason) {
+        return of(DEFAULT_TYPE, reason);
+    }
+
+    /**
+     * Create a failure
+     *
+     * @param type type of the failure
+     * @param reason reason of the failure
+     * @return failure
+     */
+    public static ProcessingFailure of(final @NonNull String type, final String reason) {
+        return new ProcessingFailure(type, reason);
+    }
+
+    ProcessingFailureException toException() {
+        return new ProcessingFailureException(this);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+/**
+ * Resolves the description of errors thrown in a processor node. Descriptions configured for a pattern of processor
+ * node ids take precedence over the fallback description. If neither applies, the processor node id is used. Errors
+ * without processor node, e.g., deserialization errors of some source nodes, are described as
+ * {@value #UNKNOWN_NODE_DESCRIPTION}.
+ */
+@RequiredArgsConstructor
+final class ProcessorDescriptions {
+    static final String UNKNOWN_NODE_DESCRIPTION = "unknown";
+    private final @NonNull List<NodeDescription> descriptions;
+    private final String fallback;
+
+    /**
+     * Get the description of a processor node
+     *
+     * @param processorNodeId id of the processor node. May be {@code null}
+     * @return description of errors thrown in the processor node. Never {@code null}
+     */
+    String describe(final String processorNodeId) {
+        for (final NodeDescription description : this.descriptions) {
+            if (processorNodeId != null && description.getNodePattern().matcher(processorNodeId).find()) {
+                return description.getDescription();
+            }
+        }
+        if (this.fallback != null) {
+            return this.fallback;
+        }
+        return processorNodeId == null ? UNKNOWN_NODE_DESCRIPTION : processorNodeId;
+    }
+
+    @Value
+    static class NodeDescription {
+        @NonNull Pattern nodePattern;
+        @NonNull String description;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.ByteBuffer;
+import lombok.Value;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+
+/**
+ * Failures of a key tracked by {@link ErrorQuarantine}
+ */
+@Value
+class QuarantineState {
+    private static final long NOT_QUARANTINED = -1L;
+    private static final int SERIALIZED_BYTES = Integer.BYTES + 2 * Long.BYTES;
+    int failures;
+    long windowStartMs;
+    long quarantinedUntilMs;
+
+    /**
+     * Record another failure of a key
+     *
+     * @param previous previous state of the key. May be {@code null}
+     * @param nowMs current time
+     * @param failureWindowMs window in which failures are counted
+     * @param maxFailures number of failures after which the key is quarantined
+     * @param ttlMs duration of the quarantine
+     * @return new state
+     */
+    static QuarantineState fail(final QuarantineState previous, final long nowMs, final long failureWindowMs,
+            final int maxFailures, final long ttlMs) {
+        final boolean newWindow = previous == null || nowMs - previous.windowStartMs > failureWindowMs;
+        final int failures = newWindow ? 1 : previous.failures + 1;
+        final long windowStartMs = newWindow ? nowMs : previous.windowStartMs;
+        final long quarantinedUntilMs = failures >= maxFailures ? nowMs + ttlMs : NOT_QUARANTINED;
+        return new QuarantineState(failures, windowStartMs, quarantinedUntilMs);
+    }
+
+    static Serde<QuarantineState> serde() {
+        return Serdes.serdeFrom((topic, state) -> state == null ? null : state.toBytes(),
+                (topic, bytes) -> bytes == null ? null : fromBytes(bytes));
+    }
+
+    private static QuarantineState fromBytes(final byte[] bytes) {
+        if (bytes.length != SERIALIZED_BYTES) {
+            throw new SerializationException("Quarantine state must have " + SERIALIZED_BYTES + " bytes but has "
+                    + bytes.length);
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new QuarantineState(buffer.getInt(), buffer.getLong(), buffer.getLong());
+    }
+
+    boolean isQuarantined(final long nowMs) {
+        return this.quarantinedUntilMs != NOT_QUARANTINED && nowMs < this.quarantinedUntilMs;
+    }
+
+    /**
+     * Check if the state can be removed because neither the quarantine nor the failure window is active anymore
+     *
+     * @param nowMs current time
+     * @param failureWindowMs window in which failures are counted
+     * @return whether the state is expired
+     */
+    boolean isExpired(final long nowMs, final long failureWindowMs) {
+        return !this.isQuarantined(nowMs) && nowMs - this.windowStartMs > failureWindowMs;
+    }
+
+    /**
+     * Get the time from which the state is expired
+     *
+     * @param failureWindowMs window in which failures are counted
+     * @return first time for which {@link #isExpired(long, long)} is true
+     */
+    long getExpiryMs(final long failureWindowMs) {
+        return Math.max(this.quarantinedUntilMs, this.windowStartMs + failureWindowMs + 1L);
+    }
+
+    private byte[] toBytes() {
+        return ByteBuffer.allocate(SERIALIZED_BYTES)
+                .putInt(this.failures)
+                .putLong(this.windowStartMs)
+                .putLong(this.quarantinedUntilMs)
+                .array();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+/**
+ * Processor created by {@link ErrorQuarantine#captureErrors(ValueMapperWithKey, Predicate)}
+ *
+ * @param <K> type of keys
+ * @param <V> type of input values
+ * @param <VR> type of output values
+ */
+@RequiredArgsConstructor
+final class QuarantiningValueProcessor<K, V, VR> implements FixedKeyProcessor<K, V, ProcessedValue<V, VR>> {
+    private static final byte[] INDEXED = new byte[0];
+    private final @NonNull ErrorQuarantine<K> quarantine;
+    private final @NonNull ValueMapperWithKey<? super K, ? super V, ? extends VR> wrapped;
+    private final @NonNull Predicate<Exception> errorFilter;
+    private FixedKeyProcessorContext<K, ProcessedValue<V, VR>> context;
+    private KeyValueStore<K, QuarantineState> store;
+    private KeyValueStore<Bytes, byte[]> expiryStore;
+    private KeyBloomFilter quarantinedKeys;
+    // latest end of the quarantines in the Bloom filter
+    private long quarantineEndMs = Long.MIN_VALUE;
+
+    private static Bytes expiryKey(final long expiryMs, final byte[] key) {
+        // big-endian timestamps sort chronologically because they are not negative
+        return Bytes.wrap(ByteBuffer.allocate(Long.BYTES + key.length)
+                .putLong(expiryMs)
+                .put(key)
+                .array());
+    }
+
+    private static byte[] keyOf(final Bytes expiryKey) {
+        final byte[] bytes = expiryKey.get();
+        return Arrays.copyOfRange(bytes, Long.BYTES, bytes.length);
+    }
+
+    @Override
+    public void init(final FixedKeyProcessorContext<K, ProcessedValue<V, VR>> context) {
+        this.context = context;
+        this.store = context.getStateStore(this.quarantine.getStoreName());
+        this.expiryStore = context.getStateStore(this.quarantine.getExpiryStoreName());
+        this.quarantinedKeys = KeyBloomFilter.create(this.quarantine.getExpectedKeys());
+        final long now = context.currentSystemTimeMs();
+        try (final KeyValueIterator<K, QuarantineState> iterator = this.store.all()) {
+            iterator.forEachRemaining(entry -> {
+                if (entry.value.isQuarantined(now)) {
+                    this.addQuarantined(this.quarantine.serializeKey(entry.key), entry.value);
+                }
+            });
+        }
+        this.sweep(now);
+        context.schedule(this.quarantine.getSweepInterval(), PunctuationType.WALL_CLOCK_TIME, this::sweep);
+    }
+
+    @Override
+    public void process(final FixedKeyRecord<K, V> inputRecord) {
+        final K key = inputRecord.key();
+        final V value = inputRecord.value();
+        final long now = this.context.currentSystemTimeMs();
+        if (this.isQuarantined(key, now)) {
+            this.context.forward(inputRecord.withValue(ErrorValue.of(value, new QuarantinedException())));
+            return;
+        }
+        final ProcessedValue<V, VR> processedValue;
+        try {
+            final VR newValue = this.wrapped.apply(key, value);
+            processedValue = SuccessValue.of(newValue);
+        } catch (final Exception e) {
+            if (this.errorFilter.test(e)) {
+                throw e;
+            }
+            this.recordFailure(key, now);
+            processedValue = ErrorValue.of(value, e);
+        }
+        this.context.forward(inputRecord.withValue(processedValue));
+    }
+
+    private boolean isQuarantined(final K key, final long now) {
+        // keys are only serialized if a quarantine is active. The Bloom filter then avoids store lookups for keys
+        // that have never been quarantined
+        if (key == null || now >= this.quarantineEndMs
+                || !this.quarantinedKeys.mightContain(this.quarantine.serializeKey(key))) {
+            return false;
+        }
+        final QuarantineState state = this.store.get(key);
+        return state != null && state.isQuarantined(now);
+    }
+
+    private void recordFailure(final K key, final long now) {
+        if (key == null) {
+            return;
+        }
+        final long failureWindowMs = this.quarantine.getFailureWindowMs();
+        final QuarantineState previous = this.store.get(key);
+        final QuarantineState state = QuarantineState.fail(previous, now, failureWindowMs,
+                this.quarantine.getMaxFailures(), this.quarantine.getTtlMs());
+        final byte[] serializedKey = this.quarantine.serializeKey(key);
+        if (previous != null) {
+            this.expiryStore.delete(expiryKey(previous.getExpiryMs(failureWindowMs), serializedKey));
+        }
+        this.expiryStore.put(expiryKey(state.getExpiryMs(failureWindowMs), serializedKey), INDEXED);
+        if (state.isQuarantined(now)) {
+            this.addQuarantined(serializedKey, state);
+        }
+        this.store.put(key, state);
+    }
+
+    private void addQuarantined(final byte[] serializedKey, final QuarantineState state) {
+        this.quarantinedKeys.add(serializedKey);
+        this.quarantineEndMs = Math.max(this.quarantineEndMs, state.getQuarantinedUntilMs());
+    }
+
+    private void sweep(final long now) {
+        if (now >= this.quarantineEndMs) {
+            // keys cannot be removed from a Bloom filter, so it is cleared once all quarantines have ended
+            this.quarantinedKeys.clear();
+        }
+        final List<Bytes> expired = new ArrayList<>();
+        // only keys whose failures expired before now are read
+        try (final KeyValueIterator<Bytes, byte[]> iterator =
+                this.expiryStore.range(null, expiryKey(now, new byte[0]))) {
+            iterator.forEachRemaining(entry -> expired.add(entry.key));
+        }
+        // delete after closing the iterator to not modify the store while iterating
+        final long failureWindowMs = this.quarantine.getFailureWindowMs();
+        for (final Bytes expiryKey : expired) {
+            this.expiryStore.delete(expiryKey);
+            final K key = this.quarantine.deserializeKey(keyOf(expiryKey));
+            final QuarantineState state = this.store.get(key);
+            // the index is not updated if keys are released
+            if (state != null && state.isExpired(now, failureWindowMs)) {
+                this.store.delete(key);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.DeadLetterPayloadEncoder.HEADER_KEY_PREFIX;
+import static com.bakdata.kafka.DeadLetterPayloadEncoder.HEADER_VALUE_PREFIX;
+import static com.bakdata.kafka.FilteringProcessingExceptionHandler.HEADER_ERRORS_PROCESSOR_NODE_ID_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_EXCEPTION_MESSAGE_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_EXCEPTION_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_OFFSET_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_PARTITION_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_STACKTRACE_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_TOPIC_NAME;
+
+import java.nio.charset.StandardCharsets;
+import lombok.NoArgsConstructor;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.streams.processor.api.Record;
+
+/**
+ * Read the raw dead letter queue records produced by {@link FilteringProcessingExceptionHandler},
+ * {@link FilteringDeserializationExceptionHandler}, and {@link FilteringProductionExceptionHandler} if no dead letter
+ * converter is configured. The record key and value are the raw input key and value and are replayed as is. Payloads
+ * compressed using {@link FilteringProcessingExceptionHandlerConfig#DEAD_LETTER_COMPRESSION_CONFIG} are decompressed.
+ * Truncated payloads cannot be restored and are not replayed. The error is described by the record headers and the
+ * description is the processor node id.
+ * <pre>{@code
+ * final Topology topology = DeadLetterReplayTopology.<byte[]>builder()
+ *         .deadLetterTopic(DEAD_LETTER_QUEUE_TOPIC)
+ *         .deadLetterDeserializer(new ByteArrayDeserializer())
+ *         .reader(new RawDeadLetterReader())
+ *         .build()
+ *         .createTopology();
+ * }
+ * </pre>
+ */
+@NoArgsConstructor
+public final class RawDeadLetterReader implements DeadLetterReader<byte[]> {
+
+    private static String getHeader(final Headers headers, final String key) {
+        final Header header = headers.lastHeader(key);
+        return header == null || header.value() == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static Integer getIntHeader(final Headers headers, final String key) {
+        final String value = getHeader(headers, key);
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private static Long getLongHeader(final Headers headers, final String key) {
+        final String value = getHeader(headers, key);
+        return value == null ? null : Long.valueOf(value);
+    }
+
+    /**
+     * Raw dead letters are described by their headers and can only be read using {@link #read(Record)}
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public DeadLetterDescription read(final byte[] deadLetter) {
+        throw new UnsupportedOperationException("Raw dead letters can only be read with their headers");
+    }
+
+    @Override
+    public DeadLetterDescription read(final Record<byte[], byte[]> deadLetterRecord) {
+        final Headers headers = deadLetterRecord.headers();
+        final byte[] key = deadLetterRecord.key();
+        final byte[] inputKey = DeadLetterPayloadEncoder.decode(key, headers, HEADER_KEY_PREFIX);
+        // inputs whose key has been truncated cannot be replayed
+        final byte[] input = key != null && inputKey == null ? null
+                : DeadLetterPayloadEncoder.decode(deadLetterRecord.value(), headers, HEADER_VALUE_PREFIX);
+        final String processorNodeId = getHeader(headers, HEADER_ERRORS_PROCESSOR_NODE_ID_NAME);
+        return DeadLetterDescription.builder()
+                .description(processorNodeId == null ? ProcessorDescriptions.UNKNOWN_NODE_DESCRIPTION : processorNodeId)
+                .cause(DeadLetterDescription.Cause.builder()
+                        .errorClass(getHeader(headers, HEADER_ERRORS_EXCEPTION_NAME))
+                        .message(getHeader(headers, HEADER_ERRORS_EXCEPTION_MESSAGE_NAME))
+                        .stackTrace(getHeader(headers, HEADER_ERRORS_STACKTRACE_NAME))
+                        .build())
+                .topic(getHeader(headers, HEADER_ERRORS_TOPIC_NAME))
+                .partition(getIntHeader(headers, HEADER_ERRORS_PARTITION_NAME))
+                .offset(getLongHeader(headers, HEADER_ERRORS_OFFSET_NAME))
+                .inputKey(inputKey)
+                .input(input)
+                .build();
+    }
+}
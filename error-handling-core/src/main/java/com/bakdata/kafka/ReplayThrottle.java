@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import org.apache.kafka.common.utils.Time;
+
+/**
+ * Paces replayed records so that at most a fixed number of records per second is produced. In contrast to
+ * {@link DeadLetterRateLimiter}, records are not dropped but delayed. Credit is not accumulated while idle, so there
+ * are no bursts after a pause.
+ * <p>Waiting blocks the stream thread. The records of a poll therefore take at least
+ * {@code max.poll.records / maxPerSecond} seconds and {@code max.poll.records} needs to be configured so that this
+ * does not exceed {@code max.poll.interval.ms}.
+ */
+final class ReplayThrottle {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MS = 1_000_000L;
+    private final long intervalNanos;
+    private final Time time;
+    private long nextNanos;
+
+    ReplayThrottle(final long maxPerSecond, final Time time) {
+        if (maxPerSecond <= 0L) {
+            throw new IllegalArgumentException("Maximum records per second must be positive: " + maxPerSecond);
+        }
+        this.intervalNanos = NANOS_PER_SECOND / maxPerSecond;
+        this.time = time;
+        this.nextNanos = time.nanoseconds();
+    }
+
+    /**
+     * Acquire a permit for producing a record. Blocks until the record may be produced. Waits shorter than one
+     * millisecond are carried over to the next record.
+     */
+    void acquire() {
+        final long now = this.time.nanoseconds();
+        if (this.nextNanos < now) {
+            this.nextNanos = now;
+        }
+        final long waitNanos = this.nextNanos - now;
+        this.nextNanos += this.intervalNanos;
+        if (waitNanos >= NANOS_PER_MS) {
+            this.time.sleep(waitNanos / NANOS_PER_MS);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.function.Predicate;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.streams.kstream.ValueMapper;
+
+/**
+ * Wrap a {@code ValueMapper} that returns {@link ProcessedValue} and capture thrown exceptions. The wrapped mapper
+ * signals expected failures using {@link ProcessedValue#failure(Object, String)} without throwing an exception.
+ *
+ * @param <V> type of input values
+ * @param <VR> type of output values
+ * @see #captureErrors(ValueMapper)
+ * @see #captureErrors(ValueMapper, Predicate)
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ResultCapturingValueMapper<V, VR> implements ValueMapper<V, ProcessedValue<V, VR>> {
+    private final @NonNull ValueMapper<? super V, ? extends ProcessedValue<V, VR>> wrapped;
+    private final @NonNull Predicate<Exception> errorFilter;
+
+    /**
+     * Wrap a {@code ValueMapper} that returns {@link ProcessedValue} and capture thrown exceptions. Recoverable Kafka
+     * exceptions such as a schema registry timeout are forwarded and not captured.
+     *
+     * @param mapper {@code ValueMapper} whose results and exceptions should be captured
+     * @param <V> type of input values
+     * @param <VR> type of output values
+     * @return {@code ValueMapper}
+     * @see #captureErrors(ValueMapper, Predicate)
+     * @see ErrorUtil#isRecoverable(Exception)
+     */
+    public static <V, VR> ValueMapper<V, ProcessedValue<V, VR>> captureErrors(
+            final @NonNull ValueMapper<? super V, ? extends ProcessedValue<V, VR>> mapper) {
+        return captureErrors(mapper, ErrorUtil::isRecoverable);
+    }
+
+    /**
+     * Wrap a {@code ValueMapper} that returns {@link ProcessedValue} and capture thrown exceptions.
+     * <pre>{@code
+     * final ValueMapper<V, ProcessedValue<V, VR>> mapper = value -> isValid(value)
+     *         ? ProcessedValue.success(convert(value))
+     *         : ProcessedValue.failure(value, "Invalid value");
+     * final KStream<K, V> input = ...;
+     * final KStream<K, ProcessedValue<V, VR>> processed = input.mapValues(captureErrors(mapper));
+     * final KStream<K, VR> output = processed.flatMapValues(ProcessedValue::getValues);
+     * final KStream<K, ProcessingError<V>> errors = processed.flatMapValues(ProcessedValue::getErrors);
+     * }
+     * </pre>
+     *
+     * @param mapper {@code ValueMapper} whose results and exceptions should be captured
+     * @param errorFilter expression that filters errors which should be thrown and not captured
+     * @param <V> type of input values
+     * @param <VR> type of output values
+     * @return {@code ValueMapper}
+     */
+    public static <V, VR> ValueMapper<V, ProcessedValue<V, VR>> captureErrors(
+            final @NonNull ValueMapper<? super V, ? extends ProcessedValue<V, VR>> mapper,
+            final @NonNull Predicate<Exception> errorFilter) {
+        return new ResultCapturingValueMapper<>(mapper, errorFilter);
+    }
+
+    @Override
+    public ProcessedValue<V, VR> apply(final V value) {
+        try {
+            return this.wrapped.apply(value);
+        } catch (final Exception e) {
+            if (this.errorFilter.test(e)) {
+                throw e;
+            }
+            return ErrorValue.of(value, e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.streams.processor.StateStore;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.TimestampedKeyValueStore;
+
+/**
+ * Log of the previous values of all keys written to {@link UndoLoggingKeyValueStore stores} while processing a single
+ * record. If processing fails, the writes are undone in reverse order. The log is reused for every record and only
+ * allocates if it needs to grow.
+ */
+final class StoreUndoLog {
+    private final List<UndoLoggingKeyValueStore<?, ?>> stores = new ArrayList<>();
+    private final List<Object> keys = new ArrayList<>();
+    private final List<Object> previousValues = new ArrayList<>();
+    private boolean active;
+
+    /**
+     * Wrap a store so that its writes are logged. Only {@link KeyValueStore key-value stores} are supported, other
+     * stores are returned as they are.
+     *
+     * @param store store to wrap
+     * @param <S> type of store
+     * @return wrapped store
+     */
+    @SuppressWarnings("unchecked")
+    <S extends StateStore> S wrap(final S store) {
+        if (store instanceof TimestampedKeyValueStore) {
+            return (S) new UndoLoggingTimestampedKeyValueStore<>((TimestampedKeyValueStore<?, ?>) store, this);
+        }
+        if (store instanceof KeyValueStore) {
+            return (S) new UndoLoggingKeyValueStore<>((KeyValueStore<?, ?>) store, this);
+        }
+        return store;
+    }
+
+    /**
+     * Start logging writes. Entries of previous records are discarded.
+     */
+    void begin() {
+        this.clear();
+        this.active = true;
+    }
+
+    boolean isActive() {
+        return this.active;
+    }
+
+    <K, V> void log(final UndoLoggingKeyValueStore<K, V> store, final K key, final V previousValue) {
+        this.stores.add(store);
+        this.keys.add(key);
+        this.previousValues.add(previousValue);
+    }
+
+    /**
+     * Keep all logged writes and stop logging
+     */
+    void commit() {
+        this.active = false;
+        this.clear();
+    }
+
+    /**
+     * Undo all logged writes in reverse order and stop logging
+     */
+    void rollback() {
+        this.active = false;
+        for (int i = this.stores.size() - 1; i >= 0; i--) {
+            this.stores.get(i).undo(this.keys.get(i), this.previousValues.get(i));
+        }
+        this.clear();
+    }
+
+    private void clear() {
+        this.stores.clear();
+        this.keys.clear();
+        this.previousValues.clear();
+    }
+}
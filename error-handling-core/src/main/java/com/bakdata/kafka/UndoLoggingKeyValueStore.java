@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.List;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Delegate;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+/**
+ * {@code KeyValueStore} that logs the previous values of written keys in a {@link StoreUndoLog}, so that the writes
+ * can be undone if processing of a record fails. Reads are passed to the wrapped store and see all writes of the
+ * current record.
+ *
+ * @param <K> type of keys
+ * @param <V> type of values
+ */
+@RequiredArgsConstructor
+class UndoLoggingKeyValueStore<K, V> implements KeyValueStore<K, V> {
+    @Delegate(excludes = Writes.class)
+    private final @NonNull KeyValueStore<K, V> wrapped;
+    private final @NonNull StoreUndoLog undoLog;
+
+    @Override
+    public void put(final K key, final V value) {
+        this.logPreviousValue(key);
+        this.wrapped.put(key, value);
+    }
+
+    @Override
+    public V putIfAbsent(final K key, final V value) {
+        final V previousValue = this.wrapped.putIfAbsent(key, value);
+        if (previousValue == null && this.undoLog.isActive()) {
+            this.undoLog.log(this, key, null);
+        }
+        return previousValue;
+    }
+
+    @Override
+    public void putAll(final List<KeyValue<K, V>> entries) {
+        for (final KeyValue<K, V> entry : entries) {
+            this.logPreviousValue(entry.key);
+        }
+        this.wrapped.putAll(entries);
+    }
+
+    @Override
+    public V delete(final K key) {
+        final V previousValue = this.wrapped.delete(key);
+        if (previousValue != null && this.undoLog.isActive()) {
+            this.undoLog.log(this, key, previousValue);
+        }
+        return previousValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    void undo(final Object key, final Object previousValue) {
+        if (previousValue == null) {
+            this.wrapped.delete((K) key);
+        } else {
+            this.wrapped.put((K) key, (V) previousValue);
+        }
+    }
+
+    private void logPreviousValue(final K key) {
+        if (this.undoLog.isActive()) {
+            this.undoLog.log(this, key, this.wrapped.get(key));
+        }
+    }
+
+    private interface Writes<K, V> {
+        void put(K key, V value);
+
+        V putIfAbsent(K key, V value);
+
+        void putAll(List<KeyValue<K, V>> entries);
+
+        V delete(K key);
+    }
+}
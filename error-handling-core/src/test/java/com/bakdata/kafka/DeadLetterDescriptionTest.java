@@ -1,9 +1,11 @@
 package com.bakdata.kafka;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatCode;
 
 import com.bakdata.kafka.DeadLetterDescription.Cause;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 
 class DeadLetterDescriptionTest {
@@ -42,4 +44,28 @@ class DeadLetterDescriptionTest {
                 .build()).doesNotThrowAnyException();
     }
 
+    @Test
+    void shouldCreateCauseChain() {
+        final Cause cause = Cause.of(new RuntimeException("outer", new IllegalStateException("inner")));
+        assertThat(cause.getErrorClass()).isEqualTo(RuntimeException.class.getName());
+        assertThat(cause.getStackTrace()).contains("inner");
+        assertThat(cause.getCause().getErrorClass()).isEqualTo(IllegalStateException.class.getName());
+        assertThat(cause.getCause().getMessage()).isEqualTo("inner");
+        assertThat(cause.getCause().getStackTrace()).isNull();
+        assertThat(cause.getCause().getCause()).isNull();
+    }
+
+    @Test
+    void shouldNotSerializeMissingNestedCause() {
+        final DeadLetterDescription deadLetter = DeadLetterDescription.builder()
+                .description("foo")
+                .cause(Cause.of(new RuntimeException("outer", new IllegalStateException("inner"))))
+                .build();
+        final String json = new String(new TestDeadLetterSerde().serializer().serialize("topic", deadLetter),
+                StandardCharsets.UTF_8);
+        assertThat(json).doesNotContain("\"cause\":null");
+        assertThat(new TestDeadLetterSerde().deserializer().deserialize("topic",
+                json.getBytes(StandardCharsets.UTF_8))).isEqualTo(deadLetter);
+    }
+
 }
@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.streams.KafkaStreams;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.query.Query;
+import org.apache.kafka.streams.query.QueryResult;
+import org.apache.kafka.streams.query.StateQueryRequest;
+import org.apache.kafka.streams.query.StateQueryResult;
+import org.apache.kafka.streams.query.WindowKeyQuery;
+import org.apache.kafka.streams.query.WindowRangeQuery;
+import org.apache.kafka.streams.state.WindowStore;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(SoftAssertionsExtension.class)
+class DeadLetterIndexTopologyTest {
+    private static final String ERROR_TOPIC = "errors";
+    private static final String INPUT_TOPIC = "input";
+    private static final String OTHER_INPUT_TOPIC = "other-input";
+    private static final Instant ERROR_TIME = Instant.ofEpochMilli(10_000L);
+    private static final TestDeadLetterSerde DEAD_LETTER_SERDE = new TestDeadLetterSerde();
+    private static final DeadLetterDescription NPE_IN_INPUT =
+            deadLetter("npe", NullPointerException.class, INPUT_TOPIC);
+    private static final DeadLetterDescription NPE_IN_OTHER_INPUT =
+            deadLetter("npe", NullPointerException.class, OTHER_INPUT_TOPIC);
+    private static final DeadLetterDescription ISE_IN_INPUT =
+            deadLetter("ise", IllegalStateException.class, INPUT_TOPIC);
+    private static final DeadLetterDescription WITHOUT_TOPIC = deadLetter("ise", IllegalStateException.class, null);
+    private final DeadLetterIndexTopology<DeadLetterDescription> index =
+            DeadLetterIndexTopology.<DeadLetterDescription>builder()
+                    .deadLetterTopic(ERROR_TOPIC)
+                    .deadLetterDeserializer(DEAD_LETTER_SERDE.deserializer())
+                    .reader(deadLetter -> deadLetter)
+                    .build();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    @Mock
+    private KafkaStreams streams;
+    private TopologyTestDriver driver = null;
+
+    private static DeadLetterDescription deadLetter(final String description, final Class<?> errorClass,
+            final String topic) {
+        return DeadLetterDescription.builder()
+                .description(description)
+                .cause(DeadLetterDescription.Cause.builder()
+                        .errorClass(errorClass.getName())
+                        .build())
+                .inputValue("value")
+                .topic(topic)
+                .build();
+    }
+
+    @BeforeEach
+    void setUp() {
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "index");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(this.index.createTopology(), properties);
+        final TestInputTopic<byte[], DeadLetterDescription> errors =
+                this.driver.createInputTopic(ERROR_TOPIC, new ByteArraySerializer(), DEAD_LETTER_SERDE.serializer());
+        errors.pipeInput(null, NPE_IN_INPUT, ERROR_TIME);
+        errors.pipeInput(null, NPE_IN_OTHER_INPUT, ERROR_TIME.plusSeconds(1L));
+        errors.pipeInput(null, ISE_IN_INPUT, ERROR_TIME.plusSeconds(2L));
+        errors.pipeInput(null, WITHOUT_TOPIC, ERROR_TIME.plusSeconds(3L));
+        when(this.streams.query(any())).thenAnswer(invocation -> this.query(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    // TopologyTestDriver does not support interactive queries, so run them against its stores
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private StateQueryResult<?> query(final StateQueryRequest<?> request) {
+        final WindowStore<String, byte[]> store = this.driver.getWindowStore(request.getStoreName());
+        final Query<?> query = request.getQuery();
+        final QueryResult result;
+        if (query instanceof WindowKeyQuery) {
+            final WindowKeyQuery<String, byte[]> keyQuery = (WindowKeyQuery<String, byte[]>) query;
+            result = QueryResult.forResult(store.fetch(keyQuery.getKey(), keyQuery.getTimeFrom().orElseThrow(),
+                    keyQuery.getTimeTo().orElseThrow()));
+        } else {
+            final WindowRangeQuery<String, byte[]> rangeQuery = (WindowRangeQuery<String, byte[]>) query;
+            result = QueryResult.forResult(store.fetchAll(rangeQuery.getTimeFrom().orElseThrow(),
+                    rangeQuery.getTimeTo().orElseThrow()));
+        }
+        final StateQueryResult stateQueryResult = new StateQueryResult<>();
+        stateQueryResult.addResult(0, result);
+        return stateQueryResult;
+    }
+
+    @Test
+    void shouldQueryByErrorClass() {
+        final List<DeadLetterDescription> deadLetters = this.index.query(this.streams, DeadLetterIndexQuery.builder()
+                .errorClass(NullPointerException.class.getName())
+                .build());
+        this.softly.assertThat(deadLetters).containsExactly(NPE_IN_INPUT, NPE_IN_OTHER_INPUT);
+    }
+
+    @Test
+    void shouldQueryByErrorClassAndTopic() {
+        final List<DeadLetterDescription> deadLetters = this.index.query(this.streams, DeadLetterIndexQuery.builder()
+                .errorClass(NullPointerException.class.getName())
+                .topic(OTHER_INPUT_TOPIC)
+                .build());
+        this.softly.assertThat(deadLetters).containsExactly(NPE_IN_OTHER_INPUT);
+    }
+
+    @Test
+    void shouldQueryByTopicInTimeRange() {
+        final List<DeadLetterDescription> deadLetters = this.index.query(this.streams, DeadLetterIndexQuery.builder()
+                .topic(INPUT_TOPIC)
+                .from(ERROR_TIME.plusSeconds(1L))
+                .build());
+        this.softly.assertThat(deadLetters).containsExactly(ISE_IN_INPUT);
+    }
+
+    @Test
+    void shouldQueryByDescription() {
+        final List<DeadLetterDescription> deadLetters = this.index.query(this.streams, DeadLetterIndexQuery.builder()
+                .description("ise")
+                .build());
+        this.softly.assertThat(deadLetters).containsExactly(ISE_IN_INPUT, WITHOUT_TOPIC);
+    }
+
+    @Test
+    void shouldQueryByTimeRange() {
+        final List<DeadLetterDescription> deadLetters = this.index.query(this.streams, DeadLetterIndexQuery.builder()
+                .from(ERROR_TIME.plusSeconds(1L))
+                .to(ERROR_TIME.plusSeconds(3L))
+                .build());
+        this.softly.assertThat(deadLetters).containsExactly(NPE_IN_OTHER_INPUT, ISE_IN_INPUT, WITHOUT_TOPIC);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Instant;
+import org.apache.kafka.common.errors.SerializationException;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class DeadLetterKeyTest {
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldBeDeterministic() {
+        this.softly.assertThat(DeadLetterKey.of("topic", 1, 2L, "description"))
+                .isEqualTo(DeadLetterKey.of("topic", 1, 2L, "description"))
+                .hasSameHashCodeAs(DeadLetterKey.of("topic", 1, 2L, "description"));
+    }
+
+    @Test
+    void shouldDifferForDifferentInputs() {
+        final DeadLetterKey key = DeadLetterKey.of("topic", 1, 2L, "description");
+        this.softly.assertThat(DeadLetterKey.of("other", 1, 2L, "description")).isNotEqualTo(key);
+        this.softly.assertThat(DeadLetterKey.of("topic", 2, 2L, "description")).isNotEqualTo(key);
+        this.softly.assertThat(DeadLetterKey.of("topic", 1, 3L, "description")).isNotEqualTo(key);
+        this.softly.assertThat(DeadLetterKey.of("topic", 1, 2L, "other")).isNotEqualTo(key);
+        this.softly.assertThat(DeadLetterKey.of(null, null, null, "description")).isNotEqualTo(key);
+        // fields are length-prefixed, so moving characters between fields changes the key
+        this.softly.assertThat(DeadLetterKey.of("ab", null, null, "c"))
+                .isNotEqualTo(DeadLetterKey.of("a", null, null, "bc"));
+    }
+
+    @Test
+    void shouldDistinguishInputsWithoutTopic() {
+        final DeadLetterDescription.Cause cause = DeadLetterDescription.Cause.of(new IllegalStateException("foo"));
+        final Instant timestamp = Instant.ofEpochMilli(1L);
+        final DeadLetterKey key = DeadLetterKey.of(null, null, null, "description", timestamp, cause);
+        this.softly.assertThat(DeadLetterKey.of(null, null, null, "description", timestamp, cause)).isEqualTo(key);
+        this.softly.assertThat(DeadLetterKey.of(null, null, null, "description", Instant.ofEpochMilli(2L), cause))
+                .isNotEqualTo(key);
+        this.softly.assertThat(DeadLetterKey.of(null, null, null, "description", timestamp,
+                        DeadLetterDescription.Cause.of(new IllegalStateException("bar"))))
+                .isNotEqualTo(key);
+        // keys of inputs with a topic do not depend on timestamp and cause
+        this.softly.assertThat(DeadLetterKey.of("topic", 1, 2L, "description", timestamp, cause))
+                .isEqualTo(DeadLetterKey.of("topic", 1, 2L, "description"));
+    }
+
+    @Test
+    void shouldRoundTrip() {
+        final DeadLetterKey key = DeadLetterKey.of("topic", 1, 2L, "description");
+        final byte[] bytes = new DeadLetterKeySerde().serializer().serialize("errors", key);
+        this.softly.assertThat(bytes).hasSize(DeadLetterKey.SERIALIZED_BYTES);
+        this.softly.assertThat(new DeadLetterKeySerde().deserializer().deserialize("errors", bytes)).isEqualTo(key);
+        this.softly.assertThat(key.toString()).hasSize(2 * DeadLetterKey.HASH_BYTES).matches("[0-9a-f]+");
+    }
+
+    @Test
+    void shouldRejectInvalidKeys() {
+        this.softly.assertThatThrownBy(() -> DeadLetterKey.fromBytes(new byte[]{1, 2, 3}))
+                .isInstanceOf(SerializationException.class);
+        final byte[] wrongVersion = DeadLetterKey.of("topic", 1, 2L, "description").toBytes();
+        wrongVersion[0] = 0;
+        this.softly.assertThatThrownBy(() -> DeadLetterKey.fromBytes(wrongVersion))
+                .isInstanceOf(SerializationException.class);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.DeadLetterPayloadEncoder.HEADER_VALUE_PREFIX;
+
+import com.github.luben.zstd.ZstdInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class DeadLetterPayloadEncoderTest {
+    private static final byte[] PAYLOAD = "foo".repeat(100).getBytes(StandardCharsets.UTF_8);
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    private static InputStream decompressing(final DeadLetterCompression compression, final byte[] compressed)
+            throws IOException {
+        final InputStream in = new ByteArrayInputStream(compressed);
+        switch (compression) {
+            case GZIP:
+                return new GZIPInputStream(in);
+            case ZSTD:
+                return new ZstdInputStream(in);
+            case LZ4:
+                return new LZ4FrameInputStream(in);
+            default:
+                return in;
+        }
+    }
+
+    private static byte[] decompress(final DeadLetterCompression compression, final byte[] compressed)
+            throws IOException {
+        try (final InputStream in = decompressing(compression, compressed)) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static String lastHeader(final Headers headers, final String key) {
+        final Header header = headers.lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldNotEncodeSmallPayloads() {
+        final DeadLetterPayloadEncoder encoder = new DeadLetterPayloadEncoder(DeadLetterCompression.NONE, 1_000);
+        final Headers headers = new RecordHeaders();
+        this.softly.assertThat(encoder.encode(PAYLOAD, headers, HEADER_VALUE_PREFIX)).isEqualTo(PAYLOAD);
+        this.softly.assertThat(encoder.encode(null, headers, HEADER_VALUE_PREFIX)).isNull();
+        this.softly.assertThat(headers.toArray()).isEmpty();
+    }
+
+    @Test
+    void shouldCompressPayloads() throws IOException {
+        for (final DeadLetterCompression compression : new DeadLetterCompression[]{DeadLetterCompression.GZIP,
+                DeadLetterCompression.ZSTD, DeadLetterCompression.LZ4}) {
+            final DeadLetterPayloadEncoder encoder = new DeadLetterPayloadEncoder(compression, Integer.MAX_VALUE);
+            final Headers headers = new RecordHeaders();
+            final byte[] encoded = encoder.encode(PAYLOAD, headers, HEADER_VALUE_PREFIX);
+            this.softly.assertThat(encoded).as(compression.getName()).hasSizeLessThan(PAYLOAD.length);
+            this.softly.assertThat(decompress(compression, encoded)).as(compression.getName()).isEqualTo(PAYLOAD);
+            this.softly.assertThat(lastHeader(headers, HEADER_VALUE_PREFIX + ".compression"))
+                    .isEqualTo(compression.getName());
+        }
+    }
+
+    @Test
+    void shouldTruncatePayloads() throws NoSuchAlgorithmException {
+        final DeadLetterPayloadEncoder encoder = new DeadLetterPayloadEncoder(DeadLetterCompression.NONE, 10);
+        final Headers headers = new RecordHeaders();
+        this.softly.assertThat(encoder.encode(PAYLOAD, headers, HEADER_VALUE_PREFIX))
+                .isEqualTo(Arrays.copyOf(PAYLOAD, 10));
+        this.softly.assertThat(lastHeader(headers, HEADER_VALUE_PREFIX + ".original.size"))
+                .isEqualTo("300");
+        this.softly.assertThat(headers.lastHeader(HEADER_VALUE_PREFIX + ".sha256").value())
+                .isEqualTo(MessageDigest.getInstance("SHA-256").digest(PAYLOAD));
+        this.softly.assertThat(headers.lastHeader(HEADER_VALUE_PREFIX + ".compression")).isNull();
+    }
+
+    @Test
+    void shouldTruncateIfCompressedPayloadIsTooLarge() {
+        final DeadLetterPayloadEncoder encoder = new DeadLetterPayloadEncoder(DeadLetterCompression.GZIP, 5);
+        final Headers headers = new RecordHeaders();
+        this.softly.assertThat(encoder.encode(PAYLOAD, headers, HEADER_VALUE_PREFIX))
+                .isEqualTo(Arrays.copyOf(PAYLOAD, 5));
+        this.softly.assertThat(headers.lastHeader(HEADER_VALUE_PREFIX + ".compression")).isNull();
+        this.softly.assertThat(lastHeader(headers, HEADER_VALUE_PREFIX + ".original.size"))
+                .isEqualTo("300");
+    }
+
+    @Test
+    void shouldDecodeEncodedPayloads() {
+        for (final DeadLetterCompression compression : DeadLetterCompression.values()) {
+            final DeadLetterPayloadEncoder encoder = new DeadLetterPayloadEncoder(compression, Integer.MAX_VALUE);
+            final Headers headers = new RecordHeaders();
+            final byte[] encoded = encoder.encode(PAYLOAD, headers, HEADER_VALUE_PREFIX);
+            this.softly.assertThat(DeadLetterPayloadEncoder.decode(encoded, headers, HEADER_VALUE_PREFIX))
+                    .as(compression.getName())
+                    .isEqualTo(PAYLOAD);
+        }
+    }
+
+    @Test
+    void shouldNotDecodeTruncatedPayloads() {
+        final DeadLetterPayloadEncoder encoder = new DeadLetterPayloadEncoder(DeadLetterCompression.NONE, 10);
+        final Headers headers = new RecordHeaders();
+        final byte[] encoded = encoder.encode(PAYLOAD, headers, HEADER_VALUE_PREFIX);
+        this.softly.assertThat(DeadLetterPayloadEncoder.decode(encoded, headers, HEADER_VALUE_PREFIX)).isNull();
+        this.softly.assertThat(DeadLetterPayloadEncoder.decode(null, new RecordHeaders(), HEADER_VALUE_PREFIX))
+                .isNull();
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+import java.util.regex.Pattern;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils;
+import org.apache.kafka.streams.test.TestRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class DeadLetterReplayTopologyTest {
+    private static final String ERROR_TOPIC = "errors";
+    private static final String INPUT_TOPIC = "input";
+    private static final String OTHER_INPUT_TOPIC = "other-input";
+    private static final Instant ERROR_TIME = Instant.ofEpochMilli(10_000L);
+    private static final Instant INPUT_TIMESTAMP = Instant.ofEpochMilli(5_000L);
+    private static final TestDeadLetterSerde DEAD_LETTER_SERDE = new TestDeadLetterSerde();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<byte[], DeadLetterDescription> errors = null;
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static DeadLetterDescription.DeadLetterDescriptionBuilder deadLetter(final String topic) {
+        return DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder()
+                        .errorClass(IllegalStateException.class.getName())
+                        .cause(DeadLetterDescription.Cause.builder()
+                                .errorClass(NullPointerException.class.getName())
+                                .build())
+                        .build())
+                .inputValue("value")
+                .topic(topic)
+                .partition(0)
+                .offset(1L)
+                .inputTimestamp(INPUT_TIMESTAMP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private static DeadLetterReplayTopology.DeadLetterReplayTopologyBuilder<DeadLetterDescription> replay(
+            final DeadLetterReader<DeadLetterDescription> reader) {
+        return DeadLetterReplayTopology.<DeadLetterDescription>builder()
+                .deadLetterTopic(ERROR_TOPIC)
+                .deadLetterDeserializer(DEAD_LETTER_SERDE.deserializer())
+                .reader(reader)
+                .maxRecordsPerSecond(1_000L);
+    }
+
+    private static Properties createProperties() {
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "replay");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        return properties;
+    }
+
+    private void createTopology(final DeadLetterReplayTopology<DeadLetterDescription> replay) {
+        this.driver = new TopologyTestDriver(replay.createTopology(), createProperties());
+        this.errors = this.driver.createInputTopic(ERROR_TOPIC, new ByteArraySerializer(),
+                DEAD_LETTER_SERDE.serializer());
+    }
+
+    private void createTopology(final DeadLetterReader<DeadLetterDescription> reader,
+            final DeadLetterReplayFilter filter) {
+        this.createTopology(replay(reader)
+                .filter(filter)
+                .replayInputValue(true)
+                .build());
+    }
+
+    private List<TestRecord<byte[], byte[]>> readReplayed(final String topic) {
+        final TestOutputTopic<byte[], byte[]> output =
+                this.driver.createOutputTopic(topic, new ByteArrayDeserializer(), new ByteArrayDeserializer());
+        return output.readRecordsToList();
+    }
+
+    @Test
+    void shouldReplayToOriginalTopic() {
+        this.createTopology(deadLetter -> deadLetter, DeadLetterReplayFilter.all());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+        this.errors.pipeInput(bytes("other"), deadLetter(OTHER_INPUT_TOPIC).inputValue("other").build(), ERROR_TIME);
+
+        final List<TestRecord<byte[], byte[]>> replayed = this.readReplayed(INPUT_TOPIC);
+        this.softly.assertThat(replayed).hasSize(1);
+        final TestRecord<byte[], byte[]> record = replayed.get(0);
+        this.softly.assertThat(record.key()).isEqualTo(bytes("key"));
+        this.softly.assertThat(record.value()).isEqualTo(bytes("value"));
+        this.softly.assertThat(record.getRecordTime()).isEqualTo(INPUT_TIMESTAMP);
+        this.softly.assertThat(record.headers()).isEmpty();
+        this.softly.assertThat(this.readReplayed(OTHER_INPUT_TOPIC))
+                .extracting(TestRecord::value)
+                .containsExactly(bytes("other"));
+    }
+
+    @Test
+    void shouldReplayRestoredInput() {
+        this.createTopology(deadLetter -> deadLetter(INPUT_TOPIC).input(new byte[]{1, 2, 3}).build(),
+                DeadLetterReplayFilter.all());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+
+        this.softly.assertThat(this.readReplayed(INPUT_TOPIC))
+                .extracting(TestRecord::value)
+                .containsExactly(new byte[]{1, 2, 3});
+    }
+
+    @Test
+    void shouldUseErrorTimeWithoutInputTimestamp() {
+        this.createTopology(deadLetter -> deadLetter, DeadLetterReplayFilter.all());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).inputTimestamp(null).build(), ERROR_TIME);
+
+        this.softly.assertThat(this.readReplayed(INPUT_TOPIC))
+                .extracting(TestRecord::getRecordTime)
+                .containsExactly(ERROR_TIME);
+    }
+
+    @Test
+    void shouldFilterByDescription() {
+        this.createTopology(deadLetter -> deadLetter, DeadLetterReplayFilter.builder()
+                .description(Pattern.compile("desc.*"))
+                .build());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+        this.errors.pipeInput(bytes("other"), deadLetter(INPUT_TOPIC).description("other").build(), ERROR_TIME);
+
+        this.softly.assertThat(this.readReplayed(INPUT_TOPIC))
+                .extracting(TestRecord::key)
+                .containsExactly(bytes("key"));
+    }
+
+    @Test
+    void shouldFilterByNestedErrorClass() {
+        this.createTopology(deadLetter -> deadLetter, DeadLetterReplayFilter.builder()
+                .errorClass(NullPointerException.class.getName())
+                .build());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+        this.errors.pipeInput(bytes("other"), deadLetter(INPUT_TOPIC)
+                .cause(DeadLetterDescription.Cause.builder()
+                        .errorClass(IllegalArgumentException.class.getName())
+                        .build())
+                .build(), ERROR_TIME);
+
+        this.softly.assertThat(this.readReplayed(INPUT_TOPIC))
+                .extracting(TestRecord::key)
+                .containsExactly(bytes("key"));
+    }
+
+    @Test
+    void shouldFilterByTimeRange() {
+        this.createTopology(deadLetter -> deadLetter, DeadLetterReplayFilter.builder()
+                .from(ERROR_TIME)
+                .to(ERROR_TIME.plusSeconds(1L))
+                .build());
+        this.errors.pipeInput(bytes("before"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME.minusMillis(1L));
+        this.errors.pipeInput(bytes("from"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+        this.errors.pipeInput(bytes("to"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME.plusSeconds(1L));
+
+        this.softly.assertThat(this.readReplayed(INPUT_TOPIC))
+                .extracting(TestRecord::key)
+                .containsExactly(bytes("from"));
+    }
+
+    @Test
+    void shouldNotReplayInputValueByDefault() {
+        this.createTopology(replay(deadLetter -> deadLetter).build());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+
+        this.softly.assertThat(this.driver.producedTopicNames()).isEmpty();
+    }
+
+    @Test
+    void shouldEncodeRestoredInput() {
+        final Serializer<Integer> inputSerializer = new IntegerSerializer();
+        this.createTopology(replay(deadLetter -> deadLetter(INPUT_TOPIC).input(42).build())
+                .inputSerializer(inputSerializer)
+                .build());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+
+        this.softly.assertThat(this.readReplayed(INPUT_TOPIC))
+                .extracting(TestRecord::value)
+                .containsExactly(inputSerializer.serialize(INPUT_TOPIC, 42));
+    }
+
+    @Test
+    void shouldSkipRestoredInputWithoutSerializer() {
+        this.createTopology(replay(deadLetter -> deadLetter(INPUT_TOPIC).input(42).build())
+                .replayInputValue(true)
+                .build());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+
+        this.softly.assertThat(this.driver.producedTopicNames()).isEmpty();
+    }
+
+    @Test
+    void shouldReplayRestoredKey() {
+        this.createTopology(deadLetter -> deadLetter(INPUT_TOPIC).inputKey(bytes("restored")).build(),
+                DeadLetterReplayFilter.all());
+        this.errors.pipeInput(bytes("key"), deadLetter(INPUT_TOPIC).build(), ERROR_TIME);
+
+        this.softly.assertThat(this.readReplayed(INPUT_TOPIC))
+                .extracting(TestRecord::key)
+                .containsExactly(bytes("restored"));
+    }
+
+    @Test
+    void shouldReplayRawDeadLetters() {
+        this.driver = new TopologyTestDriver(DeadLetterReplayTopology.<byte[]>builder()
+                .deadLetterTopic(ERROR_TOPIC)
+                .deadLetterDeserializer(new ByteArrayDeserializer())
+                .reader(new RawDeadLetterReader())
+                .build()
+                .createTopology(), createProperties());
+        final Headers headers = new RecordHeaders();
+        headers.add(ExceptionHandlerUtils.HEADER_ERRORS_TOPIC_NAME, bytes(INPUT_TOPIC));
+        final byte[] value = new DeadLetterPayloadEncoder(DeadLetterCompression.GZIP, Integer.MAX_VALUE)
+                .encode(bytes("value".repeat(100)), headers, DeadLetterPayloadEncoder.HEADER_VALUE_PREFIX);
+        this.driver.createInputTopic(ERROR_TOPIC, new ByteArraySerializer(), new ByteArraySerializer())
+                .pipeInput(new TestRecord<>(bytes("key"), value, headers, ERROR_TIME));
+
+        final List<TestRecord<byte[], byte[]>> replayed = this.readReplayed(INPUT_TOPIC);
+        this.softly.assertThat(replayed)
+                .extracting(TestRecord::key)
+                .containsExactly(bytes("key"));
+        this.softly.assertThat(replayed)
+                .extracting(TestRecord::value)
+                .containsExactly(bytes("value".repeat(100)));
+    }
+
+    @Test
+    void shouldRefuseHashKeyedDeadLetters() {
+        final DeadLetterReplayTopology<DeadLetterDescription> replay = replay(deadLetter -> deadLetter)
+                .keyStrategy(DeadLetterKeyStrategy.HASH)
+                .build();
+
+        this.softly.assertThatThrownBy(replay::createTopology)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("HASH");
+    }
+
+    @Test
+    void shouldSkipDeadLettersWithoutTopic() {
+        this.createTopology(deadLetter -> deadLetter, DeadLetterReplayFilter.all());
+        this.errors.pipeInput(bytes("key"), deadLetter(null).build(), ERROR_TIME);
+        this.errors.pipeInput(bytes("null"), null, ERROR_TIME);
+
+        this.softly.assertThat(this.driver.producedTopicNames()).isEmpty();
+    }
+}
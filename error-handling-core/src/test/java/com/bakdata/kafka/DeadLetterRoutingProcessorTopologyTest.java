@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+import org.apache.kafka.common.serialization.IntegerDeserializer;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.KeyValueMapper;
+import org.apache.kafka.streams.processor.api.ProcessorSupplier;
+import org.apache.kafka.streams.test.TestRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class DeadLetterRoutingProcessorTopologyTest {
+    private static final String INPUT_TOPIC = "input";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String ERROR_TOPIC = "errors";
+    private static final RuntimeException RECOVERABLE_EXCEPTION = ErrorCaptureTopologyTest.createRecoverableException();
+    private static final KeyValueMapper<Integer, String, KeyValue<Integer, Long>> MAPPER = (key, value) -> {
+        if ("foo".equals(value)) {
+            throw new IllegalArgumentException("Cannot process");
+        }
+        if ("recoverable".equals(value)) {
+            throw RECOVERABLE_EXCEPTION;
+        }
+        return KeyValue.pair(key + 1, (long) value.length());
+    };
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<Integer, String> input = null;
+
+    private static DeadLetterRouting<DeadLetterDescription> routing() {
+        return DeadLetterRouting.<DeadLetterDescription>builder()
+                .description("Description")
+                .converter(deadLetterDescription -> deadLetterDescription)
+                .outputChild("output")
+                .deadLetterChild("dead-letters")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private void createTopology(final ProcessorSupplier<Integer, String, Object, Object> processor) {
+        final Topology topology = new Topology();
+        topology.addSource("input", new IntegerDeserializer(), new StringDeserializer(), INPUT_TOPIC);
+        topology.addProcessor("process", processor, "input");
+        topology.addSink("output", OUTPUT_TOPIC, new IntegerSerializer(), new LongSerializer(), "process");
+        topology.addSink("dead-letters", ERROR_TOPIC, new IntegerSerializer(), new TestDeadLetterSerde().serializer(),
+                "process");
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "routing");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(topology, properties);
+        this.input = this.driver.createInputTopic(INPUT_TOPIC, new IntegerSerializer(), new StringSerializer());
+    }
+
+    @Test
+    void shouldRouteSuccessesAndDeadLetters() {
+        this.createTopology(DeadLetterRoutingProcessor.captureErrors(MAPPER, routing()));
+        this.input.pipeInput(1, "foo", Instant.ofEpochMilli(100L));
+        this.input.pipeInput(2, "bar", Instant.ofEpochMilli(200L));
+
+        this.softly.assertThat(this.driver.createOutputTopic(OUTPUT_TOPIC, new IntegerDeserializer(),
+                        new LongDeserializer()).readKeyValuesToList())
+                .containsExactly(KeyValue.pair(3, 3L));
+        final List<TestRecord<Integer, DeadLetterDescription>> errors = this.driver.createOutputTopic(ERROR_TOPIC,
+                new IntegerDeserializer(), new TestDeadLetterSerde().deserializer()).readRecordsToList();
+        this.softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .satisfies(deadLetterRecord -> {
+                    this.softly.assertThat(deadLetterRecord.key()).isEqualTo(1);
+                    final DeadLetterDescription deadLetter = deadLetterRecord.value();
+                    this.softly.assertThat(deadLetter.getDescription()).isEqualTo("Description");
+                    this.softly.assertThat(deadLetter.getInputValue()).isEqualTo("foo");
+                    this.softly.assertThat(deadLetter.getCause().getMessage()).isEqualTo("Cannot process");
+                    this.softly.assertThat(deadLetter.getCause().getErrorClass())
+                            .isEqualTo(IllegalArgumentException.class.getName());
+                    this.softly.assertThat(deadLetter.getTopic()).isEqualTo(INPUT_TOPIC);
+                    this.softly.assertThat(deadLetter.getPartition()).isEqualTo(0);
+                    this.softly.assertThat(deadLetter.getOffset()).isEqualTo(0L);
+                    this.softly.assertThat(deadLetter.getInputTimestamp()).isEqualTo(Instant.ofEpochMilli(100L));
+                });
+    }
+
+    @Test
+    void shouldForwardRecoverableErrors() {
+        this.createTopology(DeadLetterRoutingProcessor.captureErrors(MAPPER, routing()));
+        this.softly.assertThatThrownBy(() -> this.input.pipeInput(1, "recoverable"))
+                .hasCause(RECOVERABLE_EXCEPTION);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Properties;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class DeadLetterStatsTopologyTest {
+    private static final String ERROR_TOPIC = "errors";
+    private static final String STATS_TOPIC = "stats";
+    private static final String INPUT_TOPIC = "input";
+    private static final TestDeadLetterSerde DEAD_LETTER_SERDE = new TestDeadLetterSerde();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<byte[], DeadLetterDescription> errors = null;
+    private TestOutputTopic<String, String> stats = null;
+
+    private static DeadLetterDescription deadLetter(final String description, final Class<?> errorClass,
+            final int partition) {
+        return DeadLetterDescription.builder()
+                .description(description)
+                .cause(DeadLetterDescription.Cause.builder()
+                        .errorClass(errorClass.getName())
+                        .build())
+                .topic(INPUT_TOPIC)
+                .partition(partition)
+                .build();
+    }
+
+    private static String format(final DeadLetterStatsDescription statsDescription) {
+        return String.join(":", statsDescription.getDescription(), statsDescription.getErrorClass(),
+                statsDescription.getTopic(), String.valueOf(statsDescription.getPartition()),
+                String.valueOf(statsDescription.getWindowStart().getEpochSecond()),
+                String.valueOf(statsDescription.getWindowEnd().getEpochSecond()),
+                String.valueOf(statsDescription.getCount()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "stats");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(DeadLetterStatsTopology.<DeadLetterDescription, String>builder()
+                .deadLetterTopic(ERROR_TOPIC)
+                .deadLetterSerde(DEAD_LETTER_SERDE)
+                .reader(deadLetter -> deadLetter)
+                .converter(DeadLetterStatsTopologyTest::format)
+                .statsSerde(Serdes.String())
+                .statsTopic(STATS_TOPIC)
+                .windowSize(Duration.ofMinutes(1L))
+                .advance(Duration.ofSeconds(30L))
+                .grace(Duration.ZERO)
+                .build()
+                .createTopology(), properties);
+        this.errors = this.driver.createInputTopic(ERROR_TOPIC, new ByteArraySerializer(),
+                DEAD_LETTER_SERDE.serializer());
+        this.stats = this.driver.createOutputTopic(STATS_TOPIC, new StringDeserializer(), new StringDeserializer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    @Test
+    void shouldCountDeadLettersInHoppingWindows() {
+        final String npe = NullPointerException.class.getName();
+        final String ise = IllegalStateException.class.getName();
+        this.errors.pipeInput(null, deadLetter("a", NullPointerException.class, 0), Instant.ofEpochSecond(10L));
+        this.errors.pipeInput(null, deadLetter("a", NullPointerException.class, 0), Instant.ofEpochSecond(20L));
+        this.errors.pipeInput(null, deadLetter("a", IllegalStateException.class, 1), Instant.ofEpochSecond(40L));
+        this.softly.assertThat(this.stats.isEmpty()).isTrue();
+
+        // advance stream time to close the windows
+        this.errors.pipeInput(null, deadLetter("b", NullPointerException.class, 0), Instant.ofEpochSecond(200L));
+        this.softly.assertThat(this.stats.readKeyValuesToList()).containsExactlyInAnyOrder(
+                KeyValue.pair("a", "a:" + npe + ":input:0:0:60:2"),
+                KeyValue.pair("a", "a:" + ise + ":input:1:0:60:1"),
+                KeyValue.pair("a", "a:" + ise + ":input:1:30:90:1")
+        );
+    }
+
+    @Test
+    void shouldIgnoreNullDeadLetters() {
+        this.errors.pipeInput(null, null, Instant.ofEpochSecond(10L));
+        this.errors.pipeInput(null, deadLetter("b", NullPointerException.class, 0), Instant.ofEpochSecond(200L));
+        this.softly.assertThat(this.stats.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import static org.mockito.Mockito.when;
+
+import org.apache.kafka.streams.errors.ErrorHandlerContext;
+import org.apache.kafka.streams.processor.TaskId;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorBurstDetectorTest {
+    private static final long WINDOW_MS = 1000L;
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    @Mock
+    private ErrorHandlerContext context;
+
+    @BeforeEach
+    void setUp() {
+        when(this.context.taskId()).thenReturn(new TaskId(0, 0));
+        when(this.context.topic()).thenReturn("input");
+    }
+
+    @Test
+    void shouldNotDetectBurstBelowRatio() {
+        final ErrorBurstDetector detector = new ErrorBurstDetector(0.1, WINDOW_MS, 10L);
+        for (long offset = 0; offset < 1000; offset += 20) {
+            when(this.context.offset()).thenReturn(offset);
+            this.softly.assertThat(detector.recordAndCheckBurst(this.context, 0L))
+                    .as("Offset %d", offset)
+                    .isFalse();
+        }
+    }
+
+    @Test
+    void shouldDetectBurstAboveRatio() {
+        final ErrorBurstDetector detector = new ErrorBurstDetector(0.1, WINDOW_MS, 10L);
+        boolean burst = false;
+        for (long offset = 0; offset < 20; offset++) {
+            when(this.context.offset()).thenReturn(offset);
+            burst = detector.recordAndCheckBurst(this.context, 0L);
+            if (offset < 9) {
+                // not enough records to evaluate
+                this.softly.assertThat(burst).isFalse();
+            }
+        }
+        this.softly.assertThat(burst).isTrue();
+    }
+
+    @Test
+    void shouldForgetErrorsOfPastWindows() {
+        final ErrorBurstDetector detector = new ErrorBurstDetector(0.1, WINDOW_MS, 10L);
+        for (long offset = 0; offset < 20; offset++) {
+            when(this.context.offset()).thenReturn(offset);
+            detector.recordAndCheckBurst(this.context, 0L);
+        }
+        when(this.context.offset()).thenReturn(1000L);
+        this.softly.assertThat(detector.recordAndCheckBurst(this.context, 3 * WINDOW_MS)).isFalse();
+    }
+
+    @Test
+    void shouldIgnorePunctuations() {
+        when(this.context.topic()).thenReturn(null);
+        final ErrorBurstDetector detector = new ErrorBurstDetector(0.0, WINDOW_MS, 1L);
+        this.softly.assertThat(detector.recordAndCheckBurst(this.context, 0L)).isFalse();
+    }
+
+    @Test
+    void shouldEvictWindowsWithoutRecentErrors() {
+        final ErrorBurstDetector detector = new ErrorBurstDetector(0.1, WINDOW_MS, 10L);
+        when(this.context.offset()).thenReturn(0L);
+        detector.recordAndCheckBurst(this.context, 0L);
+        this.softly.assertThat(detector.size()).isEqualTo(1);
+        when(this.context.taskId()).thenReturn(new TaskId(0, 1));
+        detector.recordAndCheckBurst(this.context, 2 * WINDOW_MS);
+        this.softly.assertThat(detector.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilterHelper.filterAll;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Aggregator;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorCapturingAggregatorTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<String> STRING_SERDE = Serdes.String();
+    private static final Serde<Long> LONG_SERDE = Serdes.Long();
+    private static final long SENTINEL = -1L;
+    @Mock
+    Aggregator<Integer, String, Long> aggregator;
+    private Aggregator<Integer, String, Long> capturingAggregator = null;
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC, Consumed.with(null, STRING_SERDE));
+        final KTable<Integer, Long> aggregated = input.groupByKey(Grouped.valueSerde(STRING_SERDE))
+                .aggregate(() -> 0L, this.capturingAggregator,
+                        Materialized.<Integer, Long, KeyValueStore<Bytes, byte[]>>with(null, LONG_SERDE)
+                                .withCachingDisabled());
+        aggregated.toStream()
+                .to(OUTPUT_TOPIC, Produced.valueSerde(LONG_SERDE));
+    }
+
+    @Test
+    void shouldNotAllowNullAggregator(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ErrorCapturingAggregator.captureErrors(null))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertThatThrownBy(() -> ErrorCapturingAggregator.captureErrors(null,
+                        AggregationErrorHandler.keepAggregate(), filterAll()))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotAllowNullErrorHandler(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ErrorCapturingAggregator.captureErrors(this.aggregator, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotAllowNullFilter(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ErrorCapturingAggregator.captureErrors(this.aggregator,
+                        AggregationErrorHandler.keepAggregate(), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldForwardRecoverableException(final SoftAssertions softly) {
+        final RuntimeException throwable = createRecoverableException();
+        when(this.aggregator.apply(1, "foo", 0L)).thenThrow(throwable);
+        this.capturingAggregator = ErrorCapturingAggregator.captureErrors(this.aggregator);
+        this.createTopology();
+        softly.assertThatThrownBy(() -> this.topology.input()
+                        .withValueSerde(STRING_SERDE)
+                        .add(1, "foo"))
+                .hasCause(throwable);
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .isEmpty();
+    }
+
+    @Test
+    void shouldKeepPreviousAggregate(final SoftAssertions softly) {
+        doReturn(3L).when(this.aggregator).apply(1, "bar", 0L);
+        doThrow(new RuntimeException("Cannot aggregate")).when(this.aggregator).apply(1, "foo", 3L);
+        doReturn(6L).when(this.aggregator).apply(1, "baz", 3L);
+        this.capturingAggregator = ErrorCapturingAggregator.captureErrors(this.aggregator);
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "bar")
+                .add(1, "foo")
+                .add(1, "baz");
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .extracting(ProducerRecord::value)
+                .containsExactly(3L, 3L, 6L);
+    }
+
+    @Test
+    void shouldEmitSentinel(final SoftAssertions softly) {
+        doReturn(3L).when(this.aggregator).apply(1, "bar", 0L);
+        doThrow(new RuntimeException("Cannot aggregate")).when(this.aggregator).apply(1, "foo", 3L);
+        this.capturingAggregator = ErrorCapturingAggregator.captureErrors(this.aggregator, (error, aggregate) -> {
+            softly.assertThat(error.getValue()).isEqualTo("foo");
+            softly.assertThat(error.getThrowable()).hasMessage("Cannot aggregate");
+            softly.assertThat(aggregate).isEqualTo(3L);
+            return SENTINEL;
+        });
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "bar")
+                .add(1, "foo");
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .extracting(ProducerRecord::value)
+                .containsExactly(3L, SENTINEL);
+    }
+}
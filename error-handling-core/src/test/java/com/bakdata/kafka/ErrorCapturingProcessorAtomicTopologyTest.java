@@ -0,0 +1,291 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.serialization.IntegerDeserializer;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.Topology;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.processor.StateStore;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.ProcessorSupplier;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.state.StoreBuilder;
+import org.apache.kafka.streams.state.Stores;
+import org.apache.kafka.streams.state.TimestampedKeyValueStore;
+import org.apache.kafka.streams.state.ValueAndTimestamp;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorCapturingProcessorAtomicTopologyTest {
+    private static final String INPUT_TOPIC = "input";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String ERROR_TOPIC = "errors";
+    private static final String STORE = "store";
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<Integer, String> input = null;
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private static void put(final KeyValueStore<Integer, String> store, final Record<Integer, String> inputRecord) {
+        store.put(inputRecord.key(), inputRecord.value());
+    }
+
+    private void createTopology(
+            final Function<ProcessorSupplier<Integer, String, Integer, String>,
+                    ProcessorSupplier<Integer, String, Integer, ProcessedKeyValue<Integer, String, String>>> capture) {
+        this.createTopology(capture, ErrorCapturingProcessorAtomicTopologyTest::put);
+    }
+
+    private void createTopology(
+            final Function<ProcessorSupplier<Integer, String, Integer, String>,
+                    ProcessorSupplier<Integer, String, Integer, ProcessedKeyValue<Integer, String, String>>> capture,
+            final BiConsumer<KeyValueStore<Integer, String>, Record<Integer, String>> write) {
+        this.createTopology(capture, Stores.keyValueStoreBuilder(Stores.inMemoryKeyValueStore(STORE), Serdes.Integer(),
+                Serdes.String()), write);
+    }
+
+    private <S extends StateStore> void createTopology(
+            final Function<ProcessorSupplier<Integer, String, Integer, String>,
+                    ProcessorSupplier<Integer, String, Integer, ProcessedKeyValue<Integer, String, String>>> capture,
+            final StoreBuilder<S> storeBuilder, final BiConsumer<S, Record<Integer, String>> write) {
+        final Topology topology = new Topology();
+        topology.addSource("input", new IntegerDeserializer(), new StringDeserializer(), INPUT_TOPIC);
+        topology.addProcessor("process", capture.apply(() -> new StoringProcessor<>(write)), "input");
+        topology.addStateStore(storeBuilder, "process");
+        topology.addProcessor("split", SplittingProcessor::new, "process");
+        topology.addSink("output", OUTPUT_TOPIC, new IntegerSerializer(), new StringSerializer(), "split");
+        topology.addSink("error-output", ERROR_TOPIC, new IntegerSerializer(), new StringSerializer(), "split");
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "atomic");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(topology, properties);
+        this.input = this.driver.createInputTopic(INPUT_TOPIC, new IntegerSerializer(), new StringSerializer());
+    }
+
+    private List<KeyValue<Integer, String>> readOutput() {
+        return this.driver.createOutputTopic(OUTPUT_TOPIC, new IntegerDeserializer(), new StringDeserializer())
+                .readKeyValuesToList();
+    }
+
+    private List<String> readErrors() {
+        return this.driver.createOutputTopic(ERROR_TOPIC, new IntegerDeserializer(), new StringDeserializer())
+                .readValuesToList();
+    }
+
+    @Test
+    void shouldDiscardPartialOutputOnError() {
+        this.createTopology(ErrorCapturingProcessor::captureErrorsAtomically);
+        this.input.pipeInput(1, "bar");
+        this.input.pipeInput(1, "foo");
+        this.input.pipeInput(2, "foo");
+
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(KeyValue.pair(1, "bar"));
+        this.softly.assertThat(this.readErrors())
+                .containsExactly("Cannot process foo", "Cannot process foo");
+        final KeyValueStore<Integer, String> store = this.driver.getKeyValueStore(STORE);
+        this.softly.assertThat(store.get(1)).isEqualTo("bar");
+        this.softly.assertThat(store.get(2)).isNull();
+    }
+
+    @Test
+    void shouldForwardPartialOutputIfNotAtomic() {
+        this.createTopology(ErrorCapturingProcessor::captureErrors);
+        this.input.pipeInput(1, "bar");
+        this.input.pipeInput(1, "foo");
+
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(KeyValue.pair(1, "bar"), KeyValue.pair(1, "foo"));
+        this.softly.assertThat(this.readErrors())
+                .containsExactly("Cannot process foo");
+        final KeyValueStore<Integer, String> store = this.driver.getKeyValueStore(STORE);
+        this.softly.assertThat(store.get(1)).isEqualTo("foo");
+    }
+
+    @Test
+    void shouldForwardRecoverableExceptionAndUndoWrites() {
+        this.createTopology(ErrorCapturingProcessor::captureErrorsAtomically);
+        this.softly.assertThatThrownBy(() -> this.input.pipeInput(1, "recoverable"))
+                .hasCauseInstanceOf(ErrorCaptureTopologyTest.createRecoverableException().getClass());
+        this.softly.assertThat(this.readOutput()).isEmpty();
+        final KeyValueStore<Integer, String> store = this.driver.getKeyValueStore(STORE);
+        this.softly.assertThat(store.get(1)).isNull();
+    }
+
+    @Test
+    void shouldUndoDeletes() {
+        this.createTopology(ErrorCapturingProcessor::captureErrorsAtomically, (store, inputRecord) -> {
+            if ("foo".equals(inputRecord.value())) {
+                store.delete(inputRecord.key());
+            } else {
+                put(store, inputRecord);
+            }
+        });
+        this.input.pipeInput(1, "bar");
+        this.input.pipeInput(1, "foo");
+        this.input.pipeInput(2, "foo");
+
+        final KeyValueStore<Integer, String> store = this.driver.getKeyValueStore(STORE);
+        this.softly.assertThat(store.get(1)).isEqualTo("bar");
+        this.softly.assertThat(store.get(2)).isNull();
+    }
+
+    @Test
+    void shouldUndoPutIfAbsent() {
+        this.createTopology(ErrorCapturingProcessor::captureErrorsAtomically,
+                (store, inputRecord) -> store.putIfAbsent(inputRecord.key(), inputRecord.value()));
+        this.input.pipeInput(1, "bar");
+        this.input.pipeInput(1, "foo");
+        this.input.pipeInput(2, "foo");
+
+        final KeyValueStore<Integer, String> store = this.driver.getKeyValueStore(STORE);
+        this.softly.assertThat(store.get(1)).isEqualTo("bar");
+        this.softly.assertThat(store.get(2)).isNull();
+    }
+
+    @Test
+    void shouldUndoPutAllWithDuplicateKeys() {
+        this.createTopology(ErrorCapturingProcessor::captureErrorsAtomically,
+                (store, inputRecord) -> store.putAll(List.of(
+                        KeyValue.pair(inputRecord.key(), inputRecord.value()),
+                        KeyValue.pair(inputRecord.key() + 1, inputRecord.value()),
+                        KeyValue.pair(inputRecord.key(), inputRecord.value() + "!"))));
+        this.input.pipeInput(1, "bar");
+        this.input.pipeInput(2, "foo");
+
+        final KeyValueStore<Integer, String> store = this.driver.getKeyValueStore(STORE);
+        this.softly.assertThat(store.get(1)).isEqualTo("bar!");
+        this.softly.assertThat(store.get(2)).isEqualTo("bar");
+        this.softly.assertThat(store.get(3)).isNull();
+    }
+
+    @Test
+    void shouldUndoRepeatedWritesToSameKey() {
+        this.createTopology(ErrorCapturingProcessor::captureErrorsAtomically, (store, inputRecord) -> {
+            put(store, inputRecord);
+            store.delete(inputRecord.key());
+            store.put(inputRecord.key(), inputRecord.value() + "!");
+        });
+        this.input.pipeInput(1, "bar");
+        this.input.pipeInput(1, "foo");
+        this.input.pipeInput(2, "foo");
+
+        final KeyValueStore<Integer, String> store = this.driver.getKeyValueStore(STORE);
+        this.softly.assertThat(store.get(1)).isEqualTo("bar!");
+        this.softly.assertThat(store.get(2)).isNull();
+    }
+
+    @Test
+    void shouldUndoWritesToTimestampedStore() {
+        this.createTopology(ErrorCapturingProcessor::captureErrorsAtomically,
+                Stores.timestampedKeyValueStoreBuilder(Stores.inMemoryKeyValueStore(STORE), Serdes.Integer(),
+                        Serdes.String()),
+                (final TimestampedKeyValueStore<Integer, String> store, final Record<Integer, String> inputRecord) ->
+                        store.put(inputRecord.key(), ValueAndTimestamp.make(inputRecord.value(),
+                                inputRecord.timestamp())));
+        this.input.pipeInput(1, "bar", 1L);
+        this.input.pipeInput(1, "foo", 2L);
+        this.input.pipeInput(2, "foo", 3L);
+
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(KeyValue.pair(1, "bar"));
+        final KeyValueStore<Integer, ValueAndTimestamp<String>> store = this.driver.getTimestampedKeyValueStore(STORE);
+        this.softly.assertThat(store.get(1)).isEqualTo(ValueAndTimestamp.make("bar", 1L));
+        this.softly.assertThat(store.get(2)).isNull();
+    }
+
+    @RequiredArgsConstructor
+    private static final class StoringProcessor<S extends StateStore>
+            implements Processor<Integer, String, Integer, String> {
+        private final @NonNull BiConsumer<S, Record<Integer, String>> write;
+        private ProcessorContext<Integer, String> context;
+        private S store;
+
+        @Override
+        public void init(final ProcessorContext<Integer, String> context) {
+            this.context = context;
+            this.store = context.getStateStore(STORE);
+        }
+
+        @Override
+        public void process(final Record<Integer, String> inputRecord) {
+            this.write.accept(this.store, inputRecord);
+            this.context.forward(inputRecord);
+            if ("foo".equals(inputRecord.value())) {
+                throw new IllegalArgumentException("Cannot process foo");
+            }
+            if ("recoverable".equals(inputRecord.value())) {
+                throw ErrorCaptureTopologyTest.createRecoverableException();
+            }
+        }
+    }
+
+    private static final class SplittingProcessor
+            implements Processor<Integer, ProcessedKeyValue<Integer, String, String>, Integer, String> {
+        private ProcessorContext<Integer, String> context;
+
+        @Override
+        public void init(final ProcessorContext<Integer, String> context) {
+            this.context = context;
+        }
+
+        @Override
+        public void process(final Record<Integer, ProcessedKeyValue<Integer, String, String>> inputRecord) {
+            for (final String value : inputRecord.value().getValues()) {
+                this.context.forward(inputRecord.withValue(value), "output");
+            }
+            for (final KeyValue<Integer, ProcessingError<String>> error : inputRecord.value().getErrors()) {
+                this.context.forward(inputRecord.withKey(error.key)
+                        .withValue(error.value.getThrowable().getMessage()), "error-output");
+            }
+        }
+    }
+}
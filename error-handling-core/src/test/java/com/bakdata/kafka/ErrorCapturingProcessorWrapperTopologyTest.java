@@ -0,0 +1,233 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.List;
+import java.util.Properties;
+import org.apache.kafka.common.serialization.IntegerDeserializer;
+import org.apache.kafka.common.serialization.IntegerSerializer;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyConfig;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.errors.StreamsException;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Named;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.test.TestRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorCapturingProcessorWrapperTopologyTest {
+    private static final String INPUT_TOPIC = "input";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String ERROR_TOPIC = "errors";
+    private static final IllegalArgumentException PARSE_EXCEPTION = new IllegalArgumentException("Cannot parse");
+    private static final IllegalStateException ENRICH_EXCEPTION = new IllegalStateException("Cannot enrich");
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<Integer, String> input = null;
+
+    private static String parse(final String value) {
+        if ("foo".equals(value)) {
+            throw PARSE_EXCEPTION;
+        }
+        return value.toUpperCase();
+    }
+
+    private static String enrich(final String value) {
+        if ("BAR".equals(value)) {
+            throw ENRICH_EXCEPTION;
+        }
+        return value + "!";
+    }
+
+    private static Properties createProperties() {
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "wrapper");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        properties.put(StreamsConfig.PROCESSOR_WRAPPER_CLASS_CONFIG, ErrorCapturingProcessorWrapper.class);
+        properties.put(StreamsConfig.ERRORS_DEAD_LETTER_QUEUE_TOPIC_NAME_CONFIG, ERROR_TOPIC);
+        properties.put(StreamsConfig.PROCESSING_EXCEPTION_HANDLER_CLASS_CONFIG,
+                FilteringProcessingExceptionHandler.class);
+        properties.put(FilteringProcessingExceptionHandlerConfig.DEAD_LETTER_CONVERTER_CONFIG,
+                FilteringProcessingExceptionHandlerDeadLetterTopologyTest.IdentityConverter.class);
+        properties.put(FilteringProcessingExceptionHandlerConfig.DEAD_LETTER_SERIALIZER_CONFIG,
+                FilteringProcessingExceptionHandlerDeadLetterTopologyTest.TestDeadLetterSerializer.class);
+        properties.put(FilteringProcessingExceptionHandlerConfig.DESCRIPTIONS_CONFIG, "parsing");
+        properties.put(FilteringProcessingExceptionHandlerConfig.DESCRIPTIONS_CONFIG + ".parsing."
+                + FilteringProcessingExceptionHandlerConfig.DESCRIPTIONS_NODE_CONFIG, "^parse");
+        properties.put(FilteringProcessingExceptionHandlerConfig.DESCRIPTIONS_CONFIG + ".parsing."
+                + FilteringProcessingExceptionHandlerConfig.DESCRIPTIONS_DESCRIPTION_CONFIG, "Parsing");
+        return properties;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private void createTopology(final Properties properties) {
+        final StreamsBuilder builder = new StreamsBuilder(new TopologyConfig(new StreamsConfig(properties)));
+        builder.stream(INPUT_TOPIC, Consumed.with(Serdes.Integer(), Serdes.String()))
+                .mapValues(ErrorCapturingProcessorWrapperTopologyTest::parse, Named.as("parse"))
+                .mapValues(ErrorCapturingProcessorWrapperTopologyTest::enrich, Named.as("enrich"))
+                .to(OUTPUT_TOPIC, Produced.with(Serdes.Integer(), Serdes.String()));
+        this.driver = new TopologyTestDriver(builder.build(), properties);
+        this.input = this.driver.createInputTopic(INPUT_TOPIC, new IntegerSerializer(), new StringSerializer());
+    }
+
+    @Test
+    void shouldCaptureErrorsOfAllProcessors() {
+        this.createTopology(createProperties());
+        this.input.pipeInput(1, "foo");
+        this.input.pipeInput(2, "bar");
+        this.input.pipeInput(3, "baz");
+
+        this.softly.assertThat(this.driver.createOutputTopic(OUTPUT_TOPIC, new IntegerDeserializer(),
+                        new StringDeserializer()).readKeyValuesToList())
+                .containsExactly(KeyValue.pair(3, "BAZ!"));
+        final List<TestRecord<byte[], DeadLetterDescription>> errors = this.driver.createOutputTopic(ERROR_TOPIC,
+                Serdes.ByteArray().deserializer(), new TestDeadLetterSerde().deserializer()).readRecordsToList();
+        this.softly.assertThat(errors)
+                .extracting(TestRecord::value)
+                .satisfiesExactly(
+                        deadLetter -> {
+                            this.softly.assertThat(deadLetter.getDescription()).isEqualTo("Parsing");
+                            this.softly.assertThat(deadLetter.getInputValue()).isEqualTo("foo");
+                            this.softly.assertThat(deadLetter.getCause().getMessage()).isEqualTo("Cannot parse");
+                        },
+                        deadLetter -> {
+                            this.softly.assertThat(deadLetter.getDescription()).isEqualTo("enrich");
+                            this.softly.assertThat(deadLetter.getInputValue()).isEqualTo("BAR");
+                            this.softly.assertThat(deadLetter.getCause().getMessage()).isEqualTo("Cannot enrich");
+                        });
+    }
+
+    @Test
+    void shouldRecordErrorSignatures() {
+        final ErrorSignatureTracker tracker = ErrorSignatureTracker.getInstance();
+        final long parseErrors = tracker.estimate(ErrorSignature.of(PARSE_EXCEPTION, "Parsing"));
+        final long enrichErrors = tracker.estimate(ErrorSignature.of(ENRICH_EXCEPTION, "enrich"));
+        this.createTopology(createProperties());
+        this.input.pipeInput(1, "foo");
+        this.input.pipeInput(2, "bar");
+
+        this.softly.assertThat(tracker.estimate(ErrorSignature.of(PARSE_EXCEPTION, "Parsing")))
+                .isGreaterThan(parseErrors);
+        this.softly.assertThat(tracker.estimate(ErrorSignature.of(ENRICH_EXCEPTION, "enrich")))
+                .isGreaterThan(enrichErrors);
+    }
+
+    private void createAggregationTopology(final Properties properties) {
+        final StreamsBuilder builder = new StreamsBuilder(new TopologyConfig(new StreamsConfig(properties)));
+        builder.stream(INPUT_TOPIC, Consumed.with(Serdes.Integer(), Serdes.String()))
+                .groupByKey(Grouped.with(Serdes.Integer(), Serdes.String()))
+                .aggregate(() -> 0L,
+                        ErrorCapturingAggregator.captureErrors(
+                                (Integer key, String value, Long sum) -> sum + Long.parseLong(value)),
+                        Named.as("sum"),
+                        Materialized.<Integer, Long, KeyValueStore<Bytes, byte[]>>with(Serdes.Integer(),
+                                Serdes.Long()).withCachingDisabled())
+                .toStream()
+                .to(OUTPUT_TOPIC, Produced.with(Serdes.Integer(), Serdes.Long()));
+        this.driver = new TopologyTestDriver(builder.build(), properties);
+        this.input = this.driver.createInputTopic(INPUT_TOPIC, new IntegerSerializer(), new StringSerializer());
+    }
+
+    @Test
+    void shouldRouteCapturedAggregationErrorsToDeadLetterQueue() {
+        final ErrorSignature signature =
+                ErrorSignature.of(new NumberFormatException("For input string: \"foo\""), "sum");
+        final long errors = ErrorSignatureTracker.getInstance().estimate(signature);
+        this.createAggregationTopology(createProperties());
+        this.input.pipeInput(1, "1");
+        this.input.pipeInput(1, "foo");
+        this.input.pipeInput(1, "2");
+
+        this.softly.assertThat(ErrorSignatureTracker.getInstance().estimate(signature)).isGreaterThan(errors);
+
+        this.softly.assertThat(this.driver.createOutputTopic(OUTPUT_TOPIC, new IntegerDeserializer(),
+                        new LongDeserializer()).readValuesToList())
+                .containsExactly(1L, 1L, 3L);
+        this.softly.assertThat(this.driver.createOutputTopic(ERROR_TOPIC, Serdes.ByteArray().deserializer(),
+                        new TestDeadLetterSerde().deserializer()).readValuesToList())
+                .satisfiesExactly(deadLetter -> {
+                    this.softly.assertThat(deadLetter.getDescription()).isEqualTo("sum");
+                    this.softly.assertThat(deadLetter.getInputValue()).isEqualTo("foo");
+                    this.softly.assertThat(deadLetter.getCause().getErrorClass())
+                            .isEqualTo(NumberFormatException.class.getName());
+                });
+    }
+
+    @Test
+    void shouldNotFailForCapturedAggregationErrorsWithDefaultHandler() {
+        final Properties properties = createProperties();
+        properties.remove(StreamsConfig.PROCESSING_EXCEPTION_HANDLER_CLASS_CONFIG);
+        this.createAggregationTopology(properties);
+        this.input.pipeInput(1, "1");
+        this.input.pipeInput(1, "foo");
+        this.input.pipeInput(1, "2");
+
+        this.softly.assertThat(this.driver.createOutputTopic(OUTPUT_TOPIC, new IntegerDeserializer(),
+                        new LongDeserializer()).readValuesToList())
+                .containsExactly(1L, 1L, 3L);
+        this.softly.assertThat(this.driver.createOutputTopic(ERROR_TOPIC, Serdes.ByteArray().deserializer(),
+                        new TestDeadLetterSerde().deserializer()).readValuesToList())
+                .isEmpty();
+    }
+
+    @Test
+    void shouldFailForExcludedProcessors() {
+        final Properties properties = createProperties();
+        properties.put(FilteringProcessingExceptionHandlerConfig.CAPTURE_EXCLUDE_CONFIG, "^enrich$");
+        this.createTopology(properties);
+        this.input.pipeInput(1, "foo");
+
+        this.softly.assertThatThrownBy(() -> this.input.pipeInput(2, "bar"))
+                .isInstanceOf(StreamsException.class)
+                .hasRootCause(ENRICH_EXCEPTION);
+        this.softly.assertThat(this.driver.createOutputTopic(ERROR_TOPIC, Serdes.ByteArray().deserializer(),
+                        new TestDeadLetterSerde().deserializer()).readValuesToList())
+                .hasSize(1);
+    }
+}
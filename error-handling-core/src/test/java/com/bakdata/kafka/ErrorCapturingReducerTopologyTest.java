@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilterHelper.filterAll;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Grouped;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Materialized;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.Reducer;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorCapturingReducerTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<String> STRING_SERDE = Serdes.String();
+    private static final String SENTINEL = "sentinel";
+    @Mock
+    Reducer<String> reducer;
+    private Reducer<String> capturingReducer = null;
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC, Consumed.with(null, STRING_SERDE));
+        final KTable<Integer, String> reduced = input.groupByKey(Grouped.valueSerde(STRING_SERDE))
+                .reduce(this.capturingReducer,
+                        Materialized.<Integer, String, KeyValueStore<Bytes, byte[]>>with(null, STRING_SERDE)
+                                .withCachingDisabled());
+        reduced.toStream()
+                .to(OUTPUT_TOPIC, Produced.valueSerde(STRING_SERDE));
+    }
+
+    @Test
+    void shouldNotAllowNullReducer(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ErrorCapturingReducer.captureErrors(null))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertThatThrownBy(() -> ErrorCapturingReducer.captureErrors(null,
+                        AggregationErrorHandler.keepAggregate(), filterAll()))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotAllowNullErrorHandler(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ErrorCapturingReducer.captureErrors(this.reducer, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotAllowNullFilter(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ErrorCapturingReducer.captureErrors(this.reducer,
+                        AggregationErrorHandler.keepAggregate(), null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldForwardRecoverableException(final SoftAssertions softly) {
+        final RuntimeException throwable = createRecoverableException();
+        when(this.reducer.apply("bar", "foo")).thenThrow(throwable);
+        this.capturingReducer = ErrorCapturingReducer.captureErrors(this.reducer);
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "bar");
+        softly.assertThatThrownBy(() -> this.topology.input()
+                        .withValueSerde(STRING_SERDE)
+                        .add(1, "foo"))
+                .hasCause(throwable);
+        final List<ProducerRecord<Integer, String>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .extracting(ProducerRecord::value)
+                .containsExactly("bar");
+    }
+
+    @Test
+    void shouldKeepPreviousAggregate(final SoftAssertions softly) {
+        doThrow(new RuntimeException("Cannot reduce")).when(this.reducer).apply("bar", "foo");
+        doReturn("barbaz").when(this.reducer).apply("bar", "baz");
+        this.capturingReducer = ErrorCapturingReducer.captureErrors(this.reducer);
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "bar")
+                .add(1, "foo")
+                .add(1, "baz");
+        final List<ProducerRecord<Integer, String>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .extracting(ProducerRecord::value)
+                .containsExactly("bar", "bar", "barbaz");
+    }
+
+    @Test
+    void shouldEmitSentinel(final SoftAssertions softly) {
+        doThrow(new RuntimeException("Cannot reduce")).when(this.reducer).apply("bar", "foo");
+        this.capturingReducer = ErrorCapturingReducer.captureErrors(this.reducer, (error, aggregate) -> {
+            softly.assertThat(error.getValue()).isEqualTo("foo");
+            softly.assertThat(error.getThrowable()).hasMessage("Cannot reduce");
+            softly.assertThat(aggregate).isEqualTo("bar");
+            return SENTINEL;
+        });
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "bar")
+                .add(1, "foo");
+        final List<ProducerRecord<Integer, String>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .extracting(ProducerRecord::value)
+                .containsExactly("bar", SENTINEL);
+    }
+}
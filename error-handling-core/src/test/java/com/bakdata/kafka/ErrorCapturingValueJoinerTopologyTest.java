@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilterHelper.filterAll;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.Joined;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.KTable;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.ValueJoiner;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorCapturingValueJoinerTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String ERROR_TOPIC = "errors";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final String TABLE_TOPIC = "table";
+    private static final Serde<String> STRING_SERDE = Serdes.String();
+    private static final Serde<Long> LONG_SERDE = Serdes.Long();
+    @Mock
+    ValueJoiner<String, String, Long> joiner;
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC, Consumed.with(null, STRING_SERDE));
+        final KTable<Integer, String> table = builder.table(TABLE_TOPIC, Consumed.with(null, STRING_SERDE));
+        final KStream<Integer, ProcessedValue<JoinInput<String, String>, Long>> joined =
+                input.join(table, ErrorCapturingValueJoiner.captureErrors(this.joiner),
+                        Joined.valueSerde(STRING_SERDE));
+        joined.flatMapValues(ProcessedValue::getValues)
+                .to(OUTPUT_TOPIC, Produced.valueSerde(LONG_SERDE));
+        joined.flatMapValues(ProcessedValue::getErrors)
+                .processValues(
+                        DeadLetterProcessor.create("Description", deadLetterDescription -> deadLetterDescription))
+                .to(ERROR_TOPIC);
+    }
+
+    @Test
+    void shouldNotAllowNullJoiner(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ErrorCapturingValueJoiner.captureErrors(null))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertThatThrownBy(() -> ErrorCapturingValueJoiner.captureErrors(null, filterAll()))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotAllowNullFilter(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ErrorCapturingValueJoiner.captureErrors(this.joiner, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldForwardRecoverableException(final SoftAssertions softly) {
+        final RuntimeException throwable = createRecoverableException();
+        when(this.joiner.apply("foo", "left")).thenThrow(throwable);
+        this.createTopology();
+        this.topology.input(TABLE_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .add(1, "left");
+        softly.assertThatThrownBy(() -> this.topology.input(INPUT_TOPIC)
+                        .withValueSerde(STRING_SERDE)
+                        .add(1, "foo"))
+                .hasCause(throwable);
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .isEmpty();
+    }
+
+    @Test
+    void shouldCaptureValueJoinerError(final SoftAssertions softly) {
+        doThrow(new RuntimeException("Cannot join")).when(this.joiner).apply("foo", "left");
+        doReturn(2L).when(this.joiner).apply("bar", "right");
+        this.createTopology();
+        this.topology.input(TABLE_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .add(1, "left")
+                .add(2, "right");
+        this.topology.input(INPUT_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .add(1, "foo")
+                .add(2, "bar");
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> softly.assertThat(producerRecord.key()).isEqualTo(2))
+                .extracting(ProducerRecord::value)
+                .isEqualTo(2L);
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> softly.assertThat(producerRecord.key()).isEqualTo(1))
+                .extracting(ProducerRecord::value)
+                .satisfies(deadLetter -> {
+                    softly.assertThat(deadLetter.getInputValue())
+                            .isEqualTo(JoinInput.of("foo", "left").toString());
+                    softly.assertThat(deadLetter.getDescription()).isEqualTo("Description");
+                    final DeadLetterDescription.Cause cause = deadLetter.getCause();
+                    softly.assertThat(cause.getMessage()).isEqualTo("Cannot join");
+                    softly.assertThat(cause.getErrorClass()).isEqualTo("java.lang.RuntimeException");
+                    softly.assertThat(deadLetter.getTopic()).isEqualTo(INPUT_TOPIC);
+                });
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorQuarantineTopologyTest {
+    private static final String INPUT_TOPIC = "input";
+    private static final String RELEASE_TOPIC = "release";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String ERROR_TOPIC = "errors";
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final ValueMapperWithKey<String, String, String> mapper = (key, value) -> {
+        this.invocations.incrementAndGet();
+        if (key.startsWith("broken")) {
+            throw new IllegalArgumentException("Cannot process " + value);
+        }
+        return value.toUpperCase();
+    };
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<String, String> input = null;
+    private TestInputTopic<String, String> release = null;
+
+    @BeforeEach
+    void setUp() {
+        final ErrorQuarantine<String> quarantine = ErrorQuarantine.<String>builder()
+                .keySerde(Serdes.String())
+                .maxFailures(2)
+                .failureWindow(Duration.ofMinutes(1L))
+                .ttl(Duration.ofMinutes(10L))
+                .sweepInterval(Duration.ofMinutes(1L))
+                .build();
+        final StreamsBuilder builder = new StreamsBuilder();
+        final KStream<String, ProcessedValue<String, String>> processed =
+                builder.stream(INPUT_TOPIC, Consumed.with(Serdes.String(), Serdes.String()))
+                        .processValues(quarantine.captureErrors(this.mapper));
+        processed.flatMapValues(ProcessedValue::getValues)
+                .to(OUTPUT_TOPIC, Produced.with(Serdes.String(), Serdes.String()));
+        processed.flatMapValues(ProcessedValue::getErrors)
+                .mapValues(error -> error.getThrowable().getMessage())
+                .to(ERROR_TOPIC, Produced.with(Serdes.String(), Serdes.String()));
+        builder.stream(RELEASE_TOPIC, Consumed.with(Serdes.String(), Serdes.String()))
+                .process(quarantine.releaseProcessor());
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "quarantine");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(builder.build(), properties);
+        this.input = this.driver.createInputTopic(INPUT_TOPIC, new StringSerializer(), new StringSerializer());
+        this.release = this.driver.createInputTopic(RELEASE_TOPIC, new StringSerializer(), new StringSerializer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private List<KeyValue<String, String>> readErrors() {
+        return this.driver.createOutputTopic(ERROR_TOPIC, new StringDeserializer(), new StringDeserializer())
+                .readKeyValuesToList();
+    }
+
+    private List<KeyValue<String, String>> readOutput() {
+        return this.driver.createOutputTopic(OUTPUT_TOPIC, new StringDeserializer(), new StringDeserializer())
+                .readKeyValuesToList();
+    }
+
+    @Test
+    void shouldQuarantineKeyAfterRepeatedFailures() {
+        this.input.pipeInput("broken", "a");
+        this.input.pipeInput("broken", "b");
+        this.input.pipeInput("broken", "c");
+        this.input.pipeInput("valid", "d");
+
+        this.softly.assertThat(this.invocations).hasValue(3);
+        this.softly.assertThat(this.readErrors())
+                .containsExactly(
+                        KeyValue.pair("broken", "Cannot process a"),
+                        KeyValue.pair("broken", "Cannot process b"),
+                        KeyValue.pair("broken", QuarantinedException.REASON));
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(KeyValue.pair("valid", "D"));
+    }
+
+    @Test
+    void shouldNotQuarantineKeyIfFailuresAreOutsideOfWindow() {
+        this.input.pipeInput("broken", "a");
+        this.driver.advanceWallClockTime(Duration.ofMinutes(2L));
+        this.input.pipeInput("broken", "b");
+        this.input.pipeInput("broken", "c");
+
+        this.softly.assertThat(this.invocations).hasValue(3);
+        this.softly.assertThat(this.readErrors())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("Cannot process a", "Cannot process b", "Cannot process c");
+    }
+
+    @Test
+    void shouldReleaseKeyAfterTtl() {
+        this.input.pipeInput("broken", "a");
+        this.input.pipeInput("broken", "b");
+        this.driver.advanceWallClockTime(Duration.ofMinutes(11L));
+        this.input.pipeInput("broken", "c");
+
+        this.softly.assertThat(this.invocations).hasValue(3);
+        this.softly.assertThat(this.readErrors())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("Cannot process a", "Cannot process b", "Cannot process c");
+    }
+
+    @Test
+    void shouldReleaseKeyFromReleaseTopic() {
+        this.input.pipeInput("broken", "a");
+        this.input.pipeInput("broken", "b");
+        this.input.pipeInput("broken", "c");
+        this.release.pipeInput("broken", null);
+        this.input.pipeInput("broken", "d");
+
+        this.softly.assertThat(this.invocations).hasValue(3);
+        this.softly.assertThat(this.readErrors())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("Cannot process a", "Cannot process b", QuarantinedException.REASON,
+                        "Cannot process d");
+    }
+
+    @Test
+    void shouldSweepExpiredFailures() {
+        this.input.pipeInput("broken", "a");
+        this.input.pipeInput("broken-quarantined", "b");
+        this.input.pipeInput("broken-quarantined", "c");
+        this.driver.advanceWallClockTime(Duration.ofMinutes(2L));
+
+        final KeyValueStore<String, QuarantineState> store = this.driver.getKeyValueStore("error-quarantine");
+        this.softly.assertThat(store.get("broken")).isNull();
+        this.softly.assertThat(store.get("broken-quarantined")).isNotNull();
+        final KeyValueStore<Bytes, byte[]> expiryStore = this.driver.getKeyValueStore("error-quarantine-expiry");
+        final List<KeyValue<Bytes, byte[]>> expiries = new ArrayList<>();
+        try (final KeyValueIterator<Bytes, byte[]> iterator = expiryStore.all()) {
+            iterator.forEachRemaining(expiries::add);
+        }
+        this.softly.assertThat(expiries).hasSize(1);
+    }
+
+    @Test
+    void shouldQuarantineArrayKeys() {
+        final ErrorQuarantine<byte[]> quarantine = ErrorQuarantine.<byte[]>builder()
+                .keySerde(Serdes.ByteArray())
+                .maxFailures(1)
+                .build();
+        final StreamsBuilder builder = new StreamsBuilder();
+        builder.stream(INPUT_TOPIC, Consumed.with(Serdes.ByteArray(), Serdes.String()))
+                .processValues(quarantine.<String, String>captureErrors((key, value) -> {
+                    this.invocations.incrementAndGet();
+                    throw new IllegalArgumentException("Cannot process " + value);
+                }))
+                .flatMapValues(ProcessedValue::getErrors)
+                .mapValues(error -> error.getThrowable().getMessage())
+                .to(ERROR_TOPIC, Produced.with(Serdes.ByteArray(), Serdes.String()));
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "quarantine-array");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        try (final TopologyTestDriver arrayDriver = new TopologyTestDriver(builder.build(), properties)) {
+            final TestInputTopic<byte[], String> arrayInput = arrayDriver.createInputTopic(INPUT_TOPIC,
+                    new ByteArraySerializer(), new StringSerializer());
+            // every record is deserialized to a distinct array instance
+            arrayInput.pipeInput(new byte[]{1}, "a");
+            arrayInput.pipeInput(new byte[]{1}, "b");
+
+            this.softly.assertThat(this.invocations).hasValue(1);
+            this.softly.assertThat(arrayDriver.createOutputTopic(ERROR_TOPIC, new ByteArrayDeserializer(),
+                            new StringDeserializer()).readValuesToList())
+                    .containsExactly("Cannot process a", QuarantinedException.REASON);
+        }
+    }
+}
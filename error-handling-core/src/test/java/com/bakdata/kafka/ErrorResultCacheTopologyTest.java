@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorResultCacheTopologyTest {
+    private static final String INPUT_TOPIC = "input";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String ERROR_TOPIC = "errors";
+    private static final Predicate<Exception> CACHE_ALL = exception -> true;
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final ValueMapperWithKey<String, String, String> mapper = (key, value) -> {
+        this.invocations.incrementAndGet();
+        if (value.startsWith("invalid")) {
+            throw new IllegalArgumentException("Cannot process " + value);
+        }
+        if (value.startsWith("unavailable")) {
+            throw new IllegalStateException("Service unavailable");
+        }
+        return value.toUpperCase();
+    };
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<String, String> input = null;
+
+    private static String render(final Throwable throwable) {
+        if (throwable instanceof CachedFailureException) {
+            return "cached " + ((CachedFailureException) throwable).getErrorClass() + ": " + throwable.getMessage();
+        }
+        return throwable.getClass().getName() + ": " + throwable.getMessage();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private void start(final ErrorResultCache<String, String> cache) {
+        final StreamsBuilder builder = new StreamsBuilder();
+        final KStream<String, ProcessedValue<String, String>> processed =
+                builder.stream(INPUT_TOPIC, Consumed.with(Serdes.String(), Serdes.String()))
+                        .processValues(cache.captureErrors(this.mapper));
+        processed.flatMapValues(ProcessedValue::getValues)
+                .to(OUTPUT_TOPIC, Produced.with(Serdes.String(), Serdes.String()));
+        processed.flatMapValues(ProcessedValue::getErrors)
+                .mapValues(error -> render(error.getThrowable()))
+                .to(ERROR_TOPIC, Produced.with(Serdes.String(), Serdes.String()));
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "cache");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(builder.build(), properties);
+        this.input = this.driver.createInputTopic(INPUT_TOPIC, new StringSerializer(), new StringSerializer());
+    }
+
+    private List<String> readErrors() {
+        return this.driver.createOutputTopic(ERROR_TOPIC, new StringDeserializer(), new StringDeserializer())
+                .readValuesToList();
+    }
+
+    private List<KeyValue<String, String>> readOutput() {
+        return this.driver.createOutputTopic(OUTPUT_TOPIC, new StringDeserializer(), new StringDeserializer())
+                .readKeyValuesToList();
+    }
+
+    @Test
+    void shouldAnswerIdenticalInputFromCache() {
+        this.start(ErrorResultCache.<String, String>builder()
+                .keySerde(Serdes.String())
+                .valueSerde(Serdes.String())
+                .cacheFilter(CACHE_ALL)
+                .build());
+        this.input.pipeInput("foo", "invalid");
+        this.input.pipeInput("foo", "invalid");
+        this.input.pipeInput("bar", "invalid");
+        this.input.pipeInput("foo", "valid");
+
+        this.softly.assertThat(this.invocations).hasValue(3);
+        this.softly.assertThat(this.readErrors())
+                .containsExactly(
+                        "java.lang.IllegalArgumentException: Cannot process invalid",
+                        "cached java.lang.IllegalArgumentException: Cannot process invalid",
+                        "java.lang.IllegalArgumentException: Cannot process invalid");
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(KeyValue.pair("foo", "VALID"));
+    }
+
+    @Test
+    void shouldUseCustomCacheKey() {
+        this.start(ErrorResultCache.<String, String>builder()
+                .cacheKey((key, value) -> value.substring(0, 7))
+                .cacheFilter(CACHE_ALL)
+                .build());
+        this.input.pipeInput("foo", "invalid 1");
+        this.input.pipeInput("foo", "invalid 2");
+
+        this.softly.assertThat(this.invocations).hasValue(1);
+        this.softly.assertThat(this.readErrors())
+                .containsExactly(
+                        "java.lang.IllegalArgumentException: Cannot process invalid 1",
+                        "cached java.lang.IllegalArgumentException: Cannot process invalid 1");
+    }
+
+    @Test
+    void shouldExpireCachedFailures() {
+        this.start(ErrorResultCache.<String, String>builder()
+                .keySerde(Serdes.String())
+                .valueSerde(Serdes.String())
+                .ttl(Duration.ofMinutes(1L))
+                .cacheFilter(CACHE_ALL)
+                .build());
+        this.input.pipeInput("foo", "invalid");
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+        this.input.pipeInput("foo", "invalid");
+
+        this.softly.assertThat(this.invocations).hasValue(2);
+        this.softly.assertThat(this.readErrors())
+                .containsOnly("java.lang.IllegalArgumentException: Cannot process invalid");
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedFailures() {
+        this.start(ErrorResultCache.<String, String>builder()
+                .keySerde(Serdes.String())
+                .valueSerde(Serdes.String())
+                .maxSize(1)
+                .cacheFilter(CACHE_ALL)
+                .build());
+        this.input.pipeInput("foo", "invalid 1");
+        this.input.pipeInput("foo", "invalid 2");
+        this.input.pipeInput("foo", "invalid 1");
+
+        this.softly.assertThat(this.invocations).hasValue(3);
+    }
+
+    @Test
+    void shouldOnlyCacheFilteredErrors() {
+        this.start(ErrorResultCache.<String, String>builder()
+                .keySerde(Serdes.String())
+                .valueSerde(Serdes.String())
+                .cacheFilter(IllegalArgumentException.class::isInstance)
+                .build());
+        this.input.pipeInput("foo", "unavailable");
+        this.input.pipeInput("foo", "unavailable");
+
+        this.softly.assertThat(this.invocations).hasValue(2);
+        this.softly.assertThat(this.readErrors())
+                .containsOnly("java.lang.IllegalStateException: Service unavailable");
+    }
+
+    @Test
+    void shouldLogCacheToChangelog() {
+        final ErrorResultCache<String, String> cache = ErrorResultCache.<String, String>builder()
+                .keySerde(Serdes.String())
+                .valueSerde(Serdes.String())
+                .cacheFilter(CACHE_ALL)
+                .logging(true)
+                .build();
+        this.start(cache);
+        this.input.pipeInput("foo", "invalid");
+
+        this.softly.assertThat(this.driver.producedTopicNames())
+                .contains("cache-error-result-cache-changelog");
+    }
+
+    @Test
+    void shouldRequireSerdesOrCacheKey() {
+        this.softly.assertThatThrownBy(() -> ErrorResultCache.<String, String>builder()
+                        .valueSerde(Serdes.String())
+                        .cacheFilter(CACHE_ALL)
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Either key and value serdes or a cache key need to be provided");
+        this.softly.assertThatThrownBy(() -> ErrorResultCache.<String, String>builder()
+                        .keySerde(Serdes.String())
+                        .cacheFilter(CACHE_ALL)
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Either key and value serdes or a cache key need to be provided");
+    }
+
+    @Test
+    void shouldRequireCacheFilter() {
+        this.softly.assertThatThrownBy(() -> ErrorResultCache.<String, String>builder()
+                        .keySerde(Serdes.String())
+                        .valueSerde(Serdes.String())
+                        .build())
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldDescribeCachedFailureWithCachedClass() {
+        final CachedFailureException exception =
+                CachedFailure.of(new IllegalArgumentException("Cannot process 42"), 0L).toException();
+        this.softly.assertThat(DeadLetterDescription.Cause.of(exception).getErrorClass())
+                .isEqualTo(IllegalArgumentException.class.getName());
+        this.softly.assertThat(ErrorSignature.of(exception, null))
+                .isEqualTo(new ErrorSignature(IllegalArgumentException.class.getName(), "Cannot process #", null));
+    }
+}
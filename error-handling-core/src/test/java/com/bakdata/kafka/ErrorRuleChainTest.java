@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilteringProcessingExceptionHandlerConfig.FILTER_CONFIG;
+import static com.bakdata.kafka.FilteringProcessingExceptionHandlerConfig.RULES_CONFIG;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import org.apache.kafka.common.config.ConfigException;
+import org.apache.kafka.streams.errors.ErrorHandlerContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorRuleChainTest {
+    private static final Record<Integer, String> RECORD = new Record<>(1, "foo", 0L);
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    @Mock
+    private ErrorHandlerContext context;
+
+    private static ErrorRuleChain createChain(final Map<String, Object> properties) {
+        return new FilteringProcessingExceptionHandlerConfig(properties).getErrorRuleChain();
+    }
+
+    @BeforeEach
+    void setUp() {
+        when(this.context.processorNodeId()).thenReturn("my-processor");
+        when(this.context.topic()).thenReturn("input");
+    }
+
+    @Test
+    void shouldUseFilterIfNoRulesAreConfigured() {
+        final ErrorRuleChain chain = createChain(Map.of());
+        this.softly.assertThat(chain.classify(this.context, RECORD, new RuntimeException()))
+                .isEqualTo(ErrorAction.RESUME);
+    }
+
+    @Test
+    void shouldUseFilterIfNoRuleMatches() {
+        final ErrorRuleChain chain = createChain(Map.of(
+                FILTER_CONFIG, FilteringProcessingExceptionHandlerTopologyTest.TestFilter.class,
+                RULES_CONFIG, "drop",
+                RULES_CONFIG + ".drop.exception", IllegalArgumentException.class.getName(),
+                RULES_CONFIG + ".drop.action", "drop"
+        ));
+        this.softly.assertThat(chain.classify(this.context, RECORD, new IllegalArgumentException()))
+                .isEqualTo(ErrorAction.DROP);
+        this.softly.assertThat(chain.classify(this.context, RECORD, new IllegalStateException()))
+                .isEqualTo(ErrorAction.FAIL);
+        this.softly.assertThat(chain.classify(this.context, RECORD, new RuntimeException()))
+                .isEqualTo(ErrorAction.RESUME);
+    }
+
+    @Test
+    void shouldMatchExceptionHierarchy() {
+        final ErrorRuleChain chain = createChain(Map.of(
+                RULES_CONFIG, "drop",
+                RULES_CONFIG + ".drop.exception", RuntimeException.class.getName(),
+                RULES_CONFIG + ".drop.action", "drop"
+        ));
+        this.softly.assertThat(chain.classify(this.context, RECORD, new IllegalArgumentException()))
+                .isEqualTo(ErrorAction.DROP);
+        this.softly.assertThat(chain.classify(this.context, RECORD, new IOException()))
+                .isEqualTo(ErrorAction.RESUME);
+    }
+
+    @Test
+    void shouldApplyFirstMatchingRule() {
+        final ErrorRuleChain chain = createChain(Map.of(
+                RULES_CONFIG, "fail, drop",
+                RULES_CONFIG + ".fail.message", "^fatal",
+                RULES_CONFIG + ".fail.action", "fail",
+                RULES_CONFIG + ".drop.exception", RuntimeException.class.getName(),
+                RULES_CONFIG + ".drop.action", "DROP"
+        ));
+        this.softly.assertThat(chain.classify(this.context, RECORD, new RuntimeException("fatal error")))
+                .isEqualTo(ErrorAction.FAIL);
+        this.softly.assertThat(chain.classify(this.context, RECORD, new RuntimeException("error")))
+                .isEqualTo(ErrorAction.DROP);
+        this.softly.assertThat(chain.classify(this.context, RECORD, new RuntimeException()))
+                .isEqualTo(ErrorAction.DROP);
+    }
+
+    @Test
+    void shouldMatchCause() {
+        final ErrorRuleChain chain = createChain(Map.of(
+                RULES_CONFIG, "io",
+                RULES_CONFIG + ".io.cause", IOException.class.getName(),
+                RULES_CONFIG + ".io.action", "fail"
+        ));
+        this.softly.assertThat(chain.classify(this.context, RECORD,
+                        new RuntimeException(new UncheckedIOException(new IOException()))))
+                .isEqualTo(ErrorAction.FAIL);
+        this.softly.assertThat(chain.classify(this.context, RECORD, new RuntimeException()))
+                .isEqualTo(ErrorAction.RESUME);
+    }
+
+    @Test
+    void shouldMatchNodeAndTopic() {
+        final ErrorRuleChain chain = createChain(Map.of(
+                RULES_CONFIG, "node,topic",
+                RULES_CONFIG + ".node.node", "other-.*",
+                RULES_CONFIG + ".node.action", "fail",
+                RULES_CONFIG + ".topic.topic", "in.*",
+                RULES_CONFIG + ".topic.action", "drop"
+        ));
+        this.softly.assertThat(chain.classify(this.context, RECORD, new RuntimeException()))
+                .isEqualTo(ErrorAction.DROP);
+        when(this.context.processorNodeId()).thenReturn("other-processor");
+        this.softly.assertThat(chain.classify(this.context, RECORD, new RuntimeException()))
+                .isEqualTo(ErrorAction.FAIL);
+    }
+
+    @Test
+    void shouldThrowIfActionIsMissing() {
+        this.softly.assertThatThrownBy(() -> createChain(Map.of(
+                        RULES_CONFIG, "rule",
+                        RULES_CONFIG + ".rule.exception", RuntimeException.class.getName()
+                )))
+                .isInstanceOf(ConfigException.class)
+                .hasMessageContaining(RULES_CONFIG + ".rule.action");
+    }
+
+    @Test
+    void shouldThrowIfActionIsInvalid() {
+        this.softly.assertThatThrownBy(() -> createChain(Map.of(
+                        RULES_CONFIG, "rule",
+                        RULES_CONFIG + ".rule.action", "retry"
+                )))
+                .isInstanceOf(ConfigException.class);
+    }
+
+    @Test
+    void shouldThrowIfClassIsUnknown() {
+        this.softly.assertThatThrownBy(() -> createChain(Map.of(
+                        RULES_CONFIG, "rule",
+                        RULES_CONFIG + ".rule.exception", "com.bakdata.kafka.UnknownException",
+                        RULES_CONFIG + ".rule.action", "drop"
+                )))
+                .isInstanceOf(ConfigException.class);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.IntStream;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ErrorSignatureTrackerTest {
+
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldNormalizeMessages() {
+        this.softly.assertThat(ErrorSignature.of(new IllegalArgumentException("Cannot find id 42 at offset 1337"),
+                        "Description"))
+                .isEqualTo(new ErrorSignature("java.lang.IllegalArgumentException", "Cannot find id # at offset #",
+                        "Description"));
+        this.softly.assertThat(ErrorSignature.normalize(null)).isNull();
+        this.softly.assertThat(ErrorSignature.normalize("x".repeat(1000))).hasSize(256);
+    }
+
+    @Test
+    void shouldTrackHeavyHitters() {
+        final ErrorSignatureTracker tracker = ErrorSignatureTracker.create(8);
+        IntStream.range(0, 100).forEach(i -> tracker.record(new IllegalStateException("Error " + i), "heavy"));
+        IntStream.range(0, 50).forEach(i -> tracker.record(new IllegalArgumentException("Error"), "medium"));
+        // many distinct signatures that must not evict the heavy hitters
+        IntStream.range(0, 200).forEach(i -> tracker.record(new RuntimeException("Error"), "light-" + i));
+
+        final List<ErrorSignatureTracker.HeavyHitter> heavyHitters = tracker.getHeavyHitters(2);
+        this.softly.assertThat(heavyHitters)
+                .extracting(ErrorSignatureTracker.HeavyHitter::getSignature)
+                .containsExactly(
+                        new ErrorSignature("java.lang.IllegalStateException", "Error #", "heavy"),
+                        new ErrorSignature("java.lang.IllegalArgumentException", "Error", "medium"));
+        this.softly.assertThat(heavyHitters.get(0).getCount()).isGreaterThanOrEqualTo(100L);
+        this.softly.assertThat(heavyHitters.get(1).getCount()).isGreaterThanOrEqualTo(50L);
+        this.softly.assertThat(tracker.getTotalErrors()).isEqualTo(350L);
+        this.softly.assertThat(tracker.getTopSignatures()).hasSizeLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void shouldReset() {
+        final ErrorSignatureTracker tracker = ErrorSignatureTracker.create(8);
+        tracker.record(new IllegalStateException(), null);
+        tracker.reset();
+        this.softly.assertThat(tracker.getHeavyHitters(10)).isEmpty();
+        this.softly.assertThat(tracker.getTotalErrors()).isZero();
+    }
+
+    @Test
+    void shouldRecordCapturedErrorOnceWithDescription() {
+        final IllegalStateException exception = new IllegalStateException("Cannot process record once");
+        final ErrorSignature captured = ErrorSignature.of(exception, null);
+        final ErrorSignature described = ErrorSignature.of(exception, "Description");
+        final List<DeadLetterDescription> deadLetters = new ArrayList<>();
+        final StreamsBuilder builder = new StreamsBuilder();
+        builder.stream("input", Consumed.with(Serdes.String(), Serdes.String()))
+                .mapValues(ErrorCapturingValueMapper.<String, String>captureErrors(value -> {
+                    throw exception;
+                }))
+                .flatMapValues(ProcessedValue::getErrors)
+                .processValues(DeadLetterProcessor.create("Description", deadLetter -> deadLetter))
+                .foreach((key, deadLetter) -> deadLetters.add(deadLetter));
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "tracker");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        final ErrorSignatureTracker tracker = ErrorSignatureTracker.getInstance();
+        final long totalErrors = tracker.getTotalErrors();
+        final long capturedErrors = tracker.estimate(captured);
+        final long describedErrors = tracker.estimate(described);
+        try (final TopologyTestDriver driver = new TopologyTestDriver(builder.build(), properties)) {
+            driver.createInputTopic("input", new StringSerializer(), new StringSerializer())
+                    .pipeInput("foo", "bar");
+        }
+
+        this.softly.assertThat(deadLetters).hasSize(1);
+        this.softly.assertThat(tracker.getTotalErrors() - totalErrors).isEqualTo(1L);
+        this.softly.assertThat(tracker.estimate(captured) - capturedErrors).isZero();
+        this.softly.assertThat(tracker.estimate(described) - describedErrors).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotAllowNonPositiveCapacity() {
+        this.softly.assertThatThrownBy(() -> ErrorSignatureTracker.create(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilteringProcessingExceptionHandler.HEADER_ERRORS_PROCESSOR_NODE_ID_NAME;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serdes.StringSerde;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Named;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.ValueMapper;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@ExtendWith(SoftAssertionsExtension.class)
+class FilteringProcessingExceptionHandlerDeadLetterTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String ERROR_TOPIC = "errors";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<Long> LONG_SERDE = Serdes.Long();
+    @Mock
+    ValueMapper<String, Long> mapper;
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC);
+        final KStream<Integer, Long> mapped = input.mapValues(this.mapper, Named.as("map"));
+        mapped.to(OUTPUT_TOPIC, Produced.valueSerde(LONG_SERDE));
+    }
+
+    @Override
+    protected Map<String, Object> getKafkaProperties() {
+        final Map<String, Object> kafkaProperties = super.getKafkaProperties();
+        kafkaProperties.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, StringSerde.class);
+        kafkaProperties.put(StreamsConfig.ERRORS_DEAD_LETTER_QUEUE_TOPIC_NAME_CONFIG, ERROR_TOPIC);
+        kafkaProperties.put(StreamsConfig.PROCESSING_EXCEPTION_HANDLER_CLASS_CONFIG,
+                FilteringProcessingExceptionHandler.class);
+        kafkaProperties.put(FilteringProcessingExceptionHandlerConfig.DEAD_LETTER_CONVERTER_CONFIG,
+                IdentityConverter.class);
+        kafkaProperties.put(FilteringProcessingExceptionHandlerConfig.DEAD_LETTER_SERIALIZER_CONFIG,
+                TestDeadLetterSerializer.class);
+        return kafkaProperties;
+    }
+
+    @Test
+    void shouldProduceConvertedDeadLetter() {
+        doThrow(new RuntimeException("Cannot process")).when(this.mapper).apply("foo");
+        doReturn(2L).when(this.mapper).apply("bar");
+        this.createTopology();
+        this.topology.input()
+                .add(1, "foo", 100)
+                .add(2, "bar", 200);
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        this.softly.assertThat(records)
+                .hasSize(1);
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueSerde(new TestDeadLetterSerde())
+                .toList();
+        this.softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> {
+                    this.softly.assertThat(producerRecord.key()).isEqualTo(1);
+                    this.softly.assertThat(producerRecord.headers().lastHeader(HEADER_ERRORS_PROCESSOR_NODE_ID_NAME))
+                            .isNotNull();
+                })
+                .extracting(ProducerRecord::value)
+                .satisfies(deadLetter -> {
+                    this.softly.assertThat(deadLetter.getInputValue()).isEqualTo("foo");
+                    this.softly.assertThat(deadLetter.getDescription()).isEqualTo("map");
+                    final DeadLetterDescription.Cause cause = deadLetter.getCause();
+                    this.softly.assertThat(cause.getMessage()).isEqualTo("Cannot process");
+                    this.softly.assertThat(cause.getStackTrace()).isNotNull();
+                    this.softly.assertThat(cause.getErrorClass()).isEqualTo("java.lang.RuntimeException");
+                    this.softly.assertThat(deadLetter.getTopic()).isEqualTo(INPUT_TOPIC);
+                    this.softly.assertThat(deadLetter.getPartition()).isEqualTo(0);
+                    this.softly.assertThat(deadLetter.getOffset()).isEqualTo(0L);
+                    this.softly.assertThat(deadLetter.getInputTimestamp()).isEqualTo(Instant.ofEpochMilli(100));
+                });
+    }
+
+    @Test
+    void shouldUseConfiguredDescription() {
+        doThrow(new RuntimeException("Cannot process")).when(this.mapper).apply("foo");
+        final Map<String, Object> kafkaProperties = this.getKafkaProperties();
+        kafkaProperties.put(FilteringProcessingExceptionHandlerConfig.DESCRIPTION_CONFIG, "Description");
+        this.createTopology(kafkaProperties);
+        this.topology.input()
+                .add(1, "foo");
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueSerde(new TestDeadLetterSerde())
+                .toList();
+        this.softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .extracting(ProducerRecord::value)
+                .satisfies(deadLetter -> this.softly.assertThat(deadLetter.getDescription())
+                        .isEqualTo("Description"));
+    }
+
+    @Test
+    void shouldKeyDeadLettersByHash() {
+        doThrow(new RuntimeException("Cannot process")).when(this.mapper).apply("foo");
+        final Map<String, Object> kafkaProperties = this.getKafkaProperties();
+        kafkaProperties.put(FilteringProcessingExceptionHandlerConfig.DEAD_LETTER_KEY_STRATEGY_CONFIG, "hash");
+        this.createTopology(kafkaProperties);
+        this.topology.input()
+                .add(1, "foo");
+        final List<ProducerRecord<DeadLetterKey, DeadLetterDescription>> errors =
+                this.topology.streamOutput(ERROR_TOPIC)
+                        .withKeySerde(new DeadLetterKeySerde())
+                        .withValueSerde(new TestDeadLetterSerde())
+                        .toList();
+        this.softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .extracting(ProducerRecord::key)
+                .isEqualTo(DeadLetterKey.of(INPUT_TOPIC, 0, 0L, "map"));
+    }
+
+    public static class IdentityConverter implements DeadLetterConverter<DeadLetterDescription> {
+        @Override
+        public DeadLetterDescription convert(final DeadLetterDescription deadLetterDescription) {
+            return deadLetterDescription;
+        }
+    }
+
+    public static class TestDeadLetterSerializer implements Serializer<DeadLetterDescription> {
+        private final Serializer<DeadLetterDescription> serializer = new TestDeadLetterSerde().serializer();
+
+        @Override
+        public byte[] serialize(final String topic, final DeadLetterDescription data) {
+            return this.serializer.serialize(topic, data);
+        }
+    }
+}
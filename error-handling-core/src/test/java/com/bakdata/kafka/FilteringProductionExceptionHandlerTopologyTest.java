@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilteringProcessingExceptionHandler.HEADER_ERRORS_TASK_ID_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_EXCEPTION_MESSAGE_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_EXCEPTION_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_TOPIC_NAME;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serdes.StringSerde;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class FilteringProductionExceptionHandlerTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String ERROR_TOPIC = "errors";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<String> FAILING_SERDE = Serdes.serdeFrom((topic, data) -> {
+        if ("foo".equals(data)) {
+            throw new SerializationException("Cannot serialize");
+        }
+        try (final StringSerializer serializer = new StringSerializer()) {
+            return serializer.serialize(topic, data);
+        }
+    }, new StringDeserializer());
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    private static String getDeserialized(final Headers headers, final String name) {
+        try (final Deserializer<String> deserializer = new StringDeserializer()) {
+            return deserializer.deserialize(null, headers.lastHeader(name).value());
+        }
+    }
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC);
+        input.to(OUTPUT_TOPIC, Produced.valueSerde(FAILING_SERDE));
+    }
+
+    @Override
+    protected Map<String, Object> getKafkaProperties() {
+        final Map<String, Object> kafkaProperties = super.getKafkaProperties();
+        kafkaProperties.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, StringSerde.class);
+        kafkaProperties.put(StreamsConfig.ERRORS_DEAD_LETTER_QUEUE_TOPIC_NAME_CONFIG, ERROR_TOPIC);
+        kafkaProperties.put(StreamsConfig.PRODUCTION_EXCEPTION_HANDLER_CLASS_CONFIG,
+                FilteringProductionExceptionHandler.class);
+        return kafkaProperties;
+    }
+
+    @Test
+    void shouldSendUnserializableRecordsToDeadLetterQueue() {
+        this.createTopology();
+        this.topology.input()
+                .add(1, "foo")
+                .add(2, "bar");
+        final List<ProducerRecord<Integer, String>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .toList();
+        this.softly.assertThat(records)
+                .hasSize(1)
+                .first()
+                .extracting(ProducerRecord::value)
+                .isEqualTo("bar");
+        final List<ProducerRecord<Integer, String>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .toList();
+        this.softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> {
+                    this.softly.assertThat(producerRecord.key()).isEqualTo(1);
+                    this.softly.assertThat(producerRecord.value()).isEqualTo("foo");
+                })
+                .extracting(ProducerRecord::headers)
+                .satisfies(headers -> {
+                    this.softly.assertThat(getDeserialized(headers, HEADER_ERRORS_EXCEPTION_MESSAGE_NAME))
+                            .isEqualTo("Cannot serialize");
+                    this.softly.assertThat(getDeserialized(headers, HEADER_ERRORS_EXCEPTION_NAME))
+                            .isEqualTo(SerializationException.class.getName());
+                    this.softly.assertThat(getDeserialized(headers, HEADER_ERRORS_TOPIC_NAME))
+                            .isEqualTo(INPUT_TOPIC);
+                    this.softly.assertThat(getDeserialized(headers, HEADER_ERRORS_TASK_ID_NAME)).isEqualTo("0_0");
+                });
+    }
+}
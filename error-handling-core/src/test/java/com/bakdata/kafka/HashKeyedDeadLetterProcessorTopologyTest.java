@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.ValueMapper;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@ExtendWith(SoftAssertionsExtension.class)
+class HashKeyedDeadLetterProcessorTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String ERROR_TOPIC = "errors";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<String> STRING_SERDE = Serdes.String();
+    private static final Serde<Long> LONG_SERDE = Serdes.Long();
+    @Mock
+    ValueMapper<String, Long> mapper;
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC, Consumed.with(null, STRING_SERDE));
+        final KStream<Integer, ProcessedValue<String, Long>> mapped =
+                input.mapValues(ErrorCapturingValueMapper.captureErrors(this.mapper));
+        mapped.flatMapValues(ProcessedValue::getValues)
+                .to(OUTPUT_TOPIC, Produced.valueSerde(LONG_SERDE));
+        mapped.flatMapValues(ProcessedValue::getErrors)
+                .process(HashKeyedDeadLetterProcessor.<Integer, String, DeadLetterDescription>create("Description",
+                        deadLetterDescription -> deadLetterDescription))
+                .to(ERROR_TOPIC, Produced.keySerde(new DeadLetterKeySerde()));
+    }
+
+    @Test
+    void shouldKeyDeadLettersByInputPosition() {
+        doThrow(new RuntimeException("Cannot process")).when(this.mapper).apply("foo");
+        doReturn(2L).when(this.mapper).apply("bar");
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "foo")
+                .add(1, "bar")
+                .add(1, "foo");
+
+        final List<ProducerRecord<DeadLetterKey, DeadLetterDescription>> errors =
+                this.topology.streamOutput(ERROR_TOPIC)
+                        .withKeySerde(new DeadLetterKeySerde())
+                        .withValueSerde(new TestDeadLetterSerde())
+                        .toList();
+        this.softly.assertThat(errors)
+                .extracting(ProducerRecord::key)
+                .containsExactly(
+                        DeadLetterKey.of(INPUT_TOPIC, 0, 0L, "Description"),
+                        DeadLetterKey.of(INPUT_TOPIC, 0, 2L, "Description")
+                );
+        this.softly.assertThat(errors)
+                .extracting(ProducerRecord::value)
+                .allSatisfy(deadLetter -> this.softly.assertThat(deadLetter.getInputValue()).isEqualTo("foo"));
+    }
+}
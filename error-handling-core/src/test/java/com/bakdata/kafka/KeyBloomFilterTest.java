@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.charset.StandardCharsets;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class KeyBloomFilterTest {
+    private static final int KEYS = 1000;
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    private static byte[] bytes(final String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldContainAddedKeys() {
+        final KeyBloomFilter filter = KeyBloomFilter.create(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            filter.add(bytes("key-" + i));
+        }
+        for (int i = 0; i < KEYS; i++) {
+            this.softly.assertThat(filter.mightContain(bytes("key-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    void shouldHaveFewFalsePositives() {
+        final KeyBloomFilter filter = KeyBloomFilter.create(KEYS);
+        for (int i = 0; i < KEYS; i++) {
+            filter.add(bytes("key-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < KEYS; i++) {
+            if (filter.mightContain(bytes("other-" + i))) {
+                falsePositives++;
+            }
+        }
+        this.softly.assertThat(falsePositives).isLessThan(KEYS / 20);
+    }
+
+    @Test
+    void shouldContainEqualKeys() {
+        final KeyBloomFilter filter = KeyBloomFilter.create(KEYS);
+        filter.add(new byte[]{1, 2, 3});
+        this.softly.assertThat(filter.mightContain(new byte[]{1, 2, 3})).isTrue();
+    }
+
+    @Test
+    void shouldBeEmptyAfterClear() {
+        final KeyBloomFilter filter = KeyBloomFilter.create(KEYS);
+        filter.add(bytes("key"));
+        filter.clear();
+        this.softly.assertThat(filter.mightContain(bytes("key"))).isFalse();
+    }
+
+    @Test
+    void shouldNotAllowNonPositiveExpectedKeys() {
+        this.softly.assertThatThrownBy(() -> KeyBloomFilter.create(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
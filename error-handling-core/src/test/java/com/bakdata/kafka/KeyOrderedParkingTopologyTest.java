@@ -0,0 +1,324 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.apache.kafka.streams.test.TestRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class KeyOrderedParkingTopologyTest {
+    private static final String INPUT_TOPIC = "input";
+    private static final String ACKNOWLEDGE_TOPIC = "acknowledge";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String ERROR_TOPIC = "errors";
+    private final Set<String> brokenValues = new HashSet<>();
+    private final Set<String> recoverableValues = new HashSet<>();
+    private final ValueMapperWithKey<String, String, String> mapper = (key, value) -> {
+        if (this.brokenValues.contains(value)) {
+            throw new IllegalArgumentException("Cannot process " + value);
+        }
+        if (this.recoverableValues.contains(value)) {
+            throw ErrorCaptureTopologyTest.createRecoverableException();
+        }
+        return value.toUpperCase();
+    };
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<String, String> input = null;
+    private TestInputTopic<String, String> acknowledge = null;
+
+    @BeforeEach
+    void setUp() {
+        this.createTopology(KeyOrderedParking.<String, String>builder()
+                .keySerde(Serdes.String())
+                .valueSerde(Serdes.String())
+                .retryInterval(Duration.ofMinutes(1L))
+                .build());
+    }
+
+    private void createTopology(final KeyOrderedParking<String, String> parking) {
+        final StreamsBuilder builder = new StreamsBuilder();
+        final KStream<String, ProcessedValue<String, String>> processed =
+                builder.stream(INPUT_TOPIC, Consumed.with(Serdes.String(), Serdes.String()))
+                        .process(parking.captureErrors(this.mapper));
+        processed.flatMapValues(ProcessedValue::getValues)
+                .to(OUTPUT_TOPIC, Produced.with(Serdes.String(), Serdes.String()));
+        processed.flatMapValues(ProcessedValue::getErrors)
+                .mapValues(error -> error.getThrowable().getMessage())
+                .to(ERROR_TOPIC, Produced.with(Serdes.String(), Serdes.String()));
+        builder.stream(ACKNOWLEDGE_TOPIC, Consumed.with(Serdes.String(), Serdes.String()))
+                .process(parking.acknowledgeProcessor());
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "parking");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(builder.build(), properties);
+        this.input = this.driver.createInputTopic(INPUT_TOPIC, new StringSerializer(), new StringSerializer());
+        this.acknowledge =
+                this.driver.createInputTopic(ACKNOWLEDGE_TOPIC, new StringSerializer(), new StringSerializer());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private List<KeyValue<String, String>> readErrors() {
+        return this.driver.createOutputTopic(ERROR_TOPIC, new StringDeserializer(), new StringDeserializer())
+                .readKeyValuesToList();
+    }
+
+    private List<KeyValue<String, String>> readOutput() {
+        return this.driver.createOutputTopic(OUTPUT_TOPIC, new StringDeserializer(), new StringDeserializer())
+                .readKeyValuesToList();
+    }
+
+    @Test
+    void shouldParkRecordsBehindFailedRecord() {
+        this.brokenValues.add("b");
+        this.input.pipeInput("foo", "a");
+        this.input.pipeInput("foo", "b");
+        this.input.pipeInput("foo", "c");
+        this.input.pipeInput("bar", "d");
+
+        this.softly.assertThat(this.readErrors())
+                .containsExactly(KeyValue.pair("foo", "Cannot process b"));
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(
+                        KeyValue.pair("foo", "A"),
+                        KeyValue.pair("bar", "D"));
+    }
+
+    @Test
+    void shouldReleaseParkedRecordsInOrderWhenHeadSucceeds() {
+        this.brokenValues.add("a");
+        this.input.pipeInput("foo", "a");
+        this.input.pipeInput("foo", "b");
+        this.input.pipeInput("foo", "c");
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+        this.brokenValues.clear();
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+        this.input.pipeInput("foo", "d");
+
+        this.softly.assertThat(this.readErrors())
+                .containsExactly(KeyValue.pair("foo", "Cannot process a"));
+        this.softly.assertThat(this.readOutput())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("A", "B", "C", "D");
+    }
+
+    @Test
+    void shouldParkBehindNewHeadIfReleasedRecordFails() {
+        this.brokenValues.add("a");
+        this.brokenValues.add("c");
+        this.input.pipeInput("foo", "a");
+        this.input.pipeInput("foo", "b");
+        this.input.pipeInput("foo", "c");
+        this.input.pipeInput("foo", "d");
+        this.brokenValues.remove("a");
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+
+        this.softly.assertThat(this.readErrors())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("Cannot process a", "Cannot process c");
+        this.softly.assertThat(this.readOutput())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("A", "B");
+    }
+
+    @Test
+    void shouldKeepParkingKeyThatIsStillParkedAfterRetry() {
+        this.brokenValues.add("a");
+        this.input.pipeInput("foo", "a");
+        this.input.pipeInput("bar", "b");
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+        this.input.pipeInput("foo", "c");
+        this.input.pipeInput("bar", "d");
+
+        this.softly.assertThat(this.readErrors())
+                .containsExactly(KeyValue.pair("foo", "Cannot process a"));
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(
+                        KeyValue.pair("bar", "B"),
+                        KeyValue.pair("bar", "D"));
+    }
+
+    @Test
+    void shouldKeepHeadersAndTimestampOfParkedRecords() {
+        this.brokenValues.add("a");
+        this.input.pipeInput("foo", "a");
+        final RecordHeaders headers = new RecordHeaders();
+        headers.add("trace", "id".getBytes(StandardCharsets.UTF_8));
+        headers.add("trace", "other".getBytes(StandardCharsets.UTF_8));
+        headers.add("empty", null);
+        this.input.pipeInput(new TestRecord<>("foo", "b", headers, 42L));
+        this.brokenValues.clear();
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+
+        final List<TestRecord<String, String>> output =
+                this.driver.createOutputTopic(OUTPUT_TOPIC, new StringDeserializer(), new StringDeserializer())
+                        .readRecordsToList();
+        this.softly.assertThat(output)
+                .map(TestRecord::getValue)
+                .containsExactly("A", "B");
+        this.softly.assertThat(output.get(1).getRecordTime().toEpochMilli()).isEqualTo(42L);
+        this.softly.assertThat(output.get(1).getHeaders()).isEqualTo(headers);
+    }
+
+    @Test
+    void shouldSkipAcknowledgedHead() {
+        this.brokenValues.add("a");
+        this.input.pipeInput("foo", "a");
+        this.input.pipeInput("foo", "b");
+        this.input.pipeInput("foo", "c");
+        this.acknowledge.pipeInput("foo", null);
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+        this.input.pipeInput("foo", "d");
+
+        this.softly.assertThat(this.readErrors())
+                .containsExactly(KeyValue.pair("foo", "Cannot process a"));
+        this.softly.assertThat(this.readOutput())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("B", "C", "D");
+    }
+
+    @Test
+    void shouldIgnoreAcknowledgementOfKeyThatIsNotParked() {
+        this.acknowledge.pipeInput("foo", null);
+        this.input.pipeInput("foo", "a");
+
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(KeyValue.pair("foo", "A"));
+    }
+
+    @Test
+    void shouldRetryLimitedNumberOfKeysPerInterval() {
+        this.driver.close();
+        this.createTopology(KeyOrderedParking.<String, String>builder()
+                .keySerde(Serdes.String())
+                .valueSerde(Serdes.String())
+                .retryInterval(Duration.ofMinutes(1L))
+                .maxRetriesPerInterval(1)
+                .build());
+        this.brokenValues.add("a");
+        this.brokenValues.add("b");
+        this.input.pipeInput("foo", "a");
+        this.input.pipeInput("bar", "b");
+        this.brokenValues.clear();
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(KeyValue.pair("bar", "B"));
+
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+        this.input.pipeInput("foo", "c");
+        this.input.pipeInput("bar", "d");
+
+        this.softly.assertThat(this.readOutput())
+                .containsExactly(
+                        KeyValue.pair("foo", "A"),
+                        KeyValue.pair("foo", "C"),
+                        KeyValue.pair("bar", "D"));
+    }
+
+    @Test
+    void shouldNotFailOnRecoverableErrorWhileReleasing() {
+        this.brokenValues.add("a");
+        this.input.pipeInput("foo", "a");
+        this.input.pipeInput("foo", "b");
+        this.input.pipeInput("foo", "c");
+        this.brokenValues.clear();
+        this.recoverableValues.add("c");
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+
+        this.softly.assertThat(this.readOutput())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("A", "B");
+
+        this.recoverableValues.clear();
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+        this.input.pipeInput("foo", "d");
+
+        this.softly.assertThat(this.readOutput())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("C", "D");
+        this.softly.assertThat(this.readErrors())
+                .containsExactly(KeyValue.pair("foo", "Cannot process a"));
+    }
+
+    @Test
+    void shouldSkipMissingParkedRecords() {
+        this.brokenValues.add("a");
+        this.input.pipeInput("foo", "a");
+        this.input.pipeInput("foo", "b");
+        this.input.pipeInput("foo", "c");
+        final KeyValueStore<Bytes, byte[]> records = this.driver.getKeyValueStore("error-parking-records");
+        records.delete(ParkedRecord.storeKey(Bytes.wrap("foo".getBytes(StandardCharsets.UTF_8)), 1L));
+        this.brokenValues.clear();
+        this.driver.advanceWallClockTime(Duration.ofMinutes(1L));
+
+        this.softly.assertThat(this.readOutput())
+                .map(keyValue -> keyValue.value)
+                .containsExactly("A", "C");
+    }
+
+    @Test
+    void shouldRequirePositiveMaxRetriesPerInterval() {
+        this.softly.assertThatThrownBy(() -> KeyOrderedParking.<String, String>builder()
+                        .keySerde(Serdes.String())
+                        .valueSerde(Serdes.String())
+                        .maxRetriesPerInterval(0)
+                        .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -25,6 +25,7 @@
 package com.bakdata.kafka;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import org.junit.jupiter.api.Test;
@@ -44,7 +45,33 @@ class ProcessingErrorTest {
     @Test
     void shouldNotAllowNullCause() {
         assertThatNullPointerException()
-                .isThrownBy(() -> ProcessingError.builder().value("foo").throwable(null).build());
+                .isThrownBy(() -> ProcessingError.builder().value("foo").throwable(null).build())
+                .withMessage("Either throwable or failure is required");
+    }
+
+    @Test
+    void shouldNotAllowThrowableAndFailure() {
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> ProcessingError.builder()
+                        .value("foo")
+                        .throwable(this.throwable)
+                        .failure(ProcessingFailure.of("Invalid"))
+                        .build());
+    }
+
+    @Test
+    void shouldCreateStacklessExceptionForFailure() {
+        final ProcessingFailure failure = ProcessingFailure.of("Invalid");
+        final ProcessingError<String> error = ProcessingError.<String>builder()
+                .value("foo")
+                .failure(failure)
+                .build();
+        assertThat(error.getFailure()).hasValue(failure);
+        assertThat(error.getThrowable())
+                .isInstanceOf(ProcessingFailureException.class)
+                .hasMessage("Invalid")
+                .isSameAs(error.getThrowable());
+        assertThat(error.getThrowable().getStackTrace()).isEmpty();
     }
 
     @Test
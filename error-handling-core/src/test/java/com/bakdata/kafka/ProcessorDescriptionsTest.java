@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ProcessorDescriptionsTest {
+    private static final List<ProcessorDescriptions.NodeDescription> PARSING = List.of(
+            new ProcessorDescriptions.NodeDescription(Pattern.compile("^parse"), "Parsing"));
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldUseNodeDescription() {
+        final ProcessorDescriptions descriptions = new ProcessorDescriptions(PARSING, "fallback");
+        this.softly.assertThat(descriptions.describe("parse-input")).isEqualTo("Parsing");
+        this.softly.assertThat(descriptions.describe("enrich")).isEqualTo("fallback");
+        this.softly.assertThat(descriptions.describe(null)).isEqualTo("fallback");
+    }
+
+    @Test
+    void shouldUseProcessorNodeIdWithoutFallback() {
+        final ProcessorDescriptions descriptions = new ProcessorDescriptions(PARSING, null);
+        this.softly.assertThat(descriptions.describe("enrich")).isEqualTo("enrich");
+    }
+
+    @Test
+    void shouldDescribeUnknownProcessorNode() {
+        final ProcessorDescriptions descriptions = new ProcessorDescriptions(PARSING, null);
+        this.softly.assertThat(descriptions.describe(null))
+                .isEqualTo(ProcessorDescriptions.UNKNOWN_NODE_DESCRIPTION);
+    }
+}
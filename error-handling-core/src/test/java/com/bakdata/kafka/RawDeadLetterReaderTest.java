@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.DeadLetterPayloadEncoder.HEADER_KEY_PREFIX;
+import static com.bakdata.kafka.DeadLetterPayloadEncoder.HEADER_VALUE_PREFIX;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_EXCEPTION_MESSAGE_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_EXCEPTION_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_OFFSET_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_PARTITION_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_STACKTRACE_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_TOPIC_NAME;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.streams.processor.api.Record;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class RawDeadLetterReaderTest {
+    private static final byte[] KEY = bytes("key");
+    private static final byte[] VALUE = bytes("value".repeat(100));
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    private static byte[] bytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Headers errorHeaders() {
+        final Headers headers = new RecordHeaders();
+        headers.add(FilteringProcessingExceptionHandler.HEADER_ERRORS_PROCESSOR_NODE_ID_NAME, bytes("processor"));
+        headers.add(HEADER_ERRORS_EXCEPTION_NAME, bytes(IllegalArgumentException.class.getName()));
+        headers.add(HEADER_ERRORS_EXCEPTION_MESSAGE_NAME, bytes("message"));
+        headers.add(HEADER_ERRORS_STACKTRACE_NAME, bytes("stack trace"));
+        headers.add(HEADER_ERRORS_TOPIC_NAME, bytes("input"));
+        headers.add(HEADER_ERRORS_PARTITION_NAME, bytes("1"));
+        headers.add(HEADER_ERRORS_OFFSET_NAME, bytes("10"));
+        return headers;
+    }
+
+    @Test
+    void shouldReadHeaders() {
+        final DeadLetterDescription description =
+                new RawDeadLetterReader().read(new Record<>(KEY, VALUE, 0L, errorHeaders()));
+
+        this.softly.assertThat(description.getDescription()).isEqualTo("processor");
+        this.softly.assertThat(description.getCause().getErrorClass())
+                .isEqualTo(IllegalArgumentException.class.getName());
+        this.softly.assertThat(description.getCause().getMessage()).isEqualTo("message");
+        this.softly.assertThat(description.getCause().getStackTrace()).isEqualTo("stack trace");
+        this.softly.assertThat(description.getTopic()).isEqualTo("input");
+        this.softly.assertThat(description.getPartition()).isEqualTo(1);
+        this.softly.assertThat(description.getOffset()).isEqualTo(10L);
+        this.softly.assertThat(description.getInputKey()).isEqualTo(KEY);
+        this.softly.assertThat(description.getInput()).isEqualTo(VALUE);
+    }
+
+    @Test
+    void shouldDescribeUnknownProcessor() {
+        final DeadLetterDescription description =
+                new RawDeadLetterReader().read(new Record<>(KEY, VALUE, 0L, new RecordHeaders()));
+
+        this.softly.assertThat(description.getDescription())
+                .isEqualTo(ProcessorDescriptions.UNKNOWN_NODE_DESCRIPTION);
+        this.softly.assertThat(description.getTopic()).isNull();
+        this.softly.assertThat(description.getPartition()).isNull();
+        this.softly.assertThat(description.getOffset()).isNull();
+    }
+
+    @Test
+    void shouldDecompressPayloads() {
+        final DeadLetterPayloadEncoder encoder = new DeadLetterPayloadEncoder(DeadLetterCompression.GZIP, 100);
+        final Headers headers = errorHeaders();
+        final byte[] value = encoder.encode(VALUE, headers, HEADER_VALUE_PREFIX);
+
+        final DeadLetterDescription description =
+                new RawDeadLetterReader().read(new Record<>(KEY, value, 0L, headers));
+
+        this.softly.assertThat(value).isNotEqualTo(VALUE);
+        this.softly.assertThat(description.getInput()).isEqualTo(VALUE);
+    }
+
+    @Test
+    void shouldNotRestoreTruncatedPayloads() {
+        final DeadLetterPayloadEncoder encoder = new DeadLetterPayloadEncoder(DeadLetterCompression.NONE, 2);
+        final Headers truncatedValue = errorHeaders();
+        final byte[] value = encoder.encode(VALUE, truncatedValue, HEADER_VALUE_PREFIX);
+        final Headers truncatedKey = errorHeaders();
+        final byte[] key = encoder.encode(KEY, truncatedKey, HEADER_KEY_PREFIX);
+        final RawDeadLetterReader reader = new RawDeadLetterReader();
+
+        this.softly.assertThat(reader.read(new Record<>(KEY, value, 0L, truncatedValue)).getInput()).isNull();
+        final DeadLetterDescription withTruncatedKey = reader.read(new Record<>(key, VALUE, 0L, truncatedKey));
+        this.softly.assertThat(withTruncatedKey.getInputKey()).isNull();
+        this.softly.assertThat(withTruncatedKey.getInput()).isNull();
+    }
+
+    @Test
+    void shouldRequireHeaders() {
+        this.softly.assertThatThrownBy(() -> new RawDeadLetterReader().read(VALUE))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.kafka.common.utils.Time;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ReplayThrottleTest {
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldDelayRecordsExceedingRate() {
+        final FakeTime time = new FakeTime();
+        final ReplayThrottle throttle = new ReplayThrottle(2L, time);
+        throttle.acquire();
+        this.softly.assertThat(time.milliseconds()).isZero();
+        throttle.acquire();
+        this.softly.assertThat(time.milliseconds()).isEqualTo(500L);
+        throttle.acquire();
+        this.softly.assertThat(time.milliseconds()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void shouldNotAccumulateCreditWhileIdle() {
+        final FakeTime time = new FakeTime();
+        final ReplayThrottle throttle = new ReplayThrottle(2L, time);
+        throttle.acquire();
+        time.sleep(10_000L);
+        throttle.acquire();
+        this.softly.assertThat(time.milliseconds()).isEqualTo(10_000L);
+        throttle.acquire();
+        this.softly.assertThat(time.milliseconds()).isEqualTo(10_500L);
+    }
+
+    @Test
+    void shouldCarryOverWaitsBelowOneMillisecond() {
+        final FakeTime time = new FakeTime();
+        final ReplayThrottle throttle = new ReplayThrottle(4_000L, time);
+        for (int i = 0; i < 4; i++) {
+            throttle.acquire();
+        }
+        this.softly.assertThat(time.milliseconds()).isZero();
+        throttle.acquire();
+        this.softly.assertThat(time.milliseconds()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldRequirePositiveRate() {
+        this.softly.assertThatThrownBy(() -> new ReplayThrottle(0L, new FakeTime()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class FakeTime implements Time {
+        private long nanos = 0L;
+
+        @Override
+        public long milliseconds() {
+            return TimeUnit.NANOSECONDS.toMillis(this.nanos);
+        }
+
+        @Override
+        public long nanoseconds() {
+            return this.nanos;
+        }
+
+        @Override
+        public void sleep(final long ms) {
+            this.nanos += TimeUnit.MILLISECONDS.toNanos(ms);
+        }
+
+        @Override
+        public void waitObject(final Object obj, final Supplier<Boolean> condition, final long deadlineMs) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilterHelper.filterAll;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.ValueMapper;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@ExtendWith(SoftAssertionsExtension.class)
+class ResultCapturingValueMapperTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String ERROR_TOPIC = "errors";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<String> STRING_SERDE = Serdes.String();
+    private static final Serde<Long> LONG_SERDE = Serdes.Long();
+    @Mock
+    ValueMapper<String, ProcessedValue<String, Long>> mapper;
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC, Consumed.with(null, STRING_SERDE));
+        final KStream<Integer, ProcessedValue<String, Long>> mapped =
+                input.mapValues(ResultCapturingValueMapper.captureErrors(this.mapper));
+        mapped.flatMapValues(ProcessedValue::getValues)
+                .to(OUTPUT_TOPIC, Produced.valueSerde(LONG_SERDE));
+        mapped.flatMapValues(ProcessedValue::getErrors)
+                .processValues(
+                        DeadLetterProcessor.create("Description", deadLetterDescription -> deadLetterDescription))
+                .to(ERROR_TOPIC);
+    }
+
+    @Test
+    void shouldNotAllowNullMapper(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ResultCapturingValueMapper.captureErrors(null))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertThatThrownBy(() -> ResultCapturingValueMapper.captureErrors(null, filterAll()))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotAllowNullFilter(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ResultCapturingValueMapper.captureErrors(this.mapper, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldForwardRecoverableException(final SoftAssertions softly) {
+        final RuntimeException throwable = createRecoverableException();
+        when(this.mapper.apply("foo")).thenThrow(throwable);
+        this.createTopology();
+        softly.assertThatThrownBy(() -> this.topology.input()
+                        .withValueSerde(STRING_SERDE)
+                        .add(1, "foo"))
+                .hasCause(throwable);
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .isEmpty();
+    }
+
+    @Test
+    void shouldCaptureFailure(final SoftAssertions softly) {
+        when(this.mapper.apply("foo")).thenReturn(ProcessedValue.failure("foo", "Invalid value"));
+        when(this.mapper.apply("bar")).thenReturn(ProcessedValue.success(2L));
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "foo")
+                .add(2, "bar");
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> softly.assertThat(producerRecord.key()).isEqualTo(2))
+                .extracting(ProducerRecord::value)
+                .isInstanceOf(Long.class)
+                .satisfies(value -> softly.assertThat(value).isEqualTo(2L));
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> softly.assertThat(producerRecord.key()).isEqualTo(1))
+                .extracting(ProducerRecord::value)
+                .isInstanceOf(DeadLetterDescription.class)
+                .satisfies(deadLetter -> {
+                    softly.assertThat(deadLetter.getInputValue()).isEqualTo("foo");
+                    softly.assertThat(deadLetter.getDescription()).isEqualTo("Description");
+                    final DeadLetterDescription.Cause cause = deadLetter.getCause();
+                    softly.assertThat(cause.getMessage()).isEqualTo("Invalid value");
+                    softly.assertThat(cause.getStackTrace()).isNull();
+                    softly.assertThat(cause.getErrorClass()).isEqualTo(ProcessingFailure.DEFAULT_TYPE);
+                    softly.assertThat(cause.getCause()).isNull();
+                    softly.assertThat(deadLetter.getTopic()).isEqualTo(INPUT_TOPIC);
+                    softly.assertThat(deadLetter.getOffset()).isEqualTo(0L);
+                });
+    }
+
+    @Test
+    void shouldCaptureTypedFailure(final SoftAssertions softly) {
+        when(this.mapper.apply("foo"))
+                .thenReturn(ProcessedValue.failure("foo", ProcessingFailure.of("not-empty", "Value is empty")));
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "foo");
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .extracting(ProducerRecord::value)
+                .satisfies(deadLetter -> {
+                    softly.assertThat(deadLetter.getCause().getMessage()).isEqualTo("Value is empty");
+                    softly.assertThat(deadLetter.getCause().getErrorClass()).isEqualTo("not-empty");
+                });
+    }
+
+    @Test
+    void shouldCaptureException(final SoftAssertions softly) {
+        when(this.mapper.apply("foo")).thenThrow(new RuntimeException("Cannot process"));
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "foo");
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .extracting(ProducerRecord::value)
+                .satisfies(deadLetter -> {
+                    softly.assertThat(deadLetter.getCause().getMessage()).isEqualTo("Cannot process");
+                    softly.assertThat(deadLetter.getCause().getStackTrace()).isNotNull();
+                    softly.assertThat(deadLetter.getCause().getErrorClass())
+                            .isEqualTo("java.lang.RuntimeException");
+                });
+    }
+}
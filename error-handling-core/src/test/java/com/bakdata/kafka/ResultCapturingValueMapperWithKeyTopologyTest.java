@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilterHelper.filterAll;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.kstream.ValueMapperWithKey;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@ExtendWith(SoftAssertionsExtension.class)
+class ResultCapturingValueMapperWithKeyTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String ERROR_TOPIC = "errors";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<String> STRING_SERDE = Serdes.String();
+    private static final Serde<Long> LONG_SERDE = Serdes.Long();
+    @Mock
+    ValueMapperWithKey<Integer, String, ProcessedValue<String, Long>> mapper;
+
+    private static String getHeader(final Headers headers, final String key) {
+        final Header header = headers.lastHeader(key);
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        return new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC, Consumed.with(null, STRING_SERDE));
+        final KStream<Integer, ProcessedValue<String, Long>> mapped =
+                input.mapValues(ResultCapturingValueMapperWithKey.captureErrors(this.mapper));
+        mapped.flatMapValues(ProcessedValue::getValues)
+                .to(OUTPUT_TOPIC, Produced.valueSerde(LONG_SERDE));
+        mapped.flatMapValues(ProcessedValue::getErrors)
+                .processValues(ErrorHeaderProcessor.withErrorHeaders("Description"))
+                .to(ERROR_TOPIC, Produced.valueSerde(STRING_SERDE));
+    }
+
+    @Test
+    void shouldNotAllowNullMapper(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ResultCapturingValueMapperWithKey.captureErrors(null))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertThatThrownBy(() -> ResultCapturingValueMapperWithKey.captureErrors(null, filterAll()))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotAllowNullFilter(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ResultCapturingValueMapperWithKey.captureErrors(this.mapper, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldForwardRecoverableException(final SoftAssertions softly) {
+        final RuntimeException throwable = createRecoverableException();
+        when(this.mapper.apply(1, "foo")).thenThrow(throwable);
+        this.createTopology();
+        softly.assertThatThrownBy(() -> this.topology.input()
+                        .withValueSerde(STRING_SERDE)
+                        .add(1, "foo"))
+                .hasCause(throwable);
+        final List<ProducerRecord<Integer, String>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .toList();
+        softly.assertThat(errors)
+                .isEmpty();
+    }
+
+    @Test
+    void shouldWriteFailureHeadersWithoutStackTrace(final SoftAssertions softly) {
+        when(this.mapper.apply(1, "foo"))
+                .thenReturn(ProcessedValue.failure("foo", ProcessingFailure.of("not-empty", "Value is empty")));
+        when(this.mapper.apply(2, "bar")).thenReturn(ProcessedValue.success(2L));
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "foo")
+                .add(2, "bar");
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .map(ProducerRecord::value)
+                .containsExactly(2L);
+        final List<ProducerRecord<Integer, String>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .toList();
+        softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> {
+                    softly.assertThat(producerRecord.key()).isEqualTo(1);
+                    softly.assertThat(producerRecord.value()).isEqualTo("foo");
+                })
+                .extracting(ProducerRecord::headers)
+                .satisfies(headers -> {
+                    softly.assertThat(getHeader(headers, ErrorHeaderProcessor.EXCEPTION_CLASS_NAME))
+                            .isEqualTo("not-empty");
+                    softly.assertThat(getHeader(headers, ErrorHeaderProcessor.EXCEPTION_MESSAGE))
+                            .isEqualTo("Value is empty");
+                    softly.assertThat(headers.lastHeader(ErrorHeaderProcessor.EXCEPTION_STACK_TRACE)).isNull();
+                });
+    }
+
+    @Test
+    void shouldCaptureException(final SoftAssertions softly) {
+        when(this.mapper.apply(1, "foo")).thenThrow(new RuntimeException("Cannot process"));
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "foo");
+        final List<ProducerRecord<Integer, String>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueSerde(STRING_SERDE)
+                .toList();
+        softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .extracting(ProducerRecord::headers)
+                .satisfies(headers -> {
+                    softly.assertThat(getHeader(headers, ErrorHeaderProcessor.EXCEPTION_CLASS_NAME))
+                            .isEqualTo(RuntimeException.class.getName());
+                    softly.assertThat(getHeader(headers, ErrorHeaderProcessor.EXCEPTION_MESSAGE))
+                            .isEqualTo("Cannot process");
+                    softly.assertThat(getHeader(headers, ErrorHeaderProcessor.EXCEPTION_STACK_TRACE)).isNotNull();
+                });
+    }
+}
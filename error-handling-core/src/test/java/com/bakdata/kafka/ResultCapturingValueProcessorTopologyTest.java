@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.FilterHelper.filterAll;
+
+import java.util.List;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ResultCapturingValueProcessorTopologyTest extends ErrorCaptureTopologyTest {
+
+    private static final String ERROR_TOPIC = "errors";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<String> STRING_SERDE = Serdes.String();
+    private static final Serde<Long> LONG_SERDE = Serdes.Long();
+    private static final FixedKeyProcessorSupplier<Integer, String, ProcessedValue<String, Long>> PROCESSOR =
+            ValidatingProcessor::new;
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, String> input = builder.stream(INPUT_TOPIC, Consumed.with(null, STRING_SERDE));
+        final KStream<Integer, ProcessedValue<String, Long>> processed =
+                input.processValues(ResultCapturingValueProcessor.captureErrors(PROCESSOR));
+        processed.flatMapValues(ProcessedValue::getValues)
+                .to(OUTPUT_TOPIC, Produced.valueSerde(LONG_SERDE));
+        processed.flatMapValues(ProcessedValue::getErrors)
+                .processValues(
+                        DeadLetterProcessor.create("Description", deadLetterDescription -> deadLetterDescription))
+                .to(ERROR_TOPIC);
+    }
+
+    @Test
+    void shouldNotAllowNullProcessor(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ResultCapturingValueProcessor.captureErrors(
+                        (FixedKeyProcessor<Integer, String, ProcessedValue<String, Long>>) null))
+                .isInstanceOf(NullPointerException.class);
+        softly.assertThatThrownBy(() -> ResultCapturingValueProcessor.captureErrors(
+                        (FixedKeyProcessorSupplier<Integer, String, ProcessedValue<String, Long>>) null,
+                        filterAll()))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldNotAllowNullFilter(final SoftAssertions softly) {
+        softly.assertThatThrownBy(() -> ResultCapturingValueProcessor.captureErrors(PROCESSOR, null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldForwardRecoverableException(final SoftAssertions softly) {
+        this.createTopology();
+        softly.assertThatThrownBy(() -> this.topology.input()
+                        .withValueSerde(STRING_SERDE)
+                        .add(1, "recoverable"))
+                .hasCauseInstanceOf(SerializationException.class);
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .isEmpty();
+    }
+
+    @Test
+    void shouldForwardResults(final SoftAssertions softly) {
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "")
+                .add(2, "bar");
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> {
+                    softly.assertThat(producerRecord.key()).isEqualTo(2);
+                    softly.assertThat(producerRecord.value()).isEqualTo(3L);
+                });
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .isNotNull()
+                .satisfies(producerRecord -> softly.assertThat(producerRecord.key()).isEqualTo(1))
+                .extracting(ProducerRecord::value)
+                .isInstanceOf(DeadLetterDescription.class)
+                .satisfies(deadLetter -> {
+                    softly.assertThat(deadLetter.getInputValue()).isEmpty();
+                    final DeadLetterDescription.Cause cause = deadLetter.getCause();
+                    softly.assertThat(cause.getMessage()).isEqualTo("Value is empty");
+                    softly.assertThat(cause.getErrorClass()).isEqualTo("not-empty");
+                    softly.assertThat(cause.getStackTrace()).isNull();
+                });
+    }
+
+    @Test
+    void shouldCaptureException(final SoftAssertions softly) {
+        this.createTopology();
+        this.topology.input()
+                .withValueSerde(STRING_SERDE)
+                .add(1, "fail");
+        final List<ProducerRecord<Integer, Long>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(LONG_SERDE)
+                .toList();
+        softly.assertThat(records)
+                .isEmpty();
+        final List<ProducerRecord<Integer, DeadLetterDescription>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueType(DeadLetterDescription.class)
+                .toList();
+        softly.assertThat(errors)
+                .hasSize(1)
+                .first()
+                .extracting(ProducerRecord::value)
+                .isInstanceOf(DeadLetterDescription.class)
+                .satisfies(deadLetter -> {
+                    softly.assertThat(deadLetter.getInputValue()).isEqualTo("fail");
+                    final DeadLetterDescription.Cause cause = deadLetter.getCause();
+                    softly.assertThat(cause.getMessage()).isEqualTo("Cannot process");
+                    softly.assertThat(cause.getErrorClass()).isEqualTo("java.lang.RuntimeException");
+                    softly.assertThat(cause.getStackTrace()).isNotNull();
+                });
+    }
+
+    private static final class ValidatingProcessor
+            implements FixedKeyProcessor<Integer, String, ProcessedValue<String, Long>> {
+        private FixedKeyProcessorContext<Integer, ProcessedValue<String, Long>> context;
+
+        @Override
+        public void init(final FixedKeyProcessorContext<Integer, ProcessedValue<String, Long>> context) {
+            this.context = context;
+        }
+
+        @Override
+        public void process(final FixedKeyRecord<Integer, String> inputRecord) {
+            final String value = inputRecord.value();
+            if ("fail".equals(value)) {
+                throw new RuntimeException("Cannot process");
+            }
+            if ("recoverable".equals(value)) {
+                throw createRecoverableException();
+            }
+            final ProcessedValue<String, Long> result = value.isEmpty()
+                    ? ProcessedValue.failure(value, ProcessingFailure.of("not-empty", "Value is empty"))
+                    : ProcessedValue.success((long) value.length());
+            this.context.forward(inputRecord.withValue(result));
+        }
+    }
+}
@@ -68,10 +68,14 @@ public abstract class ErrorCaptureTopologyTest {
     }
 
     protected void createTopology() {
+        this.createTopology(this.getKafkaProperties());
+    }
+
+    protected void createTopology(final Map<String, Object> kafkaProperties) {
         final StreamsBuilder builder = new StreamsBuilder();
         this.buildTopology(builder);
         final Topology topology = builder.build();
-        this.topology = new TestTopology<>(topology, this.getKafkaProperties());
+        this.topology = new TestTopology<>(topology, kafkaProperties);
         this.topology.start();
     }
 
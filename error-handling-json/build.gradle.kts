@@ -0,0 +1,18 @@
+description = "Transform dead letters in Kafka Streams applications to JSON."
+
+plugins {
+    id("java-library")
+}
+
+dependencies {
+    compileOnly(platform(libs.kafka.bom))
+    compileOnly(libs.kafka.streams)
+    api(project(":error-handling-core"))
+    implementation(libs.jackson.core)
+
+    testRuntimeOnly(libs.junit.platform.launcher)
+    testImplementation(libs.junit.jupiter)
+    testImplementation(testFixtures(project(":error-handling-core")))
+    testImplementation(libs.assertj)
+    testImplementation(libs.log4j.slf4j2)
+}
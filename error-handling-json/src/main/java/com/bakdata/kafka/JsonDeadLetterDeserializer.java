@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import static com.bakdata.kafka.JsonDeadLetterSerializer.CAUSE;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.DESCRIPTION;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.ERROR_CLASS;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.INPUT_TIMESTAMP;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.INPUT_VALUE;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.JSON_FACTORY;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.MESSAGE;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.OFFSET;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.PARTITION;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.STACK_TRACE;
+import static com.bakdata.kafka.JsonDeadLetterSerializer.TOPIC;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Deserialize a {@code DeadLetterDescription} from JSON written by {@link JsonDeadLetterSerializer} using a streaming
+ * parser. It also parses JSON written by Jackson databind for {@code DeadLetterDescription}. Unknown fields are
+ * skipped. An {@code inputValue} that has been written as raw JSON object or array is
+ * returned as JSON string.
+ */
+public class JsonDeadLetterDeserializer implements Deserializer<DeadLetterDescription> {
+    private static final int NANO_DIGITS = 9;
+
+    private static String readText(final JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static String readInputValue(final JsonParser parser) throws IOException {
+        final JsonToken token = parser.currentToken();
+        if (token != JsonToken.START_OBJECT && token != JsonToken.START_ARRAY) {
+            return readText(parser);
+        }
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+            generator.copyCurrentStructure(parser);
+        }
+        return writer.toString();
+    }
+
+    private static DeadLetterDescription.Cause readCause(final JsonParser parser) throws IOException {
+        expect(parser, JsonToken.START_OBJECT);
+        final DeadLetterDescription.Cause.CauseBuilder builder = DeadLetterDescription.Cause.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case MESSAGE:
+                    builder.message(readText(parser));
+                    break;
+                case STACK_TRACE:
+                    builder.stackTrace(readText(parser));
+                    break;
+                case ERROR_CLASS:
+                    builder.errorClass(readText(parser));
+                    break;
+                case CAUSE:
+                    builder.cause(parser.currentToken() == JsonToken.VALUE_NULL ? null : readCause(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return builder.build();
+    }
+
+    private static Instant readInstant(final JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) {
+            // Jackson databind writes instants as decimal seconds by default
+            final BigDecimal seconds = parser.getDecimalValue();
+            return Instant.ofEpochSecond(seconds.longValue(),
+                    seconds.remainder(BigDecimal.ONE).movePointRight(NANO_DIGITS).intValue());
+        }
+        final String text = readText(parser);
+        try {
+            return text == null ? null : Instant.parse(text);
+        } catch (final DateTimeParseException e) {
+            throw new SerializationException("Invalid " + INPUT_TIMESTAMP + ": " + text, e);
+        }
+    }
+
+    private static void expect(final JsonParser parser, final JsonToken token) {
+        if (parser.currentToken() != token) {
+            throw new SerializationException("Expected " + token + " but got " + parser.currentToken());
+        }
+    }
+
+    private static DeadLetterDescription read(final JsonParser parser) throws IOException {
+        parser.nextToken();
+        expect(parser, JsonToken.START_OBJECT);
+        final DeadLetterDescription.DeadLetterDescriptionBuilder builder = DeadLetterDescription.builder();
+        String description = null;
+        DeadLetterDescription.Cause cause = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.currentName();
+            final JsonToken value = parser.nextToken();
+            final boolean isNull = value == JsonToken.VALUE_NULL;
+            switch (name) {
+                case DESCRIPTION:
+                    description = readText(parser);
+                    break;
+                case CAUSE:
+                    cause = isNull ? null : readCause(parser);
+                    break;
+                case INPUT_VALUE:
+                    builder.inputValue(readInputValue(parser));
+                    break;
+                case TOPIC:
+                    builder.topic(readText(parser));
+                    break;
+                case PARTITION:
+                    builder.partition(isNull ? null : parser.getIntValue());
+                    break;
+                case OFFSET:
+                    builder.offset(isNull ? null : parser.getLongValue());
+                    break;
+                case INPUT_TIMESTAMP:
+                    builder.inputTimestamp(readInstant(parser));
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (description == null || cause == null) {
+            throw new SerializationException("Dead letter requires " + DESCRIPTION + " and " + CAUSE);
+        }
+        return builder.description(description)
+                .cause(cause)
+                .build();
+    }
+
+    @Override
+    public DeadLetterDescription deserialize(final String topic, final byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try (final JsonParser parser = JSON_FACTORY.createParser(data)) {
+            return read(parser);
+        } catch (final IOException e) {
+            throw new SerializationException("Error deserializing dead letter from topic " + topic, e);
+        }
+    }
+}
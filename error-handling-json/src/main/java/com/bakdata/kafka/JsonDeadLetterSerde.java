@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * {@link Serde} for {@code DeadLetterDescription} using {@link JsonDeadLetterSerializer} and
+ * {@link JsonDeadLetterDeserializer}. It can be used with {@link DeadLetterProcessor} and an identity
+ * {@link DeadLetterConverter}.
+ */
+public class JsonDeadLetterSerde implements Serde<DeadLetterDescription> {
+    private final JsonDeadLetterSerializer serializer;
+    private final JsonDeadLetterDeserializer deserializer = new JsonDeadLetterDeserializer();
+
+    /**
+     * Create a serde that writes {@code inputValue} as JSON string
+     */
+    public JsonDeadLetterSerde() {
+        this(new JsonDeadLetterSerializer());
+    }
+
+    /**
+     * Create a serde using a custom serializer, e.g., {@link JsonDeadLetterSerializer#withRawInputValue()}
+     *
+     * @param serializer serializer for dead letters
+     */
+    public JsonDeadLetterSerde(final JsonDeadLetterSerializer serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public Serializer<DeadLetterDescription> serializer() {
+        return (topic, deadLetter) -> deadLetter == null ? null : this.serializer.serialize(deadLetter);
+    }
+
+    @Override
+    public Deserializer<DeadLetterDescription> deserializer() {
+        return this.deserializer;
+    }
+}
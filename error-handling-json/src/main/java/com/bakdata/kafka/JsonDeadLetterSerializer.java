@@ -0,0 +1,162 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+
+/**
+ * Serialize a {@code DeadLetterDescription} to JSON using a streaming generator. The JSON has the same structure as
+ * the one created by Jackson databind for {@code DeadLetterDescription}, with {@code inputTimestamp} as ISO-8601
+ * string. It can be parsed by {@link JsonDeadLetterDeserializer}.
+ * <p>Output buffers are pooled per thread, so the serializer can be shared between threads.
+ * <p>A serializer created by {@link #withRawInputValue()} writes {@code inputValue} as raw JSON without escaping it
+ * again. This is only valid if all input values are rendered as JSON, e.g., Avro records rendered by
+ * {@link ErrorUtil#toString(Object)}.
+ */
+public final class JsonDeadLetterSerializer implements DeadLetterSerializer {
+    static final String DESCRIPTION = "description";
+    static final String CAUSE = "cause";
+    static final String MESSAGE = "message";
+    static final String STACK_TRACE = "stackTrace";
+    static final String ERROR_CLASS = "errorClass";
+    static final String INPUT_VALUE = "inputValue";
+    static final String TOPIC = "topic";
+    static final String PARTITION = "partition";
+    static final String OFFSET = "offset";
+    static final String INPUT_TIMESTAMP = "inputTimestamp";
+    static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final ThreadLocal<ByteArrayBuilder> BUFFERS = ThreadLocal.withInitial(ByteArrayBuilder::new);
+    private final boolean rawInputValue;
+
+    /**
+     * Create a serializer that writes {@code inputValue} as JSON string
+     */
+    public JsonDeadLetterSerializer() {
+        this(false);
+    }
+
+    private JsonDeadLetterSerializer(final boolean rawInputValue) {
+        this.rawInputValue = rawInputValue;
+    }
+
+    /**
+     * Create a serializer that writes {@code inputValue} as raw JSON
+     *
+     * @return serializer writing raw input values
+     */
+    public static JsonDeadLetterSerializer withRawInputValue() {
+        return new JsonDeadLetterSerializer(true);
+    }
+
+    /**
+     * Creates a processor that uses the JsonDeadLetterSerializer
+     *
+     * <pre>{@code
+     * final KStream<K, ProcessingError<V>> errors = ...;
+     * final KStream<K, byte[]> deadLetters = errors.processValues(
+     *                      JsonDeadLetterSerializer.asProcessor("Description"));
+     * deadLetters.to(ERROR_TOPIC, Produced.valueSerde(Serdes.ByteArray()));
+     * }
+     * </pre>
+     *
+     * @param description shared description for all errors
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, byte[]> asProcessor(
+            final String description) {
+        return DeadLetterProcessor.create(description, new JsonDeadLetterSerializer());
+    }
+
+    private static void writeStringField(final JsonGenerator generator, final String name, final String value)
+            throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    private static void writeCause(final JsonGenerator generator, final DeadLetterDescription.Cause cause)
+            throws IOException {
+        generator.writeStartObject();
+        writeStringField(generator, MESSAGE, cause.getMessage());
+        writeStringField(generator, STACK_TRACE, cause.getStackTrace());
+        writeStringField(generator, ERROR_CLASS, cause.getErrorClass());
+        if (cause.getCause() != null) {
+            generator.writeFieldName(CAUSE);
+            writeCause(generator, cause.getCause());
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public byte[] serialize(final DeadLetterDescription deadLetterDescription) {
+        final ByteArrayBuilder buffer = BUFFERS.get();
+        buffer.reset();
+        try (final JsonGenerator generator = JSON_FACTORY.createGenerator(buffer)) {
+            this.write(generator, deadLetterDescription);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error serializing dead letter", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private void write(final JsonGenerator generator, final DeadLetterDescription deadLetterDescription)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(DESCRIPTION, deadLetterDescription.getDescription());
+        generator.writeFieldName(CAUSE);
+        writeCause(generator, deadLetterDescription.getCause());
+        final String inputValue = deadLetterDescription.getInputValue();
+        if (inputValue != null) {
+            generator.writeFieldName(INPUT_VALUE);
+            if (this.rawInputValue) {
+                generator.writeRawValue(inputValue);
+            } else {
+                generator.writeString(inputValue);
+            }
+        }
+        writeStringField(generator, TOPIC, deadLetterDescription.getTopic());
+        if (deadLetterDescription.getPartition() != null) {
+            generator.writeNumberField(PARTITION, deadLetterDescription.getPartition());
+        }
+        if (deadLetterDescription.getOffset() != null) {
+            generator.writeNumberField(OFFSET, deadLetterDescription.getOffset());
+        }
+        final Instant inputTimestamp = deadLetterDescription.getInputTimestamp();
+        if (inputTimestamp != null) {
+            generator.writeStringField(INPUT_TIMESTAMP, inputTimestamp.toString());
+        }
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.apache.kafka.common.errors.SerializationException;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class JsonDeadLetterSerdeTest {
+    private static final String TOPIC = "topic";
+    private static final DeadLetterDescription DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .inputValue("{\"id\": \"foo\"}")
+            .cause(DeadLetterDescription.Cause.of(
+                    new RuntimeException("\"quoted\"\tmessage", new IllegalStateException("inner"))))
+            .description("description")
+            .topic(TOPIC)
+            .partition(1)
+            .offset(1L)
+            .inputTimestamp(Instant.ofEpochSecond(100L, 5L))
+            .build();
+    private static final DeadLetterDescription REQUIRED_DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .description("description")
+            .cause(DeadLetterDescription.Cause.builder().build())
+            .build();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldRoundTrip() {
+        final JsonDeadLetterSerde serde = new JsonDeadLetterSerde();
+        for (final DeadLetterDescription deadLetter : new DeadLetterDescription[]{DEAD_LETTER_DESCRIPTION,
+                REQUIRED_DEAD_LETTER_DESCRIPTION}) {
+            final byte[] bytes = serde.serializer().serialize(TOPIC, deadLetter);
+            this.softly.assertThat(serde.deserializer().deserialize(TOPIC, bytes)).isEqualTo(deadLetter);
+        }
+        this.softly.assertThat(serde.serializer().serialize(TOPIC, null)).isNull();
+        this.softly.assertThat(serde.deserializer().deserialize(TOPIC, null)).isNull();
+    }
+
+    @Test
+    void shouldBeCompatibleWithDatabind() {
+        final JsonDeadLetterSerde serde = new JsonDeadLetterSerde();
+        final TestDeadLetterSerde databindSerde = new TestDeadLetterSerde();
+        final byte[] streamed = serde.serializer().serialize(TOPIC, DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(databindSerde.deserializer().deserialize(TOPIC, streamed))
+                .isEqualTo(DEAD_LETTER_DESCRIPTION);
+        final byte[] databound = databindSerde.serializer().serialize(TOPIC, DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(serde.deserializer().deserialize(TOPIC, databound))
+                .isEqualTo(DEAD_LETTER_DESCRIPTION);
+    }
+
+    @Test
+    void shouldWriteRawInputValue() {
+        final JsonDeadLetterSerde serde = new JsonDeadLetterSerde(JsonDeadLetterSerializer.withRawInputValue());
+        final byte[] bytes = serde.serializer().serialize(TOPIC, DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(new String(bytes, StandardCharsets.UTF_8))
+                .contains("\"inputValue\":{\"id\": \"foo\"}");
+        this.softly.assertThat(serde.deserializer().deserialize(TOPIC, bytes).getInputValue())
+                .isEqualTo("{\"id\":\"foo\"}");
+    }
+
+    @Test
+    void shouldSkipUnknownFields() {
+        final byte[] bytes = ("{\"unknown\":{\"nested\":[1,2]},\"description\":\"description\",\"cause\":{}}")
+                .getBytes(StandardCharsets.UTF_8);
+        this.softly.assertThat(new JsonDeadLetterSerde().deserializer().deserialize(TOPIC, bytes))
+                .isEqualTo(REQUIRED_DEAD_LETTER_DESCRIPTION);
+    }
+
+    @Test
+    void shouldThrowIfRequiredFieldsAreMissing() {
+        final byte[] bytes = "{\"description\":\"description\"}".getBytes(StandardCharsets.UTF_8);
+        this.softly.assertThatThrownBy(() -> new JsonDeadLetterSerde().deserializer().deserialize(TOPIC, bytes))
+                .isInstanceOf(SerializationException.class);
+    }
+}
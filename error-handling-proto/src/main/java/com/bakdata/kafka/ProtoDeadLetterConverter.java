@@ -34,12 +34,36 @@ import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
 
 /**
  * Convert a {@code DeadLetterDescription} to a {@code ProtoDeadLetter} message
+ * <p>A converter created by {@link #reusing()} clears and refills the same builder for every conversion instead of
+ * allocating a new one. The built messages are immutable, but the converter must not be shared between processors.
  */
 public class ProtoDeadLetterConverter implements DeadLetterConverter<ProtoDeadLetter> {
+    private final ProtoDeadLetter.Builder reusableBuilder;
+
+    /**
+     * Create a converter that creates a new builder for every conversion
+     */
+    public ProtoDeadLetterConverter() {
+        this(null);
+    }
+
+    private ProtoDeadLetterConverter(final ProtoDeadLetter.Builder reusableBuilder) {
+        this.reusableBuilder = reusableBuilder;
+    }
+
+    /**
+     * Create a converter that reuses the same builder for every conversion
+     *
+     * @return converter reusing its builder
+     */
+    public static ProtoDeadLetterConverter reusing() {
+        return new ProtoDeadLetterConverter(ProtoDeadLetter.newBuilder());
+    }
 
     @Override
     public ProtoDeadLetter convert(final DeadLetterDescription deadLetterDescription) {
-        final ProtoDeadLetter.Builder builder = ProtoDeadLetter.newBuilder();
+        final ProtoDeadLetter.Builder builder =
+                this.reusableBuilder == null ? ProtoDeadLetter.newBuilder() : this.reusableBuilder.clear();
         final DeadLetterDescription.Cause cause = deadLetterDescription.getCause();
         final ProtoDeadLetter.Cause.Builder causeBuilder = builder.getCauseBuilder();
         // Everything is optional with fix defaults in proto3, so use wrappers
@@ -102,4 +126,20 @@ public class ProtoDeadLetterConverter implements DeadLetterConverter<ProtoDeadLe
             final String description) {
         return DeadLetterProcessor.create(description, new ProtoDeadLetterConverter());
     }
+
+    /**
+     * Creates a processor that uses a ProtoDeadLetterConverter reusing its builder. Each processor uses its own
+     * converter.
+     *
+     * @param description shared description for all errors
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     * @see #reusing()
+     * @see #asProcessor(String)
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, ProtoDeadLetter> asReusingProcessor(
+            final String description) {
+        return () -> new DeadLetterProcessor<>(description, reusing());
+    }
 }
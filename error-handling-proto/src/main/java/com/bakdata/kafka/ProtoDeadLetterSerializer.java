@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import com.bakdata.kafka.proto.v1.ProtoDeadLetter;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+
+/**
+ * Serialize a {@code DeadLetterDescription} to the wire format of a {@code ProtoDeadLetter} message. The bytes are
+ * identical to {@code ProtoDeadLetter#toByteArray()} of the message created by {@link ProtoDeadLetterConverter}. They
+ * do not contain a schema id.
+ * <p>The size of the message is computed upfront, so that each dead letter is written into an array of the exact size.
+ * The serializer is stateless and can be shared between threads.
+ */
+public final class ProtoDeadLetterSerializer implements DeadLetterSerializer {
+    // wrapper types and Timestamp store their values in fields 1 and 2
+    private static final int VALUE_FIELD = 1;
+    private static final int NANOS_FIELD = 2;
+
+    /**
+     * Creates a processor that uses a ProtoDeadLetterSerializer
+     *
+     * <pre>{@code
+     * final KStream<K, ProcessingError<V>> errors = ...;
+     * final KStream<K, byte[]> deadLetters = errors.processValues(
+     *                      ProtoDeadLetterSerializer.asProcessor("Description"));
+     * deadLetters.to(ERROR_TOPIC, Produced.valueSerde(Serdes.ByteArray()));
+     * }
+     * </pre>
+     *
+     * @param description shared description for all errors
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, byte[]> asProcessor(
+            final String description) {
+        return DeadLetterProcessor.create(description, new ProtoDeadLetterSerializer());
+    }
+
+    private static int messageSize(final int field, final int contentSize) {
+        return CodedOutputStream.computeTagSize(field) + CodedOutputStream.computeUInt32SizeNoTag(contentSize)
+                + contentSize;
+    }
+
+    private static int stringValueContentSize(final String value) {
+        return value.isEmpty() ? 0 : CodedOutputStream.computeStringSize(VALUE_FIELD, value);
+    }
+
+    private static int stringValueSize(final int field, final String value) {
+        return value == null ? 0 : messageSize(field, stringValueContentSize(value));
+    }
+
+    private static int int32ValueContentSize(final int value) {
+        return value == 0 ? 0 : CodedOutputStream.computeInt32Size(VALUE_FIELD, value);
+    }
+
+    private static int int64ValueContentSize(final long value) {
+        return value == 0L ? 0 : CodedOutputStream.computeInt64Size(VALUE_FIELD, value);
+    }
+
+    private static int timestampContentSize(final Instant value) {
+        final int seconds = value.getEpochSecond() == 0L ? 0
+                : CodedOutputStream.computeInt64Size(VALUE_FIELD, value.getEpochSecond());
+        final int nanos = value.getNano() == 0 ? 0 : CodedOutputStream.computeInt32Size(NANOS_FIELD, value.getNano());
+        return seconds + nanos;
+    }
+
+    private static int causeContentSize(final DeadLetterDescription.Cause cause) {
+        return stringValueSize(ProtoDeadLetter.Cause.MESSAGE_FIELD_NUMBER, cause.getMessage())
+                + stringValueSize(ProtoDeadLetter.Cause.STACK_TRACE_FIELD_NUMBER, cause.getStackTrace())
+                + stringValueSize(ProtoDeadLetter.Cause.ERROR_CLASS_FIELD_NUMBER, cause.getErrorClass());
+    }
+
+    private static int size(final DeadLetterDescription deadLetterDescription, final int causeContentSize) {
+        int size = 0;
+        if (!deadLetterDescription.getDescription().isEmpty()) {
+            size += CodedOutputStream.computeStringSize(ProtoDeadLetter.DESCRIPTION_FIELD_NUMBER,
+                    deadLetterDescription.getDescription());
+        }
+        size += messageSize(ProtoDeadLetter.CAUSE_FIELD_NUMBER, causeContentSize);
+        size += stringValueSize(ProtoDeadLetter.INPUT_VALUE_FIELD_NUMBER, deadLetterDescription.getInputValue());
+        size += stringValueSize(ProtoDeadLetter.TOPIC_FIELD_NUMBER, deadLetterDescription.getTopic());
+        if (deadLetterDescription.getPartition() != null) {
+            size += messageSize(ProtoDeadLetter.PARTITION_FIELD_NUMBER,
+                    int32ValueContentSize(deadLetterDescription.getPartition()));
+        }
+        if (deadLetterDescription.getOffset() != null) {
+            size += messageSize(ProtoDeadLetter.OFFSET_FIELD_NUMBER,
+                    int64ValueContentSize(deadLetterDescription.getOffset()));
+        }
+        if (deadLetterDescription.getInputTimestamp() != null) {
+            size += messageSize(ProtoDeadLetter.INPUT_TIMESTAMP_FIELD_NUMBER,
+                    timestampContentSize(deadLetterDescription.getInputTimestamp()));
+        }
+        return size;
+    }
+
+    private static void writeMessageHeader(final CodedOutputStream out, final int field, final int contentSize)
+            throws IOException {
+        out.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(contentSize);
+    }
+
+    private static void writeStringValue(final CodedOutputStream out, final int field, final String value)
+            throws IOException {
+        if (value == null) {
+            return;
+        }
+        writeMessageHeader(out, field, stringValueContentSize(value));
+        if (!value.isEmpty()) {
+            out.writeString(VALUE_FIELD, value);
+        }
+    }
+
+    private static void writeInt32Value(final CodedOutputStream out, final int field, final Integer value)
+            throws IOException {
+        if (value == null) {
+            return;
+        }
+        writeMessageHeader(out, field, int32ValueContentSize(value));
+        if (value != 0) {
+            out.writeInt32(VALUE_FIELD, value);
+        }
+    }
+
+    private static void writeInt64Value(final CodedOutputStream out, final int field, final Long value)
+            throws IOException {
+        if (value == null) {
+            return;
+        }
+        writeMessageHeader(out, field, int64ValueContentSize(value));
+        if (value != 0L) {
+            out.writeInt64(VALUE_FIELD, value);
+        }
+    }
+
+    private static void writeTimestamp(final CodedOutputStream out, final int field, final Instant value)
+            throws IOException {
+        if (value == null) {
+            return;
+        }
+        writeMessageHeader(out, field, timestampContentSize(value));
+        if (value.getEpochSecond() != 0L) {
+            out.writeInt64(VALUE_FIELD, value.getEpochSecond());
+        }
+        if (value.getNano() != 0) {
+            out.writeInt32(NANOS_FIELD, value.getNano());
+        }
+    }
+
+    @Override
+    public byte[] serialize(final DeadLetterDescription deadLetterDescription) {
+        final DeadLetterDescription.Cause cause = deadLetterDescription.getCause();
+        final int causeContentSize = causeContentSize(cause);
+        final byte[] bytes = new byte[size(deadLetterDescription, causeContentSize)];
+        final CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+        try {
+            // fields are written in the order of their field numbers, like the generated code does
+            if (!deadLetterDescription.getDescription().isEmpty()) {
+                out.writeString(ProtoDeadLetter.DESCRIPTION_FIELD_NUMBER, deadLetterDescription.getDescription());
+            }
+            writeMessageHeader(out, ProtoDeadLetter.CAUSE_FIELD_NUMBER, causeContentSize);
+            writeStringValue(out, ProtoDeadLetter.Cause.MESSAGE_FIELD_NUMBER, cause.getMessage());
+            writeStringValue(out, ProtoDeadLetter.Cause.STACK_TRACE_FIELD_NUMBER, cause.getStackTrace());
+            writeStringValue(out, ProtoDeadLetter.Cause.ERROR_CLASS_FIELD_NUMBER, cause.getErrorClass());
+            writeStringValue(out, ProtoDeadLetter.INPUT_VALUE_FIELD_NUMBER, deadLetterDescription.getInputValue());
+            writeStringValue(out, ProtoDeadLetter.TOPIC_FIELD_NUMBER, deadLetterDescription.getTopic());
+            writeInt32Value(out, ProtoDeadLetter.PARTITION_FIELD_NUMBER, deadLetterDescription.getPartition());
+            writeInt64Value(out, ProtoDeadLetter.OFFSET_FIELD_NUMBER, deadLetterDescription.getOffset());
+            writeTimestamp(out, ProtoDeadLetter.INPUT_TIMESTAMP_FIELD_NUMBER,
+                    deadLetterDescription.getInputTimestamp());
+            out.checkNoSpaceLeft();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error serializing dead letter", e);
+        }
+        return bytes;
+    }
+}
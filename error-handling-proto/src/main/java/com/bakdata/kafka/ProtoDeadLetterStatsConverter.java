@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import com.bakdata.kafka.proto.v2.ProtoDeadLetterStats;
+import com.google.protobuf.Timestamp;
+import java.time.Instant;
+
+/**
+ * Convert a {@code DeadLetterStatsDescription} to a {@code bakdata.kafka.proto.v2.ProtoDeadLetterStats} message
+ */
+public class ProtoDeadLetterStatsConverter implements DeadLetterStatsConverter<ProtoDeadLetterStats> {
+
+    private static Timestamp toTimestamp(final Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    @Override
+    public ProtoDeadLetterStats convert(final DeadLetterStatsDescription statsDescription) {
+        final ProtoDeadLetterStats.Builder builder = ProtoDeadLetterStats.newBuilder()
+                .setDescription(statsDescription.getDescription())
+                .setWindowStart(toTimestamp(statsDescription.getWindowStart()))
+                .setWindowEnd(toTimestamp(statsDescription.getWindowEnd()))
+                .setCount(statsDescription.getCount());
+        if (statsDescription.getErrorClass() != null) {
+            builder.setErrorClass(statsDescription.getErrorClass());
+        }
+        if (statsDescription.getTopic() != null) {
+            builder.setTopic(statsDescription.getTopic());
+        }
+        if (statsDescription.getPartition() != null) {
+            builder.setPartition(statsDescription.getPartition());
+        }
+        return builder.build();
+    }
+}
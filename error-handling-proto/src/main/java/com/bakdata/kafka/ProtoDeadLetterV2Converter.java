@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import com.bakdata.kafka.proto.v2.ProtoDeadLetter;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
+import com.google.protobuf.Timestamp;
+import java.time.Instant;
+import java.util.function.Function;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorSupplier;
+
+/**
+ * Convert a {@code DeadLetterDescription} to a {@code bakdata.kafka.proto.v2.ProtoDeadLetter} message. In contrast to
+ * {@link ProtoDeadLetterConverter}, nullable fields are proto3 {@code optional} scalars instead of wrapper messages,
+ * the input value is stored as UTF-8 bytes, and the complete cause chain is included.
+ * <p>If the input is a protobuf {@link Message}, it is embedded as {@code google.protobuf.Any}. Such dead letters can
+ * be replayed by unpacking the input instead of parsing {@code input_value}.
+ */
+public class ProtoDeadLetterV2Converter implements DeadLetterConverter<ProtoDeadLetter> {
+
+    private static Timestamp toTimestamp(final Instant instant) {
+        return Timestamp.newBuilder()
+                .setSeconds(instant.getEpochSecond())
+                .setNanos(instant.getNano())
+                .build();
+    }
+
+    private static ProtoDeadLetter.Cause toCause(final DeadLetterDescription.Cause cause) {
+        final ProtoDeadLetter.Cause.Builder builder = ProtoDeadLetter.Cause.newBuilder();
+        if (cause.getMessage() != null) {
+            builder.setMessage(cause.getMessage());
+        }
+        if (cause.getStackTrace() != null) {
+            builder.setStackTrace(cause.getStackTrace());
+        }
+        if (cause.getErrorClass() != null) {
+            builder.setErrorClass(cause.getErrorClass());
+        }
+        return builder.build();
+    }
+
+    private static ProtoDeadLetter.Cause toCause(final com.bakdata.kafka.proto.v1.ProtoDeadLetter.Cause cause) {
+        final ProtoDeadLetter.Cause.Builder builder = ProtoDeadLetter.Cause.newBuilder();
+        if (cause.hasMessage()) {
+            builder.setMessage(cause.getMessage().getValue());
+        }
+        if (cause.hasStackTrace()) {
+            builder.setStackTrace(cause.getStackTrace().getValue());
+        }
+        if (cause.hasErrorClass()) {
+            builder.setErrorClass(cause.getErrorClass().getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Convert a {@code bakdata.kafka.proto.v1.ProtoDeadLetter} to the v2 format
+     *
+     * @param deadLetter dead letter in v1 format
+     * @return dead letter in v2 format
+     */
+    public static ProtoDeadLetter fromV1(final com.bakdata.kafka.proto.v1.ProtoDeadLetter deadLetter) {
+        final ProtoDeadLetter.Builder builder = ProtoDeadLetter.newBuilder()
+                .setDescription(deadLetter.getDescription());
+        if (deadLetter.hasCause()) {
+            builder.addCause(toCause(deadLetter.getCause()));
+        }
+        if (deadLetter.hasInputValue()) {
+            builder.setInputValue(ByteString.copyFromUtf8(deadLetter.getInputValue().getValue()));
+        }
+        if (deadLetter.hasTopic()) {
+            builder.setTopic(deadLetter.getTopic().getValue());
+        }
+        if (deadLetter.hasPartition()) {
+            builder.setPartition(deadLetter.getPartition().getValue());
+        }
+        if (deadLetter.hasOffset()) {
+            builder.setOffset(deadLetter.getOffset().getValue());
+        }
+        if (deadLetter.hasInputTimestamp()) {
+            builder.setInputTimestamp(deadLetter.getInputTimestamp());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Render an input of a dead letter. Protobuf messages are embedded natively and are thus not rendered. Other
+     * inputs are rendered using {@link ErrorUtil#toString(Object)}.
+     *
+     * @param input input that caused the error
+     * @return rendered input or {@code null} if the input is a protobuf message
+     */
+    public static String renderInput(final Object input) {
+        return renderInput(input, ErrorUtil::toString);
+    }
+
+    private static String renderInput(final Object input, final Function<Object, String> renderer) {
+        return input instanceof Message ? null : renderer.apply(input);
+    }
+
+    /**
+     * Creates a processor that uses the ProtoDeadLetterV2Converter
+     *
+     * <pre>{@code
+     * final KStream<K, ProcessingError<V>> errors = ...;
+     * final KStream<K, ProtoDeadLetter> deadLetters = errors.processValues(
+     *                      ProtoDeadLetterV2Converter.asProcessor("Description"));
+     * deadLetters.to(OUTPUT_TOPIC);
+     * }
+     * </pre>
+     *
+     * @param description shared description for all errors
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, ProtoDeadLetter> asProcessor(
+            final String description) {
+        return DeadLetterProcessor.create(description, new ProtoDeadLetterV2Converter(),
+                ProtoDeadLetterV2Converter::renderInput);
+    }
+
+    /**
+     * Creates a processor that uses the ProtoDeadLetterV2Converter and a custom renderer for inputs that are no
+     * protobuf messages
+     *
+     * @param description shared description for all errors
+     * @param inputRenderer renders inputs that are no protobuf messages
+     * @param <K> type of the input key
+     * @param <V> type of the input value
+     * @return a processor supplier
+     */
+    public static <K, V> FixedKeyProcessorSupplier<K, ProcessingError<V>, ProtoDeadLetter> asProcessor(
+            final String description, final Function<Object, String> inputRenderer) {
+        return DeadLetterProcessor.create(description, new ProtoDeadLetterV2Converter(),
+                input -> renderInput(input, inputRenderer));
+    }
+
+    /**
+     * Render an input using {@link #renderInput(Object)}, so that protobuf messages are not rendered
+     *
+     * @param input input that caused the error
+     * @return rendered input or {@code null} if the input is a protobuf message
+     */
+    @Override
+    public String toInputValue(final Object input) {
+        return renderInput(input);
+    }
+
+    @Override
+    public ProtoDeadLetter convert(final DeadLetterDescription deadLetterDescription) {
+        final ProtoDeadLetter.Builder builder = ProtoDeadLetter.newBuilder()
+                .setDescription(deadLetterDescription.getDescription());
+        for (DeadLetterDescription.Cause cause = deadLetterDescription.getCause(); cause != null;
+                cause = cause.getCause()) {
+            builder.addCause(toCause(cause));
+        }
+        if (deadLetterDescription.getInputValue() != null) {
+            builder.setInputValue(ByteString.copyFromUtf8(deadLetterDescription.getInputValue()));
+        }
+        if (deadLetterDescription.getTopic() != null) {
+            builder.setTopic(deadLetterDescription.getTopic());
+        }
+        if (deadLetterDescription.getPartition() != null) {
+            builder.setPartition(deadLetterDescription.getPartition());
+        }
+        if (deadLetterDescription.getOffset() != null) {
+            builder.setOffset(deadLetterDescription.getOffset());
+        }
+        if (deadLetterDescription.getInputTimestamp() != null) {
+            builder.setInputTimestamp(toTimestamp(deadLetterDescription.getInputTimestamp()));
+        }
+        if (deadLetterDescription.getInput() instanceof Message) {
+            builder.setInput(Any.pack((Message) deadLetterDescription.getInput()));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import com.bakdata.kafka.proto.v2.ProtoDeadLetter;
+import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.TypeRegistry;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.errors.SerializationException;
+
+/**
+ * Read {@code bakdata.kafka.proto.v2.ProtoDeadLetter} messages for replaying them using
+ * {@link DeadLetterReplayTopology}
+ * <p>Inputs can only be restored if a dead letter embeds its input as {@code google.protobuf.Any}. How the input is
+ * restored needs to be chosen explicitly, so that it matches the encoding of the original topic:
+ * <ul>
+ *     <li>{@link #withTypes(TypeRegistry)} parses the input as {@link DynamicMessage}. It is then encoded by the input
+ *     serializer of the replay topology, e.g., a {@code KafkaProtobufSerializer} producing the schema registry wire
+ *     format.</li>
+ *     <li>{@link #withBinaryInput()} restores the plain binary encoding of the input message.</li>
+ * </ul>
+ * A reader created by {@link #ProtoDeadLetterV2Reader()} does not restore inputs and only describes dead letters,
+ * e.g., for {@link DeadLetterIndexTopology}.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ProtoDeadLetterV2Reader implements DeadLetterReader<ProtoDeadLetter> {
+    private final @NonNull Function<Any, Object> inputRestorer;
+
+    /**
+     * Create a reader that does not restore inputs
+     */
+    public ProtoDeadLetterV2Reader() {
+        this(input -> null);
+    }
+
+    private static DeadLetterDescription.Cause toCause(final List<ProtoDeadLetter.Cause> causes) {
+        DeadLetterDescription.Cause cause = null;
+        for (int i = causes.size() - 1; i >= 0; i--) {
+            final ProtoDeadLetter.Cause current = causes.get(i);
+            cause = DeadLetterDescription.Cause.builder()
+                    .message(current.hasMessage() ? current.getMessage() : null)
+                    .stackTrace(current.hasStackTrace() ? current.getStackTrace() : null)
+                    .errorClass(current.hasErrorClass() ? current.getErrorClass() : null)
+                    .cause(cause)
+                    .build();
+        }
+        return cause == null ? DeadLetterDescription.Cause.builder().build() : cause;
+    }
+
+    private static Instant toInstant(final Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+
+    private static Object parse(final Any input, final TypeRegistry types) {
+        try {
+            final Descriptor descriptor = types.getDescriptorForTypeUrl(input.getTypeUrl());
+            return descriptor == null ? null : DynamicMessage.parseFrom(descriptor, input.getValue());
+        } catch (final InvalidProtocolBufferException e) {
+            throw new SerializationException("Error parsing input of dead letter", e);
+        }
+    }
+
+    /**
+     * Create a reader that parses inputs as {@link DynamicMessage}. Inputs whose type is not contained in the registry
+     * are not restored.
+     *
+     * @param types types of the inputs
+     * @return reader parsing inputs
+     */
+    public ProtoDeadLetterV2Reader withTypes(final @NonNull TypeRegistry types) {
+        return new ProtoDeadLetterV2Reader(input -> parse(input, types));
+    }
+
+    /**
+     * Create a reader that restores the plain binary encoding of inputs
+     *
+     * @return reader restoring the plain binary encoding
+     */
+    public ProtoDeadLetterV2Reader withBinaryInput() {
+        return new ProtoDeadLetterV2Reader(input -> input.getValue().toByteArray());
+    }
+
+    /**
+     * Create a reader for {@code bakdata.kafka.proto.v1.ProtoDeadLetter} messages. They are converted to the v2 format
+     * using {@link ProtoDeadLetterV2Converter#fromV1(com.bakdata.kafka.proto.v1.ProtoDeadLetter)}. The v1 format does
+     * not embed inputs, so they are not restored.
+     *
+     * @return reader for dead letters in v1 format
+     */
+    public static DeadLetterReader<com.bakdata.kafka.proto.v1.ProtoDeadLetter> forV1() {
+        final ProtoDeadLetterV2Reader reader = new ProtoDeadLetterV2Reader();
+        return deadLetter -> reader.read(ProtoDeadLetterV2Converter.fromV1(deadLetter));
+    }
+
+    @Override
+    public DeadLetterDescription read(final ProtoDeadLetter deadLetter) {
+        return DeadLetterDescription.builder()
+                .description(deadLetter.getDescription())
+                .cause(toCause(deadLetter.getCauseList()))
+                .inputValue(deadLetter.hasInputValue() ? deadLetter.getInputValue().toStringUtf8() : null)
+                .topic(deadLetter.hasTopic() ? deadLetter.getTopic() : null)
+                .partition(deadLetter.hasPartition() ? deadLetter.getPartition() : null)
+                .offset(deadLetter.hasOffset() ? deadLetter.getOffset() : null)
+                .inputTimestamp(deadLetter.hasInputTimestamp() ? toInstant(deadLetter.getInputTimestamp()) : null)
+                .input(deadLetter.hasInput() ? this.inputRestorer.apply(deadLetter.getInput()) : null)
+                .build();
+    }
+}
@@ -34,6 +34,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 @ExtendWith(SoftAssertionsExtension.class)
 class ProtoDeadLetterConverterTest {
 
+    private static final DeadLetterDescription DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .inputValue("inputValue")
+            .cause(DeadLetterDescription.Cause.builder()
+                    .message("message")
+                    .stackTrace("stackTrace")
+                    .errorClass("errorClass")
+                    .build())
+            .description("description")
+            .topic("topic")
+            .partition(1)
+            .offset(1L)
+            .build();
     @InjectSoftAssertions
     private SoftAssertions softly;
 
@@ -80,4 +92,24 @@ class ProtoDeadLetterConverterTest {
         this.softly.assertThat(deadLetter.hasOffset()).isFalse();
     }
 
+    @Test
+    void shouldClearReusedBuilder() {
+        final ProtoDeadLetterConverter converter = ProtoDeadLetterConverter.reusing();
+        final ProtoDeadLetter first = converter.convert(DEAD_LETTER_DESCRIPTION);
+        final ProtoDeadLetter second = converter.convert(DeadLetterDescription.builder()
+                .description("other")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .build());
+        this.softly.assertThat(first.getInputValue().getValue()).isEqualTo("inputValue");
+        this.softly.assertThat(second.hasInputValue()).isFalse();
+        this.softly.assertThat(second.getCause().hasMessage()).isFalse();
+        this.softly.assertThat(second.getDescription()).isEqualTo("other");
+        this.softly.assertThat(second.hasPartition()).isFalse();
+    }
+
+    @Test
+    void shouldConvertEquallyWithReuse() {
+        this.softly.assertThat(ProtoDeadLetterConverter.reusing().convert(DEAD_LETTER_DESCRIPTION))
+                .isEqualTo(new ProtoDeadLetterConverter().convert(DEAD_LETTER_DESCRIPTION));
+    }
 }
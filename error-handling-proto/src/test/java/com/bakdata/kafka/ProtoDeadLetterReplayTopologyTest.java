@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import com.bakdata.kafka.proto.v2.ProtoDeadLetter;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.TypeRegistry;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.protobuf.KafkaProtobufDeserializer;
+import io.confluent.kafka.serializers.protobuf.KafkaProtobufDeserializerConfig;
+import io.confluent.kafka.serializers.protobuf.KafkaProtobufSerializer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ProtoDeadLetterReplayTopologyTest {
+    private static final String ERROR_TOPIC = "errors";
+    private static final String INPUT_TOPIC = "input";
+    private static final com.bakdata.kafka.proto.v1.ProtoDeadLetter INPUT =
+            com.bakdata.kafka.proto.v1.ProtoDeadLetter.newBuilder()
+                    .setDescription("input")
+                    .setInputValue(StringValue.of("foo"))
+                    .build();
+    private static final Serializer<ProtoDeadLetter> DEAD_LETTER_SERIALIZER =
+            (topic, deadLetter) -> deadLetter.toByteArray();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+    private TopologyTestDriver driver = null;
+    private TestInputTopic<byte[], ProtoDeadLetter> errors = null;
+
+    private static ProtoDeadLetter parseDeadLetter(final String topic, final byte[] bytes) {
+        try {
+            return ProtoDeadLetter.parseFrom(bytes);
+        } catch (final InvalidProtocolBufferException e) {
+            throw new SerializationException(e);
+        }
+    }
+
+    private static ProtoDeadLetter deadLetter(final Object input) {
+        return new ProtoDeadLetterV2Converter().convert(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .inputValue(ProtoDeadLetterV2Converter.renderInput(input))
+                .topic(INPUT_TOPIC)
+                .partition(0)
+                .offset(1L)
+                .inputTimestamp(Instant.ofEpochMilli(5_000L))
+                .input(input)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (this.driver != null) {
+            this.driver.close();
+        }
+    }
+
+    private void createTopology(final ProtoDeadLetterV2Reader reader, final Serializer<?> inputSerializer) {
+        final Properties properties = new Properties();
+        properties.put(StreamsConfig.APPLICATION_ID_CONFIG, "replay");
+        properties.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "fake");
+        this.driver = new TopologyTestDriver(DeadLetterReplayTopology.<ProtoDeadLetter>builder()
+                .deadLetterTopic(ERROR_TOPIC)
+                .deadLetterDeserializer(ProtoDeadLetterReplayTopologyTest::parseDeadLetter)
+                .reader(reader)
+                .inputSerializer(inputSerializer)
+                .build()
+                .createTopology(), properties);
+        this.errors = this.driver.createInputTopic(ERROR_TOPIC, new ByteArraySerializer(), DEAD_LETTER_SERIALIZER);
+    }
+
+    @Test
+    void shouldReplayInSchemaRegistryWireFormat() {
+        final Map<String, Object> config = Map.of(
+                AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://replay",
+                KafkaProtobufDeserializerConfig.SPECIFIC_PROTOBUF_VALUE_TYPE,
+                com.bakdata.kafka.proto.v1.ProtoDeadLetter.class.getName());
+        final Serializer<Message> inputSerializer = new KafkaProtobufSerializer<>();
+        inputSerializer.configure(config, false);
+        final TypeRegistry types = TypeRegistry.newBuilder()
+                .add(com.bakdata.kafka.proto.v1.ProtoDeadLetter.getDescriptor())
+                .build();
+        this.createTopology(new ProtoDeadLetterV2Reader().withTypes(types), inputSerializer);
+        this.errors.pipeInput("key".getBytes(StandardCharsets.UTF_8), deadLetter(INPUT));
+
+        final Deserializer<com.bakdata.kafka.proto.v1.ProtoDeadLetter> inputDeserializer =
+                new KafkaProtobufDeserializer<>();
+        inputDeserializer.configure(config, false);
+        this.softly.assertThat(this.driver.createOutputTopic(INPUT_TOPIC, new ByteArrayDeserializer(),
+                        inputDeserializer).readValuesToList())
+                .containsExactly(INPUT);
+    }
+
+    @Test
+    void shouldReplayBinaryEncoding() {
+        this.createTopology(new ProtoDeadLetterV2Reader().withBinaryInput(), null);
+        this.errors.pipeInput("key".getBytes(StandardCharsets.UTF_8), deadLetter(INPUT));
+
+        this.softly.assertThat(this.driver.createOutputTopic(INPUT_TOPIC, new ByteArrayDeserializer(),
+                        new ByteArrayDeserializer()).readValuesToList())
+                .containsExactly(INPUT.toByteArray());
+    }
+
+    @Test
+    void shouldNotReplayRenderedInputValue() {
+        this.createTopology(new ProtoDeadLetterV2Reader().withBinaryInput(), null);
+        this.errors.pipeInput("key".getBytes(StandardCharsets.UTF_8), deadLetter("foo"));
+
+        this.softly.assertThat(this.driver.producedTopicNames()).isEmpty();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import com.bakdata.kafka.proto.v1.ProtoDeadLetter;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.time.Instant;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ProtoDeadLetterSerializerTest {
+
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    private void assertWireCompatible(final DeadLetterDescription deadLetterDescription)
+            throws InvalidProtocolBufferException {
+        final byte[] bytes = new ProtoDeadLetterSerializer().serialize(deadLetterDescription);
+        final ProtoDeadLetter expected = new ProtoDeadLetterConverter().convert(deadLetterDescription);
+        this.softly.assertThat(ProtoDeadLetter.parseFrom(bytes)).isEqualTo(expected);
+        this.softly.assertThat(bytes).isEqualTo(expected.toByteArray());
+    }
+
+    @Test
+    void shouldSerializeDeadLetterDescriptionWithOptionalFields() throws InvalidProtocolBufferException {
+        this.assertWireCompatible(DeadLetterDescription.builder()
+                .inputValue("inputValue")
+                .cause(DeadLetterDescription.Cause.builder()
+                        .message("message")
+                        .stackTrace("stackTrace")
+                        .errorClass("errorClass")
+                        .build())
+                .description("description")
+                .topic("topic")
+                .partition(1)
+                .offset(1L)
+                .inputTimestamp(Instant.ofEpochSecond(100L, 5L))
+                .build());
+    }
+
+    @Test
+    void shouldSerializeDeadLetterDescriptionWithoutOptionalFields() throws InvalidProtocolBufferException {
+        this.assertWireCompatible(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .build());
+    }
+
+    @Test
+    void shouldSerializeDefaultValues() throws InvalidProtocolBufferException {
+        this.assertWireCompatible(DeadLetterDescription.builder()
+                .inputValue("")
+                .cause(DeadLetterDescription.Cause.builder()
+                        .message("")
+                        .build())
+                .description("")
+                .topic("")
+                .partition(0)
+                .offset(0L)
+                .inputTimestamp(Instant.EPOCH)
+                .build());
+    }
+
+    @Test
+    void shouldBeReadableByDeadLetterReader() throws InvalidProtocolBufferException {
+        final DeadLetterDescription description = DeadLetterDescription.builder()
+                .inputValue("inputValue")
+                .cause(DeadLetterDescription.Cause.builder()
+                        .message("message")
+                        .stackTrace("stackTrace")
+                        .errorClass("errorClass")
+                        .build())
+                .description("description")
+                .topic("topic")
+                .partition(1)
+                .offset(1L)
+                .inputTimestamp(Instant.ofEpochMilli(100L))
+                .build();
+        final byte[] bytes = new ProtoDeadLetterSerializer().serialize(description);
+        this.softly.assertThat(ProtoDeadLetterV2Reader.forV1().read(ProtoDeadLetter.parseFrom(bytes)))
+                .isEqualTo(description);
+    }
+}
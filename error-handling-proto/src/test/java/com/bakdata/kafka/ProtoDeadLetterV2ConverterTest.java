@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import com.bakdata.kafka.proto.v2.ProtoDeadLetter;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import java.time.Instant;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ProtoDeadLetterV2ConverterTest {
+
+    private static final DeadLetterDescription DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .inputValue("inputValue")
+            .cause(DeadLetterDescription.Cause.builder()
+                    .message("message")
+                    .stackTrace("stackTrace")
+                    .errorClass("errorClass")
+                    .build())
+            .description("description")
+            .topic("topic")
+            .partition(1)
+            .offset(1L)
+            .inputTimestamp(Instant.ofEpochSecond(100L, 5L))
+            .build();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldConvertDeadLetterDescriptionWithOptionalFields() {
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(deadLetter.getInputValue().toStringUtf8()).isEqualTo("inputValue");
+        this.softly.assertThat(deadLetter.getCauseList()).hasSize(1);
+        this.softly.assertThat(deadLetter.getCause(0).getMessage()).isEqualTo("message");
+        this.softly.assertThat(deadLetter.getCause(0).getStackTrace()).isEqualTo("stackTrace");
+        this.softly.assertThat(deadLetter.getCause(0).getErrorClass()).isEqualTo("errorClass");
+        this.softly.assertThat(deadLetter.getDescription()).isEqualTo("description");
+        this.softly.assertThat(deadLetter.getTopic()).isEqualTo("topic");
+        this.softly.assertThat(deadLetter.getPartition()).isEqualTo(1);
+        this.softly.assertThat(deadLetter.getOffset()).isEqualTo(1L);
+        this.softly.assertThat(deadLetter.getInputTimestamp().getSeconds()).isEqualTo(100L);
+        this.softly.assertThat(deadLetter.getInputTimestamp().getNanos()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldConvertDeadLetterDescriptionWithoutOptionalFields() {
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .build());
+        this.softly.assertThat(deadLetter.hasInputValue()).isFalse();
+        this.softly.assertThat(deadLetter.getCause(0).hasMessage()).isFalse();
+        this.softly.assertThat(deadLetter.getCause(0).hasStackTrace()).isFalse();
+        this.softly.assertThat(deadLetter.getCause(0).hasErrorClass()).isFalse();
+        this.softly.assertThat(deadLetter.getDescription()).isEqualTo("description");
+        this.softly.assertThat(deadLetter.hasTopic()).isFalse();
+        this.softly.assertThat(deadLetter.hasPartition()).isFalse();
+        this.softly.assertThat(deadLetter.hasOffset()).isFalse();
+        this.softly.assertThat(deadLetter.hasInputTimestamp()).isFalse();
+    }
+
+    @Test
+    void shouldConvertCauseChain() {
+        final Exception exception =
+                new RuntimeException("outer", new IllegalStateException("inner", new IllegalArgumentException()));
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.of(exception))
+                .build());
+        this.softly.assertThat(deadLetter.getCauseList())
+                .extracting(ProtoDeadLetter.Cause::getErrorClass)
+                .containsExactly(RuntimeException.class.getName(), IllegalStateException.class.getName(),
+                        IllegalArgumentException.class.getName());
+        this.softly.assertThat(deadLetter.getCause(0).getMessage()).isEqualTo("outer");
+        this.softly.assertThat(deadLetter.getCause(0).hasStackTrace()).isTrue();
+        this.softly.assertThat(deadLetter.getCause(1).getMessage()).isEqualTo("inner");
+        this.softly.assertThat(deadLetter.getCause(1).hasStackTrace()).isFalse();
+        this.softly.assertThat(deadLetter.getCause(2).hasMessage()).isFalse();
+    }
+
+    @Test
+    void shouldConvertFromV1() {
+        final com.bakdata.kafka.proto.v1.ProtoDeadLetter v1 =
+                new ProtoDeadLetterConverter().convert(DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(ProtoDeadLetterV2Converter.fromV1(v1))
+                .isEqualTo(new ProtoDeadLetterV2Converter().convert(DEAD_LETTER_DESCRIPTION));
+    }
+
+    @Test
+    void shouldBeSmallerThanV1() {
+        final int v1Size = new ProtoDeadLetterConverter().convert(DEAD_LETTER_DESCRIPTION).getSerializedSize();
+        final int v2Size = new ProtoDeadLetterV2Converter().convert(DEAD_LETTER_DESCRIPTION).getSerializedSize();
+        this.softly.assertThat(v2Size).isLessThan(v1Size);
+    }
+
+    @Test
+    void shouldEmbedProtobufInput() throws InvalidProtocolBufferException {
+        final Timestamp input = Timestamp.newBuilder().setSeconds(42L).build();
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .inputValue(ProtoDeadLetterV2Converter.renderInput(input))
+                .input(input)
+                .build());
+        this.softly.assertThat(deadLetter.hasInputValue()).isFalse();
+        this.softly.assertThat(deadLetter.getInput().getTypeUrl())
+                .isEqualTo("type.googleapis.com/google.protobuf.Timestamp");
+        this.softly.assertThat(deadLetter.getInput().unpack(Timestamp.class)).isEqualTo(input);
+    }
+
+    @Test
+    void shouldRenderOtherInputs() {
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .inputValue(ProtoDeadLetterV2Converter.renderInput(42))
+                .input(42)
+                .build());
+        this.softly.assertThat(deadLetter.getInputValue().toStringUtf8()).isEqualTo("42");
+        this.softly.assertThat(deadLetter.hasInput()).isFalse();
+    }
+
+    @Test
+    void shouldNotRenderProtobufInputsForExceptionHandlers() {
+        final ProtoDeadLetterV2Converter converter = new ProtoDeadLetterV2Converter();
+        this.softly.assertThat(converter.toInputValue(Timestamp.newBuilder().setSeconds(42L).build())).isNull();
+        this.softly.assertThat(converter.toInputValue(42)).isEqualTo("42");
+    }
+}
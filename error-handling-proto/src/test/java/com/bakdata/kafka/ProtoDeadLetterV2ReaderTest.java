@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.bakdata.kafka;
+
+import com.bakdata.kafka.proto.v2.ProtoDeadLetter;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.TypeRegistry;
+import java.time.Instant;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ProtoDeadLetterV2ReaderTest {
+
+    private static final DeadLetterDescription DEAD_LETTER_DESCRIPTION = DeadLetterDescription.builder()
+            .inputValue("inputValue")
+            .cause(DeadLetterDescription.Cause.builder()
+                    .message("message")
+                    .stackTrace("stackTrace")
+                    .errorClass("errorClass")
+                    .cause(DeadLetterDescription.Cause.builder()
+                            .message("nested")
+                            .errorClass("nestedClass")
+                            .build())
+                    .build())
+            .description("description")
+            .topic("topic")
+            .partition(1)
+            .offset(1L)
+            .inputTimestamp(Instant.ofEpochSecond(100L, 5L))
+            .build();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Test
+    void shouldReadDeadLetter() {
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DEAD_LETTER_DESCRIPTION);
+        final DeadLetterDescription read = new ProtoDeadLetterV2Reader().read(deadLetter);
+        this.softly.assertThat(read).isEqualTo(DEAD_LETTER_DESCRIPTION);
+        this.softly.assertThat(read.getInput()).isNull();
+    }
+
+    @Test
+    void shouldNotReplayInputValue() {
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DEAD_LETTER_DESCRIPTION);
+        final DeadLetterDescription read = new ProtoDeadLetterV2Reader().withBinaryInput().read(deadLetter);
+        this.softly.assertThat(read.getInputValue()).isEqualTo("inputValue");
+        this.softly.assertThat(read.getInput()).isNull();
+    }
+
+    @Test
+    void shouldRestoreEmbeddedInput() throws InvalidProtocolBufferException {
+        final Timestamp input = Timestamp.newBuilder().setSeconds(42L).build();
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .input(input)
+                .build());
+        final DeadLetterDescription read = new ProtoDeadLetterV2Reader().withBinaryInput().read(deadLetter);
+        this.softly.assertThat(Timestamp.parseFrom((byte[]) read.getInput())).isEqualTo(input);
+    }
+
+    @Test
+    void shouldParseEmbeddedInputWithKnownType() {
+        final Timestamp input = Timestamp.newBuilder().setSeconds(42L).build();
+        final ProtoDeadLetter deadLetter = new ProtoDeadLetterV2Converter().convert(DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().build())
+                .input(input)
+                .build());
+        final TypeRegistry types = TypeRegistry.newBuilder().add(Timestamp.getDescriptor()).build();
+        this.softly.assertThat(new ProtoDeadLetterV2Reader().withTypes(types).read(deadLetter).getInput())
+                .isInstanceOfSatisfying(DynamicMessage.class, message -> this.softly.assertThat(message.toByteString())
+                        .isEqualTo(input.toByteString()));
+        this.softly.assertThat(new ProtoDeadLetterV2Reader().withTypes(TypeRegistry.getEmptyTypeRegistry())
+                        .read(deadLetter).getInput())
+                .isNull();
+    }
+
+    @Test
+    void shouldReadV1DeadLetter() {
+        final DeadLetterDescription description = DeadLetterDescription.builder()
+                .description("description")
+                .cause(DeadLetterDescription.Cause.builder().errorClass("errorClass").build())
+                .inputValue("inputValue")
+                .topic("topic")
+                .build();
+        final DeadLetterDescription read = ProtoDeadLetterV2Reader.forV1()
+                .read(new ProtoDeadLetterConverter().convert(description));
+        this.softly.assertThat(read).isEqualTo(description);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 bakdata
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.bakdata.kafka;
+
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_EXCEPTION_NAME;
+import static org.apache.kafka.streams.errors.internals.ExceptionHandlerUtils.HEADER_ERRORS_OFFSET_NAME;
+
+import com.bakdata.kafka.proto.v1.ProtoDeadLetter;
+import io.confluent.kafka.serializers.AbstractKafkaSchemaSerDeConfig;
+import io.confluent.kafka.serializers.protobuf.KafkaProtobufDeserializerConfig;
+import io.confluent.kafka.streams.serdes.protobuf.KafkaProtobufSerde;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.KStream;
+import org.assertj.core.api.SoftAssertions;
+import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
+import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(SoftAssertionsExtension.class)
+class ProtoFilteringDeserializationExceptionHandlerTopologyTest extends ErrorCaptureTopologyTest {
+    private static final String ERROR_TOPIC = "errors";
+    private static final String OUTPUT_TOPIC = "output";
+    private static final String INPUT_TOPIC = "input";
+    private static final Serde<byte[]> BYTES_SERDE = Serdes.ByteArray();
+    @InjectSoftAssertions
+    private SoftAssertions softly;
+
+    @Override
+    protected void buildTopology(final StreamsBuilder builder) {
+        final KStream<Integer, ProtoDeadLetter> input = builder.stream(INPUT_TOPIC);
+        input.to(OUTPUT_TOPIC);
+    }
+
+    @Override
+    protected Map<String, Object> getKafkaProperties() {
+        final Map<String, Object> kafkaProperties = super.getKafkaProperties();
+        kafkaProperties.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, KafkaProtobufSerde.class);
+        kafkaProperties.put(KafkaProtobufDeserializerConfig.SPECIFIC_PROTOBUF_VALUE_TYPE, ProtoDeadLetter.class);
+        kafkaProperties.put(AbstractKafkaSchemaSerDeConfig.SCHEMA_REGISTRY_URL_CONFIG, "mock://");
+        kafkaProperties.put(StreamsConfig.ERRORS_DEAD_LETTER_QUEUE_TOPIC_NAME_CONFIG, ERROR_TOPIC);
+        kafkaProperties.put(StreamsConfig.DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG,
+                FilteringDeserializationExceptionHandler.class);
+        return kafkaProperties;
+    }
+
+    @Test
+    void shouldSendCorruptProtoPayloadsToDeadLetterQueue() {
+        final byte[] corrupt = "corrupt".getBytes(StandardCharsets.UTF_8);
+        final byte[] unknownMagicByte = {1, 2, 3};
+        this.createTopology();
+        this.topology.input(INPUT_TOPIC).withValueSerde(BYTES_SERDE)
+                .add(1, corrupt)
+                .add(2, unknownMagicByte);
+
+        final List<ProducerRecord<Integer, byte[]>> records = this.topology.streamOutput(OUTPUT_TOPIC)
+                .withValueSerde(BYTES_SERDE)
+                .toList();
+        this.softly.assertThat(records)
+                .isEmpty();
+
+        final List<ProducerRecord<Integer, byte[]>> errors = this.topology.streamOutput(ERROR_TOPIC)
+                .withValueSerde(BYTES_SERDE)
+                .toList();
+        this.softly.assertThat(errors)
+                .hasSize(2)
+                .allSatisfy(producerRecord -> this.softly.assertThat(
+                                new String(producerRecord.headers().lastHeader(HEADER_ERRORS_EXCEPTION_NAME).value(),
+                                        StandardCharsets.UTF_8))
+                        .isEqualTo(SerializationException.class.getName()));
+        this.softly.assertThat(errors)
+                .extracting(ProducerRecord::key)
+                .containsExactly(1, 2);
+        this.softly.assertThat(errors)
+                .extracting(ProducerRecord::value)
+                .containsExactly(corrupt, unknownMagicByte);
+        this.softly.assertThat(errors)
+                .extracting(producerRecord -> new String(
+                        producerRecord.headers().lastHeader(HEADER_ERRORS_OFFSET_NAME).value(),
+                        StandardCharsets.UTF_8))
+                .containsExactly("0", "1");
+    }
+}
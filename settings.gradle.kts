@@ -8,4 +8,5 @@ rootProject.name = "error-handling"
 include("error-handling-core")
 include("error-handling-avro")
 include("error-handling-proto")
+include("error-handling-json")
 include("error-handling-bom")